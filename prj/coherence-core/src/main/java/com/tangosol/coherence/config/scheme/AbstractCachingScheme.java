@@ -79,6 +79,13 @@ public abstract class AbstractCachingScheme<D extends ServiceDependencies>
                 mgrBundle.ensureBundles(resolver, cacheBundle);
                 cache = cacheBundle;
                 }
+            else if (BundleManager.AUTO_BUNDLING && this instanceof DistributedScheme)
+                {
+                BundlingNamedCache cacheBundle = new BundlingNamedCache(cache);
+
+                BundleManager.ensureAutoBundles(cacheBundle);
+                cache = cacheBundle;
+                }
             }
 
         return cache;
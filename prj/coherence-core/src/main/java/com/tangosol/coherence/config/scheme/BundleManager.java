@@ -6,6 +6,8 @@
  */
 package com.tangosol.coherence.config.scheme;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.coherence.config.unit.Millis;
 
 import com.tangosol.config.annotation.Injectable;
@@ -130,6 +132,30 @@ public class BundleManager
             }
         }
 
+    /**
+     * Configure the specified cache for adaptive "get" bundling, which is
+     * used for the distributed caches that have no operation-bundling
+     * configuration if the {@link #AUTO_BUNDLING coherence.bundling.auto}
+     * system property is set.
+     * <p>
+     * The get() calls are bundled per key owner, and only once the number of
+     * concurrent calls reaches the default thread threshold; the preferred
+     * bundle size is then adjusted based on the observed throughput. The
+     * "put" and "remove" operations are not bundled, as their bundled
+     * versions do not return the previous values.
+     *
+     * @param cache  the BundlingNamedCache
+     */
+    public static void ensureAutoBundles(BundlingNamedCache cache)
+        {
+        AbstractBundler bundler = cache.ensureGetBundler(AUTO_PREFERRED_SIZE);
+
+        bundler.setThreadThreshold(AUTO_THREAD_THRESHOLD);
+        bundler.setDelayMillis(1L);
+        bundler.setAllowAutoAdjust(true);
+        cache.setOwnerAware(true);
+        }
+
     // ----- internal -------------------------------------------------------
 
     /**
@@ -333,6 +359,26 @@ public class BundleManager
             new LiteralExpression<Integer>(Integer.valueOf(4));
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * Specifies whether or not the adaptive "get" bundling is used for the
+     * distributed caches that have no operation-bundling configuration.
+     *
+     * @see #ensureAutoBundles(BundlingNamedCache)
+     */
+    public static final boolean AUTO_BUNDLING = Config.getBoolean("coherence.bundling.auto");
+
+    /**
+     * The initial preferred bundle size used by the adaptive bundling.
+     */
+    public static final int AUTO_PREFERRED_SIZE = 16;
+
+    /**
+     * The thread threshold used by the adaptive bundling.
+     */
+    public static final int AUTO_THREAD_THRESHOLD = 4;
+
     // ----- data members ---------------------------------------------------
 
     private ArrayList<BundleConfig> m_listConfig = new ArrayList<BundleConfig>();
@@ -6,6 +6,8 @@
  */
 package com.tangosol.coherence.dslquery;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.coherence.config.builder.ParameterizedBuilder;
 
 import com.tangosol.coherence.dslquery.function.FunctionBuilders;
@@ -96,6 +98,7 @@ import com.tangosol.coherence.dsltools.precedence.KeywordOPToken;
 import com.tangosol.coherence.dsltools.precedence.ListOpToken;
 import com.tangosol.coherence.dsltools.precedence.LiteralOPToken;
 import com.tangosol.coherence.dsltools.precedence.NotOPToken;
+import com.tangosol.coherence.dsltools.precedence.OPParser;
 import com.tangosol.coherence.dsltools.precedence.ParenOPToken;
 import com.tangosol.coherence.dsltools.precedence.PathOPToken;
 import com.tangosol.coherence.dsltools.precedence.PrefixOPToken;
@@ -106,14 +109,19 @@ import com.tangosol.coherence.dsltools.termlanguage.ColonToken;
 import com.tangosol.coherence.dsltools.termlanguage.CurlyToken;
 
 import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
+import com.tangosol.coherence.dsltools.termtrees.Term;
 
 import com.tangosol.config.expression.ParameterResolver;
 
+import com.tangosol.net.cache.CacheStatistics;
+import com.tangosol.net.cache.LocalCache;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import java.util.concurrent.ConcurrentHashMap;
@@ -126,6 +134,10 @@ import static com.tangosol.coherence.dsltools.precedence.OPToken.*;
  *
  * This class configures CohQL and contains various attributes
  * that control CohQL execution.
+ * <p>
+ * The {@link Term}s produced by {@link #parse(String, TokenTable) parsing}
+ * CohQL strings are cached, so that repeated queries and statements that
+ * only differ in the values of their bind variables are only parsed once.
  *
  * @author djl  2009.08.31
  * @author jk   2013.12.02
@@ -183,6 +195,64 @@ public class CoherenceQueryLanguage
         return m_tokenTableExtendedSQL;
         }
 
+    /**
+     * Return the {@link Term} representing the AST produced by parsing the
+     * specified CohQL string using the specified {@link TokenTable}.
+     * <p>
+     * The parsed Terms are held in a bounded, least recently used cache.
+     * Bind variables are resolved when a {@link com.tangosol.util.Filter} or
+     * {@link Statement} is built from a Term rather than when it is parsed,
+     * so the same cached Term is re-bound on each execution. The cache is
+     * cleared when operators are added or removed; an application that
+     * modifies a TokenTable directly must call {@link #clearParseCache()}.
+     *
+     * @param sQuery  the CohQL string to parse
+     * @param tokens  the TokenTable to use
+     *
+     * @return the Term representing the AST of the CohQL string
+     */
+    public Term parse(String sQuery, TokenTable tokens)
+        {
+        LocalCache cache = f_cacheParsed;
+        if (cache == null)
+            {
+            return new OPParser(sQuery, tokens, getOperators()).parse();
+            }
+
+        ParseKey key  = new ParseKey(sQuery, tokens);
+        Term     term = (Term) cache.get(key);
+        if (term == null)
+            {
+            term = new OPParser(sQuery, tokens, getOperators()).parse();
+            cache.put(key, term);
+            }
+        return term;
+        }
+
+    /**
+     * Return the statistics of the cache of parsed {@link Term}s.
+     *
+     * @return the parse cache statistics, or null if the parse cache is
+     *         disabled
+     */
+    public CacheStatistics getParseCacheStatistics()
+        {
+        LocalCache cache = f_cacheParsed;
+        return cache == null ? null : cache.getCacheStatistics();
+        }
+
+    /**
+     * Remove all parsed {@link Term}s from the parse cache.
+     */
+    public void clearParseCache()
+        {
+        LocalCache cache = f_cacheParsed;
+        if (cache != null)
+            {
+            cache.clear();
+            }
+        }
+
     /**
      * Return an initialized TokenTable for the full CoherenceQueryLanguage.
      *
@@ -461,6 +531,7 @@ public class CoherenceQueryLanguage
     public void addOperator(BaseOperator operator)
         {
         addOperatorInternal(m_mapOperators, operator);
+        clearParseCache();
         }
 
     /**
@@ -621,6 +692,7 @@ public class CoherenceQueryLanguage
         m_tokenTableForFilter = null;
         m_mapOperators = null;
         m_mapStatementBuilders = null;
+        clearParseCache();
         }
 
     /**
@@ -645,9 +717,96 @@ public class CoherenceQueryLanguage
         return m_bldrExtractor;
         }
 
+    /**
+     * Create the cache of parsed {@link Term}s.
+     *
+     * @return the parse cache, or null if the cache is disabled
+     */
+    protected static LocalCache createParseCache()
+        {
+        if (PARSE_CACHE_SIZE <= 0)
+            {
+            return null;
+            }
+
+        LocalCache cache = new LocalCache(PARSE_CACHE_SIZE);
+        cache.setEvictionType(LocalCache.EVICTION_POLICY_LRU);
+        return cache;
+        }
+
+
+    // ----- inner class: ParseKey ------------------------------------------
+
+    /**
+     * The key of a parsed {@link Term} in the parse cache.
+     */
+    protected static class ParseKey
+        {
+        /**
+         * Construct a ParseKey.
+         *
+         * @param sQuery  the CohQL string
+         * @param tokens  the TokenTable used to parse the string
+         */
+        protected ParseKey(String sQuery, TokenTable tokens)
+            {
+            f_sQuery = sQuery;
+            f_tokens = tokens;
+            }
+
+        // ----- Object methods ---------------------------------------------
+
+        @Override
+        public boolean equals(Object o)
+            {
+            if (this == o)
+                {
+                return true;
+                }
+            if (!(o instanceof ParseKey))
+                {
+                return false;
+                }
+
+            ParseKey that = (ParseKey) o;
+            return f_tokens == that.f_tokens && Objects.equals(f_sQuery, that.f_sQuery);
+            }
+
+        @Override
+        public int hashCode()
+            {
+            return Objects.hashCode(f_sQuery) * 31 + System.identityHashCode(f_tokens);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The CohQL string.
+         */
+        protected final String f_sQuery;
+
+        /**
+         * The TokenTable used to parse the string.
+         */
+        protected final TokenTable f_tokens;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The maximum number of parsed Terms held in the parse cache; zero
+     * disables the cache.
+     */
+    public static final int PARSE_CACHE_SIZE = Config.getInteger("coherence.cohql.parse.cache", 1024);
 
     // ----- data members ---------------------------------------------------
 
+    /**
+     * The cache of parsed Terms, keyed by {@link ParseKey}, or null if the
+     * cache is disabled.
+     */
+    protected final LocalCache f_cacheParsed = createParseCache();
+
     /**
      * The TokenTable for Filters.
      */
@@ -16,6 +16,7 @@ import com.tangosol.coherence.memcached.processor.AppendPrependProcessor;
 import com.tangosol.coherence.memcached.processor.DeleteProcessor;
 import com.tangosol.coherence.memcached.processor.GetProcessor;
 import com.tangosol.coherence.memcached.processor.IncrDecrProcessor;
+import com.tangosol.coherence.memcached.processor.MemcachedAsyncGetAllProcessor;
 import com.tangosol.coherence.memcached.processor.MemcachedAsyncProcessor;
 import com.tangosol.coherence.memcached.processor.PutProcessor;
 import com.tangosol.coherence.memcached.processor.TouchProcessor;
@@ -38,6 +39,8 @@ import com.tangosol.util.Filter;
 
 import com.tangosol.util.InvocableMap.EntryProcessor;
 
+import com.tangosol.util.processor.AsynchronousProcessor;
+
 import java.io.DataInput;
 import java.io.IOException;
 
@@ -45,6 +48,10 @@ import java.nio.ByteBuffer;
 
 import java.security.PrivilegedExceptionAction;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import java.util.concurrent.Executor;
 
 import javax.security.auth.Subject;
@@ -145,6 +152,25 @@ public class DefaultRequestHandler
             }
         }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onGetAll(List<Request> listRequest)
+            throws IOException
+        {
+        Set<String> setKeys = new HashSet<>();
+        for (Request request : listRequest)
+            {
+            setKeys.add(request.getKey());
+            }
+
+        MemcachedAsyncGetAllProcessor asyncProcessor =
+                new MemcachedAsyncGetAllProcessor(this, listRequest, new GetProcessor(f_fBinaryPassThru));
+        getCache().invokeAll(setKeys, asyncProcessor);
+        m_asyncProcessor = asyncProcessor;
+        }
+
     /**
      * {@inheritDoc}
      */
@@ -457,7 +483,7 @@ public class DefaultRequestHandler
     @Override
     public boolean checkBacklog(Continuation<Void> backlogEndedContinuation)
         {
-        MemcachedAsyncProcessor proc = m_asyncProcessor;
+        AsynchronousProcessor proc = m_asyncProcessor;
         return proc != null && proc.checkBacklog(backlogEndedContinuation);
         }
 
@@ -804,7 +830,7 @@ public class DefaultRequestHandler
     /**
      * Last EP fired by the handler. Its ref. is needed to flush the service queue.
      */
-    protected MemcachedAsyncProcessor m_asyncProcessor;
+    protected AsynchronousProcessor m_asyncProcessor;
 
     // ----- constants ------------------------------------------------------
 
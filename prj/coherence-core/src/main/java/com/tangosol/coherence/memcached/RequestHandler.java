@@ -10,6 +10,8 @@ import com.oracle.coherence.common.base.Continuation;
 
 import java.io.IOException;
 
+import java.util.List;
+
 import javax.security.auth.Subject;
 
 /**
@@ -56,6 +58,18 @@ public interface RequestHandler
     void onGetComplete(Request request, Response response, Object oReturn)
             throws IOException;
 
+    /**
+     * Handle a sequence of quiet Get requests (GETQ or GETKQ) as a single bulk
+     * operation. The Response of each request is completed and flushed
+     * individually when the operation completes.
+     *
+     * @param listRequest  the Requests, in the order they were received
+     *
+     * @throws IOException
+     */
+    void onGetAll(List<Request> listRequest)
+            throws IOException;
+
     /**
      * Handle a Set Request.
      *
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.memcached.processor;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.memcached.Request;
+import com.tangosol.coherence.memcached.RequestHandler;
+import com.tangosol.coherence.memcached.Response;
+import com.tangosol.coherence.memcached.Response.ResponseCode;
+
+import com.tangosol.coherence.memcached.server.Task;
+
+import com.tangosol.util.InvocableMap.EntryProcessor;
+
+import com.tangosol.util.processor.AsynchronousProcessor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MemcachedAsyncGetAllProcessor is an async wrapper class for executing a
+ * sequence of quiet memcached get requests (GETQ and GETKQ) as a single
+ * asynchronous invokeAll, completing the response of each request when the
+ * EP returns.
+ *
+ * @since 20.12
+ */
+public class MemcachedAsyncGetAllProcessor
+        extends AsynchronousProcessor
+    {
+    /**
+     * Constructor.
+     *
+     * @param handler      RequestHandler to call when the EP returns
+     * @param listRequest  the quiet get requests, in the order they were received
+     * @param processor    EP to execute async
+     */
+    public MemcachedAsyncGetAllProcessor(RequestHandler handler, List<Request> listRequest, EntryProcessor processor)
+        {
+        super(processor, ((Integer) listRequest.get(0).getAssociatedKey()).intValue());
+        m_handler     = handler;
+        m_listRequest = listRequest;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onComplete()
+        {
+        super.onComplete();
+
+        Map<Object, Object> mapResult;
+        try
+            {
+            mapResult = new HashMap<>((Map<?, ?>) get());
+            }
+        catch (Throwable thr)
+            {
+            Logger.err("Exception in handling memcached async response:", thr);
+            mapResult = null;
+            }
+
+        RequestHandler handler = m_handler;
+        for (Request request : m_listRequest)
+            {
+            Response response = request.getResponse();
+            boolean  fQuiet   = false;
+            try
+                {
+                if (mapResult == null)
+                    {
+                    response.setResponseCode(ResponseCode.INTERNAL_ERROR.getCode());
+                    }
+                else
+                    {
+                    Object oReturn = mapResult.get(request.getKey());
+                    if (request.getOpCode() == 0x0d) // GETKQ Request
+                        {
+                        response.setKey(request.getKey());
+                        }
+                    handler.onGetComplete(request, response, oReturn == null ? ResponseCode.KEYNF : oReturn);
+                    fQuiet = response.getResponseCode() == ResponseCode.KEYNF.getCode();
+                    }
+                }
+            catch (Throwable thr)
+                {
+                Logger.err("Exception in handling memcached async response:", thr);
+                response.setResponseCode(Response.ResponseCode.INTERNAL_ERROR.getCode());
+                fQuiet = false;
+                }
+            finally
+                {
+                Task.flush(response, fQuiet);
+                }
+            }
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * RequestHandler to call when the async EP returns.
+     */
+    protected RequestHandler m_handler;
+
+    /**
+     * The quiet get requests.
+     */
+    protected List<Request> m_listRequest;
+    }
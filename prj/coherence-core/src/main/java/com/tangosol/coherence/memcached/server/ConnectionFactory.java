@@ -29,7 +29,9 @@ public class ConnectionFactory
      * Constructor.
      *
      * @param bufMgr   the BufferManager
-     * @param fBinary  flag indicating if Binary connections need to be created
+     * @param fBinary  flag indicating if Binary connections need to be created;
+     *                 otherwise the connections detect if the client speaks
+     *                 the text or the binary protocol
      */
     public ConnectionFactory(BufferManager bufMgr, boolean fBinary)
         {
@@ -48,7 +50,9 @@ public class ConnectionFactory
      */
     public Connection createConnection(SocketChannel channel)
         {
-        return m_fBinary ? new BinaryConnection(m_bufferManager, channel, m_nConnId++) : null;
+        return m_fBinary
+               ? new BinaryConnection(m_bufferManager, channel, m_nConnId++)
+               : new TextConnection(m_bufferManager, channel, m_nConnId++);
         }
 
     // ----- data members ---------------------------------------------------
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.memcached.server;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.memcached.Request;
+import com.tangosol.coherence.memcached.RequestHandler;
+import com.tangosol.coherence.memcached.Response;
+
+import java.util.List;
+
+/**
+ * GetAllTask executes a sequence of consecutive quiet get requests (GETQ and
+ * GETKQ) received on a connection as a single bulk get, rather than as one
+ * cache operation per key.
+ * <p>
+ * Clients perform a multi-get by pipelining quiet gets followed by a NO-OP,
+ * so coalescing them allows a multi-get to complete in a single round trip
+ * to the cluster, with the keys grouped by their owning members.
+ *
+ * @since 20.12
+ */
+public class GetAllTask
+        extends Task
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Constructor.
+     *
+     * @param listRequest  the quiet get requests, in the order they were received
+     * @param handler      RequestHandler
+     */
+    public GetAllTask(List<Request> listRequest, RequestHandler handler)
+        {
+        super(listRequest.get(0), handler);
+        f_listRequest = listRequest;
+        }
+
+    // ----- Task methods ---------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void handleRequest(Request request, Response response)
+        {
+        try
+            {
+            f_handler.onGetAll(f_listRequest);
+            }
+        catch (Throwable thr)
+            {
+            Logger.err("Exception in handling memcached request:", thr);
+            for (Request req : f_listRequest)
+                {
+                Response resp = req.getResponse();
+                resp.setResponseCode(Response.ResponseCode.INTERNAL_ERROR.getCode());
+                flush(resp, /*fDisposeOnly*/ false);
+                }
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return true iff the specified request is a quiet get request that can
+     * be coalesced with adjacent quiet get requests.
+     *
+     * @param request  the request
+     *
+     * @return true iff the request is a GETQ or GETKQ request
+     */
+    public static boolean isQuietGet(Request request)
+        {
+        int nOpCode = request.getOpCode();
+        return nOpCode == 0x09 || nOpCode == 0x0d; // GETQ or GETKQ Request
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The quiet get requests.
+     */
+    protected final List<Request> f_listRequest;
+    }
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import java.util.concurrent.Executor;
@@ -161,7 +162,7 @@ public class MemcachedServer
 
         SelectionService selectionService = m_selectionService = SelectionServices.getDefaultService();
         selectionService.register(srvrChannel, new AcceptHandler(
-                    srvrChannel, new ConnectionFactory(m_bufferManager, true)));
+                    srvrChannel, new ConnectionFactory(m_bufferManager, /*fBinary*/ false)));
         }
 
     /**
@@ -379,10 +380,25 @@ public class MemcachedServer
                 throws IOException
             {
             List<Request> requestList = m_conn.read();
+            List<Request> listGets    = null;
             for (Request request : requestList)
                 {
-                onRequest(request);
+                if (GetAllTask.isQuietGet(request))
+                    {
+                    if (listGets == null)
+                        {
+                        listGets = new ArrayList<>();
+                        }
+                    listGets.add(request);
+                    }
+                else
+                    {
+                    onQuietGets(listGets);
+                    listGets = null;
+                    onRequest(request);
+                    }
                 }
+            onQuietGets(listGets);
             RequestHandler handler = m_handler;
             handler.flush();
             if (handler.checkBacklog(null))
@@ -420,6 +436,27 @@ public class MemcachedServer
             new Task(request, m_handler).run();
             }
 
+        /**
+         * Submit a sequence of consecutive quiet get requests to the task
+         * executor, as a single bulk get if there is more than one.
+         *
+         * @param listRequest  the quiet get requests to process, or null
+         */
+        protected void onQuietGets(List<Request> listRequest)
+            {
+            if (listRequest != null)
+                {
+                if (listRequest.size() == 1)
+                    {
+                    onRequest(listRequest.get(0));
+                    }
+                else
+                    {
+                    new GetAllTask(listRequest, m_handler).run();
+                    }
+                }
+            }
+
         /**
          * Close socket channel.
          *
@@ -0,0 +1,480 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.memcached.server;
+
+import com.oracle.coherence.common.io.BufferManager;
+
+import com.tangosol.coherence.memcached.Request;
+import com.tangosol.coherence.memcached.Response.ResponseCode;
+
+import java.io.DataInput;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.SocketChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Memcached connection that speaks the text protocol, or the binary protocol
+ * if the first byte received from the client is the binary request magic.
+ * <p>
+ * Only the retrieval commands of the text protocol ({@code get} and
+ * {@code gets}), {@code version} and {@code quit} are supported; any other
+ * command is answered with {@code ERROR}. A {@code get k1 k2 ...} command is
+ * turned into a quiet get (GETKQ) request per key followed by a NO-OP
+ * request, so the keys of a multi-get are fetched with a single bulk get
+ * just like a pipelined binary multi-get. The responses use the text
+ * protocol encoding: a {@code VALUE} line and data block per hit, and the
+ * {@code END} line for the NO-OP.
+ *
+ * @since 20.12
+ */
+public class TextConnection
+        extends BinaryConnection
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a TextConnection.
+     *
+     * @param bufMgr   BufferManager
+     * @param channel  SocketChannel
+     * @param nConnId  Connection Id
+     */
+    public TextConnection(BufferManager bufMgr, SocketChannel channel, int nConnId)
+        {
+        super(bufMgr, channel, nConnId);
+        }
+
+    // ----- Connection methods ---------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Request> read()
+            throws IOException
+        {
+        if (!m_fDetected)
+            {
+            ByteBuffer buf = ByteBuffer.allocate(1);
+            if (super.read(new ByteBuffer[] {buf}, 0, 1) == 0)
+                {
+                return Collections.emptyList();
+                }
+
+            buf.flip();
+            m_fDetected = true;
+            m_fBinary   = buf.get(0) == (byte) 0x80;
+            if (m_fBinary)
+                {
+                // the magic byte is handed to the binary parser by the next read
+                m_bufPending = buf;
+                }
+            else
+                {
+                m_bufLine.put(buf);
+                }
+            }
+
+        return m_fBinary ? super.read() : readLines();
+        }
+
+    // ----- internal methods -----------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long read(ByteBuffer[] aBuf, int offset, int length)
+            throws IOException
+        {
+        ByteBuffer bufPending = m_bufPending;
+        if (bufPending == null)
+            {
+            return super.read(aBuf, offset, length);
+            }
+
+        m_bufPending = null;
+        aBuf[offset].put(bufPending);
+        return 1 + super.read(aBuf, offset, length);
+        }
+
+    /**
+     * Read the available data from the socket channel, and create the
+     * requests for the complete command lines read.
+     *
+     * @return the request list
+     *
+     * @throws IOException
+     */
+    protected List<Request> readLines()
+            throws IOException
+        {
+        ByteBuffer buf = m_bufLine;
+        if (!buf.hasRemaining())
+            {
+            if (buf.capacity() >= MAX_LINE_LEN)
+                {
+                throw new IOException("request line exceeds " + MAX_LINE_LEN + " bytes");
+                }
+            ByteBuffer bufNew = ByteBuffer.allocate(buf.capacity() * 2);
+            buf.flip();
+            m_bufLine = buf = bufNew.put(buf);
+            }
+
+        read(new ByteBuffer[] {buf}, 0, 1);
+
+        List<Request> listRequest = new ArrayList<>();
+        byte[]        ab          = buf.array();
+        int           of          = 0;
+        for (int i = 0, cb = buf.position(); i < cb; i++)
+            {
+            if (ab[i] == '\n')
+                {
+                onLine(new String(ab, of, i - of, StandardCharsets.UTF_8).trim(), listRequest);
+                of = i + 1;
+                }
+            }
+
+        buf.flip().position(of);
+        buf.compact();
+        return listRequest;
+        }
+
+    /**
+     * Create the requests for the specified command line.
+     *
+     * @param sLine        the command line, without the line terminator
+     * @param listRequest  the list to add the requests to
+     */
+    protected void onLine(String sLine, List<Request> listRequest)
+        {
+        String[] asToken = sLine.isEmpty() ? new String[] {""} : sLine.split(" +");
+        String   sCmd    = asToken[0];
+        switch (sCmd)
+            {
+            case "get":
+            case "gets":
+                {
+                if (asToken.length == 1)
+                    {
+                    onError("ERROR");
+                    }
+                else
+                    {
+                    boolean fCas = sCmd.equals("gets");
+                    for (int i = 1; i < asToken.length; i++)
+                        {
+                        onRequest(new TextRequest(0x0d, asToken[i], fCas, this), listRequest); // GETKQ
+                        }
+                    onRequest(new TextRequest(0x0a, null, false, this), listRequest); // NO-OP
+                    }
+                break;
+                }
+            case "version":
+                {
+                onRequest(new TextRequest(0x0b, null, false, this), listRequest);
+                break;
+                }
+            case "quit":
+                {
+                onRequest(new TextRequest(0x07, null, false, this), listRequest);
+                break;
+                }
+            default:
+                {
+                onError("ERROR");
+                }
+            }
+        }
+
+    /**
+     * Add the specified request to the list of requests to execute, and
+     * queue its response.
+     *
+     * @param request      the request
+     * @param listRequest  the list of requests to execute
+     */
+    protected void onRequest(TextRequest request, List<Request> listRequest)
+        {
+        listRequest.add(request);
+        f_queueResponses.add(request.getResponse());
+        }
+
+    /**
+     * Queue the specified error line as the response to a command that is
+     * not executed, and flush it.
+     *
+     * @param sError  the error line
+     */
+    protected void onError(String sError)
+        {
+        TextRequest  request  = new TextRequest(0x0a, null, false, this);
+        TextResponse response = request.getResponse();
+
+        response.m_sError = sError;
+        f_queueResponses.add(response);
+        response.flush(false);
+        }
+
+    // ----- inner class: TextRequest ---------------------------------------
+
+    /**
+     * A request created from a text protocol command.
+     */
+    protected static class TextRequest
+            extends BinaryRequest
+        {
+        /**
+         * Construct a TextRequest.
+         *
+         * @param nOpCode  the binary protocol op code of the request
+         * @param sKey     the key, or null
+         * @param fCas     true iff the response should include the version
+         * @param conn     the underlying connection
+         */
+        public TextRequest(int nOpCode, String sKey, boolean fCas, TextConnection conn)
+            {
+            super(null, null, conn.m_bufferManager, conn);
+            m_nOpCode  = nOpCode;
+            m_sKey     = sKey;
+            m_fCas     = fCas;
+            m_response = new TextResponse(conn.m_bufferManager, conn, this);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int getOpCode()
+            {
+            return m_nOpCode;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public DataInput getExtras()
+            {
+            return null;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String getKey()
+            {
+            return m_sKey;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public byte[] getValue()
+            {
+            return null;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long getVersion()
+            {
+            return 0L;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public TextResponse getResponse()
+            {
+            return (TextResponse) m_response;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void dispose()
+            {
+            // no read buffers to release
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The binary protocol op code.
+         */
+        protected final int m_nOpCode;
+
+        /**
+         * The key.
+         */
+        protected final String m_sKey;
+
+        /**
+         * Flag indicating if the response should include the version.
+         */
+        protected final boolean m_fCas;
+        }
+
+    // ----- inner class: TextResponse --------------------------------------
+
+    /**
+     * A response encoded using the text protocol.
+     */
+    protected static class TextResponse
+            extends BinaryResponse
+        {
+        /**
+         * Construct a TextResponse.
+         *
+         * @param bufMgr   BufferManager
+         * @param conn     Underlying Connection
+         * @param request  Associated request
+         */
+        public TextResponse(BufferManager bufMgr, TextConnection conn, TextRequest request)
+            {
+            super(bufMgr, conn, request);
+            }
+
+        /**
+         * Serialize the response into ByteBuffers.
+         *
+         * @param fAppendEmptyPkt  ignored
+         *
+         * @return ByteBuffer[]
+         *
+         * @throws IOException
+         */
+        @Override
+        protected ByteBuffer[] getBuffers(boolean fAppendEmptyPkt)
+                throws IOException
+            {
+            ByteBuffer[] aBuf = encode();
+            m_nOffset  = 0;
+            m_cBuffers = aBuf.length;
+            return aBuf;
+            }
+
+        /**
+         * Encode the response using the text protocol.
+         *
+         * @return ByteBuffer[]
+         */
+        protected ByteBuffer[] encode()
+            {
+            TextRequest request = (TextRequest) m_request;
+            if (m_sError != null)
+                {
+                return new ByteBuffer[] {line(m_sError)};
+                }
+
+            switch (request.getOpCode())
+                {
+                case 0x0d: // GETKQ Request
+                    {
+                    if (m_nResponseCode != ResponseCode.OK.getCode())
+                        {
+                        return new ByteBuffer[] {line("SERVER_ERROR error " + m_nResponseCode)};
+                        }
+
+                    byte[] abValue = m_value == null ? new byte[0] : m_value;
+                    int    nFlag   = m_extras == null ? 0 : m_extras.getInt(m_extras.position());
+                    String sValue  = "VALUE " + request.getKey() + ' ' + Integer.toUnsignedString(nFlag)
+                                     + ' ' + abValue.length + (request.m_fCas ? " " + m_lVersion : "");
+
+                    return new ByteBuffer[] {line(sValue), ByteBuffer.wrap(abValue), ByteBuffer.wrap(CRLF)};
+                    }
+                case 0x0a: // NO-OP Request
+                    {
+                    return new ByteBuffer[] {line("END")};
+                    }
+                case 0x0b: // VERSION Request
+                    {
+                    return new ByteBuffer[] {line("VERSION "
+                            + (m_value == null ? "" : new String(m_value, StandardCharsets.UTF_8)))};
+                    }
+                default:
+                    {
+                    return new ByteBuffer[0];
+                    }
+                }
+            }
+
+        /**
+         * Return a buffer holding the specified line and the line terminator.
+         *
+         * @param sLine  the line
+         *
+         * @return the buffer
+         */
+        protected static ByteBuffer line(String sLine)
+            {
+            return ByteBuffer.wrap((sLine + "\r\n").getBytes(StandardCharsets.UTF_8));
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The error line sent instead of the response, or null.
+         */
+        protected String m_sError;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * Flag indicating if the protocol has been detected.
+     */
+    protected boolean m_fDetected;
+
+    /**
+     * Flag indicating if the client speaks the binary protocol.
+     */
+    protected boolean m_fBinary;
+
+    /**
+     * The byte read to detect the binary protocol, which has not been handed
+     * to the binary parser yet.
+     */
+    protected ByteBuffer m_bufPending;
+
+    /**
+     * The buffer holding the incomplete command line.
+     */
+    protected ByteBuffer m_bufLine = ByteBuffer.allocate(LINE_BUF_SIZE);
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The initial size of the command line buffer.
+     */
+    protected static final int LINE_BUF_SIZE = 1024;
+
+    /**
+     * The maximum length of a command line.
+     */
+    protected static final int MAX_LINE_LEN = 64 * 1024;
+
+    /**
+     * The text protocol line terminator.
+     */
+    protected static final byte[] CRLF = {'\r', '\n'};
+    }
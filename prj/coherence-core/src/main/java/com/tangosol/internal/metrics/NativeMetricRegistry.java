@@ -0,0 +1,1010 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+import com.tangosol.net.Member;
+
+import com.tangosol.net.metrics.MBeanMetric;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import java.util.stream.Stream;
+
+
+/**
+ * A registry of metrics that are updated directly by the code they measure,
+ * rather than read from MBean attributes.
+ * <p>
+ * The registry supports {@link Counter counters}, {@link Gauge gauges},
+ * {@link Histogram histograms} and {@link Timer timers}. All of them can be
+ * updated concurrently without locking, and reading them does not involve the
+ * MBean server, which makes them suitable for values that are updated on the
+ * hot path, or that are scraped frequently.
+ * <p>
+ * The registered metrics are exposed as {@link MBeanMetric} instances by the
+ * {@link #stream()} method, so that they can be published by the same metrics
+ * endpoints as the MBean based metrics. Each exported metric is tagged with
+ * the cluster and member tags used by the MBean based metrics, once the
+ * cluster is running.
+ * <p>
+ * The registry is used for the request phase timings recorded by
+ * {@link com.tangosol.internal.util.RequestPhaseTracker}; the service,
+ * cache and node metrics continue to be read from their MBeans.
+ *
+ * @since 20.12
+ */
+public class NativeMetricRegistry
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Package private constructor.
+     * <p>
+     * There is only a singleton public instance.
+     */
+    NativeMetricRegistry()
+        {
+        }
+
+    // ----- NativeMetricRegistry methods -----------------------------------
+
+    /**
+     * Obtain the native metrics registry.
+     *
+     * @return the native metrics registry
+     */
+    public static NativeMetricRegistry getRegistry()
+        {
+        return INSTANCE;
+        }
+
+    /**
+     * Obtain the counter with the specified name and tags, registering it if
+     * necessary.
+     *
+     * @param sName         the metric name
+     * @param mapTags       the metric tags
+     * @param sDescription  the metric description
+     *
+     * @return the counter
+     *
+     * @throws IllegalArgumentException if a metric of a different type is
+     *         registered with the same name and tags
+     */
+    public Counter counter(String sName, Map<String, String> mapTags, String sDescription)
+        {
+        return ensureMetric(sName, mapTags, sDescription, Counter.class, Counter::new);
+        }
+
+    /**
+     * Obtain the gauge with the specified name and tags, registering it if
+     * necessary.
+     *
+     * @param sName         the metric name
+     * @param mapTags       the metric tags
+     * @param sDescription  the metric description
+     * @param supplier      the supplier of the gauge value
+     *
+     * @return the gauge
+     *
+     * @throws IllegalArgumentException if a metric of a different type is
+     *         registered with the same name and tags
+     */
+    public Gauge gauge(String sName, Map<String, String> mapTags, String sDescription,
+                       Supplier<? extends Number> supplier)
+        {
+        Objects.requireNonNull(supplier);
+        return ensureMetric(sName, mapTags, sDescription, Gauge.class,
+                (id, sDesc) -> new Gauge(id, sDesc, supplier));
+        }
+
+    /**
+     * Obtain the histogram with the specified name and tags, registering it
+     * if necessary.
+     *
+     * @param sName         the metric name
+     * @param mapTags       the metric tags
+     * @param sDescription  the metric description
+     *
+     * @return the histogram
+     *
+     * @throws IllegalArgumentException if a metric of a different type is
+     *         registered with the same name and tags
+     */
+    public Histogram histogram(String sName, Map<String, String> mapTags, String sDescription)
+        {
+        return ensureMetric(sName, mapTags, sDescription, Histogram.class, Histogram::new);
+        }
+
+    /**
+     * Obtain the timer with the specified name and tags, registering it if
+     * necessary.
+     *
+     * @param sName         the metric name
+     * @param mapTags       the metric tags
+     * @param sDescription  the metric description
+     *
+     * @return the timer
+     *
+     * @throws IllegalArgumentException if a metric of a different type is
+     *         registered with the same name and tags
+     */
+    public Timer timer(String sName, Map<String, String> mapTags, String sDescription)
+        {
+        return ensureMetric(sName, mapTags, sDescription, Timer.class, Timer::new);
+        }
+
+    /**
+     * Obtain a previously registered metric.
+     *
+     * @param sName    the metric name
+     * @param mapTags  the metric tags
+     *
+     * @return the metric, or {@code null} if no metric is registered with
+     *         the specified name and tags
+     */
+    public Metric getMetric(String sName, Map<String, String> mapTags)
+        {
+        return f_mapMetric.get(createIdentifier(sName, mapTags));
+        }
+
+    /**
+     * Remove a previously registered metric.
+     *
+     * @param sName    the metric name
+     * @param mapTags  the metric tags
+     */
+    public void remove(String sName, Map<String, String> mapTags)
+        {
+        if (f_mapMetric.remove(createIdentifier(sName, mapTags)) != null)
+            {
+            f_cModifications.incrementAndGet();
+            }
+        }
+
+    /**
+     * Return a {@link Stream} of the {@link MBeanMetric} instances that
+     * expose the current values of the registered metrics.
+     * <p>
+     * A counter or a gauge is exposed as a single metric, while a histogram
+     * or a timer is exposed as a metric per quantile, and as
+     * <tt>Count</tt>, <tt>Sum</tt> and <tt>Max</tt> metrics.
+     *
+     * @return a {@link Stream} of the exported metrics
+     */
+    public Stream<MBeanMetric> stream()
+        {
+        Map<String, String> mapGlobalTags = ensureGlobalTags();
+
+        return f_mapMetric.values().stream()
+                .flatMap(metric -> metric.getExportedMetrics(mapGlobalTags).stream());
+        }
+
+    /**
+     * Return the exported {@link MBeanMetric} with the specified identifier.
+     * <p>
+     * The lookup uses an index of the exported metrics keyed by identifier,
+     * which is only rebuilt when a metric has been registered or removed, or
+     * when the global tags have changed since the index was built.
+     *
+     * @param id  the identifier of the exported metric, as returned by
+     *            {@link MBeanMetric#getIdentifier()}
+     *
+     * @return the exported metric, or {@code null} if there is no exported
+     *         metric with the specified identifier
+     */
+    public MBeanMetric getExportedMetric(MBeanMetric.Identifier id)
+        {
+        Map<String, String> mapGlobalTags = ensureGlobalTags();
+        long                cMods         = f_cModifications.get();
+        ExportedIndex       index         = m_indexExported;
+
+        if (index == null || index.f_mapGlobalTags != mapGlobalTags || index.f_cModifications != cMods)
+            {
+            Map<MBeanMetric.Identifier, MBeanMetric> mapExported = new HashMap<>();
+            for (Metric metric : f_mapMetric.values())
+                {
+                for (MBeanMetric metricExported : metric.getExportedMetrics(mapGlobalTags))
+                    {
+                    mapExported.put(metricExported.getIdentifier(), metricExported);
+                    }
+                }
+            m_indexExported = index = new ExportedIndex(mapGlobalTags, cMods, mapExported);
+            }
+
+        return index.f_mapExported.get(id);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Obtain the metric with the specified name and tags, registering it if
+     * necessary.
+     *
+     * @param sName         the metric name
+     * @param mapTags       the metric tags
+     * @param sDescription  the metric description
+     * @param clz           the expected type of the metric
+     * @param factory       the factory used to create the metric
+     * @param <M>           the type of the metric
+     *
+     * @return the metric
+     */
+    protected <M extends Metric> M ensureMetric(String sName, Map<String, String> mapTags, String sDescription,
+            Class<M> clz, BiFunction<MBeanMetric.Identifier, String, M> factory)
+        {
+        MBeanMetric.Identifier id     = createIdentifier(sName, mapTags);
+        Metric                 metric = f_mapMetric.get(id);
+
+        if (metric == null)
+            {
+            Metric metricNew = factory.apply(id, sDescription);
+
+            metric = f_mapMetric.putIfAbsent(id, metricNew);
+            if (metric == null)
+                {
+                // bump the count once the metric is visible, so that an
+                // index built at the new count always includes it
+                metric = metricNew;
+                f_cModifications.incrementAndGet();
+                }
+            }
+
+        if (!clz.isInstance(metric))
+            {
+            throw new IllegalArgumentException("Metric " + id + " is already registered as a "
+                    + metric.getClass().getSimpleName());
+            }
+        return clz.cast(metric);
+        }
+
+    /**
+     * Create the identifier for the specified metric name and tags.
+     *
+     * @param sName    the metric name
+     * @param mapTags  the metric tags, may be null
+     *
+     * @return the metric identifier
+     */
+    protected static MBeanMetric.Identifier createIdentifier(String sName, Map<String, String> mapTags)
+        {
+        return new MBeanMetric.Identifier(MBeanMetric.Scope.VENDOR, sName,
+                mapTags == null ? Collections.emptyMap() : mapTags);
+        }
+
+    /**
+     * Return the tags that identify the local member, which are added to
+     * every exported metric.
+     *
+     * @return the global tags, which are empty until the cluster is running
+     */
+    protected Map<String, String> ensureGlobalTags()
+        {
+        Map<String, String> mapTags = m_mapGlobalTags;
+        if (mapTags == null)
+            {
+            Cluster cluster = CacheFactory.getCluster();
+            if (!cluster.isRunning())
+                {
+                return Collections.emptyMap();
+                }
+
+            Member member = cluster.getLocalMember();
+
+            mapTags = new HashMap<>();
+            mapTags.put(MetricSupport.GLOBAL_TAG_CLUSTER, cluster.getClusterName());
+            putTag(mapTags, MetricSupport.GLOBAL_TAG_SITE,    member.getSiteName());
+            putTag(mapTags, MetricSupport.GLOBAL_TAG_MACHINE, member.getMachineName());
+            putTag(mapTags, MetricSupport.GLOBAL_TAG_MEMBER,  member.getMemberName());
+            putTag(mapTags, MetricSupport.GLOBAL_TAG_ROLE,    member.getRoleName());
+
+            m_mapGlobalTags = mapTags = Collections.unmodifiableMap(mapTags);
+            }
+        return mapTags;
+        }
+
+    /**
+     * Add the specified tag to the map, if it has a value.
+     *
+     * @param mapTags  the tags
+     * @param sKey     the tag name
+     * @param sValue   the tag value
+     */
+    private static void putTag(Map<String, String> mapTags, String sKey, String sValue)
+        {
+        if (sValue != null && !sValue.isEmpty())
+            {
+            mapTags.put(sKey, sValue);
+            }
+        }
+
+    // ----- inner class: Metric --------------------------------------------
+
+    /**
+     * The base class for the native metrics.
+     */
+    public abstract static class Metric
+        {
+        /**
+         * Construct a Metric.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         */
+        protected Metric(MBeanMetric.Identifier id, String sDescription)
+            {
+            f_id           = id;
+            f_sDescription = sDescription;
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the metric identifier.
+         *
+         * @return the metric identifier
+         */
+        public MBeanMetric.Identifier getIdentifier()
+            {
+            return f_id;
+            }
+
+        /**
+         * Return the metric description.
+         *
+         * @return the metric description
+         */
+        public String getDescription()
+            {
+            return f_sDescription;
+            }
+
+        // ----- subclassing support ----------------------------------------
+
+        /**
+         * Return the {@link MBeanMetric} instances that expose the values of
+         * this metric, tagged with the specified global tags.
+         *
+         * @param mapGlobalTags  the global tags
+         *
+         * @return the exported metrics
+         */
+        protected List<MBeanMetric> getExportedMetrics(Map<String, String> mapGlobalTags)
+            {
+            // the exported metrics are cached, as creating the identifiers
+            // is relatively expensive, and the global tags only change once
+            List<MBeanMetric> listMetric = m_listExported;
+            if (listMetric == null || m_mapExportedTags != mapGlobalTags)
+                {
+                listMetric = new ArrayList<>();
+                createExportedMetrics(mapGlobalTags, listMetric);
+
+                m_listExported    = listMetric = Collections.unmodifiableList(listMetric);
+                m_mapExportedTags = mapGlobalTags;
+                }
+            return listMetric;
+            }
+
+        /**
+         * Create the {@link MBeanMetric} instances that expose the values of
+         * this metric.
+         *
+         * @param mapGlobalTags  the global tags
+         * @param listMetric     the list to add the metrics to
+         */
+        protected abstract void createExportedMetrics(Map<String, String> mapGlobalTags,
+                                                      List<MBeanMetric> listMetric);
+
+        /**
+         * Create an exported metric.
+         *
+         * @param mapGlobalTags  the global tags
+         * @param sSuffix        the suffix to append to the metric name, or
+         *                       null to use the name of this metric
+         * @param sTag           the name of an additional tag, or null
+         * @param sTagValue      the value of the additional tag
+         * @param supplier       the supplier of the metric value
+         *
+         * @return the exported metric
+         */
+        protected MBeanMetric createExportedMetric(Map<String, String> mapGlobalTags, String sSuffix,
+                String sTag, String sTagValue, Supplier<Object> supplier)
+            {
+            MBeanMetric.Identifier id      = f_id;
+            Map<String, String>    mapTags = new HashMap<>(mapGlobalTags);
+
+            mapTags.putAll(id.getTags());
+            if (sTag != null)
+                {
+                mapTags.put(sTag, sTagValue);
+                }
+
+            String sName = sSuffix == null ? id.getName() : id.getName() + '.' + sSuffix;
+
+            return new ExportedMetric(new MBeanMetric.Identifier(id.getScope(), sName, mapTags),
+                    f_sDescription, supplier);
+            }
+
+        // ----- object methods ---------------------------------------------
+
+        @Override
+        public String toString()
+            {
+            return getClass().getSimpleName() + "{identifier=" + f_id + '}';
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The metric identifier.
+         */
+        protected final MBeanMetric.Identifier f_id;
+
+        /**
+         * The metric description.
+         */
+        protected final String f_sDescription;
+
+        /**
+         * The cached exported metrics.
+         */
+        private volatile List<MBeanMetric> m_listExported;
+
+        /**
+         * The global tags the exported metrics were created with.
+         */
+        private volatile Map<String, String> m_mapExportedTags;
+        }
+
+    // ----- inner class: Counter -------------------------------------------
+
+    /**
+     * A monotonically increasing count.
+     */
+    public static class Counter
+            extends Metric
+        {
+        /**
+         * Construct a Counter.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         */
+        protected Counter(MBeanMetric.Identifier id, String sDescription)
+            {
+            super(id, sDescription);
+            }
+
+        // ----- Counter methods --------------------------------------------
+
+        /**
+         * Increment the count by one.
+         */
+        public void increment()
+            {
+            f_cCount.increment();
+            }
+
+        /**
+         * Increment the count by the specified amount.
+         *
+         * @param c  the amount to add, which must not be negative
+         */
+        public void add(long c)
+            {
+            if (c < 0L)
+                {
+                throw new IllegalArgumentException("A counter cannot be decremented");
+                }
+            f_cCount.add(c);
+            }
+
+        /**
+         * Return the current count.
+         *
+         * @return the current count
+         */
+        public long getCount()
+            {
+            return f_cCount.sum();
+            }
+
+        // ----- Metric methods ---------------------------------------------
+
+        @Override
+        protected void createExportedMetrics(Map<String, String> mapGlobalTags, List<MBeanMetric> listMetric)
+            {
+            listMetric.add(createExportedMetric(mapGlobalTags, null, null, null, this::getCount));
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The count.
+         */
+        protected final LongAdder f_cCount = new LongAdder();
+        }
+
+    // ----- inner class: Gauge ---------------------------------------------
+
+    /**
+     * A value that is obtained from a supplier when the metric is read.
+     */
+    public static class Gauge
+            extends Metric
+        {
+        /**
+         * Construct a Gauge.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         * @param supplier      the supplier of the gauge value
+         */
+        protected Gauge(MBeanMetric.Identifier id, String sDescription, Supplier<? extends Number> supplier)
+            {
+            super(id, sDescription);
+            f_supplier = supplier;
+            }
+
+        // ----- Gauge methods ----------------------------------------------
+
+        /**
+         * Return the current value of this gauge.
+         *
+         * @return the current value
+         */
+        public Number getValue()
+            {
+            return f_supplier.get();
+            }
+
+        // ----- Metric methods ---------------------------------------------
+
+        @Override
+        protected void createExportedMetrics(Map<String, String> mapGlobalTags, List<MBeanMetric> listMetric)
+            {
+            listMetric.add(createExportedMetric(mapGlobalTags, null, null, null, this::getValue));
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The supplier of the gauge value.
+         */
+        protected final Supplier<? extends Number> f_supplier;
+        }
+
+    // ----- inner class: Histogram -----------------------------------------
+
+    /**
+     * A distribution of non-negative values.
+     * <p>
+     * The values are recorded into buckets of exponentially increasing
+     * width, where each power-of-two range is divided into
+     * {@link #SUB_BUCKETS} linear sub-buckets, so the reported quantiles are
+     * within 12.5% of the recorded values regardless of their magnitude,
+     * while the memory used by the histogram is constant.
+     */
+    public static class Histogram
+            extends Metric
+        {
+        /**
+         * Construct a Histogram.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         */
+        protected Histogram(MBeanMetric.Identifier id, String sDescription)
+            {
+            super(id, sDescription);
+            }
+
+        // ----- Histogram methods ------------------------------------------
+
+        /**
+         * Record a value.
+         *
+         * @param lValue  the value; negative values are recorded as zero
+         */
+        public void record(long lValue)
+            {
+            lValue = Math.max(0L, lValue);
+
+            f_alBuckets.incrementAndGet(getBucket(lValue));
+            f_cCount.increment();
+            f_lSum.add(lValue);
+
+            for (long lMax = f_lMax.get(); lValue > lMax; lMax = f_lMax.get())
+                {
+                if (f_lMax.compareAndSet(lMax, lValue))
+                    {
+                    break;
+                    }
+                }
+            }
+
+        /**
+         * Return the number of recorded values.
+         *
+         * @return the number of recorded values
+         */
+        public long getCount()
+            {
+            return f_cCount.sum();
+            }
+
+        /**
+         * Return the sum of the recorded values.
+         *
+         * @return the sum of the recorded values
+         */
+        public long getSum()
+            {
+            return f_lSum.sum();
+            }
+
+        /**
+         * Return the maximum recorded value.
+         *
+         * @return the maximum recorded value
+         */
+        public long getMax()
+            {
+            return f_lMax.get();
+            }
+
+        /**
+         * Return the upper bound of the specified quantile of the recorded
+         * values.
+         *
+         * @param dflQuantile  the quantile, between 0 and 1
+         *
+         * @return the upper bound of the quantile, or zero if no values have
+         *         been recorded
+         */
+        public long getQuantile(double dflQuantile)
+            {
+            AtomicLongArray alBuckets = f_alBuckets;
+            int             cBuckets  = alBuckets.length();
+            long[]          alCount   = new long[cBuckets];
+            long            cTotal    = 0L;
+
+            for (int i = 0; i < cBuckets; i++)
+                {
+                cTotal += alCount[i] = alBuckets.get(i);
+                }
+
+            long cTarget = Math.max(1L, (long) Math.ceil(cTotal * dflQuantile));
+            long cSeen   = 0L;
+            for (int i = 0; i < cBuckets; i++)
+                {
+                cSeen += alCount[i];
+                if (cSeen >= cTarget)
+                    {
+                    return Math.min(getBucketUpperBound(i), getMax());
+                    }
+                }
+            return 0L;
+            }
+
+        /**
+         * Reset the histogram.
+         */
+        public void reset()
+            {
+            for (int i = 0, c = f_alBuckets.length(); i < c; i++)
+                {
+                f_alBuckets.set(i, 0L);
+                }
+            f_cCount.reset();
+            f_lSum.reset();
+            f_lMax.set(0L);
+            }
+
+        // ----- Metric methods ---------------------------------------------
+
+        @Override
+        protected void createExportedMetrics(Map<String, String> mapGlobalTags, List<MBeanMetric> listMetric)
+            {
+            for (double dflQuantile : QUANTILES)
+                {
+                listMetric.add(createExportedMetric(mapGlobalTags, null, "quantile", String.valueOf(dflQuantile),
+                        () -> scale(getQuantile(dflQuantile))));
+                }
+            listMetric.add(createExportedMetric(mapGlobalTags, "Count", null, null, this::getCount));
+            listMetric.add(createExportedMetric(mapGlobalTags, "Sum", null, null, () -> scale(getSum())));
+            listMetric.add(createExportedMetric(mapGlobalTags, "Max", null, null, () -> scale(getMax())));
+            }
+
+        // ----- helpers ----------------------------------------------------
+
+        /**
+         * Convert a recorded value into the exported unit.
+         *
+         * @param lValue  the recorded value
+         *
+         * @return the exported value
+         */
+        protected Object scale(long lValue)
+            {
+            return lValue;
+            }
+
+        /**
+         * Return the index of the bucket for the specified value.
+         *
+         * @param lValue  the non-negative value
+         *
+         * @return the bucket index
+         */
+        protected static int getBucket(long lValue)
+            {
+            if (lValue < SUB_BUCKETS)
+                {
+                return (int) lValue;
+                }
+
+            int nExp = 63 - Long.numberOfLeadingZeros(lValue);
+            int nSub = (int) (lValue >>> (nExp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+            return (nExp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + nSub;
+            }
+
+        /**
+         * Return the largest value that falls into the specified bucket.
+         *
+         * @param iBucket  the bucket index
+         *
+         * @return the upper bound of the bucket
+         */
+        protected static long getBucketUpperBound(int iBucket)
+            {
+            if (iBucket < SUB_BUCKETS)
+                {
+                return iBucket;
+                }
+
+            int  nShift = iBucket / SUB_BUCKETS - 1;
+            long lLower = ((long) (SUB_BUCKETS + iBucket % SUB_BUCKETS)) << nShift;
+
+            return lLower + (1L << nShift) - 1L;
+            }
+
+        // ----- constants --------------------------------------------------
+
+        /**
+         * The number of bits used to select the linear sub-bucket.
+         */
+        protected static final int SUB_BUCKET_BITS = 3;
+
+        /**
+         * The number of linear sub-buckets per power-of-two range.
+         */
+        protected static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        /**
+         * The number of buckets required to cover all non-negative longs.
+         */
+        protected static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+        /**
+         * The exported quantiles.
+         */
+        protected static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.99, 0.999};
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The number of values recorded in each bucket.
+         */
+        protected final AtomicLongArray f_alBuckets = new AtomicLongArray(BUCKET_COUNT);
+
+        /**
+         * The number of recorded values.
+         */
+        protected final LongAdder f_cCount = new LongAdder();
+
+        /**
+         * The sum of the recorded values.
+         */
+        protected final LongAdder f_lSum = new LongAdder();
+
+        /**
+         * The maximum recorded value.
+         */
+        protected final AtomicLong f_lMax = new AtomicLong();
+        }
+
+    // ----- inner class: Timer ---------------------------------------------
+
+    /**
+     * A {@link Histogram} of durations, recorded in nanoseconds and exported
+     * in seconds.
+     */
+    public static class Timer
+            extends Histogram
+        {
+        /**
+         * Construct a Timer.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         */
+        protected Timer(MBeanMetric.Identifier id, String sDescription)
+            {
+            super(id, sDescription);
+            }
+
+        // ----- Timer methods ----------------------------------------------
+
+        /**
+         * Record a duration.
+         *
+         * @param cDuration  the duration
+         * @param unit       the unit of the duration
+         */
+        public void record(long cDuration, TimeUnit unit)
+            {
+            record(unit.toNanos(cDuration));
+            }
+
+        /**
+         * Execute the specified operation, and record its duration.
+         *
+         * @param supplier  the operation
+         * @param <T>       the type of the operation result
+         *
+         * @return the result of the operation
+         */
+        public <T> T time(Supplier<T> supplier)
+            {
+            long ldtStart = System.nanoTime();
+            try
+                {
+                return supplier.get();
+                }
+            finally
+                {
+                record(System.nanoTime() - ldtStart);
+                }
+            }
+
+        // ----- Histogram methods ------------------------------------------
+
+        @Override
+        protected Object scale(long cNanos)
+            {
+            return cNanos / 1_000_000_000.0;
+            }
+        }
+
+    // ----- inner class: ExportedMetric ------------------------------------
+
+    /**
+     * An {@link MBeanMetric} that exposes a value of a native metric.
+     */
+    protected static class ExportedMetric
+            extends BaseMBeanMetric
+        {
+        /**
+         * Construct an ExportedMetric.
+         *
+         * @param id            the metric identifier
+         * @param sDescription  the metric description
+         * @param supplier      the supplier of the metric value
+         */
+        protected ExportedMetric(Identifier id, String sDescription, Supplier<Object> supplier)
+            {
+            super(id, null, sDescription);
+            f_supplier = supplier;
+            }
+
+        // ----- MBeanMetric interface --------------------------------------
+
+        @Override
+        public Object getValue()
+            {
+            return f_supplier.get();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The supplier of the metric value.
+         */
+        private final Supplier<Object> f_supplier;
+        }
+
+    // ----- inner class: ExportedIndex -------------------------------------
+
+    /**
+     * A snapshot of the exported metrics keyed by identifier, together with
+     * the state of the registry it was built from.
+     */
+    private static class ExportedIndex
+        {
+        /**
+         * Construct an ExportedIndex.
+         *
+         * @param mapGlobalTags   the global tags the index was built with
+         * @param cModifications  the modification count the index was built at
+         * @param mapExported     the exported metrics keyed by identifier
+         */
+        private ExportedIndex(Map<String, String> mapGlobalTags, long cModifications,
+                Map<MBeanMetric.Identifier, MBeanMetric> mapExported)
+            {
+            f_mapGlobalTags  = mapGlobalTags;
+            f_cModifications = cModifications;
+            f_mapExported    = mapExported;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The global tags the index was built with.
+         */
+        private final Map<String, String> f_mapGlobalTags;
+
+        /**
+         * The modification count the index was built at.
+         */
+        private final long f_cModifications;
+
+        /**
+         * The exported metrics keyed by identifier.
+         */
+        private final Map<MBeanMetric.Identifier, MBeanMetric> f_mapExported;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The singleton instance of the NativeMetricRegistry.
+     */
+    private static final NativeMetricRegistry INSTANCE = new NativeMetricRegistry();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The registered metrics.
+     */
+    private final ConcurrentMap<MBeanMetric.Identifier, Metric> f_mapMetric = new ConcurrentHashMap<>();
+
+    /**
+     * The global tags, which are set once the cluster is running.
+     */
+    private volatile Map<String, String> m_mapGlobalTags;
+
+    /**
+     * The number of times a metric has been registered or removed.
+     */
+    private final AtomicLong f_cModifications = new AtomicLong();
+
+    /**
+     * The index of the exported metrics used by {@link #getExportedMetric}.
+     */
+    private volatile ExportedIndex m_indexExported;
+    }
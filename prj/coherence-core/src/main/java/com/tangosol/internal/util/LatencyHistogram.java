@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * LatencyHistogram records the distribution of the duration of an operation
+ * (for example, the time spent by an interceptor processing an event), using
+ * power-of-two microsecond buckets.
+ *
+ * @since 20.12
+ */
+public class LatencyHistogram
+    {
+    // ----- LatencyHistogram methods ---------------------------------------
+
+    /**
+     * Record the processing of an event.
+     *
+     * @param cNanos  the time spent processing the event, in nanoseconds
+     */
+    public void register(long cNanos)
+        {
+        long cMicros = Math.max(1L, cNanos / 1000L);
+        int  iBucket = Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(cMicros));
+
+        f_alBuckets.incrementAndGet(iBucket);
+        f_cEvents.increment();
+        f_cTotalMicros.add(cMicros);
+
+        for (long cMax = f_cMaxMicros.get(); cMicros > cMax; cMax = f_cMaxMicros.get())
+            {
+            if (f_cMaxMicros.compareAndSet(cMax, cMicros))
+                {
+                break;
+                }
+            }
+        }
+
+    /**
+     * Return the number of recorded events.
+     *
+     * @return the number of recorded events
+     */
+    public long getCount()
+        {
+        return f_cEvents.sum();
+        }
+
+    /**
+     * Return the average processing time.
+     *
+     * @return the average processing time in microseconds
+     */
+    public long getAverageMicros()
+        {
+        long cEvents = getCount();
+        return cEvents == 0L ? 0L : f_cTotalMicros.sum() / cEvents;
+        }
+
+    /**
+     * Return the maximum processing time.
+     *
+     * @return the maximum processing time in microseconds
+     */
+    public long getMaxMicros()
+        {
+        return f_cMaxMicros.get();
+        }
+
+    /**
+     * Return the upper bound of the processing time of the specified
+     * percentile of the recorded events.
+     *
+     * @param dflPercentile  the percentile, between 0 and 100
+     *
+     * @return the processing time in microseconds
+     */
+    public long getPercentileMicros(double dflPercentile)
+        {
+        AtomicLongArray alBuckets = f_alBuckets;
+        long            cTotal    = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+            cTotal += alBuckets.get(i);
+            }
+
+        long cTarget = (long) Math.ceil(cTotal * dflPercentile / 100.0);
+        long cSeen   = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+            cSeen += alBuckets.get(i);
+            if (cSeen >= cTarget && cSeen > 0L)
+                {
+                return Math.min((1L << (i + 1)) - 1L, getMaxMicros());
+                }
+            }
+        return 0L;
+        }
+
+    /**
+     * Reset the histogram.
+     */
+    public void reset()
+        {
+        for (int i = 0; i < BUCKET_COUNT; i++)
+            {
+            f_alBuckets.set(i, 0L);
+            }
+        f_cEvents.reset();
+        f_cTotalMicros.reset();
+        f_cMaxMicros.set(0L);
+        }
+
+    // ----- object methods -------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    public String toString()
+        {
+        return "Count=" + getCount()
+               + ", AverageMicros=" + getAverageMicros()
+               + ", 50thMicros=" + getPercentileMicros(50.0)
+               + ", 99thMicros=" + getPercentileMicros(99.0)
+               + ", MaxMicros=" + getMaxMicros();
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of buckets; the last bucket holds anything above ~35 minutes.
+     */
+    protected static final int BUCKET_COUNT = 32;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The number of events in each bucket; bucket i holds the events
+     * processed in [2^i, 2^(i+1)) microseconds.
+     */
+    protected final AtomicLongArray f_alBuckets = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * The number of recorded events.
+     */
+    protected final LongAdder f_cEvents = new LongAdder();
+
+    /**
+     * The total processing time in microseconds.
+     */
+    protected final LongAdder f_cTotalMicros = new LongAdder();
+
+    /**
+     * The maximum processing time in microseconds.
+     */
+    protected final AtomicLong f_cMaxMicros = new AtomicLong();
+    }
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+
+import com.tangosol.net.management.annotation.Description;
+
+
+/**
+ * Standard MBean interface that exposes the sampled latency distribution of
+ * a single {@link RequestPhaseTracker.Phase phase} of the request processing
+ * on a member. Queue wait and backup are not among the tracked phases.
+ * <p>
+ * Each member registers one instance of this MBean per phase, bound to a JMX
+ * name of the form:
+ * <tt>"Coherence:type=RequestPhase,phase={Phase},nodeId={NodeId}"</tt>
+ * <p>
+ * The MBeans are only registered if phase sampling has been enabled using the
+ * <tt>coherence.request.phase.sample</tt> system property. The same
+ * durations are published as metrics by the {@link RequestPhaseTracker}, so
+ * the attributes of this MBean are not exported as metrics.
+ *
+ * @since 20.12
+ */
+@Description("Provides the sampled latency distribution of a request processing phase.")
+public interface RequestPhaseMBean
+    {
+    // ----- attributes -----------------------------------------------------
+
+    /**
+     * Return the number of sampled executions of the phase.
+     *
+     * @return the number of samples
+     */
+    @Description("The number of sampled executions of the phase.")
+    public long getCount();
+
+    /**
+     * Return the average duration of the phase.
+     *
+     * @return the average duration in microseconds
+     */
+    @Description("The average duration of the phase, in microseconds.")
+    public long getAverageMicros();
+
+    /**
+     * Return the upper bound of the duration of 50% of the samples.
+     *
+     * @return the median duration in microseconds
+     */
+    @Description("The 50th percentile of the duration of the phase, in microseconds.")
+    public long getPercentile50Micros();
+
+    /**
+     * Return the upper bound of the duration of 99% of the samples.
+     *
+     * @return the 99th percentile duration in microseconds
+     */
+    @Description("The 99th percentile of the duration of the phase, in microseconds.")
+    public long getPercentile99Micros();
+
+    /**
+     * Return the upper bound of the duration of 99.9% of the samples.
+     *
+     * @return the 99.9th percentile duration in microseconds
+     */
+    @Description("The 99.9th percentile of the duration of the phase, in microseconds.")
+    public long getPercentile999Micros();
+
+    /**
+     * Return the maximum duration of the phase.
+     *
+     * @return the maximum duration in microseconds
+     */
+    @Description("The maximum duration of the phase, in microseconds.")
+    public long getMaxMicros();
+
+    // ----- operations -----------------------------------------------------
+
+    /**
+     * Reset the statistics.
+     */
+    @Description("Reset the statistics.")
+    public void resetStatistics();
+    }
@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.internal.metrics.NativeMetricRegistry;
+
+import com.tangosol.net.CacheFactory;
+import com.tangosol.net.Cluster;
+
+import com.tangosol.net.management.AnnotatedStandardMBean;
+import com.tangosol.net.management.Registry;
+
+import com.tangosol.util.Base;
+
+import java.util.Collections;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.NotCompliantMBeanException;
+
+
+/**
+ * RequestPhaseTracker records the sampled latency of the {@link Phase phases}
+ * of the request processing on a storage member that are implemented by the
+ * Java libraries: the conversion of entry values by storage-side entries,
+ * index maintenance and persistence.
+ * <p>
+ * Only storage-side code is instrumented; the serialization performed by
+ * clients, and by any code that calls {@link
+ * com.tangosol.util.ExternalizableHelper} directly, is not timed.
+ * <p>
+ * The time a request spends waiting in the service or worker queues, and the
+ * time spent backing up a change, are not included, as neither is measured
+ * by the code instrumented with this class; a slow request whose phases are
+ * all fast is therefore likely to have been queued or backed up slowly.
+ * <p>
+ * Sampling is disabled by default, and can be enabled by setting the
+ * <tt>coherence.request.phase.sample</tt> system property to N, in which case
+ * approximately one in N executions of each phase is timed. The instrumented
+ * code uses the tracker as follows:
+ * <pre>
+ *   long ldtStart = RequestPhaseTracker.start();
+ *   ...
+ *   RequestPhaseTracker.stop(RequestPhaseTracker.Phase.SERIALIZATION, ldtStart);
+ * </pre>
+ * The system property is read once, when this class is initialized. When
+ * sampling is disabled, the cost of the above is a single read of a static
+ * final field, which the JIT compiler can eliminate.
+ * <p>
+ * The sampled durations are recorded by the
+ * <tt>Coherence.RequestPhase.Duration</tt> timer metric of the
+ * {@link NativeMetricRegistry}, which is registered when the first execution
+ * of a phase is sampled; the {@link RequestPhaseMBean}s, which expose the
+ * statistics of the same timers, are registered once an execution is sampled
+ * on a running cluster member.
+ *
+ * @since 20.12
+ */
+public abstract class RequestPhaseTracker
+    {
+    // ----- RequestPhaseTracker methods ------------------------------------
+
+    /**
+     * Start timing a phase.
+     *
+     * @return the start time to pass to {@link #stop}, or zero if this
+     *         execution of the phase is not sampled
+     */
+    public static long start()
+        {
+        int nRate = SAMPLE_RATE;
+        if (nRate > 0 && (nRate == 1 || ThreadLocalRandom.current().nextInt(nRate) == 0))
+            {
+            long ldtStart = System.nanoTime();
+            return ldtStart == 0L ? 1L : ldtStart;
+            }
+        return 0L;
+        }
+
+    /**
+     * Stop timing a phase, and record its duration if it was sampled.
+     *
+     * @param phase     the phase
+     * @param ldtStart  the value returned by the corresponding {@link #start}
+     */
+    public static void stop(Phase phase, long ldtStart)
+        {
+        if (ldtStart != 0L)
+            {
+            getTimer(phase).record(System.nanoTime() - ldtStart);
+            if (!s_fMBeansRegistered)
+                {
+                ensureMBeans();
+                }
+            }
+        }
+
+    /**
+     * Return true iff phase sampling is enabled.
+     *
+     * @return true iff phase sampling is enabled
+     */
+    public static boolean isEnabled()
+        {
+        return SAMPLE_RATE > 0;
+        }
+
+    /**
+     * Return the timer metric of the specified phase, registering it with
+     * the {@link NativeMetricRegistry} if necessary.
+     *
+     * @param phase  the phase
+     *
+     * @return the timer metric
+     */
+    public static NativeMetricRegistry.Timer getTimer(Phase phase)
+        {
+        NativeMetricRegistry.Timer timer = TIMERS[phase.ordinal()];
+        if (timer == null)
+            {
+            // the registry returns the same instance to concurrent callers
+            TIMERS[phase.ordinal()] = timer = NativeMetricRegistry.getRegistry().timer(METRIC_NAME,
+                    Collections.singletonMap("phase", phase.getDisplayName()),
+                    "The sampled duration of a request processing phase.");
+            }
+        return timer;
+        }
+
+    /**
+     * Register a {@link RequestPhaseMBean} for each phase with the specified
+     * registry, unless phase sampling is disabled or the MBeans have already
+     * been registered.
+     *
+     * @param registry  the management registry, or null if management is
+     *                  disabled
+     */
+    public static void registerMBeans(Registry registry)
+        {
+        if (registry == null || !isEnabled())
+            {
+            return;
+            }
+
+        for (Phase phase : Phase.values())
+            {
+            String sName = registry.ensureGlobalName(MBEAN_TYPE + ",phase=" + phase.getDisplayName());
+            if (!registry.isRegistered(sName))
+                {
+                try
+                    {
+                    registry.register(sName,
+                            new AnnotatedStandardMBean(new PhaseStatistics(phase), RequestPhaseMBean.class));
+                    }
+                catch (NotCompliantMBeanException e)
+                    {
+                    throw Base.ensureRuntimeException(e);
+                    }
+                }
+            }
+        }
+
+    /**
+     * Register the {@link RequestPhaseMBean}s with the management registry
+     * of the cluster, if the local member is running.
+     */
+    protected static void ensureMBeans()
+        {
+        Cluster cluster = CacheFactory.getCluster();
+        if (cluster.isRunning())
+            {
+            Registry registry = cluster.getManagement();
+
+            s_fMBeansRegistered = true;
+            registerMBeans(registry);
+            }
+        }
+
+    // ----- enum: Phase ----------------------------------------------------
+
+    /**
+     * The instrumented phases of the request processing; queue wait and
+     * backup are not instrumented.
+     */
+    public enum Phase
+        {
+        /**
+         * The serialization of an entry value into a Binary by a storage-side
+         * entry.
+         */
+        SERIALIZATION("Serialization"),
+
+        /**
+         * The deserialization of an entry value from a Binary by a
+         * storage-side entry.
+         */
+        DESERIALIZATION("Deserialization"),
+
+        /**
+         * The update of an index in response to an entry change.
+         */
+        INDEX_UPDATE("IndexUpdate"),
+
+        /**
+         * The commit of a change to the persistent store.
+         */
+        PERSISTENCE("Persistence");
+
+        /**
+         * Construct a Phase.
+         *
+         * @param sName  the name used in the MBean name of the phase
+         */
+        Phase(String sName)
+            {
+            f_sName = sName;
+            }
+
+        /**
+         * Return the name used in the MBean name of the phase.
+         *
+         * @return the display name of the phase
+         */
+        public String getDisplayName()
+            {
+            return f_sName;
+            }
+
+        /**
+         * The display name of the phase.
+         */
+        private final String f_sName;
+        }
+
+    // ----- inner class: PhaseStatistics -----------------------------------
+
+    /**
+     * The {@link RequestPhaseMBean} implementation for a single phase.
+     */
+    protected static class PhaseStatistics
+            implements RequestPhaseMBean
+        {
+        /**
+         * Construct a PhaseStatistics for the specified phase.
+         *
+         * @param phase  the phase
+         */
+        protected PhaseStatistics(Phase phase)
+            {
+            f_timer = getTimer(phase);
+            }
+
+        // ----- RequestPhaseMBean interface --------------------------------
+
+        @Override
+        public long getCount()
+            {
+            return f_timer.getCount();
+            }
+
+        @Override
+        public long getAverageMicros()
+            {
+            long cSamples = f_timer.getCount();
+            return cSamples == 0L ? 0L : TimeUnit.NANOSECONDS.toMicros(f_timer.getSum() / cSamples);
+            }
+
+        @Override
+        public long getPercentile50Micros()
+            {
+            return TimeUnit.NANOSECONDS.toMicros(f_timer.getQuantile(0.5));
+            }
+
+        @Override
+        public long getPercentile99Micros()
+            {
+            return TimeUnit.NANOSECONDS.toMicros(f_timer.getQuantile(0.99));
+            }
+
+        @Override
+        public long getPercentile999Micros()
+            {
+            return TimeUnit.NANOSECONDS.toMicros(f_timer.getQuantile(0.999));
+            }
+
+        @Override
+        public long getMaxMicros()
+            {
+            return TimeUnit.NANOSECONDS.toMicros(f_timer.getMax());
+            }
+
+        @Override
+        public void resetStatistics()
+            {
+            f_timer.reset();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The timer metric of the phase.
+         */
+        protected final NativeMetricRegistry.Timer f_timer;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The type of the {@link RequestPhaseMBean} names.
+     */
+    public static final String MBEAN_TYPE = "type=RequestPhase";
+
+    /**
+     * The sampling rate; one in SAMPLE_RATE executions of each phase is
+     * timed, and zero (the default) disables sampling.
+     */
+    public static final int SAMPLE_RATE = Math.max(0, Config.getInteger("coherence.request.phase.sample", 0));
+
+    /**
+     * The name of the timer metrics.
+     */
+    public static final String METRIC_NAME = "Coherence.RequestPhase.Duration";
+
+    /**
+     * The timer metrics, indexed by phase ordinal; each of them is
+     * registered when it is first used.
+     */
+    private static final NativeMetricRegistry.Timer[] TIMERS = new NativeMetricRegistry.Timer[Phase.values().length];
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * Whether the MBeans have been registered.
+     */
+    private static volatile boolean s_fMBeansRegistered;
+    }
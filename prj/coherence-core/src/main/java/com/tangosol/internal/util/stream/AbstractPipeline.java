@@ -11,12 +11,19 @@ import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 
 import com.tangosol.io.pof.PortableObject;
+import com.tangosol.net.Member;
 import com.tangosol.net.NamedCache;
 import com.tangosol.net.PartitionedService;
 import com.tangosol.net.cache.ContinuousQueryCache;
+import com.tangosol.net.partition.PartitionSet;
+import com.tangosol.util.Base;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
+import com.tangosol.util.SimpleStreamer;
+
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.PartitionedFilter;
 
 import com.tangosol.util.stream.BaseRemoteStream;
 import com.tangosol.util.stream.RemoteCollector;
@@ -26,10 +33,17 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 import java.util.stream.BaseStream;
@@ -230,6 +244,32 @@ public abstract class AbstractPipeline<K, V, E_IN, E_OUT, S_IN extends BaseStrea
         return head().m_invoker.invoke(aggregator);
         }
 
+    /**
+     * Invoke the aggregator for a short-circuiting terminal operation.
+     * <p>
+     * If the iteration of the underlying map can be partitioned, the
+     * aggregator is evaluated incrementally, against progressively larger
+     * sets of partitions owned by each storage member, and the partial results
+     * are combined as they arrive; as soon as the aggregator signals that the
+     * result is ready, no further partitions are evaluated. Otherwise, the
+     * aggregator is invoked against the entire map, as it is for sorted
+     * streams.
+     *
+     * @param aggregator  aggregator to invoke
+     * @param <P>         the type of the (partial) aggregation result
+     *
+     * @return  the aggregation result
+     */
+    protected <P> P invokeShortCircuit(InvocableMap.StreamingAggregator<? super K, ? super V, P, P> aggregator)
+        {
+        if (isSorted() || !isPartitionable())
+            {
+            return invoke(aggregator);
+            }
+
+        return new ShortCircuitInvoker<>((NamedCache<K, V>) getMap(), getInvoker().getFilter(), aggregator).invoke();
+        }
+
     public AggregatorInvoker<K, V> getInvoker()
         {
         return head().m_invoker;
@@ -440,6 +480,260 @@ public abstract class AbstractPipeline<K, V, E_IN, E_OUT, S_IN extends BaseStrea
         private Filter m_filter;
         }
 
+    // ---- inner class: ShortCircuitInvoker --------------------------------
+
+    /**
+     * A helper class that incrementally invokes a short-circuiting aggregator
+     * against a partitioned cache.
+     * <p>
+     * The partitions owned by each storage member are split into chunks of
+     * geometrically increasing size, starting with a single partition; the
+     * number of chunks per member is limited to {@link #MAX_CHUNKS}, so the
+     * last chunk contains all of the remaining partitions. The chunks of different members are evaluated concurrently, while the
+     * chunks of each member are evaluated one after another; each partial
+     * result is combined as soon as it is received, and no further chunks
+     * are submitted once the aggregation is short-circuited.
+     *
+     * @param <K>  the key type
+     * @param <V>  the value type
+     * @param <P>  the type of the (partial) aggregation result
+     */
+    protected static class ShortCircuitInvoker<K, V, P>
+        {
+        /**
+         * Construct ShortCircuitInvoker instance.
+         *
+         * @param cache       the cache to aggregate
+         * @param filter      the filter to aggregate on, or null for all entries
+         * @param aggregator  the aggregator to invoke
+         */
+        public ShortCircuitInvoker(NamedCache<K, V> cache, Filter filter,
+                                   InvocableMap.StreamingAggregator<? super K, ? super V, P, P> aggregator)
+            {
+            f_cache      = cache;
+            f_filter     = filter == null ? AlwaysFilter.INSTANCE : filter;
+            f_aggregator = aggregator;
+            f_aggrResult = aggregator.supply();
+            }
+
+        /**
+         * Invoke the aggregator and return the result.
+         *
+         * @return the aggregation result
+         */
+        public P invoke()
+            {
+            List<Deque<PartitionSet>> listChunks = split();
+
+            synchronized (this)
+                {
+                m_cPending = listChunks.size();
+                }
+
+            for (Deque<PartitionSet> dequeChunks : listChunks)
+                {
+                submit(dequeChunks);
+                }
+
+            try
+                {
+                return f_future.join();
+                }
+            catch (CompletionException e)
+                {
+                throw Base.ensureRuntimeException(e.getCause() == null ? e : e.getCause());
+                }
+            }
+
+        /**
+         * Split the partitions into the chunks to evaluate.
+         *
+         * @return a list of chunk queues, one for each storage member, and
+         *         one for the partitions that are not owned by any member
+         */
+        protected List<Deque<PartitionSet>> split()
+            {
+            PartitionedService        service    = (PartitionedService) f_cache.getCacheService();
+            int                       cParts     = service.getPartitionCount();
+            PartitionSet              partsLeft  = new PartitionSet(cParts).fill();
+            List<Deque<PartitionSet>> listChunks = new ArrayList<>();
+
+            for (Member member : service.getOwnershipEnabledMembers())
+                {
+                PartitionSet partsOwned = service.getOwnedPartitions(member);
+                if (partsOwned != null)
+                    {
+                    partsOwned = new PartitionSet(partsOwned);
+                    partsOwned.retain(partsLeft);
+                    if (!partsOwned.isEmpty())
+                        {
+                        partsLeft.remove(partsOwned);
+                        listChunks.add(split(partsOwned));
+                        }
+                    }
+                }
+
+            if (!partsLeft.isEmpty() || listChunks.isEmpty())
+                {
+                listChunks.add(split(partsLeft));
+                }
+
+            return listChunks;
+            }
+
+        /**
+         * Split the specified partitions into chunks of geometrically
+         * increasing size.
+         *
+         * @param parts  the partitions to split
+         *
+         * @return the queue of chunks
+         */
+        protected Deque<PartitionSet> split(PartitionSet parts)
+            {
+            int                 cParts      = parts.getPartitionCount();
+            Deque<PartitionSet> dequeChunks = new ArrayDeque<>();
+            PartitionSet        partsChunk  = new PartitionSet(cParts);
+            int                 cChunk      = 1;
+
+            for (int nPart = parts.next(0); nPart >= 0; nPart = parts.next(nPart + 1))
+                {
+                partsChunk.add(nPart);
+                if (partsChunk.cardinality() == cChunk && dequeChunks.size() < MAX_CHUNKS - 1)
+                    {
+                    dequeChunks.add(partsChunk);
+                    partsChunk = new PartitionSet(cParts);
+                    cChunk    <<= 1;
+                    }
+                }
+
+            if (!partsChunk.isEmpty() || dequeChunks.isEmpty())
+                {
+                dequeChunks.add(partsChunk);
+                }
+
+            return dequeChunks;
+            }
+
+        /**
+         * Submit the next chunk from the specified queue for evaluation.
+         *
+         * @param dequeChunks  the queue of chunks
+         */
+        protected void submit(Deque<PartitionSet> dequeChunks)
+            {
+            PartitionSet parts;
+            synchronized (this)
+                {
+                if (f_future.isDone())
+                    {
+                    return;
+                    }
+                parts = dequeChunks.poll();
+                }
+
+            f_cache.async().aggregate(new PartitionedFilter<>(f_filter, parts), f_aggregator)
+                    .whenComplete((result, e) -> onResult(dequeChunks, result, e));
+            }
+
+        /**
+         * Process the result of a chunk evaluation.
+         *
+         * @param dequeChunks  the queue the evaluated chunk belongs to
+         * @param result       the partial result
+         * @param e            the evaluation failure, or null
+         */
+        protected void onResult(Deque<PartitionSet> dequeChunks, P result, Throwable e)
+            {
+            synchronized (this)
+                {
+                if (f_future.isDone())
+                    {
+                    return;
+                    }
+
+                if (e != null)
+                    {
+                    f_future.completeExceptionally(e);
+                    return;
+                    }
+
+                // a chunk without any entries may produce no partial result
+                boolean fCombined = result != null;
+                m_fCombined |= fCombined;
+
+                if (fCombined && !f_aggrResult.combine(result)
+                    || dequeChunks.isEmpty() && --m_cPending == 0)
+                    {
+                    if (!m_fCombined)
+                        {
+                        // none of the chunks produced a partial result;
+                        // produce the result of an empty aggregation locally
+                        InvocableMap.StreamingAggregator<? super K, ? super V, P, P> aggregator =
+                                f_aggregator.supply();
+                        aggregator.accumulate(new SimpleStreamer<>(Collections.emptyList()));
+                        f_aggrResult.combine(aggregator.getPartialResult());
+                        }
+                    f_future.complete(f_aggrResult.finalizeResult());
+                    return;
+                    }
+
+                if (dequeChunks.isEmpty())
+                    {
+                    return;
+                    }
+                }
+
+            submit(dequeChunks);
+            }
+
+        // ---- constants ---------------------------------------------------
+
+        /**
+         * The maximum number of chunks the partitions of each storage member
+         * are split into, which is the maximum number of sequential requests
+         * sent to a member.
+         */
+        public static final int MAX_CHUNKS = 4;
+
+        // ---- data members ------------------------------------------------
+
+        /**
+         * The cache to aggregate.
+         */
+        private final NamedCache<K, V> f_cache;
+
+        /**
+         * The filter to aggregate on.
+         */
+        private final Filter f_filter;
+
+        /**
+         * The aggregator to invoke against each chunk.
+         */
+        private final InvocableMap.StreamingAggregator<? super K, ? super V, P, P> f_aggregator;
+
+        /**
+         * The aggregator used to combine the partial results.
+         */
+        private final InvocableMap.StreamingAggregator<? super K, ? super V, P, P> f_aggrResult;
+
+        /**
+         * The future completed with the aggregation result.
+         */
+        private final CompletableFuture<P> f_future = new CompletableFuture<>();
+
+        /**
+         * The number of chunk queues that have not been fully evaluated.
+         */
+        private int m_cPending;
+
+        /**
+         * True if at least one partial result has been combined.
+         */
+        private boolean m_fCombined;
+        }
+
     // ---- data members ----------------------------------------------------
 
     private static final String MSG_STREAM_LINKED = "stream has already been operated upon or closed";
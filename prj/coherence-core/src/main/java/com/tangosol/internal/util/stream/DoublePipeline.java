@@ -265,27 +265,27 @@ public abstract class DoublePipeline<K, V, E_IN, S_IN extends BaseStream<E_IN, S
 
     public boolean anyMatch(DoublePredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
         }
 
     public boolean allMatch(DoublePredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
         }
 
     public boolean noneMatch(DoublePredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
         }
 
     public OptionalDouble findFirst()
         {
-        return invoke(new FinderAggregator<>(this, DoubleStream::findFirst));
+        return invokeShortCircuit(new FinderAggregator<>(this, DoubleStream::findFirst));
         }
 
     public OptionalDouble findAny()
         {
-        return invoke(new FinderAggregator<>(this, DoubleStream::findAny));
+        return invokeShortCircuit(new FinderAggregator<>(this, DoubleStream::findAny));
         }
 
     // ---- AbstractPipeline overrides --------------------------------------
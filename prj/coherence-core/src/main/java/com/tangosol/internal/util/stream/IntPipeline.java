@@ -275,27 +275,27 @@ public abstract class IntPipeline<K, V, E_IN, S_IN extends BaseStream<E_IN, S_IN
 
     public boolean anyMatch(IntPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
         }
 
     public boolean allMatch(IntPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
         }
 
     public boolean noneMatch(IntPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
         }
 
     public OptionalInt findFirst()
         {
-        return invoke(new FinderAggregator<>(this, IntStream::findFirst));
+        return invokeShortCircuit(new FinderAggregator<>(this, IntStream::findFirst));
         }
 
     public OptionalInt findAny()
         {
-        return invoke(new FinderAggregator<>(this, IntStream::findAny));
+        return invokeShortCircuit(new FinderAggregator<>(this, IntStream::findAny));
         }
 
     // ---- AbstractPipeline overrides --------------------------------------
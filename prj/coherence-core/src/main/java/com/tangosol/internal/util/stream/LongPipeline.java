@@ -272,27 +272,27 @@ public abstract class LongPipeline<K, V, E_IN, S_IN extends BaseStream<E_IN, S_I
 
     public boolean anyMatch(LongPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
         }
 
     public boolean allMatch(LongPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
         }
 
     public boolean noneMatch(LongPredicate predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
         }
 
     public OptionalLong findFirst()
         {
-        return invoke(new FinderAggregator<>(this, LongStream::findFirst));
+        return invokeShortCircuit(new FinderAggregator<>(this, LongStream::findFirst));
         }
 
     public OptionalLong findAny()
         {
-        return invoke(new FinderAggregator<>(this, LongStream::findAny));
+        return invokeShortCircuit(new FinderAggregator<>(this, LongStream::findAny));
         }
 
     // ---- AbstractPipeline overrides --------------------------------------
@@ -320,27 +320,27 @@ public abstract class ReferencePipeline<K, V, P_IN, P_OUT, S_IN extends BaseStre
 
     public boolean anyMatch(Predicate<? super P_OUT> predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.anyMatch(predicate), (p) -> p));
         }
 
     public boolean allMatch(Predicate<? super P_OUT> predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.allMatch(predicate), (p) -> !p));
         }
 
     public boolean noneMatch(Predicate<? super P_OUT> predicate)
         {
-        return invoke(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
+        return invokeShortCircuit(new MatcherAggregator<>(this, (s) -> s.noneMatch(predicate), (p) -> !p));
         }
 
     public Optional<P_OUT> findFirst()
         {
-        return invoke(new FinderAggregator<>(this, Stream::findFirst));
+        return invokeShortCircuit(new FinderAggregator<>(this, Stream::findFirst));
         }
 
     public Optional<P_OUT> findAny()
         {
-        return invoke(new FinderAggregator<>(this, Stream::findAny));
+        return invokeShortCircuit(new FinderAggregator<>(this, Stream::findAny));
         }
 
     // ---- helper methods --------------------------------------------------
@@ -0,0 +1,861 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.pof;
+
+import com.oracle.coherence.common.schema.ExtensibleType;
+import com.oracle.coherence.common.schema.Schema;
+
+import com.tangosol.io.Base64OutputStream;
+import com.tangosol.io.ReadBuffer;
+
+import com.tangosol.io.pof.schema.PofProperty;
+import com.tangosol.io.pof.schema.PofType;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * A {@link PofHandler} that transcodes a POF stream directly into JSON,
+ * without deserializing the stream into Java objects.
+ * <p>
+ * User types are written as JSON objects. Property names are resolved from
+ * the POF {@link Schema} if one is provided, based on the same property
+ * ordering that is used to assign POF indexes to portable types; properties
+ * of types that are not present in the schema are named after their POF
+ * index. The nested user types that {@link PortableTypeSerializer} writes for
+ * each class in a type hierarchy are merged into the enclosing object; as the
+ * hierarchy is only known from the schema, they are written as nested objects
+ * named after their POF index if no schema is provided.
+ * <p>
+ * Collections and arrays are written as JSON arrays, and maps as JSON objects
+ * whose keys are the JSON representation of the POF keys (quoted if they are
+ * not strings). POF does not distinguish empty maps from empty collections,
+ * so both are written as empty JSON arrays. Dates, times and date-times are
+ * written as ISO-8601 strings, and octet strings as Base64 encoded strings.
+ * 128-bit floating point values are written as decimal strings, as they
+ * cannot be represented by a JSON number without loss of precision.
+ * References to values written earlier in the stream are written as
+ * <tt>{"@ref": id}</tt>.
+ * <p>
+ * A typical usage is:
+ * <pre>
+ * String sJson = JsonPofHandler.toJson(binValue, schema);
+ * </pre>
+ *
+ * @since 20.12
+ */
+public class JsonPofHandler
+        extends PofHelper
+        implements PofHandler
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a JsonPofHandler that writes to the specified Writer and
+     * names the properties of user types after their POF indexes.
+     *
+     * @param out  the Writer to write JSON to
+     */
+    public JsonPofHandler(Writer out)
+        {
+        this(out, null);
+        }
+
+    /**
+     * Construct a JsonPofHandler that writes to the specified Writer and
+     * resolves property names from the specified POF schema.
+     *
+     * @param out     the Writer to write JSON to
+     * @param schema  the POF schema to resolve property names from, may be
+     *                {@code null}
+     */
+    public JsonPofHandler(Writer out, Schema schema)
+        {
+        m_out          = out;
+        f_mapPropNames = schema == null ? Collections.emptyMap() : getPropertyNames(schema);
+        f_mapTypeIds   = schema == null ? Collections.emptyMap() : getHierarchyTypeIds(schema);
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Transcode the POF value in the specified buffer into JSON.
+     * <p>
+     * The buffer must contain a POF stream as written by {@link
+     * PofContext#serialize}, without any format identifier or decorations.
+     *
+     * @param buf     the buffer containing the POF value
+     * @param out     the Writer to write JSON to
+     * @param schema  the POF schema to resolve property names from, may be
+     *                {@code null}
+     */
+    public static void transcode(ReadBuffer buf, Writer out, Schema schema)
+        {
+        new PofParser(new JsonPofHandler(out, schema)).parse(buf.getBufferInput());
+        }
+
+    /**
+     * Return the JSON representation of the POF value in the specified
+     * binary, as created by {@link ExternalizableHelper#toBinary(Object,
+     * com.tangosol.io.Serializer)} using a POF serializer.
+     * <p>
+     * Decorations, if any, are ignored.
+     *
+     * @param bin     the serialized POF value
+     * @param schema  the POF schema to resolve property names from, may be
+     *                {@code null}
+     *
+     * @return the JSON representation of the POF value
+     */
+    public static String toJson(Binary bin, Schema schema)
+        {
+        ReadBuffer buf = ExternalizableHelper.getUndecorated((ReadBuffer) bin);
+        if (buf.length() > 0 && buf.byteAt(0) == ExternalizableHelper.FMT_EXT)
+            {
+            buf = buf.getReadBuffer(1, buf.length() - 1);
+            }
+
+        StringWriter out = new StringWriter(Math.max(16, buf.length() * 2));
+        transcode(buf, out, schema);
+        return out.toString();
+        }
+
+    // ----- PofHandler interface -------------------------------------------
+
+    @Override
+    public void registerIdentity(int nId)
+        {
+        // the value follows and is written in place
+        }
+
+    @Override
+    public void onNullReference(int iPos)
+        {
+        writeValue(iPos, "null");
+        }
+
+    @Override
+    public void onIdentityReference(int iPos, int nId)
+        {
+        writeValue(iPos, "{\"@ref\":" + nId + '}');
+        }
+
+    @Override
+    public void onInt16(int iPos, short n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    @Override
+    public void onInt32(int iPos, int n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    @Override
+    public void onInt64(int iPos, long n)
+        {
+        writeValue(iPos, String.valueOf(n));
+        }
+
+    @Override
+    public void onInt128(int iPos, BigInteger n)
+        {
+        writeValue(iPos, n.toString());
+        }
+
+    @Override
+    public void onFloat32(int iPos, float fl)
+        {
+        writeValue(iPos, Float.isNaN(fl) || Float.isInfinite(fl)
+                         ? quote(String.valueOf(fl))
+                         : String.valueOf(fl));
+        }
+
+    @Override
+    public void onFloat64(int iPos, double dfl)
+        {
+        writeValue(iPos, Double.isNaN(dfl) || Double.isInfinite(dfl)
+                         ? quote(String.valueOf(dfl))
+                         : String.valueOf(dfl));
+        }
+
+    @Override
+    public void onFloat128(int iPos, RawQuad qfl)
+        {
+        writeValue(iPos, quote(toDecimalString(qfl)));
+        }
+
+    @Override
+    public void onDecimal32(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    @Override
+    public void onDecimal64(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    @Override
+    public void onDecimal128(int iPos, BigDecimal dec)
+        {
+        writeValue(iPos, dec.toString());
+        }
+
+    @Override
+    public void onBoolean(int iPos, boolean f)
+        {
+        writeValue(iPos, f ? "true" : "false");
+        }
+
+    @Override
+    public void onOctet(int iPos, int b)
+        {
+        writeValue(iPos, String.valueOf(b));
+        }
+
+    @Override
+    public void onOctetString(int iPos, Binary bin)
+        {
+        writeValue(iPos, quote(new String(Base64OutputStream.encode(bin.toByteArray(), false))));
+        }
+
+    @Override
+    public void onChar(int iPos, char ch)
+        {
+        writeValue(iPos, quote(String.valueOf(ch)));
+        }
+
+    @Override
+    public void onCharString(int iPos, String s)
+        {
+        writeValue(iPos, quote(s));
+        }
+
+    @Override
+    public void onDate(int iPos, int nYear, int nMonth, int nDay)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay)));
+        }
+
+    @Override
+    public void onYearMonthInterval(int iPos, int cYears, int cMonths)
+        {
+        writeValue(iPos, quote("P" + cYears + "Y" + cMonths + "M"));
+        }
+
+    @Override
+    public void onTime(int iPos, int nHour, int nMinute, int nSecond,
+            int nNano, boolean fUTC)
+        {
+        writeValue(iPos, quote(formatTime(nHour, nMinute, nSecond, nNano, fUTC)));
+        }
+
+    @Override
+    public void onTime(int iPos, int nHour, int nMinute, int nSecond,
+            int nNano, int nHourOffset, int nMinuteOffset)
+        {
+        writeValue(iPos, quote(formatTime(nHour, nMinute, nSecond, nNano,
+                                          nHourOffset, nMinuteOffset)));
+        }
+
+    @Override
+    public void onTimeInterval(int iPos, int cHours, int cMinutes,
+            int cSeconds, int cNanos)
+        {
+        writeValue(iPos, quote(formatDuration(0, cHours, cMinutes, cSeconds, cNanos)));
+        }
+
+    @Override
+    public void onDateTime(int iPos, int nYear, int nMonth, int nDay,
+            int nHour, int nMinute, int nSecond, int nNano, boolean fUTC)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay) + 'T'
+                               + formatTime(nHour, nMinute, nSecond, nNano, fUTC)));
+        }
+
+    @Override
+    public void onDateTime(int iPos, int nYear, int nMonth, int nDay,
+            int nHour, int nMinute, int nSecond, int nNano,
+            int nHourOffset, int nMinuteOffset)
+        {
+        writeValue(iPos, quote(formatDate(nYear, nMonth, nDay) + 'T'
+                               + formatTime(nHour, nMinute, nSecond, nNano,
+                                            nHourOffset, nMinuteOffset)));
+        }
+
+    @Override
+    public void onDayTimeInterval(int iPos, int cDays, int cHours,
+            int cMinutes, int cSeconds, int cNanos)
+        {
+        writeValue(iPos, quote(formatDuration(cDays, cHours, cMinutes, cSeconds, cNanos)));
+        }
+
+    @Override
+    public void beginCollection(int iPos, int cElements)
+        {
+        beginComplexValue(iPos, new Frame(Frame.ARRAY, null, false));
+        }
+
+    @Override
+    public void beginUniformCollection(int iPos, int cElements, int nType)
+        {
+        beginCollection(iPos, cElements);
+        }
+
+    @Override
+    public void beginArray(int iPos, int cElements)
+        {
+        beginCollection(iPos, cElements);
+        }
+
+    @Override
+    public void beginUniformArray(int iPos, int cElements, int nType)
+        {
+        beginCollection(iPos, cElements);
+        }
+
+    @Override
+    public void beginSparseArray(int iPos, int cElements)
+        {
+        beginComplexValue(iPos, new Frame(Frame.ARRAY, null, true));
+        }
+
+    @Override
+    public void beginUniformSparseArray(int iPos, int cElements, int nType)
+        {
+        beginSparseArray(iPos, cElements);
+        }
+
+    @Override
+    public void beginMap(int iPos, int cElements)
+        {
+        beginComplexValue(iPos, new Frame(Frame.MAP, null, false));
+        }
+
+    @Override
+    public void beginUniformKeysMap(int iPos, int cElements, int nTypeKeys)
+        {
+        beginMap(iPos, cElements);
+        }
+
+    @Override
+    public void beginUniformMap(int iPos, int cElements, int nTypeKeys, int nTypeValues)
+        {
+        beginMap(iPos, cElements);
+        }
+
+    @Override
+    public void beginUserType(int iPos, int nUserTypeId, int nVersionId)
+        {
+        String[] asNames = f_mapPropNames.get(nUserTypeId);
+        Frame    parent  = f_stack.peek();
+
+        if (parent != null && parent.m_nKind == Frame.OBJECT && !parent.m_fMerged
+            && iPos == nUserTypeId && parent.getName(iPos) == null
+            && f_mapTypeIds.getOrDefault(parent.m_nTypeId, Collections.emptySet()).contains(nUserTypeId))
+            {
+            // a nested type written by the PortableTypeSerializer for a class
+            // in the type hierarchy; its properties belong to the parent object
+            Frame frame = new Frame(Frame.OBJECT, asNames, false);
+            frame.m_fMerged  = true;
+            frame.m_cWritten = parent.m_cWritten;
+            f_stack.push(frame);
+            }
+        else
+            {
+            Frame frame = new Frame(Frame.OBJECT, asNames, false);
+            frame.m_nTypeId = nUserTypeId;
+            beginComplexValue(iPos, frame);
+            }
+        }
+
+    @Override
+    public void endComplexValue()
+        {
+        Frame frame = f_stack.pop();
+        if (frame.m_fMerged)
+            {
+            f_stack.peek().m_cWritten = frame.m_cWritten;
+            }
+        else
+            {
+            write(frame.m_nKind == Frame.ARRAY ? "]" : "}");
+            endValue();
+            }
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Write a scalar JSON value at the specified position.
+     *
+     * @param iPos    the position of the value within its enclosing value
+     * @param sValue  the JSON representation of the value
+     */
+    protected void writeValue(int iPos, String sValue)
+        {
+        beginValue(iPos);
+        write(sValue);
+        endValue();
+        }
+
+    /**
+     * Begin writing a JSON array or object at the specified position.
+     *
+     * @param iPos   the position of the value within its enclosing value
+     * @param frame  the frame describing the complex value
+     */
+    protected void beginComplexValue(int iPos, Frame frame)
+        {
+        beginValue(iPos);
+        write(frame.m_nKind == Frame.ARRAY ? "[" : "{");
+        f_stack.push(frame);
+        }
+
+    /**
+     * Write whatever has to precede a value at the specified position within
+     * the current complex value, such as a separator or a property name.
+     *
+     * @param iPos  the position of the value within its enclosing value
+     */
+    protected void beginValue(int iPos)
+        {
+        Frame frame = f_stack.peek();
+        if (frame == null)
+            {
+            return;
+            }
+
+        switch (frame.m_nKind)
+            {
+            case Frame.ARRAY:
+                if (frame.m_fSparse)
+                    {
+                    // fill the gaps of a sparse array with nulls
+                    for (int i = frame.m_cWritten; i < iPos; i++)
+                        {
+                        write(i == 0 ? "null" : ",null");
+                        }
+                    frame.m_cWritten = Math.max(frame.m_cWritten, iPos);
+                    }
+                if (frame.m_cWritten++ > 0)
+                    {
+                    write(",");
+                    }
+                break;
+
+            case Frame.OBJECT:
+                {
+                String sName = frame.getName(iPos);
+                write((frame.m_cWritten++ > 0 ? "," : "")
+                      + quote(sName == null ? String.valueOf(iPos) : sName) + ':');
+                }
+                break;
+
+            case Frame.MAP:
+                if (frame.m_fKey)
+                    {
+                    if (frame.m_cWritten++ > 0)
+                        {
+                        write(",");
+                        }
+                    // JSON keys must be strings, so capture the key to quote it if necessary
+                    frame.m_outParent = m_out;
+                    m_out             = new StringWriter();
+                    }
+                break;
+            }
+        }
+
+    /**
+     * Complete a value within the current complex value.
+     */
+    protected void endValue()
+        {
+        Frame frame = f_stack.peek();
+        if (frame != null && frame.m_nKind == Frame.MAP)
+            {
+            if (frame.m_fKey)
+                {
+                String sKey = m_out.toString();
+
+                m_out             = frame.m_outParent;
+                frame.m_outParent = null;
+
+                write((sKey.startsWith("\"") ? sKey : quote(sKey)) + ':');
+                }
+            frame.m_fKey = !frame.m_fKey;
+            }
+        }
+
+    /**
+     * Write the specified text to the underlying Writer.
+     *
+     * @param s  the text to write
+     */
+    protected void write(String s)
+        {
+        try
+            {
+            m_out.write(s);
+            }
+        catch (IOException e)
+            {
+            throw ensureRuntimeException(e);
+            }
+        }
+
+    /**
+     * Return the specified string as a quoted and escaped JSON string.
+     *
+     * @param s  the string to quote
+     *
+     * @return the JSON string
+     */
+    protected static String quote(String s)
+        {
+        StringBuilder sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0, c = s.length(); i < c; i++)
+            {
+            char ch = s.charAt(i);
+            switch (ch)
+                {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (ch < 0x20)
+                        {
+                        sb.append(String.format("\\u%04x", (int) ch));
+                        }
+                    else
+                        {
+                        sb.append(ch);
+                        }
+                }
+            }
+        return sb.append('"').toString();
+        }
+
+    /**
+     * Return the decimal representation of the specified IEEE 754 binary128
+     * value, rounded to the 36 significant digits that are necessary to
+     * distinguish any two binary128 values.
+     *
+     * @param qfl  the 128-bit floating point value
+     *
+     * @return the decimal representation of the value, or "NaN", "Infinity"
+     *         or "-Infinity"
+     */
+    protected static String toDecimalString(RawQuad qfl)
+        {
+        byte[]  ab    = qfl.getBits().toByteArray();
+        boolean fNeg  = (ab[0] & 0x80) != 0;
+        int     nExp  = (ab[0] & 0x7F) << 8 | ab[1] & 0xFF;
+        byte[]  abSig = new byte[15];
+
+        // the 112 bits of the significand follow the sign and the exponent;
+        // the leading zero byte keeps the BigInteger positive
+        System.arraycopy(ab, 2, abSig, 1, 14);
+        BigInteger nSig = new BigInteger(abSig);
+
+        if (nExp == 0x7FFF)
+            {
+            return nSig.signum() != 0 ? "NaN" : fNeg ? "-Infinity" : "Infinity";
+            }
+        if (nExp == 0)
+            {
+            if (nSig.signum() == 0)
+                {
+                return fNeg ? "-0" : "0";
+                }
+            // subnormal
+            nExp = 1;
+            }
+        else
+            {
+            nSig = nSig.setBit(112);
+            }
+
+        // value = significand * 2^(exponent - bias - 112)
+        int        nPow = nExp - 16383 - 112;
+        BigDecimal dec  = nPow >= 0
+                ? new BigDecimal(nSig.shiftLeft(nPow))
+                : new BigDecimal(nSig.multiply(BigInteger.valueOf(5).pow(-nPow)), -nPow);
+
+        dec = dec.round(new MathContext(36, RoundingMode.HALF_EVEN)).stripTrailingZeros();
+        return (fNeg ? dec.negate() : dec).toString();
+        }
+
+    /**
+     * Format a time interval as an ISO-8601 duration.
+     *
+     * @param cDays     the number of days
+     * @param cHours    the number of hours
+     * @param cMinutes  the number of minutes
+     * @param cSeconds  the number of seconds
+     * @param cNanos    the number of nanoseconds
+     *
+     * @return the ISO-8601 duration
+     */
+    protected static String formatDuration(int cDays, int cHours, int cMinutes,
+            int cSeconds, int cNanos)
+        {
+        StringBuilder sb = new StringBuilder("P");
+        if (cDays != 0)
+            {
+            sb.append(cDays).append('D');
+            }
+        sb.append('T').append(cHours).append('H').append(cMinutes).append('M')
+          .append(BigDecimal.valueOf(cSeconds).add(BigDecimal.valueOf(cNanos, 9))
+                            .stripTrailingZeros().toPlainString())
+          .append('S');
+        return sb.toString();
+        }
+
+    /**
+     * Return the property names of the POF types in the specified schema,
+     * indexed by type identifier and then by POF index.
+     *
+     * @param schema  the POF schema
+     *
+     * @return the property names of the POF types in the schema
+     */
+    protected static Map<Integer, String[]> getPropertyNames(Schema schema)
+        {
+        Map<Integer, String[]> mapNames = s_mapSchemaNames.get(schema);
+        if (mapNames == null)
+            {
+            mapNames = new HashMap<>();
+            for (ExtensibleType type : schema)
+                {
+                PofType pofType = type.getExtension(PofType.class);
+                if (pofType != null)
+                    {
+                    List<PofProperty> listProps = pofType.getProperties();
+                    String[]          asNames   = new String[listProps.size()];
+                    for (int i = 0; i < asNames.length; i++)
+                        {
+                        asNames[i] = listProps.get(i).getName();
+                        }
+                    mapNames.put(pofType.getId(), asNames);
+                    }
+                }
+            s_mapSchemaNames.put(schema, mapNames);
+            }
+        return mapNames;
+        }
+
+    /**
+     * Return the type identifiers of the classes in the type hierarchy of
+     * each POF type in the specified schema, indexed by type identifier.
+     * <p>
+     * The hierarchy of a type includes the type itself and each of its base
+     * types that is a POF type in the schema.
+     *
+     * @param schema  the POF schema
+     *
+     * @return the type identifiers of the type hierarchy of each POF type in
+     *         the schema
+     */
+    protected static Map<Integer, Set<Integer>> getHierarchyTypeIds(Schema schema)
+        {
+        Map<Integer, Set<Integer>> mapTypeIds = s_mapSchemaTypeIds.get(schema);
+        if (mapTypeIds == null)
+            {
+            mapTypeIds = new HashMap<>();
+            for (ExtensibleType type : schema)
+                {
+                PofType pofType = type.getExtension(PofType.class);
+                if (pofType != null)
+                    {
+                    Set<Integer> setIds = new HashSet<>();
+                    for (ExtensibleType typeBase = type; typeBase != null; )
+                        {
+                        PofType pofBase = typeBase.getExtension(PofType.class);
+                        if (pofBase == null || !setIds.add(pofBase.getId()))
+                            {
+                            break;
+                            }
+                        typeBase = typeBase.getBase() == null ? null : schema.getType(typeBase.getBase());
+                        }
+                    mapTypeIds.put(pofType.getId(), setIds);
+                    }
+                }
+            s_mapSchemaTypeIds.put(schema, mapTypeIds);
+            }
+        return mapTypeIds;
+        }
+
+    // ----- inner class: Frame ---------------------------------------------
+
+    /**
+     * The state of a complex value that is being written.
+     */
+    protected static class Frame
+        {
+        /**
+         * Construct a Frame.
+         *
+         * @param nKind    the kind of JSON value being written
+         * @param asNames  the property names indexed by POF index, if known
+         * @param fSparse  whether the value is a sparse array
+         */
+        protected Frame(int nKind, String[] asNames, boolean fSparse)
+            {
+            m_nKind   = nKind;
+            m_asNames = asNames;
+            m_fSparse = fSparse;
+            }
+
+        /**
+         * Return the name of the property with the specified POF index.
+         *
+         * @param iProp  the POF index
+         *
+         * @return the property name, or {@code null} if unknown
+         */
+        protected String getName(int iProp)
+            {
+            String[] asNames = m_asNames;
+            return asNames != null && iProp >= 0 && iProp < asNames.length
+                   ? asNames[iProp]
+                   : null;
+            }
+
+        // ----- constants ----------------------------------------------
+
+        /**
+         * A JSON array.
+         */
+        protected static final int ARRAY  = 0;
+
+        /**
+         * A JSON object created from a POF user type.
+         */
+        protected static final int OBJECT = 1;
+
+        /**
+         * A JSON object created from a POF map.
+         */
+        protected static final int MAP    = 2;
+
+        // ----- data members -------------------------------------------
+
+        /**
+         * The kind of JSON value being written.
+         */
+        protected final int m_nKind;
+
+        /**
+         * The property names indexed by POF index, if known.
+         */
+        protected final String[] m_asNames;
+
+        /**
+         * Whether the value is a sparse array.
+         */
+        protected final boolean m_fSparse;
+
+        /**
+         * The number of elements or properties written so far.
+         */
+        protected int m_cWritten;
+
+        /**
+         * Whether the next value of a map is a key.
+         */
+        protected boolean m_fKey = true;
+
+        /**
+         * Whether the properties of this user type are written into the
+         * enclosing JSON object.
+         */
+        protected boolean m_fMerged;
+
+        /**
+         * The type identifier of the user type, or -1 if this is not a user
+         * type or its properties are merged into the enclosing object.
+         */
+        protected int m_nTypeId = -1;
+
+        /**
+         * The Writer to restore once a map key has been captured.
+         */
+        protected Writer m_outParent;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The property names of POF user types computed for each schema.
+     */
+    private static final Map<Schema, Map<Integer, String[]>> s_mapSchemaNames =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The type identifiers of the type hierarchy of POF user types computed
+     * for each schema.
+     */
+    private static final Map<Schema, Map<Integer, Set<Integer>>> s_mapSchemaTypeIds =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The property names indexed by type identifier and POF index.
+     */
+    protected final Map<Integer, String[]> f_mapPropNames;
+
+    /**
+     * The type identifiers of the type hierarchy of each user type, indexed
+     * by type identifier.
+     */
+    protected final Map<Integer, Set<Integer>> f_mapTypeIds;
+
+    /**
+     * The stack of complex values being written.
+     */
+    protected final Deque<Frame> f_stack = new ArrayDeque<>();
+
+    /**
+     * The Writer that JSON is currently written to.
+     */
+    protected Writer m_out;
+    }
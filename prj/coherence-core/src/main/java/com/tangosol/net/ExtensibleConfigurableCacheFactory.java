@@ -13,6 +13,7 @@ import com.oracle.coherence.common.util.Options;
 
 import com.tangosol.coherence.config.CacheConfig;
 import com.tangosol.coherence.config.CacheMapping;
+import com.tangosol.coherence.config.Config;
 import com.tangosol.coherence.config.ResourceMapping;
 import com.tangosol.coherence.config.ResourceMappingRegistry;
 import com.tangosol.coherence.config.ParameterList;
@@ -103,6 +104,7 @@ import com.tangosol.run.xml.XmlHelper;
 
 import com.tangosol.util.Base;
 import com.tangosol.util.ClassHelper;
+import com.tangosol.util.DaemonThreadFactory;
 import com.tangosol.util.MapListener;
 import com.tangosol.util.MapSet;
 import com.tangosol.util.NullImplementation;
@@ -118,15 +120,22 @@ import java.net.URI;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * ExtensibleConfigurableCacheFactory provides a facility to access caches
  * declared in a "coherence-cache-config.xsd" compliant configuration file.
@@ -718,52 +727,19 @@ public class ExtensibleConfigurableCacheFactory
         assertNotDisposed();
 
         ServiceBuilder bldrService = scheme.getServiceBuilder();
-        ClassLoader    loader      = getConfigClassLoader();
-
-        Cluster cluster = bldrService.isRunningClusterNeeded()
-                          ? CacheFactory.ensureCluster() : CacheFactory.getCluster();
+        Cluster        cluster     = bldrService.isRunningClusterNeeded()
+                                     ? CacheFactory.ensureCluster() : CacheFactory.getCluster();
 
         synchronized (cluster)
             {
-            Service service = bldrService.realizeService(
-                f_cacheConfig.getDefaultParameterResolver(), loader, cluster);
+            Service service = prepareService(scheme);
 
-            if (service.isRunning())
+            if (!service.isRunning())
                 {
-                if (service instanceof CacheService)
-                    {
-                    validateBackingMapManager((CacheService) service);
-                    }
-                }
-            else
-                {
-                if (service instanceof CacheService)
-                    {
-                    // create and register the backing map manager
-                    BackingMapManager mgr = ((CachingScheme) scheme).realizeBackingMapManager(this);
-
-                    registerBackingMapManager(mgr);
-                    ((CacheService) service).setBackingMapManager(mgr);
-                    }
-
-                startService(service);
+                startServiceTimed(service);
                 }
 
-            m_mapServices.put(service, scheme.getServiceName());
-
-            // add this ECCF as a "referrer"
-            synchronized (service)
-                {
-                ResourceRegistry registry = service.getResourceRegistry();
-                Set<ConfigurableCacheFactory> setRefs =
-                    registry.getResource(Set.class, "Referrers");
-                if (setRefs == null)
-                    {
-                    setRefs = Collections.newSetFromMap(new IdentityHashMap<>());
-                    registry.registerResource(Set.class, "Referrers", setRefs);
-                    }
-                setRefs.add(this);
-                }
+            registerService(scheme, service);
 
             return service;
             }
@@ -799,6 +775,11 @@ public class ExtensibleConfigurableCacheFactory
 
     /**
      * Start all services that are declared as requiring an "autostart".
+     * <p>
+     * The services are started sequentially, unless more than one thread is
+     * configured using the {@code coherence.service.start.threads} system
+     * property, in which case they are started by
+     * {@link #startServicesConcurrently(List, int)}.
      */
     public void startServices()
         {
@@ -809,14 +790,228 @@ public class ExtensibleConfigurableCacheFactory
         // collect all scheme names for "shared" services based on the container context
         Set<String> setSharedScheme = NullImplementation.getSet();
 
-        // start all scoped services
+        // collect all scoped services
+        List<ServiceScheme> listScheme = new ArrayList<>();
         for (ServiceScheme scheme : regScheme)
             {
             if (scheme.isAutoStart() && !setSharedScheme.contains(scheme.getSchemeName()))
+                {
+                listScheme.add(scheme);
+                }
+            }
+
+        long ldtStart = Base.getSafeTimeMillis();
+        int  cThreads = Math.min(SERVICE_START_THREADS, listScheme.size());
+
+        if (cThreads > 1)
+            {
+            startServicesConcurrently(listScheme, cThreads);
+            }
+        else
+            {
+            for (ServiceScheme scheme : listScheme)
                 {
                 ensureService(scheme);
                 }
             }
+
+        if (!listScheme.isEmpty())
+            {
+            Logger.info("Started " + listScheme.size() + " autostart service(s) in "
+                    + (Base.getSafeTimeMillis() - ldtStart) + "ms"
+                    + (cThreads > 1 ? " using " + cThreads + " threads" : ""));
+            }
+        }
+
+    /**
+     * Ensure the services for the specified schemes, starting them on the
+     * specified number of threads.
+     * <p>
+     * The services are ensured in three steps, so that the cluster monitor is
+     * always acquired before a service monitor, as in
+     * {@link #ensureService(ServiceScheme)}:
+     * <ol>
+     *   <li>each service is realized and its backing map manager registered
+     *       by {@link #prepareService}, on the calling thread;</li>
+     *   <li>the services that are not running are started concurrently by
+     *       {@link #startService}, on threads that hold neither the cluster
+     *       monitor nor a service monitor;</li>
+     *   <li>the started services are registered with this factory by
+     *       {@link #registerService}, on the calling thread.</li>
+     * </ol>
+     *
+     * @param listScheme  the schemes referring to the services to start
+     * @param cThreads    the number of threads to start the services with
+     *
+     * @throws RuntimeException  the first failure to start a service, which
+     *                           is thrown once all other services have been
+     *                           started or failed to start
+     */
+    protected void startServicesConcurrently(List<ServiceScheme> listScheme, int cThreads)
+        {
+        assertNotDisposed();
+
+        Map<ServiceScheme, Service> mapService = new LinkedHashMap<>();
+        for (ServiceScheme scheme : listScheme)
+            {
+            mapService.put(scheme, prepareService(scheme));
+            }
+
+        ClassLoader     loader   = Thread.currentThread().getContextClassLoader();
+        ExecutorService executor = Executors.newFixedThreadPool(cThreads,
+                new DaemonThreadFactory("ServiceStarter-"));
+        try
+            {
+            Map<ServiceScheme, Future<?>> mapFuture = new LinkedHashMap<>();
+            for (Map.Entry<ServiceScheme, Service> entry : mapService.entrySet())
+                {
+                Service service = entry.getValue();
+                if (!service.isRunning())
+                    {
+                    mapFuture.put(entry.getKey(), executor.submit(() ->
+                        {
+                        Thread      thread       = Thread.currentThread();
+                        ClassLoader loaderThread = thread.getContextClassLoader();
+                        thread.setContextClassLoader(loader);
+                        try
+                            {
+                            startServiceTimed(service);
+                            }
+                        finally
+                            {
+                            thread.setContextClassLoader(loaderThread);
+                            }
+                        }));
+                    }
+                }
+
+            RuntimeException exception = null;
+            for (Map.Entry<ServiceScheme, Service> entry : mapService.entrySet())
+                {
+                ServiceScheme scheme = entry.getKey();
+                Future<?>     future = mapFuture.get(scheme);
+                try
+                    {
+                    if (future != null)
+                        {
+                        future.get();
+                        }
+                    registerService(scheme, entry.getValue());
+                    }
+                catch (ExecutionException e)
+                    {
+                    if (exception == null)
+                        {
+                        exception = ensureRuntimeException(e.getCause());
+                        }
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    throw ensureRuntimeException(e);
+                    }
+                }
+
+            if (exception != null)
+                {
+                throw exception;
+                }
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+        }
+
+    /**
+     * Realize the service for the specified scheme and, unless the service
+     * is already running, create and register its backing map manager.
+     * <p>
+     * The service is realized while holding the cluster monitor, and the
+     * service monitor is not acquired.
+     *
+     * @param scheme  the scheme referring to the service
+     *
+     * @return the realized Service, which may not be running
+     */
+    protected Service prepareService(ServiceScheme scheme)
+        {
+        ServiceBuilder bldrService = scheme.getServiceBuilder();
+        ClassLoader    loader      = getConfigClassLoader();
+
+        Cluster cluster = bldrService.isRunningClusterNeeded()
+                          ? CacheFactory.ensureCluster() : CacheFactory.getCluster();
+
+        synchronized (cluster)
+            {
+            Service service = bldrService.realizeService(
+                f_cacheConfig.getDefaultParameterResolver(), loader, cluster);
+
+            if (service instanceof CacheService)
+                {
+                if (service.isRunning())
+                    {
+                    validateBackingMapManager((CacheService) service);
+                    }
+                else
+                    {
+                    // create and register the backing map manager
+                    BackingMapManager mgr = ((CachingScheme) scheme).realizeBackingMapManager(this);
+
+                    registerBackingMapManager(mgr);
+                    ((CacheService) service).setBackingMapManager(mgr);
+                    }
+                }
+
+            return service;
+            }
+        }
+
+    /**
+     * Register the specified service with this factory, and add this factory
+     * as a referrer of the service.
+     * <p>
+     * The service monitor is acquired while holding the cluster monitor.
+     *
+     * @param scheme   the scheme referring to the service
+     * @param service  the service to register
+     */
+    protected void registerService(ServiceScheme scheme, Service service)
+        {
+        synchronized (CacheFactory.getCluster())
+            {
+            m_mapServices.put(service, scheme.getServiceName());
+
+            // add this ECCF as a "referrer"
+            synchronized (service)
+                {
+                ResourceRegistry registry = service.getResourceRegistry();
+                Set<ConfigurableCacheFactory> setRefs =
+                    registry.getResource(Set.class, "Referrers");
+                if (setRefs == null)
+                    {
+                    setRefs = Collections.newSetFromMap(new IdentityHashMap<>());
+                    registry.registerResource(Set.class, "Referrers", setRefs);
+                    }
+                setRefs.add(this);
+                }
+            }
+        }
+
+    /**
+     * Start the specified service using {@link #startService(Service)}, and
+     * log the time it took to start.
+     *
+     * @param service  the {@link Service} to start
+     */
+    protected void startServiceTimed(Service service)
+        {
+        long ldtStart = Base.getSafeTimeMillis();
+
+        startService(service);
+
+        Logger.config("Started service " + service.getInfo().getServiceName() + " in "
+                + (Base.getSafeTimeMillis() - ldtStart) + "ms");
         }
 
     /**
@@ -2284,6 +2479,14 @@ public class ExtensibleConfigurableCacheFactory
      */
     public static final String FILE_CFG_CACHE = "coherence-cache-config.xml";
 
+    /**
+     * The number of threads used to start the autostart services, which can
+     * be configured using the {@code coherence.service.start.threads} system
+     * property; the services are started sequentially by default.
+     */
+    public static final int SERVICE_START_THREADS =
+            Math.max(1, Config.getInteger("coherence.service.start.threads", 1));
+
     /**
      * The name of the replaceable parameter representing the cache name.
      */
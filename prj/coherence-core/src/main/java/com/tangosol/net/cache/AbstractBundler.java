@@ -16,6 +16,7 @@ import java.util.List;
 
 import com.oracle.coherence.common.base.Blocking;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 
 /**
@@ -265,6 +266,68 @@ public abstract class AbstractBundler
             }
         m_stats.reset();
         m_dPreviousSizeThreshold = 0.0;
+
+        AtomicLongArray alSizes = m_alBundleSizes;
+        for (int i = 0, c = alSizes.length(); i < c; i++)
+            {
+            alSizes.set(i, 0l);
+            }
+        }
+
+    /**
+    * Obtain the distribution of the sizes of the bundles processed by this
+    * Bundler. The value at index i is the number of bundles whose size was
+    * in the [2^i, 2^(i+1)) range; the last element also includes all larger
+    * bundles.
+    *
+    * @return the number of processed bundles per power-of-two size range
+    */
+    public long[] getBundleSizeDistribution()
+        {
+        AtomicLongArray alSizes  = m_alBundleSizes;
+        long[]          alResult = new long[alSizes.length()];
+        for (int i = 0, c = alResult.length; i < c; i++)
+            {
+            alResult[i] = alSizes.get(i);
+            }
+        return alResult;
+        }
+
+    /**
+    * Record the size of a bundle that is about to be processed.
+    *
+    * @param cSize  the bundle size
+    */
+    protected void recordBundleSize(int cSize)
+        {
+        int iBucket = cSize <= 1 ? 0 : 31 - Integer.numberOfLeadingZeros(cSize);
+
+        m_alBundleSizes.incrementAndGet(Math.min(iBucket, m_alBundleSizes.length() - 1));
+        }
+
+    /**
+    * Format the bundle size distribution as a human readable String, listing
+    * the lower bound of each non-empty size range followed by the number of
+    * bundles in that range.
+    *
+    * @return a human readable description of the bundle size distribution
+    */
+    protected String formatBundleSizeDistribution()
+        {
+        long[]        alSizes = getBundleSizeDistribution();
+        StringBuilder sb      = new StringBuilder("[");
+        for (int i = 0, c = alSizes.length; i < c; i++)
+            {
+            if (alSizes[i] > 0l)
+                {
+                if (sb.length() > 1)
+                    {
+                    sb.append(", ");
+                    }
+                sb.append(1 << i).append(i == c - 1 ? "+" : "").append(':').append(alSizes[i]);
+                }
+            }
+        return sb.append(']').toString();
         }
 
     /**
@@ -346,12 +409,13 @@ public abstract class AbstractBundler
     public String toString()
         {
         return ClassHelper.getSimpleName(getClass())
-             + "{SizeThreshold="    + getSizeThreshold()
-             + ", ThreadThreshold=" + getThreadThreshold()
-             + ", DelayMillis="     + getDelayMillis()
-             + ", AutoAdjust="      + (isAllowAutoAdjust() ? "on" : "off")
-             + ", ActiveBundles="   + m_listBundle.size()
-             + ", Statistics="      + m_stats
+             + "{SizeThreshold="     + getSizeThreshold()
+             + ", ThreadThreshold="  + getThreadThreshold()
+             + ", DelayMillis="      + getDelayMillis()
+             + ", AutoAdjust="       + (isAllowAutoAdjust() ? "on" : "off")
+             + ", ActiveBundles="    + m_listBundle.size()
+             + ", Statistics="       + m_stats
+             + ", SizeDistribution=" + formatBundleSizeDistribution()
              + "}";
         }
 
@@ -633,6 +697,7 @@ public abstract class AbstractBundler
 
                 // update stats
                 m_cTotalSize += getBundleSize();
+                recordBundleSize(getBundleSize());
                 long cTotal = ++m_cTotalBundles;
                 if (cTotal > 1000 // allow the "hotspot" to kick in
                  && cTotal % ADJUSTMENT_FREQUENCY == 0 && isMaster())
@@ -993,4 +1058,11 @@ public abstract class AbstractBundler
     * An instance of the Statistics object containing the latest statistics.
     */
     private Statistics m_stats = new Statistics();
+
+    /**
+    * The number of processed bundles per power-of-two bundle size range.
+    *
+    * @see #getBundleSizeDistribution()
+    */
+    private final AtomicLongArray m_alBundleSizes = new AtomicLongArray(16);
     }
\ No newline at end of file
@@ -8,6 +8,8 @@
 package com.tangosol.net.cache;
 
 
+import com.tangosol.internal.util.RequestPhaseTracker;
+
 import com.tangosol.net.BackingMapContext;
 import com.tangosol.net.BackingMapManagerContext;
 
@@ -108,8 +110,16 @@ public class BackingMapBinaryEntry
             Object oValue = m_oValue;
             azzert(oValue != NO_VALUE);
 
-            m_binValue = binValue = (Binary) m_ctx
-                    .getValueToInternalConverter().convert(oValue);
+            long ldtStart = RequestPhaseTracker.start();
+            try
+                {
+                m_binValue = binValue = (Binary) m_ctx
+                        .getValueToInternalConverter().convert(oValue);
+                }
+            finally
+                {
+                RequestPhaseTracker.stop(RequestPhaseTracker.Phase.SERIALIZATION, ldtStart);
+                }
             }
         return binValue;
         }
@@ -147,8 +157,16 @@ public class BackingMapBinaryEntry
             Binary binValue = getBinaryValue();
             azzert(binValue != NO_VALUE);
 
-            m_oValue = oValue = m_ctx.getValueFromInternalConverter().convert(
-                binValue);
+            long ldtStart = RequestPhaseTracker.start();
+            try
+                {
+                m_oValue = oValue = m_ctx.getValueFromInternalConverter().convert(
+                    binValue);
+                }
+            finally
+                {
+                RequestPhaseTracker.stop(RequestPhaseTracker.Phase.DESERIALIZATION, ldtStart);
+                }
             }
         return oValue;
         }
@@ -164,8 +182,16 @@ public class BackingMapBinaryEntry
             Binary binValueOrig = getOriginalBinaryValue();
             azzert(binValueOrig != NO_VALUE);
 
-            m_oValueOrig = oValueOrig = m_ctx.getValueFromInternalConverter()
-                    .convert(binValueOrig);
+            long ldtStart = RequestPhaseTracker.start();
+            try
+                {
+                m_oValueOrig = oValueOrig = m_ctx.getValueFromInternalConverter()
+                        .convert(binValueOrig);
+                }
+            finally
+                {
+                RequestPhaseTracker.stop(RequestPhaseTracker.Phase.DESERIALIZATION, ldtStart);
+                }
             }
         return oValueOrig;
         }
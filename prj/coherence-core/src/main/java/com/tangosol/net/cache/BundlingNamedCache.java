@@ -8,12 +8,20 @@
 package com.tangosol.net.cache;
 
 
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.MemberEvent;
+import com.tangosol.net.MemberListener;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 /**
 * Bundling NamedCache implementation.
 *
@@ -56,10 +64,12 @@ public class BundlingNamedCache
                 m_getBundler = bundler = new GetBundler();
                 }
             bundler.setSizeThreshold(cBundleThreshold);
+            m_mapOwnerBundler.clear();
             return bundler;
             }
         else
             {
+            m_mapOwnerBundler.clear();
             return m_getBundler = null;
             }
         }
@@ -151,6 +161,87 @@ public class BundlingNamedCache
         return m_removeBundler;
         }
 
+    /**
+    * Check whether or not the "get" operations are bundled per key owner.
+    *
+    * @return true iff the "get" operations are bundled per key owner
+    *
+    * @see #setOwnerAware(boolean)
+    */
+    public boolean isOwnerAware()
+        {
+        return m_fOwnerAware;
+        }
+
+    /**
+    * Specify whether or not the "get" operations should be bundled per key
+    * owner. If enabled and the underlying cache is partitioned, concurrent
+    * get() calls are only bundled with calls for keys owned by the same
+    * member, which results in every bundled request being sent to a single
+    * member and prevents a slow member from delaying the requests for keys
+    * owned by the others.
+    * <p>
+    * The per-owner bundlers are configured like the {@link #getGetBundler()
+    * "get" bundler} at the time they are created, and share its count of
+    * active threads, so that the decision to switch between the pass through
+    * and the bundled mode is based on the overall concurrency. The key owner
+    * is only resolved once the calls are bundled, and the bundler of a member
+    * is discarded when the member leaves the service.
+    *
+    * @param fOwnerAware  true if the "get" operations should be bundled per
+    *                     key owner
+    */
+    public synchronized void setOwnerAware(boolean fOwnerAware)
+        {
+        CacheService service = getCacheService();
+        if (service instanceof PartitionedService && fOwnerAware != m_fOwnerAware)
+            {
+            if (fOwnerAware)
+                {
+                service.addMemberListener(m_listenerOwner);
+                }
+            else
+                {
+                service.removeMemberListener(m_listenerOwner);
+                }
+            }
+
+        m_fOwnerAware = fOwnerAware;
+        m_mapOwnerBundler.clear();
+        }
+
+    /**
+    * Obtain the per-owner bundlers for the "get" operations.
+    *
+    * @return the per-owner "get" bundlers keyed by the owner
+    *
+    * @see #setOwnerAware(boolean)
+    */
+    public Map<Member, AbstractBundler> getOwnerGetBundlers()
+        {
+        return Collections.unmodifiableMap(m_mapOwnerBundler);
+        }
+
+    // ----- NamedCache interface --------------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void release()
+        {
+        setOwnerAware(false);
+        super.release();
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void destroy()
+        {
+        setOwnerAware(false);
+        super.destroy();
+        }
+
     // ----- various bundleable NamedCache methods ---------------------------
 
     /**
@@ -160,7 +251,7 @@ public class BundlingNamedCache
         {
         GetBundler bundler = m_getBundler;
         return bundler == null ?
-                super.get(oKey) : bundler.process(oKey);
+                super.get(oKey) : selectGetBundler(bundler, oKey).process(oKey);
         }
 
     /**
@@ -228,8 +319,105 @@ public class BundlingNamedCache
         }
 
 
+    // ----- helpers ---------------------------------------------------------
+
+    /**
+    * Select the bundler for the "get" operation for the specified key.
+    *
+    * @param bundler  the "get" bundler
+    * @param oKey     the key
+    *
+    * @return the per-owner bundler for the key if the "get" operations are
+    *         bundled per key owner, the calls are currently bundled and the
+    *         owner is known; the specified bundler otherwise
+    */
+    protected GetBundler selectGetBundler(GetBundler bundler, Object oKey)
+        {
+        // avoid resolving the owner if the call is going to be passed through
+        if (m_fOwnerAware && bundler.m_countThreads.get() + 1 >= bundler.getThreadThreshold())
+            {
+            CacheService service = getCacheService();
+            if (service instanceof PartitionedService)
+                {
+                Member member = ((PartitionedService) service).getKeyOwner(oKey);
+                if (member != null)
+                    {
+                    GetBundler bundlerOwner = m_mapOwnerBundler.get(member);
+                    return bundlerOwner == null
+                        ? m_mapOwnerBundler.computeIfAbsent(member, m -> instantiateOwnerBundler(bundler))
+                        : bundlerOwner;
+                    }
+                }
+            }
+        return bundler;
+        }
+
+    /**
+    * Instantiate a per-owner bundler for the "get" operations, configured
+    * like the specified bundler.
+    *
+    * @param bundler  the "get" bundler
+    *
+    * @return a new per-owner "get" bundler
+    */
+    protected GetBundler instantiateOwnerBundler(GetBundler bundler)
+        {
+        GetBundler bundlerOwner = new GetBundler();
+
+        bundlerOwner.setSizeThreshold(bundler.getSizeThreshold());
+        bundlerOwner.setDelayMillis(bundler.getDelayMillis());
+        bundlerOwner.setAllowAutoAdjust(bundler.isAllowAutoAdjust());
+        if (bundler.getThreadThreshold() > 0)
+            {
+            bundlerOwner.setThreadThreshold(bundler.getThreadThreshold());
+            }
+
+        // share the thread count to decide on the pass through mode based
+        // on the overall concurrency
+        bundlerOwner.m_countThreads = bundler.m_countThreads;
+        return bundlerOwner;
+        }
+
+
     // ----- inner classes ---------------------------------------------------
 
+    /**
+    * MemberListener that discards the per-owner "get" bundler of a member
+    * that has left the service.
+    */
+    protected class OwnerListener
+            implements MemberListener
+        {
+        /**
+        * Invoked when a Member has joined the service.
+        */
+        public void memberJoined(MemberEvent evt)
+            {
+            }
+
+        /**
+        * Invoked when a Member is leaving the service.
+        */
+        public void memberLeaving(MemberEvent evt)
+            {
+            }
+
+        /**
+        * Invoked when a Member has left the service.
+        */
+        public void memberLeft(MemberEvent evt)
+            {
+            if (evt.isLocal())
+                {
+                m_mapOwnerBundler.clear();
+                }
+            else
+                {
+                m_mapOwnerBundler.remove(evt.getMember());
+                }
+            }
+        }
+
     protected class GetBundler
             extends AbstractKeyBundler
         {
@@ -300,4 +488,19 @@ public class BundlingNamedCache
     * The bundler for remove() operations.
     */
     private RemoveBundler m_removeBundler;
+
+    /**
+    * Specifies whether or not the get() operations are bundled per key owner.
+    */
+    private volatile boolean m_fOwnerAware;
+
+    /**
+    * The per-owner bundlers for get() operations.
+    */
+    private final ConcurrentMap<Member, GetBundler> m_mapOwnerBundler = new ConcurrentHashMap<>();
+
+    /**
+    * The listener that discards the per-owner bundlers of departed members.
+    */
+    private final MemberListener m_listenerOwner = new OwnerListener();
     }
\ No newline at end of file
@@ -47,6 +47,46 @@ public @interface Interceptor
      */
     Order order() default Order.LOW;
 
+    /**
+     * Iff {@code true} this interceptor will be notified of post-commit
+     * {@link com.tangosol.net.events.partition.cache.EntryEvent entry} and
+     * {@link com.tangosol.net.events.partition.cache.EntryProcessorEvent
+     * entry processor} events asynchronously, in batches, on a dedicated
+     * thread pool rather than on the thread that raised the event.
+     * <p>
+     * Asynchronous interceptors receive events in the order they were raised,
+     * but may observe them after subsequent changes to the same entries have
+     * been committed. Once the backlog of events pending for the interceptor
+     * reaches the configured limit, the thread that raises the next event
+     * delivers pending events itself until the backlog is below the limit,
+     * which applies back-pressure without reordering the events; see
+     * {@link #dropOnBacklog()}. Asynchronous interceptors should treat
+     * the entries as read-only and must not call
+     * {@link com.tangosol.net.events.Event#nextInterceptor()}. All other
+     * events are always dispatched synchronously.
+     *
+     * @return whether post-commit events should be dispatched asynchronously
+     *
+     * @since 20.12
+     */
+    boolean async() default false;
+
+    /**
+     * Iff {@code true} and this interceptor is {@link #async() asynchronous},
+     * events raised while the backlog of events pending for the interceptor
+     * is at the configured limit are dropped (and counted in the interceptor
+     * statistics) rather than delivered on the thread that raised them.
+     * <p>
+     * This should only be used by interceptors that can tolerate missing
+     * events, such as sampling monitors, in favor of never adding to the
+     * latency of the operation.
+     *
+     * @return whether events may be dropped once the backlog limit is reached
+     *
+     * @since 20.12
+     */
+    boolean dropOnBacklog() default false;
+
     /**
      * This enum provides an indication of whether the
      * {@link com.tangosol.net.events.EventInterceptor} should request to be
@@ -120,9 +120,20 @@ public abstract class AbstractEvent<T extends Enum<T>>
         for (Iterator<? extends EventInterceptor<?>> iter = getIterator(); iter.hasNext(); )
             {
             EventInterceptor interceptor = iter.next();
+
+            if (stats != null && isAsyncDispatchable()
+                && interceptor instanceof NamedEventInterceptor
+                && ((NamedEventInterceptor) interceptor).isAsync()
+                && ((AbstractEventDispatcher) dispatcher).dispatchAsync(this, (NamedEventInterceptor) interceptor))
+                {
+                // the event will be delivered on the async dispatch pool
+                continue;
+                }
+
             Span  span  = TracingHelper.newSpan("process", this)
                     .withMetadata("interceptor", interceptor.getClass().getName())
                     .startSpan();
+            long ldtStartNanos = stats == null ? 0L : System.nanoTime();
             try (Scope ignored = TracingHelper.getTracer().withSpan(span))
                 {
                 // dispatch the event
@@ -155,6 +166,12 @@ public abstract class AbstractEvent<T extends Enum<T>>
             finally
                 {
                 span.end();
+                if (stats != null)
+                    {
+                    // note: the latency includes any interceptors that were
+                    //       dispatched to recursively via nextInterceptor
+                    stats.registerInterceptorLatency(interceptor, System.nanoTime() - ldtStartNanos);
+                    }
                 }
             }
         }
@@ -172,6 +189,23 @@ public abstract class AbstractEvent<T extends Enum<T>>
         nextInterceptor();
         }
 
+    /**
+     * Return true iff this event may be dispatched asynchronously to the
+     * {@link NamedEventInterceptor#isAsync() interceptors that request it}.
+     * <p>
+     * Only events raised after the corresponding operation has been
+     * committed, and that therefore can not be modified or vetoed, may be
+     * dispatched asynchronously.
+     *
+     * @return true iff this event may be dispatched asynchronously
+     *
+     * @since 20.12
+     */
+    protected boolean isAsyncDispatchable()
+        {
+        return false;
+        }
+
     /**
      * Return true if this represents a mutable operation.
      *
@@ -6,16 +6,22 @@
  */
 package com.tangosol.net.events.internal;
 
+import com.oracle.coherence.common.base.Blocking;
 import com.oracle.coherence.common.base.Continuation;
 import com.oracle.coherence.common.base.Logger;
 import com.oracle.coherence.common.base.Predicate;
 
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.internal.util.LatencyHistogram;
+
 import com.tangosol.net.events.Event;
 import com.tangosol.net.events.EventDispatcher;
 import com.tangosol.net.events.EventInterceptor;
 import com.tangosol.net.events.annotation.Interceptor.Order;
 
 import com.tangosol.util.Base;
+import com.tangosol.util.DaemonThreadFactory;
 import com.tangosol.util.SubSet;
 
 import java.util.ArrayList;
@@ -25,12 +31,22 @@ import java.util.Date;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract base implementation of an {@link EventDispatcher}.
@@ -175,6 +191,10 @@ public class AbstractEventDispatcher
                                 }
                             }
 
+                        // whether the interceptor is dispatched to
+                        // asynchronously is decided once, upon registration
+                        registerDispatchState(incptrNamed);
+
                         dispatchEvent(instantiateEvent(InterceptorRegistrationEvent.Type.INSERTED,
                                                        incptrNamed, setTypes), null);
                         }
@@ -340,6 +360,17 @@ public class AbstractEventDispatcher
                 }
             }
 
+        if (incptrNamed != null)
+            {
+            // any pending asynchronous events are still delivered
+            AsyncInterceptorQueue queue = f_mapAsyncQueues.remove(incptrNamed);
+            if (queue != null)
+                {
+                queue.close();
+                }
+            m_stats.f_mapLatency.remove(incptrNamed);
+            }
+
         if (incptrNamed != null && !setEventTypes.isEmpty())
             {
             // dispatch an event informing listeners of the removed interceptor
@@ -360,6 +391,119 @@ public class AbstractEventDispatcher
         getDispatchContinuation(event, cont).proceed(null);
         }
 
+    /**
+     * Create the state used to dispatch events to the specified newly
+     * registered interceptor: its latency histogram, and the queue of events
+     * pending asynchronous dispatch if the interceptor {@link
+     * NamedEventInterceptor#isAsync() requests it}.
+     *
+     * @param interceptor  the registered interceptor
+     *
+     * @since 20.12
+     */
+    protected void registerDispatchState(NamedEventInterceptor<?> interceptor)
+        {
+        m_stats.f_mapLatency.computeIfAbsent(interceptor, k -> new LatencyHistogram());
+        if (interceptor.isAsync())
+            {
+            f_mapAsyncQueues.computeIfAbsent(interceptor, AsyncInterceptorQueue::new);
+            }
+        }
+
+    /**
+     * Release the state used to dispatch events asynchronously.
+     * <p>
+     * The events pending asynchronous dispatch are still delivered, after
+     * which the reference to the asynchronous dispatch pool is released.
+     * This is called when the dispatcher is {@link
+     * Registry#unregisterEventDispatcher unregistered}.
+     *
+     * @since 20.12
+     */
+    public void releaseDispatchState()
+        {
+        for (Iterator<AsyncInterceptorQueue> iter = f_mapAsyncQueues.values().iterator(); iter.hasNext(); )
+            {
+            AsyncInterceptorQueue queue = iter.next();
+            iter.remove();
+            queue.close();
+            }
+        }
+
+    /**
+     * Queue the specified event to be dispatched to the specified interceptor
+     * on the asynchronous dispatch pool.
+     * <p>
+     * Events are queued per interceptor and delivered in batches, in the
+     * order they were queued, by at most one thread at a time. If the backlog
+     * of events pending for the interceptor has reached the configured limit,
+     * the calling thread delivers pending events until the backlog is below
+     * the limit, unless the interceptor {@link
+     * NamedEventInterceptor#isDropOnBacklog() allows} the event to be dropped
+     * instead.
+     *
+     * @param event        the post-commit event to dispatch
+     * @param interceptor  the interceptor to dispatch the event to
+     *
+     * @return true iff the interceptor was registered for asynchronous
+     *         dispatch, in which case the event has been queued, delivered or
+     *         dropped
+     *
+     * @since 20.12
+     */
+    protected boolean dispatchAsync(AbstractEvent<?> event, NamedEventInterceptor<?> interceptor)
+        {
+        AsyncInterceptorQueue queue = f_mapAsyncQueues.get(interceptor);
+        if (queue == null)
+            {
+            return false;
+            }
+
+        queue.offer(event);
+        return true;
+        }
+
+    /**
+     * Return the executor used to dispatch events to asynchronous
+     * interceptors, creating it if necessary.
+     * <p>
+     * The executor is shared by all dispatchers, and its size is controlled
+     * by the {@code coherence.events.async.threads} system property. Each
+     * call must be matched by a call to {@link #releaseAsyncExecutor()}; the
+     * executor is shut down once it is no longer referenced.
+     *
+     * @return the executor used for asynchronous dispatch
+     *
+     * @since 20.12
+     */
+    protected static synchronized ExecutorService ensureAsyncExecutor()
+        {
+        if (s_cAsyncExecutorRefs++ == 0)
+            {
+            s_executorAsync = Executors.newFixedThreadPool(
+                    Math.max(1, Config.getInteger("coherence.events.async.threads",
+                            Math.max(2, Runtime.getRuntime().availableProcessors() / 4))),
+                    new DaemonThreadFactory("EventDispatcher:Async-"));
+            }
+        return s_executorAsync;
+        }
+
+    /**
+     * Release a reference to the executor returned by {@link
+     * #ensureAsyncExecutor()}, shutting it down if it is no longer
+     * referenced.
+     *
+     * @since 20.12
+     */
+    protected static synchronized void releaseAsyncExecutor()
+        {
+        if (--s_cAsyncExecutorRefs == 0)
+            {
+            s_executorAsync.shutdown();
+            s_executorAsync = null;
+            }
+        }
+
     /**
      * Create an {@link InterceptorRegistrationEvent} implementation to notify
      * {@link EventInterceptor}s of an impending or enacted un/registration.
@@ -494,6 +638,277 @@ public class AbstractEventDispatcher
         protected NamedEventInterceptor<E> m_incptr;
         }
 
+    // ----- inner class: AsyncInterceptorQueue -----------------------------
+
+    /**
+     * AsyncInterceptorQueue holds the events pending asynchronous dispatch to
+     * a single interceptor, and delivers them in batches on the asynchronous
+     * dispatch pool.
+     * <p>
+     * A queue holds a reference to the pool from its creation until it is
+     * {@link #close() closed} and its pending events have been delivered.
+     *
+     * @since 20.12
+     */
+    protected class AsyncInterceptorQueue
+            implements Runnable
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct an AsyncInterceptorQueue for the specified interceptor.
+         *
+         * @param interceptor  the interceptor to dispatch events to
+         */
+        protected AsyncInterceptorQueue(NamedEventInterceptor<?> interceptor)
+            {
+            f_interceptor = interceptor;
+            f_executor    = ensureAsyncExecutor();
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the number of events pending dispatch.
+         *
+         * @return the number of events pending dispatch
+         */
+        public int getBacklog()
+            {
+            return f_cBacklog.get();
+            }
+
+        /**
+         * Return the number of events dropped because the backlog limit had
+         * been reached.
+         *
+         * @return the number of dropped events
+         */
+        public long getDroppedCount()
+            {
+            return f_cDropped.get();
+            }
+
+        // ----- AsyncInterceptorQueue methods ------------------------------
+
+        /**
+         * Queue the specified event, scheduling the delivery if necessary.
+         * <p>
+         * If the backlog limit has been reached, the event is dropped if the
+         * interceptor allows it; otherwise the calling thread delivers the
+         * pending events, in order, until the backlog is below the limit.
+         *
+         * @param event  the event to queue
+         *
+         * @return true iff the event was queued; false if it was dropped
+         *         because the backlog limit has been reached
+         */
+        public boolean offer(AbstractEvent<?> event)
+            {
+            if (f_interceptor.isDropOnBacklog() && f_cBacklog.get() >= ASYNC_BACKLOG_MAX)
+                {
+                f_cDropped.incrementAndGet();
+                if (f_fOverflow.compareAndSet(false, true))
+                    {
+                    Logger.warn("The backlog of events pending asynchronous dispatch to \""
+                                + f_interceptor + "\" has reached " + ASYNC_BACKLOG_MAX
+                                + "; events will be dropped until it is drained");
+                    }
+                return false;
+                }
+
+            int cBacklog = f_cBacklog.incrementAndGet();
+            f_queue.add(event);
+
+            // an interceptor that raises events for itself must not wait for
+            // its own delivery
+            if (cBacklog > ASYNC_BACKLOG_MAX && m_threadDelivery != Thread.currentThread())
+                {
+                drain();
+                }
+            else
+                {
+                schedule();
+                }
+            return true;
+            }
+
+        /**
+         * Close this queue. The pending events are still delivered, after
+         * which the reference to the asynchronous dispatch pool is released.
+         */
+        public void close()
+            {
+            if (!m_fClosed)
+                {
+                m_fClosed = true;
+                schedule();
+                }
+            }
+
+        /**
+         * Deliver pending events on the calling thread until the backlog is
+         * below the limit, waiting while they are being delivered by another
+         * thread.
+         */
+        protected void drain()
+            {
+            while (f_cBacklog.get() > ASYNC_BACKLOG_MAX)
+                {
+                if (f_fScheduled.compareAndSet(false, true))
+                    {
+                    run();
+                    }
+                else
+                    {
+                    Blocking.parkNanos(this, ASYNC_DRAIN_WAIT_NANOS);
+                    }
+                }
+            schedule();
+            }
+
+        /**
+         * Schedule the delivery of the pending events unless it is already
+         * scheduled.
+         * <p>
+         * If the asynchronous dispatch pool has been shut down, which can only
+         * happen once this queue has been closed, the events are delivered on
+         * the calling thread.
+         */
+        protected void schedule()
+            {
+            if (f_fScheduled.compareAndSet(false, true))
+                {
+                try
+                    {
+                    f_executor.execute(this);
+                    }
+                catch (RejectedExecutionException e)
+                    {
+                    run();
+                    }
+                }
+            }
+
+        // ----- Runnable interface -----------------------------------------
+
+        /**
+         * Deliver a batch of pending events to the interceptor.
+         */
+        @Override
+        public void run()
+            {
+            EventStats       stats     = getStats();
+            LatencyHistogram histogram = stats.f_mapLatency.get(f_interceptor);
+
+            m_threadDelivery = Thread.currentThread();
+            try
+                {
+                for (int i = 0; i < ASYNC_BATCH_SIZE; i++)
+                    {
+                    AbstractEvent event = f_queue.poll();
+                    if (event == null)
+                        {
+                        break;
+                        }
+                    f_cBacklog.decrementAndGet();
+
+                    long ldtStartNanos = System.nanoTime();
+                    try
+                        {
+                        f_interceptor.onEvent(event);
+                        }
+                    catch (Exception e)
+                        {
+                        stats.registerEventException(e, event, f_interceptor);
+                        Logger.err("Exception caught while asynchronously dispatching to \""
+                                   + f_interceptor + "\": ", e);
+                        }
+                    finally
+                        {
+                        if (histogram != null)
+                            {
+                            histogram.register(System.nanoTime() - ldtStartNanos);
+                            }
+                        }
+                    }
+
+                if (f_cBacklog.get() == 0)
+                    {
+                    f_fOverflow.set(false);
+                    }
+                }
+            finally
+                {
+                // yield the thread to other interceptors between batches; the
+                // delivery must be rescheduled even if an Error was thrown
+                m_threadDelivery = null;
+                f_fScheduled.set(false);
+                if (!f_queue.isEmpty())
+                    {
+                    schedule();
+                    }
+                else if (m_fClosed && f_fReleased.compareAndSet(false, true))
+                    {
+                    releaseAsyncExecutor();
+                    }
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The interceptor to dispatch events to.
+         */
+        protected final NamedEventInterceptor f_interceptor;
+
+        /**
+         * The executor the events are delivered on.
+         */
+        protected final ExecutorService f_executor;
+
+        /**
+         * The events pending dispatch.
+         */
+        protected final ConcurrentLinkedQueue<AbstractEvent<?>> f_queue = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The number of events pending dispatch.
+         */
+        protected final AtomicInteger f_cBacklog = new AtomicInteger();
+
+        /**
+         * Whether the delivery of pending events is scheduled or running.
+         */
+        protected final AtomicBoolean f_fScheduled = new AtomicBoolean();
+
+        /**
+         * The number of events dropped because the backlog limit had been
+         * reached.
+         */
+        protected final AtomicLong f_cDropped = new AtomicLong();
+
+        /**
+         * Whether events have been dropped since the backlog was last drained.
+         */
+        protected final AtomicBoolean f_fOverflow = new AtomicBoolean();
+
+        /**
+         * The thread delivering events, if any.
+         */
+        protected volatile Thread m_threadDelivery;
+
+        /**
+         * Whether this queue has been closed.
+         */
+        protected volatile boolean m_fClosed;
+
+        /**
+         * Whether the reference to the executor has been released.
+         */
+        protected final AtomicBoolean f_fReleased = new AtomicBoolean();
+        }
+
     // ----- inner class: EventStats ----------------------------------------
 
     /**
@@ -527,6 +942,52 @@ public class AbstractEventDispatcher
             m_sStackTrace = new Date() + "\n" + Base.printStackTrace(e);
             }
 
+        /**
+         * Register the time spent by an {@link EventInterceptor} processing
+         * an event.
+         * <p>
+         * The time spent by interceptors that are not registered with this
+         * dispatcher (e.g. those that have been removed since the event was
+         * raised) is not recorded.
+         *
+         * @param interceptor  the interceptor
+         * @param cNanos       the time spent processing the event, in
+         *                     nanoseconds
+         *
+         * @since 20.12
+         */
+        public void registerInterceptorLatency(EventInterceptor interceptor, long cNanos)
+            {
+            LatencyHistogram histogram = f_mapLatency.get(interceptor);
+            if (histogram != null)
+                {
+                histogram.register(cNanos);
+                }
+            }
+
+        /**
+         * Return the latency histogram for the interceptor with the specified
+         * registered name.
+         *
+         * @param sName  the registered name of the interceptor
+         *
+         * @return the latency histogram, or null if no interceptor with the
+         *         specified name is registered
+         *
+         * @since 20.12
+         */
+        public LatencyHistogram getLatencyHistogram(String sName)
+            {
+            for (Map.Entry<NamedEventInterceptor<?>, LatencyHistogram> entry : f_mapLatency.entrySet())
+                {
+                if (Base.equals(sName, entry.getKey().getRegisteredName()))
+                    {
+                    return entry.getValue();
+                    }
+                }
+            return null;
+            }
+
         /**
          * Reset the event statistics.
          */
@@ -534,6 +995,15 @@ public class AbstractEventDispatcher
             {
             m_cExceptions = 0;
             m_sStackTrace = null;
+
+            for (LatencyHistogram histogram : f_mapLatency.values())
+                {
+                histogram.reset();
+                }
+            for (AsyncInterceptorQueue queue : f_mapAsyncQueues.values())
+                {
+                queue.f_cDropped.set(0L);
+                }
             }
 
         /**
@@ -557,6 +1027,27 @@ public class AbstractEventDispatcher
             listStats.add("Interceptors: " + setInterceptorNames);
             listStats.add("ExceptionCount: " + m_cExceptions);
 
+            Map<String, LatencyHistogram> mapLatency = new TreeMap<>();
+            for (Map.Entry<NamedEventInterceptor<?>, LatencyHistogram> entry : f_mapLatency.entrySet())
+                {
+                LatencyHistogram histogram = entry.getValue();
+                if (histogram.getCount() > 0)
+                    {
+                    mapLatency.put(String.valueOf(entry.getKey().getRegisteredName()), histogram);
+                    }
+                }
+            for (Map.Entry<String, LatencyHistogram> entry : mapLatency.entrySet())
+                {
+                listStats.add("Latency[" + entry.getKey() + "]: " + entry.getValue());
+                }
+
+            for (AsyncInterceptorQueue queue : f_mapAsyncQueues.values())
+                {
+                String sName = queue.f_interceptor.getRegisteredName();
+                listStats.add("AsyncBacklog[" + sName + "]: " + queue.getBacklog());
+                listStats.add("AsyncDropped[" + sName + "]: " + queue.getDroppedCount());
+                }
+
             String sStackTrace = m_sStackTrace;
             listStats.add("LastException: " + (sStackTrace == null ? "" : sStackTrace));
 
@@ -592,6 +1083,11 @@ public class AbstractEventDispatcher
          * The stacktrace of the last exception thrown.
          */
         protected volatile String m_sStackTrace;
+
+        /**
+         * The latency histograms of the registered interceptors.
+         */
+        protected final ConcurrentMap<NamedEventInterceptor<?>, LatencyHistogram> f_mapLatency = new ConcurrentHashMap<>();
         }
 
     // ----- data members ---------------------------------------------------
@@ -610,4 +1106,43 @@ public class AbstractEventDispatcher
      * Statistics for this event dispatcher.
      */
     protected final EventStats m_stats = new EventStats();
+
+    /**
+     * The queues of events pending asynchronous dispatch, keyed by interceptor.
+     */
+    protected final ConcurrentMap<NamedEventInterceptor<?>, AsyncInterceptorQueue> f_mapAsyncQueues =
+            new ConcurrentHashMap<>();
+
+    /**
+     * The executor shared by all dispatchers for asynchronous dispatch, or
+     * null if it is not referenced by any dispatcher.
+     */
+    private static ExecutorService s_executorAsync;
+
+    /**
+     * The number of references to the asynchronous dispatch executor.
+     */
+    private static int s_cAsyncExecutorRefs;
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The maximum number of events delivered to an asynchronous interceptor
+     * before its dispatch thread is yielded to other interceptors.
+     */
+    protected static final int ASYNC_BATCH_SIZE = 256;
+
+    /**
+     * The maximum number of events pending asynchronous dispatch to a single
+     * interceptor; once reached, the threads raising events deliver them, or
+     * drop them if the interceptor allows it.
+     */
+    protected static final int ASYNC_BACKLOG_MAX =
+            Config.getInteger("coherence.events.async.backlog", 16384);
+
+    /**
+     * The time to wait, in nanoseconds, before checking the backlog again
+     * while another thread delivers the pending events.
+     */
+    protected static final long ASYNC_DRAIN_WAIT_NANOS = 100_000L;
     }
@@ -269,6 +269,36 @@ public class NamedEventInterceptor<E extends Event<?>>
         return m_behavior;
         }
 
+    /**
+     * Return whether post-commit events should be dispatched to this
+     * interceptor asynchronously.
+     *
+     * @return whether post-commit events should be dispatched asynchronously
+     *
+     * @see Interceptor#async()
+     *
+     * @since 20.12
+     */
+    public boolean isAsync()
+        {
+        return m_fAsync;
+        }
+
+    /**
+     * Return whether events may be dropped once the backlog of events pending
+     * asynchronous dispatch to this interceptor has reached its limit.
+     *
+     * @return whether events may be dropped once the backlog limit is reached
+     *
+     * @see Interceptor#dropOnBacklog()
+     *
+     * @since 20.12
+     */
+    public boolean isDropOnBacklog()
+        {
+        return m_fDropOnBacklog;
+        }
+
     // ----- EventInterceptor interface -------------------------------------
 
     /**
@@ -440,6 +470,9 @@ public class NamedEventInterceptor<E extends Event<?>>
             {
             sName = m_sName = sName == null ? anno.identifier() : sName;
             order = anno.order();
+
+            m_fAsync         = anno.async();
+            m_fDropOnBacklog = anno.dropOnBacklog();
             }
 
         // process @Events annotations
@@ -646,4 +679,15 @@ public class NamedEventInterceptor<E extends Event<?>>
      * Specifies the behavior upon duplicate registration.
      */
     private RegistrationBehavior m_behavior;
+
+    /**
+     * Whether post-commit events should be dispatched asynchronously.
+     */
+    private boolean m_fAsync;
+
+    /**
+     * Whether events may be dropped once the asynchronous backlog limit is
+     * reached.
+     */
+    private boolean m_fDropOnBacklog;
     }
@@ -111,6 +111,10 @@ public class Registry
      */
     public synchronized void dispose()
         {
+        for (EventDispatcher dispatcher : m_setDispatchers)
+            {
+            releaseDispatcher(dispatcher);
+            }
         m_setDispatchers.clear();
         m_mapInterceptors.clear();
         }
@@ -133,11 +137,28 @@ public class Registry
      */
     public synchronized void unregisterEventDispatcher(EventDispatcher dispatcher)
         {
-        m_setDispatchers.remove(dispatcher);
+        if (m_setDispatchers.remove(dispatcher))
+            {
+            releaseDispatcher(dispatcher);
+            }
         }
 
     // ----- helper methods -------------------------------------------------
 
+    /**
+     * Release the resources held by the specified dispatcher once it is no
+     * longer registered.
+     *
+     * @param dispatcher  the dispatcher
+     */
+    protected void releaseDispatcher(EventDispatcher dispatcher)
+        {
+        if (dispatcher instanceof AbstractEventDispatcher)
+            {
+            ((AbstractEventDispatcher) dispatcher).releaseDispatchState();
+            }
+        }
+
     /**
      * Register the provided {@link EventInterceptor} with the identifier.
      *
@@ -199,6 +199,15 @@ public class StorageDispatcher
                 }
             }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isAsyncDispatchable()
+            {
+            return !isMutableEvent();
+            }
+
         /**
          * {@inheritDoc}
          */
@@ -275,6 +284,15 @@ public class StorageDispatcher
             return getType() == Type.EXECUTING;
             }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected boolean isAsyncDispatchable()
+            {
+            return getType() == Type.EXECUTED;
+            }
+
         /**
          * {@inheritDoc}
          */
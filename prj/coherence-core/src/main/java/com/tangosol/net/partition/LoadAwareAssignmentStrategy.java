@@ -0,0 +1,555 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.partition;
+
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.net.Member;
+
+import com.tangosol.util.Base;
+
+
+/**
+ * A PartitionAssignmentStrategy that balances the partitions based on the
+ * load observed by the {@link PartitionStatistics partition statistics}
+ * rather than on the number of partitions owned by each member.
+ * <p>
+ * The load of a partition is a weighted combination of its storage size and
+ * of its request load (the request rate and the task execution time), each
+ * relative to the average partition.  Backup load only accounts for the
+ * storage size.  Partitions without statistics (e.g. before the first sample
+ * is collected) are assumed to be average, so in the absence of statistics
+ * this strategy is equivalent to the {@link SimpleAssignmentStrategy}.
+ * <p>
+ * In order to limit the impact of re-balancing on a running cluster, this
+ * strategy:
+ * <ul>
+ *   <li>does not re-balance primary partitions if the (weighted) variance is
+ *       within the configured tolerance of the fair-share load;</li>
+ *   <li>limits the number of non-empty primary partitions that are moved in
+ *       order to balance the load during a single analysis, re-scheduling the
+ *       next analysis sooner if the plan was truncated;</li>
+ *   <li>simulates the suggested distribution before it is executed, and logs
+ *   the projected number of transfers, the amount of data to be moved and
+ *   the resulting load variance.</li>
+ * </ul>
+ * Partitions must still be moved if a member leaves or partitions are
+ * orphaned or endangered; the transfer limit only applies to balancing.
+ *
+ * @since 20.12
+ */
+public class LoadAwareAssignmentStrategy
+        extends SimpleAssignmentStrategy
+    {
+    // ----- constructors -------------------------------------------------
+
+    /**
+     * Construct a LoadAwareAssignmentStrategy with the default weights and
+     * limits.
+     */
+    public LoadAwareAssignmentStrategy()
+        {
+        this(DEFAULT_STORAGE_WEIGHT, DEFAULT_REQUEST_WEIGHT,
+             DEFAULT_MAX_TRANSFERS, DEFAULT_TOLERANCE);
+        }
+
+    /**
+     * Construct a LoadAwareAssignmentStrategy.
+     *
+     * @param nStorageWeight  the relative weight of the partition storage size
+     * @param nRequestWeight  the relative weight of the partition request load
+     * @param cMaxTransfers   the maximum number of non-empty partitions to
+     *                        move in order to balance the primary load during
+     *                        a single analysis, or zero for no limit
+     * @param nTolerance      the imbalance (in percent of the fair-share load)
+     *                        that is tolerated before the primary partitions
+     *                        are re-balanced
+     */
+    public LoadAwareAssignmentStrategy(int nStorageWeight, int nRequestWeight,
+                                       int cMaxTransfers, int nTolerance)
+        {
+        if (nStorageWeight < 0 || nRequestWeight < 0 || nStorageWeight + nRequestWeight == 0)
+            {
+            throw new IllegalArgumentException("Invalid load weights: storage="
+                + nStorageWeight + ", request=" + nRequestWeight);
+            }
+        if (cMaxTransfers < 0 || nTolerance < 0)
+            {
+            throw new IllegalArgumentException("Invalid transfer limit or tolerance: "
+                + cMaxTransfers + ", " + nTolerance);
+            }
+
+        f_nStorageWeight = nStorageWeight;
+        f_nRequestWeight = nRequestWeight;
+        f_cMaxTransfers  = cMaxTransfers;
+        f_nTolerance     = nTolerance;
+        }
+
+
+    // ----- accessors ----------------------------------------------------
+
+    /**
+     * Return the relative weight of the partition storage size.
+     *
+     * @return the storage weight
+     */
+    public int getStorageWeight()
+        {
+        return f_nStorageWeight;
+        }
+
+    /**
+     * Return the relative weight of the partition request load.
+     *
+     * @return the request weight
+     */
+    public int getRequestWeight()
+        {
+        return f_nRequestWeight;
+        }
+
+    /**
+     * Return the maximum number of non-empty partitions to move in order to
+     * balance the primary load during a single analysis.
+     *
+     * @return the maximum number of balancing transfers, or zero for no limit
+     */
+    public int getMaxTransfers()
+        {
+        return f_cMaxTransfers;
+        }
+
+    /**
+     * Return the imbalance (in percent of the fair-share load) that is
+     * tolerated before the primary partitions are re-balanced.
+     *
+     * @return the tolerance
+     */
+    public int getTolerance()
+        {
+        return f_nTolerance;
+        }
+
+    /**
+     * Return the amount of time in ms to delay the next analysis if the
+     * previous one was truncated by the transfer limit.
+     *
+     * @return the amount of time in ms to delay the next analysis
+     */
+    protected long getTruncatedAnalysisDelay()
+        {
+        return 10000L;
+        }
+
+
+    // ----- SimpleAssignmentStrategy methods -----------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LoadCalculator instantiateLoadCalculator(boolean fPrimary)
+        {
+        int nWeightRequest = fPrimary ? f_nRequestWeight : 0;
+        if (f_nStorageWeight + nWeightRequest == 0)
+            {
+            return new SimpleLoadCalculator();
+            }
+
+        return new WeightedLoadCalculator(getManager().getPartitionStats(),
+                getPartitionCount(), f_nStorageWeight, nWeightRequest);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected long analyzeDistribution(AnalysisContext ctx)
+        {
+        int cVarianceBefore = getWeightedVariance(ctx);
+
+        m_cTransfersRemaining = f_cMaxTransfers == 0 ? Integer.MAX_VALUE : f_cMaxTransfers;
+        m_fTruncated          = false;
+
+        primeDistribution(ctx);
+
+        long cSuggestDelay = analyze(ctx);
+
+        // simulate the plan before executing it
+        simulate(ctx, cVarianceBefore);
+
+        ctx.suggestDistribution();
+        ctx.setCompletedTime(Base.getSafeTimeMillis());
+
+        if (m_fTruncated && cSuggestDelay > 0L)
+            {
+            // there is more balancing to do; come back sooner
+            cSuggestDelay = Math.min(cSuggestDelay, getTruncatedAnalysisDelay());
+            }
+
+        return cSuggestDelay;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void checkPrimaryBalance(AnalysisContext ctx)
+        {
+        // leaving, orphaned and endangered partitions are assigned by the
+        // overloaded members; only skip if the distribution is within the
+        // tolerated imbalance
+        int cFairShare = ctx.getFairShare(true);
+        if (ctx.getOwnershipMembersList().length > 1
+            && getWeightedVariance(ctx) <= (long) cFairShare * f_nTolerance / 100
+            && !isPrimaryOverloaded(ctx, cFairShare))
+            {
+            return;
+            }
+
+        super.checkPrimaryBalance(ctx);
+        }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Empty partitions are always moved as needed, while non-empty partitions
+     * are only moved within the transfer limit of the current analysis.
+     */
+    @Override
+    protected int doBalancePrimary(AnalysisContext ctx, Member memberFrom,
+                                   PartitionSet parts, Member[] aMembersTarget)
+        {
+        LoadCalculator calculator = ctx.getPrimaryLoadCalculator();
+        if (!(calculator instanceof WeightedLoadCalculator)
+            || m_cTransfersRemaining == Integer.MAX_VALUE)
+            {
+            return super.doBalancePrimary(ctx, memberFrom, parts, aMembersTarget);
+            }
+
+        WeightedLoadCalculator calcWeighted = (WeightedLoadCalculator) calculator;
+
+        int          cFairShare = ctx.getFairShare(true);
+        int          cChanges   = 0;
+        PartitionSet partsOne   = new PartitionSet(parts.getPartitionCount());
+
+        // balance one partition at a time so that each transfer can be
+        // charged against the transfer limit
+        for (int iPart = parts.next(0); iPart >= 0; iPart = parts.next(iPart + 1))
+            {
+            if (ctx.getMemberLoad(memberFrom, true) < cFairShare)
+                {
+                break;
+                }
+
+            boolean fLoaded = calcWeighted.getStorageSize(iPart) > 0L;
+            if (fLoaded && m_cTransfersRemaining <= 0)
+                {
+                m_fTruncated = true;
+                continue;
+                }
+
+            partsOne.clear();
+            partsOne.add(iPart);
+
+            int cMoved = super.doBalancePrimary(ctx, memberFrom, partsOne, aMembersTarget);
+            if (cMoved > 0 && fLoaded)
+                {
+                m_cTransfersRemaining -= cMoved;
+                }
+            cChanges += cMoved;
+            }
+
+        return cChanges;
+        }
+
+
+    // ----- helpers ------------------------------------------------------
+
+    /**
+     * Simulate the distribution represented by the analysis context and log
+     * the projected effect of executing it.
+     *
+     * @param ctx              the analysis context
+     * @param cVarianceBefore  the primary load variance before the analysis
+     */
+    protected void simulate(AnalysisContext ctx, int cVarianceBefore)
+        {
+        LoadCalculator         calculator   = ctx.getPrimaryLoadCalculator();
+        WeightedLoadCalculator calcWeighted = calculator instanceof WeightedLoadCalculator
+                                              ? (WeightedLoadCalculator) calculator : null;
+        DistributionManager    manager      = getManager();
+        int                    cTransfers   = 0;
+        long                   cbTransfer   = 0L;
+
+        for (int iPart = 0, cParts = getPartitionCount(); iPart < cParts; iPart++)
+            {
+            int nOwnerNew = ctx.getPartitionOwnership(iPart).getPrimaryOwner();
+            int nOwnerOld = manager.getPartitionOwnership(iPart).getPrimaryOwner();
+            if (nOwnerNew != nOwnerOld && nOwnerOld != 0)
+                {
+                cTransfers++;
+                if (calcWeighted != null)
+                    {
+                    cbTransfer += calcWeighted.getStorageSize(iPart);
+                    }
+                }
+            }
+
+        if (cTransfers > 0)
+            {
+            int  cTransfersFinal = cTransfers;
+            long cbTransferFinal = cbTransfer;
+            Logger.fine(() -> "Projected distribution for service "
+                + manager.getService().getInfo().getServiceName() + ": "
+                + cTransfersFinal + " primary transfer(s) of " + cbTransferFinal
+                + " bytes; primary load variance " + cVarianceBefore
+                + " -> " + getWeightedVariance(ctx)
+                + " (fair-share " + ctx.getFairShare(true) + ")"
+                + (m_fTruncated ? "; limited to " + f_cMaxTransfers + " transfers" : ""));
+            }
+        }
+
+    /**
+     * Return the primary load variance, or zero if there are no ownership
+     * members.
+     *
+     * @param ctx  the analysis context
+     *
+     * @return the primary load variance
+     */
+    protected int getWeightedVariance(AnalysisContext ctx)
+        {
+        return ctx.getOwnershipMembersList().length == 0 ? 0 : getVariance(ctx, true);
+        }
+
+    /**
+     * Return true iff any member owns more primary partitions than it can
+     * give away while staying above the fair-share load.
+     *
+     * @param ctx         the analysis context
+     * @param cFairShare  the primary fair-share load
+     *
+     * @return true iff a member is significantly overloaded
+     */
+    protected boolean isPrimaryOverloaded(AnalysisContext ctx, int cFairShare)
+        {
+        long cThreshold = cFairShare + (long) cFairShare * f_nTolerance / 100;
+        for (Member member : ctx.getOwnershipMembersList())
+            {
+            if (ctx.getMemberLoad(member, true) > cThreshold)
+                {
+                return true;
+                }
+            }
+        return false;
+        }
+
+
+    // ----- inner class: WeightedLoadCalculator --------------------------
+
+    /**
+     * WeightedLoadCalculator defines the load of a partition as the weighted
+     * combination of its storage size and request load, scaled so that the
+     * average partition has a load of {@link #LOAD_SCALE}.
+     * <p>
+     * The loads are calculated once, from a snapshot of the partition
+     * statistics, when the calculator is created.
+     */
+    public static class WeightedLoadCalculator
+            implements LoadCalculator
+        {
+        /**
+         * Construct a WeightedLoadCalculator.
+         *
+         * @param aStats          the partition statistics indexed by partition
+         *                        id; may be null or contain null elements
+         * @param cPartitions     the partition count
+         * @param nStorageWeight  the relative weight of the storage size
+         * @param nRequestWeight  the relative weight of the request load
+         */
+        public WeightedLoadCalculator(PartitionStatistics[] aStats, int cPartitions,
+                                      int nStorageWeight, int nRequestWeight)
+            {
+            long[]    acbStorage   = new long[cPartitions];
+            double[]  adflRequests = new double[cPartitions];
+            double[]  adflExec     = new double[cPartitions];
+            boolean[] afSampled    = new boolean[cPartitions];
+            double    dflStorage   = 0.0;
+            double    dflRequests  = 0.0;
+            double    dflExec      = 0.0;
+            int       cSampled     = 0;
+
+            for (int i = 0; i < cPartitions; i++)
+                {
+                PartitionStatistics stats = aStats == null || i >= aStats.length ? null : aStats[i];
+                if (stats != null)
+                    {
+                    long cMillis = Math.max(1L, stats.getSampleDuration());
+
+                    acbStorage[i]   = Math.max(0L, stats.getStorageSize());
+                    adflRequests[i] = stats.getRequestCount() * 1000.0 / cMillis;
+                    adflExec[i]     = stats.getTaskExecutionTime() * 1000.0 / cMillis;
+                    afSampled[i]    = true;
+
+                    dflStorage  += acbStorage[i];
+                    dflRequests += adflRequests[i];
+                    dflExec     += adflExec[i];
+                    cSampled++;
+                    }
+                }
+
+            double dflAvgStorage  = cSampled == 0 ? 0.0 : dflStorage  / cSampled;
+            double dflAvgRequests = cSampled == 0 ? 0.0 : dflRequests / cSampled;
+            double dflAvgExec     = cSampled == 0 ? 0.0 : dflExec     / cSampled;
+            double dflWeightTotal = nStorageWeight + nRequestWeight;
+            int[]  anLoad         = new int[cPartitions];
+
+            for (int i = 0; i < cPartitions; i++)
+                {
+                // each dimension is relative to the average partition; a
+                // partition without statistics is assumed to be average
+                double dflLoadStorage = 1.0;
+                double dflLoadRequest = 1.0;
+                if (afSampled[i])
+                    {
+                    if (dflAvgStorage > 0.0)
+                        {
+                        dflLoadStorage = acbStorage[i] / dflAvgStorage;
+                        }
+                    dflLoadRequest = ((dflAvgRequests > 0.0 ? adflRequests[i] / dflAvgRequests : 1.0)
+                                    + (dflAvgExec     > 0.0 ? adflExec[i]     / dflAvgExec     : 1.0)) / 2.0;
+                    }
+
+                double dflLoad = (nStorageWeight * dflLoadStorage + nRequestWeight * dflLoadRequest)
+                                 / dflWeightTotal;
+
+                anLoad[i] = (int) Math.max(1L, Math.round(dflLoad * LOAD_SCALE));
+                }
+
+            f_anLoad     = anLoad;
+            f_acbStorage = acbStorage;
+            }
+
+        // ----- accessors ------------------------------------------------
+
+        /**
+         * Return the storage size of the specified partition at the time
+         * this calculator was created.
+         *
+         * @param nPartition  the partition id
+         *
+         * @return the storage size in bytes, or zero if unknown
+         */
+        public long getStorageSize(int nPartition)
+            {
+            return f_acbStorage[nPartition];
+            }
+
+        // ----- LoadCalculator interface ---------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        public int getLoad(int nPartition)
+            {
+            return f_anLoad[nPartition];
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        public int getLoad(PartitionSet parts)
+            {
+            int[] anLoad = f_anLoad;
+            int   cLoad  = 0;
+            for (int iPart = parts.next(0); iPart >= 0; iPart = parts.next(iPart + 1))
+                {
+                cLoad += anLoad[iPart];
+                }
+            return cLoad;
+            }
+
+        // ----- constants ------------------------------------------------
+
+        /**
+         * The load of an average partition.
+         */
+        public static final int LOAD_SCALE = 100;
+
+        // ----- data members ---------------------------------------------
+
+        /**
+         * The load of each partition.
+         */
+        protected final int[] f_anLoad;
+
+        /**
+         * The storage size of each partition.
+         */
+        protected final long[] f_acbStorage;
+        }
+
+
+    // ----- constants ----------------------------------------------------
+
+    /**
+     * The default relative weight of the partition storage size.
+     */
+    public static final int DEFAULT_STORAGE_WEIGHT = 1;
+
+    /**
+     * The default relative weight of the partition request load.
+     */
+    public static final int DEFAULT_REQUEST_WEIGHT = 1;
+
+    /**
+     * The default maximum number of non-empty partitions moved to balance
+     * the primary load during a single analysis.
+     */
+    public static final int DEFAULT_MAX_TRANSFERS = 32;
+
+    /**
+     * The default tolerated imbalance, in percent of the fair-share load.
+     */
+    public static final int DEFAULT_TOLERANCE = 10;
+
+
+    // ----- data members -------------------------------------------------
+
+    /**
+     * The relative weight of the partition storage size.
+     */
+    protected final int f_nStorageWeight;
+
+    /**
+     * The relative weight of the partition request load.
+     */
+    protected final int f_nRequestWeight;
+
+    /**
+     * The maximum number of balancing transfers per analysis.
+     */
+    protected final int f_cMaxTransfers;
+
+    /**
+     * The tolerated imbalance, in percent of the fair-share load.
+     */
+    protected final int f_nTolerance;
+
+    /**
+     * The number of balancing transfers remaining in the current analysis.
+     */
+    protected int m_cTransfersRemaining = Integer.MAX_VALUE;
+
+    /**
+     * True iff the current analysis was truncated by the transfer limit.
+     */
+    protected boolean m_fTruncated;
+    }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.partition;
+
+
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.cache.WrapperNamedCache;
+
+import com.tangosol.util.Filter;
+
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * ParallelQueryCache is a {@link NamedCache} wrapper that executes the
+ * filter-based queries and aggregations of the wrapped cache using a {@link
+ * ParallelQueryExecutor}, and delegates all other operations to the wrapped
+ * cache.
+ * <p>
+ * Parallel execution is opted into per cache reference, by wrapping the
+ * cache returned by the cache factory:
+ * <pre>
+ * NamedCache&lt;K, V&gt; cache = new ParallelQueryCache&lt;&gt;(session.getCache("orders"));
+ *
+ * Set&lt;K&gt; setKeys = cache.keySet(filter);  // partition-parallel
+ * </pre>
+ * Queries with a {@link java.util.Comparator} and key-based operations are
+ * not affected.
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ *
+ * @since 20.12
+ */
+public class ParallelQueryCache<K, V>
+        extends WrapperNamedCache<K, V>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a ParallelQueryCache for the specified cache, using the
+     * default number of requests per storage member.
+     *
+     * @param cache  the cache to wrap
+     */
+    public ParallelQueryCache(NamedCache<K, V> cache)
+        {
+        this(cache, ParallelQueryExecutor.DEFAULT_REQUESTS_PER_MEMBER);
+        }
+
+    /**
+     * Construct a ParallelQueryCache for the specified cache.
+     *
+     * @param cache               the cache to wrap
+     * @param cRequestsPerMember  the (maximum) number of concurrent requests
+     *                            to send to each storage member
+     */
+    public ParallelQueryCache(NamedCache<K, V> cache, int cRequestsPerMember)
+        {
+        super(cache, null);
+
+        f_executor = new ParallelQueryExecutor<>(cache, cRequestsPerMember);
+        }
+
+    // ----- QueryMap interface ---------------------------------------------
+
+    @Override
+    public Set<K> keySet(Filter filter)
+        {
+        return f_executor.keySet(filter);
+        }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet(Filter filter)
+        {
+        return f_executor.entrySet(filter);
+        }
+
+    // ----- InvocableMap interface -----------------------------------------
+
+    @Override
+    public <R> R aggregate(Filter filter, EntryAggregator<? super K, ? super V, R> agent)
+        {
+        return f_executor.aggregate(filter, agent);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the executor used to execute the queries and aggregations.
+     *
+     * @return the executor
+     */
+    public ParallelQueryExecutor<K, V> getExecutor()
+        {
+        return f_executor;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The executor used to execute the queries and aggregations.
+     */
+    protected final ParallelQueryExecutor<K, V> f_executor;
+    }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.partition;
+
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+
+import com.tangosol.util.aggregator.PartialResultAggregator;
+
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.KeyAssociatedFilter;
+import com.tangosol.util.filter.LimitFilter;
+import com.tangosol.util.filter.PartitionedFilter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import java.util.function.Function;
+
+
+/**
+ * ParallelQueryExecutor executes filter-based queries and aggregations against
+ * a partitioned cache as a number of concurrent requests, each scoped to a
+ * subset of the partitions owned by a single storage member.
+ * <p>
+ * A partitioned cache service processes a single query or aggregation
+ * request on one worker thread per storage member, iterating over all of the
+ * member's partitions sequentially.  By splitting the request into several
+ * {@link PartitionedFilter partition-scoped} requests per member, each of
+ * them is dispatched to a different worker thread, so a large query uses as
+ * many cores on each storage member as there are requests for that member
+ * (up to the size of the service's thread pool).  The partial results are
+ * combined locally:
+ * <ul>
+ *   <li>the results of {@link #keySet(Filter)} and {@link #entrySet(Filter)}
+ *       are the union of the partial results;</li>
+ *   <li>the partial results of a {@link InvocableMap.StreamingAggregator
+ *       StreamingAggregator} are {@link PartialResultAggregator returned}
+ *       as is, combined using an instance {@link
+ *       InvocableMap.StreamingAggregator#supply() supplied} by the
+ *       aggregator, and finalized locally.</li>
+ * </ul>
+ * Requests that cannot be split are executed as a single request; this is
+ * the case for caches that are not partitioned, for filters that are already
+ * restricted to a set of partitions or a key, for {@link LimitFilter}s, and
+ * for aggregators that are not {@link
+ * InvocableMap.StreamingAggregator#isParallel() parallel}.
+ * <p>
+ * Parallel execution increases the number of requests (and the total amount
+ * of work spent on the index lookups); it should only be used for queries
+ * and aggregations that process a large number of entries. A {@link
+ * ParallelQueryCache} can be used to execute all of the filter-based queries
+ * and aggregations of a cache in parallel.
+ *
+ * @param <K>  the type of the cache keys
+ * @param <V>  the type of the cache values
+ *
+ * @since 20.12
+ */
+public class ParallelQueryExecutor<K, V>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a ParallelQueryExecutor for the specified cache, using the
+     * default number of requests per storage member.
+     *
+     * @param cache  the cache to execute queries against
+     */
+    public ParallelQueryExecutor(NamedCache<K, V> cache)
+        {
+        this(cache, DEFAULT_REQUESTS_PER_MEMBER);
+        }
+
+    /**
+     * Construct a ParallelQueryExecutor for the specified cache.
+     *
+     * @param cache               the cache to execute queries against
+     * @param cRequestsPerMember  the (maximum) number of concurrent requests
+     *                            to send to each storage member
+     */
+    public ParallelQueryExecutor(NamedCache<K, V> cache, int cRequestsPerMember)
+        {
+        if (cRequestsPerMember < 1)
+            {
+            throw new IllegalArgumentException("Invalid number of requests per member: " + cRequestsPerMember);
+            }
+
+        f_cache              = Objects.requireNonNull(cache, "cache");
+        f_cRequestsPerMember = cRequestsPerMember;
+        }
+
+    // ----- query methods --------------------------------------------------
+
+    /**
+     * Return the keys of the entries that satisfy the specified filter.
+     *
+     * @param filter  the filter, or null for all entries
+     *
+     * @return the keys of the matching entries
+     */
+    public Set<K> keySet(Filter filter)
+        {
+        List<PartitionSet> listParts = split(filter);
+        if (listParts == null)
+            {
+            return f_cache.keySet(filter);
+            }
+
+        return union(listParts, parts -> async().keySet(new PartitionedFilter(ensureFilter(filter), parts)));
+        }
+
+    /**
+     * Return the entries that satisfy the specified filter.
+     *
+     * @param filter  the filter, or null for all entries
+     *
+     * @return the matching entries
+     */
+    public Set<Map.Entry<K, V>> entrySet(Filter filter)
+        {
+        List<PartitionSet> listParts = split(filter);
+        if (listParts == null)
+            {
+            return f_cache.entrySet(filter);
+            }
+
+        // the entries are collected into a map to keep the result a valid
+        // entry set, even if the ownership changes during the query
+        Map<K, V> map = new HashMap<>();
+        for (Map.Entry<K, V> entry : union(listParts,
+                parts -> async().entrySet(new PartitionedFilter(ensureFilter(filter), parts))))
+            {
+            map.put(entry.getKey(), entry.getValue());
+            }
+        return map.entrySet();
+        }
+
+    /**
+     * Aggregate the entries that satisfy the specified filter.
+     *
+     * @param filter      the filter, or null for all entries
+     * @param aggregator  the aggregator
+     * @param <R>         the type of the aggregation result
+     *
+     * @return the aggregation result
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R aggregate(Filter filter, InvocableMap.EntryAggregator<? super K, ? super V, R> aggregator)
+        {
+        List<PartitionSet> listParts = aggregator instanceof InvocableMap.StreamingAggregator
+                && ((InvocableMap.StreamingAggregator) aggregator).isParallel()
+                ? split(filter) : null;
+        if (listParts == null)
+            {
+            return f_cache.aggregate(filter, aggregator);
+            }
+
+        InvocableMap.StreamingAggregator<K, V, Object, R> aggrStreaming =
+                (InvocableMap.StreamingAggregator<K, V, Object, R>) aggregator;
+
+        List<CompletableFuture<Object>> listFutures = new ArrayList<>(listParts.size());
+        for (PartitionSet parts : listParts)
+            {
+            listFutures.add(async().aggregate(new PartitionedFilter(ensureFilter(filter), parts),
+                    new PartialResultAggregator<>(aggrStreaming.supply())));
+            }
+
+        InvocableMap.StreamingAggregator<K, V, Object, R> aggrResult = aggrStreaming.supply();
+        for (CompletableFuture<Object> future : listFutures)
+            {
+            aggrResult.combine(join(future));
+            }
+        return aggrResult.finalizeResult();
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the cache this executor executes queries against.
+     *
+     * @return the cache
+     */
+    public NamedCache<K, V> getCache()
+        {
+        return f_cache;
+        }
+
+    /**
+     * Return the (maximum) number of concurrent requests sent to each storage
+     * member.
+     *
+     * @return the number of requests per member
+     */
+    public int getRequestsPerMember()
+        {
+        return f_cRequestsPerMember;
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the asynchronous view of the cache used to issue the requests.
+     * <p>
+     * The requests are not ordered, as requests issued by the same thread
+     * with the default unit-of-order would be executed sequentially by the
+     * storage members.
+     *
+     * @return the asynchronous view of the cache
+     */
+    protected AsyncNamedCache<K, V> async()
+        {
+        return f_cache.async(AsyncNamedCache.OrderBy.none());
+        }
+
+    /**
+     * Split the partitions of the cache into the sets of partitions that
+     * each request should be scoped to.
+     * <p>
+     * The partitions owned by each storage member are split into (at most)
+     * {@link #getRequestsPerMember()} sets; the partitions that are not
+     * owned by any member (if any) are added as a separate set.
+     *
+     * @param filter  the query filter
+     *
+     * @return the list of partition sets, or null if the request should not
+     *         be split
+     */
+    protected List<PartitionSet> split(Filter filter)
+        {
+        CacheService service = f_cache.getCacheService();
+        if (!(service instanceof PartitionedService)
+                || filter instanceof PartitionedFilter
+                || filter instanceof KeyAssociatedFilter
+                || filter instanceof LimitFilter)
+            {
+            return null;
+            }
+
+        PartitionedService serviceParts = (PartitionedService) service;
+        int                cParts       = serviceParts.getPartitionCount();
+        PartitionSet       partsOrphan  = new PartitionSet(cParts).fill();
+        List<PartitionSet> listParts    = new ArrayList<>();
+
+        for (Member member : serviceParts.getOwnershipEnabledMembers())
+            {
+            PartitionSet partsOwned = serviceParts.getOwnedPartitions(member);
+            if (partsOwned != null && !partsOwned.isEmpty())
+                {
+                partsOrphan.remove(partsOwned);
+                listParts.addAll(split(partsOwned, f_cRequestsPerMember));
+                }
+            }
+
+        if (!partsOrphan.isEmpty())
+            {
+            listParts.add(partsOrphan);
+            }
+
+        // there is no point in splitting a request that targets a single
+        // set of partitions
+        return listParts.size() > 1 ? listParts : null;
+        }
+
+    /**
+     * Split the specified partition set into (at most) the specified number
+     * of sets of (nearly) equal size.
+     *
+     * @param parts   the partitions to split
+     * @param cSplit  the number of sets to split the partitions into
+     *
+     * @return the list of partition sets
+     */
+    protected static List<PartitionSet> split(PartitionSet parts, int cSplit)
+        {
+        int                cParts    = parts.getPartitionCount();
+        int                cOwned    = parts.cardinality();
+        int                cSets     = Math.min(cSplit, cOwned);
+        List<PartitionSet> listParts = new ArrayList<>(cSets);
+
+        for (int i = 0; i < cSets; i++)
+            {
+            listParts.add(new PartitionSet(cParts));
+            }
+
+        // assign contiguous runs of partitions to each set
+        for (int nPart = parts.next(0), i = 0; nPart >= 0; nPart = parts.next(nPart + 1), i++)
+            {
+            listParts.get((int) ((long) i * cSets / cOwned)).add(nPart);
+            }
+
+        return listParts;
+        }
+
+    /**
+     * Issue the specified asynchronous query for each of the partition sets,
+     * and return the union of the results.
+     *
+     * @param listParts  the partition sets
+     * @param function   the function issuing the query for a partition set
+     * @param <T>        the type of the result elements
+     *
+     * @return the union of the results
+     */
+    protected <T> Set<T> union(List<PartitionSet> listParts,
+                               Function<PartitionSet, CompletableFuture<Set<T>>> function)
+        {
+        List<CompletableFuture<Set<T>>> listFutures = new ArrayList<>(listParts.size());
+        for (PartitionSet parts : listParts)
+            {
+            listFutures.add(function.apply(parts));
+            }
+
+        Set<T> setResult = new HashSet<>();
+        for (CompletableFuture<Set<T>> future : listFutures)
+            {
+            setResult.addAll(join(future));
+            }
+        return setResult;
+        }
+
+    /**
+     * Return the specified filter, or an {@link AlwaysFilter} if it is null.
+     *
+     * @param filter  the filter
+     *
+     * @return a non-null filter
+     */
+    protected static Filter ensureFilter(Filter filter)
+        {
+        return filter == null ? AlwaysFilter.INSTANCE : filter;
+        }
+
+    /**
+     * Wait for the specified future to complete and return its result,
+     * rethrowing the cause of any failure.
+     *
+     * @param future  the future
+     * @param <T>     the type of the result
+     *
+     * @return the result
+     */
+    protected static <T> T join(CompletableFuture<T> future)
+        {
+        try
+            {
+            return future.join();
+            }
+        catch (CompletionException e)
+            {
+            throw Base.ensureRuntimeException(e.getCause() == null ? e : e.getCause());
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The default number of concurrent requests per storage member, which can
+     * be configured using the {@code coherence.query.parallel.requests}
+     * system property.
+     */
+    public static final int DEFAULT_REQUESTS_PER_MEMBER =
+            Math.max(1, Config.getInteger("coherence.query.parallel.requests", 4));
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The cache to execute the queries against.
+     */
+    protected final NamedCache<K, V> f_cache;
+
+    /**
+     * The (maximum) number of concurrent requests per storage member.
+     */
+    protected final int f_cRequestsPerMember;
+    }
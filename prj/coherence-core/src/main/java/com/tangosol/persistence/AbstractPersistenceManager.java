@@ -22,6 +22,7 @@ import com.oracle.datagrid.persistence.PersistenceStatistics;
 import com.oracle.datagrid.persistence.PersistenceTools;
 
 import com.tangosol.internal.util.DaemonPool;
+import com.tangosol.internal.util.RequestPhaseTracker;
 
 import com.tangosol.io.ByteArrayReadBuffer;
 import com.tangosol.io.FileHelper;
@@ -1327,6 +1328,7 @@ public abstract class AbstractPersistenceManager<PS extends AbstractPersistentSt
                 {
                 ensureReady();
 
+                long ldtStart = RequestPhaseTracker.start();
                 lockRead();
                 try
                     {
@@ -1335,6 +1337,7 @@ public abstract class AbstractPersistenceManager<PS extends AbstractPersistentSt
                 finally
                     {
                     unlockRead();
+                    RequestPhaseTracker.stop(RequestPhaseTracker.Phase.PERSISTENCE, ldtStart);
                     }
                 }
             }
@@ -6,6 +6,8 @@
  */
 package com.tangosol.persistence;
 
+import com.oracle.coherence.common.base.Logger;
+
 import com.oracle.coherence.persistence.FatalAccessException;
 import com.oracle.coherence.persistence.PersistenceException;
 import com.oracle.coherence.persistence.PersistentStore;
@@ -49,6 +51,7 @@ import com.tangosol.util.Binary;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.LongArray;
 import com.tangosol.util.NullImplementation;
+import com.tangosol.util.SimpleMapIndex;
 import com.tangosol.util.SparseArray;
 
 import java.io.File;
@@ -56,6 +59,7 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 
+import java.util.Collection;
 import java.util.Properties;
 
 import static com.tangosol.util.ExternalizableHelper.toBinary;
@@ -969,6 +973,8 @@ public class CachePersistenceHelper
         long lExtentId = getIndexExtentId(lCacheId);
         store.ensureExtent(lExtentId);
         store.erase(lExtentId, bufIndex, oToken);
+
+        eraseIndexContents(store, lCacheId, binExtractor, oToken);
         }
 
     /**
@@ -983,6 +989,245 @@ public class CachePersistenceHelper
     public static void unregisterIndices(PersistentStore<ReadBuffer> store, long lCacheId)
         {
         store.deleteExtent(getIndexExtentId(lCacheId));
+        store.deleteExtent(getIndexContentsExtentId(lCacheId));
+        }
+
+    // ----- index contents support -----------------------------------------
+
+    /**
+     * Return the extent identifier that contains the persisted index contents
+     * for the cache with the given identifier.
+     *
+     * @param lCacheId  the cacheId
+     *
+     * @return the index contents extent identifier
+     */
+    protected static long getIndexContentsExtentId(long lCacheId)
+        {
+        assert lCacheId > 0L;
+        return -lCacheId - 4;
+        }
+
+    /**
+     * Create a key representing the persisted contents of an index.
+     *
+     * @param lCacheId      the cache-id
+     * @param binExtractor  the index extractor
+     *
+     * @return a ReadBuffer representing the index contents key
+     */
+    protected static ReadBuffer createIndexContentsKey(long lCacheId, Binary binExtractor)
+        {
+        WriteBuffer buf = new ByteArrayWriteBuffer(9);
+        try
+            {
+            BufferOutput out = buf.getBufferOutput();
+
+            out.writeByte(KEY_TYPE_INDEX_CONTENTS);
+            out.writeLong(lCacheId);
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+
+        return new MultiBufferReadBuffer(new ReadBuffer[] { buf.getReadBuffer(), binExtractor });
+        }
+
+    /**
+     * Store the contents of an index (as written by
+     * {@link com.tangosol.util.SimpleMapIndex#writeContents}) for the
+     * partition of the specified persistent store, so that the index can be
+     * restored on recovery instead of being rebuilt from the recovered
+     * entries.
+     * <p>
+     * The contents are stamped with the specified version, which must
+     * identify the state of the partition data the contents were written
+     * for; {@link #loadIndexContents} only returns the contents if the
+     * partition data is still at the same version.
+     *
+     * @param store         the persistent store
+     * @param lCacheId      the cache id
+     * @param binExtractor  the index extractor
+     * @param lVersion      the version of the partition data
+     * @param bufContents   the index contents
+     * @param oToken        batch token to use for the store operation, or null
+     *
+     * @throws PersistenceException if the persistent store operations fail
+     */
+    public static void storeIndexContents(PersistentStore<ReadBuffer> store, long lCacheId,
+                                          Binary binExtractor, long lVersion,
+                                          ReadBuffer bufContents, Object oToken)
+        {
+        WriteBuffer buf = new ByteArrayWriteBuffer(9);
+        try
+            {
+            BufferOutput out = buf.getBufferOutput();
+
+            out.writeByte(INDEX_CONTENTS_FORMAT);
+            out.writeLong(lVersion);
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+
+        long lExtentId = getIndexContentsExtentId(lCacheId);
+        store.ensureExtent(lExtentId);
+        store.store(lExtentId, createIndexContentsKey(lCacheId, binExtractor),
+                new MultiBufferReadBuffer(new ReadBuffer[] { buf.getReadBuffer(), bufContents }), oToken);
+        }
+
+    /**
+     * Load the contents of an index stored by {@link #storeIndexContents}.
+     *
+     * @param store         the persistent store
+     * @param lCacheId      the cache id
+     * @param binExtractor  the index extractor
+     * @param lVersion      the current version of the partition data
+     *
+     * @return the index contents, or null if there are no stored contents,
+     *         or if they were stored for a different version of the
+     *         partition data and the index must be rebuilt
+     *
+     * @throws PersistenceException if the persistent store operations fail
+     */
+    public static ReadBuffer loadIndexContents(PersistentStore<ReadBuffer> store, long lCacheId,
+                                               Binary binExtractor, long lVersion)
+        {
+        long lExtentId = getIndexContentsExtentId(lCacheId);
+        store.ensureExtent(lExtentId);
+
+        ReadBuffer buf = store.load(lExtentId, createIndexContentsKey(lCacheId, binExtractor));
+        if (buf == null || buf.length() < 9)
+            {
+            return null;
+            }
+
+        try
+            {
+            BufferInput in = buf.getBufferInput();
+            if (in.readByte() != INDEX_CONTENTS_FORMAT || in.readLong() != lVersion)
+                {
+                return null;
+                }
+            }
+        catch (IOException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+
+        return buf.getReadBuffer(9, buf.length() - 9);
+        }
+
+    /**
+     * Clear the persisted contents of an index from the specified persistent
+     * store. This must be called as soon as the partition data changes in a
+     * way that is not reflected by the version the contents were stored with.
+     *
+     * @param store         the persistent store
+     * @param lCacheId      the cache id
+     * @param binExtractor  the index extractor
+     * @param oToken        batch token to use for the store operation, or null
+     *
+     * @throws PersistenceException if the persistent store operations fail
+     */
+    public static void eraseIndexContents(PersistentStore<ReadBuffer> store, long lCacheId,
+                                          Binary binExtractor, Object oToken)
+        {
+        long lExtentId = getIndexContentsExtentId(lCacheId);
+        store.ensureExtent(lExtentId);
+        store.erase(lExtentId, createIndexContentsKey(lCacheId, binExtractor), oToken);
+        }
+
+    /**
+     * Write the contents of the specified index for the entries with the
+     * specified keys, and store them using {@link #storeIndexContents}.
+     *
+     * @param store         the persistent store
+     * @param lCacheId      the cache id
+     * @param binExtractor  the index extractor
+     * @param lVersion      the version of the partition data
+     * @param index         the index to store the contents of
+     * @param serializer    the serializer used to write the keys and the
+     *                      extracted values
+     * @param colKey        the keys of the entries in the partition of the
+     *                      persistent store
+     * @param oToken        batch token to use for the store operation, or null
+     *
+     * @return true iff the contents have been stored, or false if the index
+     *         does not maintain a forward index and must be rebuilt on
+     *         recovery
+     *
+     * @throws PersistenceException if the persistent store operations fail
+     */
+    public static boolean storeIndexContents(PersistentStore<ReadBuffer> store, long lCacheId,
+                                             Binary binExtractor, long lVersion, SimpleMapIndex index,
+                                             Serializer serializer, Collection colKey, Object oToken)
+        {
+        WriteBuffer buf = new ByteArrayWriteBuffer(64);
+        try
+            {
+            if (!index.writeContents(buf.getBufferOutput(), serializer, colKey))
+                {
+                // erase any contents stored by an earlier checkpoint, which
+                // would otherwise be recovered if the version matched
+                eraseIndexContents(store, lCacheId, binExtractor, oToken);
+                return false;
+                }
+            }
+        catch (IOException e)
+            {
+            throw ensurePersistenceException(e, "Failed to write the contents of the index " + index);
+            }
+
+        storeIndexContents(store, lCacheId, binExtractor, lVersion, buf.getReadBuffer(), oToken);
+        return true;
+        }
+
+    /**
+     * Recover the contents of the specified index from the contents stored
+     * by {@link #storeIndexContents}, if they were stored for the specified
+     * version of the partition data.
+     * <p>
+     * Contents that cannot be read, for example because the classes of the
+     * extracted values have changed, are treated as missing.
+     *
+     * @param store         the persistent store
+     * @param lCacheId      the cache id
+     * @param binExtractor  the index extractor
+     * @param lVersion      the current version of the partition data
+     * @param index         the index to recover the contents into
+     * @param serializer    the serializer used to store the contents
+     *
+     * @return true iff the contents have been recovered, or false if the
+     *         index must be rebuilt from the recovered entries
+     *
+     * @throws PersistenceException if the persistent store operations fail
+     */
+    public static boolean recoverIndexContents(PersistentStore<ReadBuffer> store, long lCacheId,
+                                               Binary binExtractor, long lVersion, SimpleMapIndex index,
+                                               Serializer serializer)
+        {
+        ReadBuffer buf = loadIndexContents(store, lCacheId, binExtractor, lVersion);
+        if (buf == null)
+            {
+            return false;
+            }
+
+        try
+            {
+            index.readContents(buf.getBufferInput(), serializer);
+            }
+        catch (IOException | RuntimeException e)
+            {
+            // readContents does not change the index unless all of the
+            // contents could be read
+            Logger.warn("Failed to recover the contents of the index " + index
+                    + "; the index will be rebuilt: " + e);
+            return false;
+            }
+        return true;
         }
 
     // ----- trigger support --------------------------------------------------
@@ -1349,6 +1594,11 @@ public class CachePersistenceHelper
                             return visitorCache.visitTrigger(lCacheId, binTrigger);
                             }
 
+                        case KEY_TYPE_INDEX_CONTENTS:
+                            // index contents are loaded explicitly by
+                            // the registered index, see loadIndexContents
+                            return true;
+
                         default:
                             return false;
                         }
@@ -1536,6 +1786,16 @@ public class CachePersistenceHelper
      */
     private static final byte KEY_TYPE_TRIGGER = 3;
 
+    /**
+     * Index contents key type.
+     */
+    private static final byte KEY_TYPE_INDEX_CONTENTS = 4;
+
+    /**
+     * The format of the persisted index contents.
+     */
+    private static final byte INDEX_CONTENTS_FORMAT = 1;
+
     /**
      * The marker Binary used to seal a partition.
      */
@@ -24,6 +24,9 @@ import java.net.URLConnection;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
 
 import  java.util.concurrent.atomic.AtomicBoolean;
 
@@ -270,9 +273,7 @@ public class SaxParser
                 return;
                 }
 
-            SchemaFactory schemaFactory = SchemaFactory
-                    .newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-            Schema            schema    = schemaFactory.newSchema(resolveSchemaSources(listSchemaURIs));
+            Schema            schema    = ensureSchema(listSchemaURIs);
             Source            source    = new StreamSource(new StringReader(sXml));
             Validator         validator = schema.newValidator();
             ValidationHandler handler   = new ValidationHandler();
@@ -311,6 +312,37 @@ public class SaxParser
             }
         }
 
+    /**
+    * Return the compiled {@link Schema} for the specified XSD URIs.
+    * <p>
+    * Compiling the Coherence schemas is the most expensive part of loading a
+    * configuration, so the compiled (immutable and thread-safe) schemas are
+    * cached and shared by all validations of documents that refer to the
+    * same set of schema locations.
+    *
+    * @param listUri  list of XSD URIs
+    *
+    * @return the compiled Schema
+    *
+    * @throws SAXException  if a schema cannot be compiled
+    * @throws IOException   if a schema cannot be located or loaded
+    */
+    protected Schema ensureSchema(List<String> listUri)
+            throws SAXException, IOException
+        {
+        Map<List<String>, Schema> mapSchema = s_mapSchema;
+        Schema                    schema    = mapSchema.get(listUri);
+        if (schema == null)
+            {
+            SchemaFactory schemaFactory = SchemaFactory
+                    .newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+
+            schema = schemaFactory.newSchema(resolveSchemaSources(listUri));
+            mapSchema.putIfAbsent(new ArrayList<>(listUri), schema);
+            }
+        return schema;
+        }
+
     /**
     * For a given set of XSD URIs, return the {@link Source}s to be
     * used by the XML parser to validate an XML document.
@@ -327,19 +359,7 @@ public class SaxParser
         List<Source> listSources = new ArrayList<Source>();
         for (String sUri : listUri)
             {
-            URL url = Resources.findFileOrResource(
-                    sUri, getClass().getClassLoader());
-
-            // do not load schemas over http or https;
-            // strip the URL to just ending file name and load from classpath
-            if (url != null && ("http".equalsIgnoreCase(url.getProtocol()) ||
-                                "https".equalsIgnoreCase(url.getProtocol())))
-                {
-                url = Resources.findFileOrResource(
-                        sUri.substring(sUri.lastIndexOf('/') + 1),
-                        getClass().getClassLoader());
-                }
-
+            URL url = findSchema(sUri, getClass().getClassLoader());
             if (url == null)
                 {
                 throw new IOException("The specified schema "
@@ -363,6 +383,32 @@ public class SaxParser
         return listSources.toArray(new Source[listUri.size()]);
         }
 
+    /**
+    * Return the URL to load the XSD with the specified URI from.
+    * <p>
+    * Schemas are not loaded over http or https; the ending file name of such
+    * a URI is loaded from the classpath instead.
+    *
+    * @param sUri    the XSD URI
+    * @param loader  the ClassLoader to load the XSD with
+    *
+    * @return the URL of the XSD, or null if it cannot be found
+    */
+    protected static URL findSchema(String sUri, ClassLoader loader)
+        {
+        URL url = Resources.findFileOrResource(sUri, loader);
+
+        // do not load schemas over http or https;
+        // strip the URL to just ending file name and load from classpath
+        if (url != null && ("http".equalsIgnoreCase(url.getProtocol()) ||
+                            "https".equalsIgnoreCase(url.getProtocol())))
+            {
+            url = Resources.findFileOrResource(
+                    sUri.substring(sUri.lastIndexOf('/') + 1), loader);
+            }
+        return url;
+        }
+
 
     // ----- inner class: ValidationHandler ---------------------------------
 
@@ -752,4 +798,12 @@ public class SaxParser
      * Record if resolved SaxParser supports JAXP 1.5 {@link XMLConstants#ACCESS_EXTERNAL_DTD} and {@link XMLConstants#ACCESS_EXTERNAL_SCHEMA} properties. Only report warning once if does not.
      */
     private static final AtomicBoolean ATTEMPT_RESTRICT_EXTERNAL = new AtomicBoolean(true);
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The compiled schemas, keyed by the list of schema locations they were
+     * compiled from.
+     */
+    private static final Map<List<String>, Schema> s_mapSchema = new ConcurrentHashMap<>();
     }
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.run.xml;
+
+import com.oracle.coherence.common.base.Logger;
+
+import com.tangosol.coherence.config.Config;
+
+import com.tangosol.util.Base;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * XmlDocumentCache caches the parsed and validated form of XML configuration
+ * documents, keyed by a digest of their content, so that a document that has
+ * already been parsed and validated against its schemas does not have to be
+ * parsed and validated again.
+ * <p>
+ * Documents are cached in-process by default, which avoids re-parsing a
+ * configuration that is loaded more than once by the same JVM. If the
+ * <tt>coherence.config.cache.dir</tt> system property is set (or a cache
+ * directory is passed to {@link #loadXml(URL, String, File)}), the parsed
+ * documents are also stored in (and loaded from) that directory as plain XML,
+ * which allows subsequent JVMs to skip validation of unchanged configuration
+ * files. The directory must only be writable by trusted users, as the
+ * documents loaded from it are not validated again.
+ * <p>
+ * The digest covers the document content, the character set it is decoded
+ * with, whether it is validated, and the Coherence version, so a change to
+ * any of them results in the document being parsed and validated again. The
+ * content of the schemas a cached document refers to is digested as well,
+ * and a cached document is discarded if any of them has changed since it was
+ * validated, so that a change to a custom namespace schema is not missed.
+ * Callers are always given their own copy of a cached document, and are free
+ * to modify it.
+ *
+ * @since 20.12
+ */
+public class XmlDocumentCache
+    {
+    // ----- XmlDocumentCache methods ---------------------------------------
+
+    /**
+     * Load the XML document from the specified URL, using the cached
+     * parsed form of the document if its content has been parsed before.
+     *
+     * @param url       the URL from which to load the XML
+     * @param sCharset  the charset name, or null to detect the charset from
+     *                  the document
+     *
+     * @return the XML content
+     *
+     * @throws IOException  if the document cannot be read or parsed
+     */
+    public static XmlDocument loadXml(URL url, String sCharset)
+            throws IOException
+        {
+        return loadXml(url, sCharset, CACHE_DIR);
+        }
+
+    /**
+     * Load the XML document from the specified URL, using the cached
+     * parsed form of the document if its content has been parsed before.
+     *
+     * @param url       the URL from which to load the XML
+     * @param sCharset  the charset name, or null to detect the charset from
+     *                  the document
+     * @param dirCache  the directory parsed documents are stored in, or null
+     *                  to only cache the parsed document in-process
+     *
+     * @return the XML content
+     *
+     * @throws IOException  if the document cannot be read or parsed
+     */
+    public static XmlDocument loadXml(URL url, String sCharset, File dirCache)
+            throws IOException
+        {
+        byte[] ab;
+        try (InputStream in = url.openStream())
+            {
+            ab = Base.read(in);
+            }
+
+        if (!ENABLED)
+            {
+            return parseXml(ab, sCharset);
+            }
+
+        String         sKey   = digest(ab, sCharset);
+        CachedDocument cached = s_mapDocument.get(sKey);
+        if (cached == null || !cached.isCurrent())
+            {
+            cached = loadPersistent(dirCache, sKey);
+            if (cached == null || !cached.isCurrent())
+                {
+                XmlDocument xml = parseXml(ab, sCharset);
+
+                cached = new CachedDocument(xml, digestSchemas(xml));
+                storePersistent(dirCache, sKey, cached);
+                }
+
+            Map<String, CachedDocument> mapDocument = s_mapDocument;
+            if (mapDocument.size() >= MAX_CACHED_DOCUMENTS)
+                {
+                mapDocument.clear();
+                }
+            mapDocument.put(sKey, cached);
+            }
+
+        return (XmlDocument) cached.getDocument().clone();
+        }
+
+    /**
+     * Discard all documents cached in-process.
+     */
+    public static void clear()
+        {
+        s_mapDocument.clear();
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Parse (and validate) the specified XML content.
+     *
+     * @param ab        the XML content
+     * @param sCharset  the charset name, or null to detect the charset from
+     *                  the document
+     *
+     * @return the XML document
+     *
+     * @throws IOException  if the document cannot be parsed
+     */
+    protected static XmlDocument parseXml(byte[] ab, String sCharset)
+            throws IOException
+        {
+        InputStream in = new ByteArrayInputStream(ab);
+        return sCharset == null
+               ? new SimpleParser().parseXml(in)
+               : new SimpleParser().parseXml(in, sCharset);
+        }
+
+    /**
+     * Compute the cache key for the specified XML content.
+     *
+     * @param ab        the XML content
+     * @param sCharset  the charset name, or null
+     *
+     * @return the hex encoded digest of the content and the settings that
+     *         affect the parsed document
+     */
+    protected static String digest(byte[] ab, String sCharset)
+        {
+        try
+            {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            digest.update(String.valueOf(VERSION).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(String.valueOf(sCharset).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update((byte) (Config.getBoolean("coherence.xml.validation.disable") ? 0 : 1));
+            digest.update(ab);
+
+            return Base.toHex(digest.digest());
+            }
+        catch (NoSuchAlgorithmException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+    /**
+     * Compute the digest of the content of the schemas the specified document
+     * refers to.
+     *
+     * @param xml  the XML document
+     *
+     * @return the hex encoded digest of the schema locations and content
+     */
+    protected static String digestSchemas(XmlDocument xml)
+        {
+        try
+            {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String sUri : XmlHelper.getSchemaLocations(xml, null))
+                {
+                digest.update(sUri.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+
+                URL url = SaxParser.findSchema(sUri, SaxParser.class.getClassLoader());
+                if (url != null)
+                    {
+                    try (InputStream in = url.openStream())
+                        {
+                        digest.update(Base.read(in));
+                        }
+                    catch (IOException e)
+                        {
+                        // an unreadable schema fails the validation
+                        }
+                    }
+                digest.update((byte) 0);
+                }
+
+            return Base.toHex(digest.digest());
+            }
+        catch (NoSuchAlgorithmException e)
+            {
+            throw Base.ensureRuntimeException(e);
+            }
+        }
+
+    /**
+     * Load the document with the specified key from the cache directory.
+     * <p>
+     * The first line of a cached file holds the {@link #digestSchemas schema
+     * digest} of the document, and the rest of the file the document itself.
+     *
+     * @param dir   the cache directory, or null
+     * @param sKey  the document key
+     *
+     * @return the cached document, or null if the cache directory is not
+     *         configured or does not contain a usable copy of the document
+     */
+    protected static CachedDocument loadPersistent(File dir, String sKey)
+        {
+        if (dir != null)
+            {
+            File file = new File(dir, sKey + FILE_SUFFIX);
+            if (file.isFile())
+                {
+                try
+                    {
+                    String sContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                    int    of       = sContent.indexOf('\n');
+                    if (of < 0)
+                        {
+                        throw new IOException("missing schema digest");
+                        }
+
+                    return new CachedDocument(new SimpleParser(false).parseXml(sContent.substring(of + 1)),
+                            sContent.substring(0, of));
+                    }
+                catch (Exception e)
+                    {
+                    Logger.fine("Ignoring the unreadable cached configuration \"" + file + "\": " + e);
+                    }
+                }
+            }
+        return null;
+        }
+
+    /**
+     * Store the document with the specified key in the cache directory, if
+     * one is configured.
+     *
+     * @param dir     the cache directory, or null
+     * @param sKey    the document key
+     * @param cached  the parsed document
+     */
+    protected static void storePersistent(File dir, String sKey, CachedDocument cached)
+        {
+        if (dir != null)
+            {
+            File fileTemp = null;
+            try
+                {
+                dir.mkdirs();
+
+                String sContent = cached.getSchemaDigest() + '\n' + cached.getDocument().toString();
+
+                // write to a temporary file first, so that concurrently
+                // starting members never observe a partially written file
+                fileTemp = File.createTempFile(sKey, ".tmp", dir);
+                Files.write(fileTemp.toPath(), sContent.getBytes(StandardCharsets.UTF_8));
+                Files.move(fileTemp.toPath(), new File(dir, sKey + FILE_SUFFIX).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                }
+            catch (Exception e)
+                {
+                Logger.fine("Failed to cache the parsed configuration in \"" + dir + "\": " + e);
+                if (fileTemp != null)
+                    {
+                    fileTemp.delete();
+                    }
+                }
+            }
+        }
+
+    // ----- inner class: CachedDocument ------------------------------------
+
+    /**
+     * A parsed and validated document, and the digest of the schemas it was
+     * validated against.
+     */
+    protected static class CachedDocument
+        {
+        /**
+         * Construct a CachedDocument.
+         *
+         * @param xml            the parsed document
+         * @param sSchemaDigest  the digest of the schemas the document refers to
+         */
+        protected CachedDocument(XmlDocument xml, String sSchemaDigest)
+            {
+            f_xml           = xml;
+            f_sSchemaDigest = sSchemaDigest;
+            }
+
+        /**
+         * Return the parsed document.
+         *
+         * @return the parsed document
+         */
+        public XmlDocument getDocument()
+            {
+            return f_xml;
+            }
+
+        /**
+         * Return the digest of the schemas the document was validated against.
+         *
+         * @return the schema digest
+         */
+        public String getSchemaDigest()
+            {
+            return f_sSchemaDigest;
+            }
+
+        /**
+         * Return true iff none of the schemas the document refers to has
+         * changed since the document was validated.
+         *
+         * @return true iff the cached document can be used
+         */
+        public boolean isCurrent()
+            {
+            return f_sSchemaDigest.equals(digestSchemas(f_xml));
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The parsed document.
+         */
+        protected final XmlDocument f_xml;
+
+        /**
+         * The digest of the schemas the document was validated against.
+         */
+        protected final String f_sSchemaDigest;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * True iff parsed documents are cached; can be disabled by setting the
+     * <tt>coherence.config.cache</tt> system property to false.
+     */
+    public static final boolean ENABLED = Config.getBoolean("coherence.config.cache", true);
+
+    /**
+     * The directory parsed documents are stored in by default, or null if
+     * parsed documents are only cached in-process.
+     */
+    public static final File CACHE_DIR;
+
+    static
+        {
+        String sDir = Config.getProperty("coherence.config.cache.dir");
+        CACHE_DIR = sDir == null || sDir.trim().isEmpty() ? null : new File(sDir.trim());
+        }
+
+    /**
+     * The suffix of the files in the cache directory.
+     */
+    protected static final String FILE_SUFFIX = ".xml";
+
+    /**
+     * The maximum number of documents cached in-process.
+     */
+    protected static final int MAX_CACHED_DOCUMENTS = 64;
+
+    /**
+     * The version of the Coherence classes, which determines the schemas the
+     * cached documents were validated against.
+     */
+    protected static final String VERSION = XmlDocumentCache.class.getPackage() == null
+            ? null : XmlDocumentCache.class.getPackage().getImplementationVersion();
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The documents cached in-process, keyed by digest.
+     */
+    private static final Map<String, CachedDocument> s_mapDocument = new ConcurrentHashMap<>();
+    }
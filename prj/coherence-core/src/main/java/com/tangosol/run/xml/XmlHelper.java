@@ -417,9 +417,10 @@ public abstract class XmlHelper extends Base
 
         try
             {
-            XmlDocument xml = url.getProtocol().equals("file") ?
-                XmlHelper.loadXml(url) :
-                XmlHelper.loadXml(url, "ISO-8859-1");
+            // the parsed and validated form of the configuration is cached
+            // by content, see XmlDocumentCache
+            XmlDocument xml = XmlDocumentCache.loadXml(url,
+                url.getProtocol().equals("file") ? null : "ISO-8859-1");
 
             StringBuilder sb = new StringBuilder(256);
             sb.append("Loaded ").append(sDescr)
@@ -434,7 +435,7 @@ public abstract class XmlHelper extends Base
 
             return xml;
             }
-        catch (RuntimeException e)
+        catch (IOException | RuntimeException e)
             {
             throw ensureRuntimeException(e,
                     "Failed to load " + sDescr +": " + url);
@@ -0,0 +1,1328 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util;
+
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import java.util.concurrent.ConcurrentMap;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * A lock-free, open-addressing implementation of {@link ConcurrentMap}.
+ * <p>
+ * Keys and values are stored directly in (linearly probed) slot arrays, and
+ * all operations, including updates, are performed using compare-and-set on
+ * individual slots; no operation ever blocks or holds a lock.  A key slot,
+ * once claimed, is never reused within a table; removal simply replaces the
+ * value with a tombstone.
+ * <p>
+ * The map is resized incrementally: when a table fills up a new table is
+ * allocated, and the slots are copied cooperatively, in chunks, by the threads
+ * that access the map while the copy is in progress.  A slot being copied is
+ * frozen by "boxing" its value so that concurrent updates are redirected to
+ * the new table, which is promoted once all of the slots have been copied.
+ * Tombstones are discarded by the copy.
+ * <p>
+ * In addition to the standard {@link Map} operations, the map supports
+ * {@link #getEntry(Object)}, which returns the stored (canonical) key, so it
+ * can be used in place of a {@link SegmentedHashMap} where the identity of the
+ * stored keys matters (e.g. for the de-duplication of indexed values by the
+ * {@link SimpleMapIndex}).  Both {@code null} keys and values are supported.
+ * <p>
+ * Iterators are weakly consistent; they complete any resize in progress when
+ * they are created, never throw {@link java.util.ConcurrentModificationException},
+ * and may or may not reflect modifications made after their creation.
+ *
+ * @param <K>  the type of the map keys
+ * @param <V>  the type of the map values
+ *
+ * @since 20.12
+ */
+public class ConcurrentOpenHashMap<K, V>
+        extends AbstractMap<K, V>
+        implements ConcurrentMap<K, V>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a ConcurrentOpenHashMap with the default initial capacity.
+     */
+    public ConcurrentOpenHashMap()
+        {
+        this(MIN_CAPACITY / 2);
+        }
+
+    /**
+     * Construct a ConcurrentOpenHashMap that can hold the specified number of
+     * entries without resizing.
+     *
+     * @param cInitial  the expected number of entries
+     */
+    public ConcurrentOpenHashMap(int cInitial)
+        {
+        if (cInitial < 0)
+            {
+            throw new IllegalArgumentException("Initial capacity must not be negative: " + cInitial);
+            }
+
+        f_refTable = new AtomicReference<>(new Table(tableSizeFor(2L * cInitial)));
+        }
+
+
+    // ----- Map interface --------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size()
+        {
+        long c = f_cSize.sum();
+        return c <= 0L ? 0 : (int) Math.min(c, Integer.MAX_VALUE);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty()
+        {
+        return size() == 0;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object oKey)
+        {
+        Object oKeyInt = maskKey(oKey);
+        return getInternal(f_refTable.get(), oKeyInt, hash(oKeyInt)) != null;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V get(Object oKey)
+        {
+        Object oKeyInt = maskKey(oKey);
+        return unmaskValue(getInternal(f_refTable.get(), oKeyInt, hash(oKeyInt)));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V put(K oKey, V oValue)
+        {
+        return unmaskValue(putIfMatch(oKey, maskValue(oValue), NO_MATCH_OLD));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V remove(Object oKey)
+        {
+        return unmaskValue(putIfMatch(oKey, TOMBSTONE, NO_MATCH_OLD));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear()
+        {
+        for (Iterator<K> iter = keySet().iterator(); iter.hasNext(); )
+            {
+            iter.next();
+            iter.remove();
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Map.Entry<K, V>> entrySet()
+        {
+        return f_setEntries;
+        }
+
+
+    // ----- ConcurrentMap interface ----------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V putIfAbsent(K oKey, V oValue)
+        {
+        return unmaskValue(putIfMatch(oKey, maskValue(oValue), TOMBSTONE));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object oKey, Object oValue)
+        {
+        Object oValueInt = maskValue(oValue);
+        return isSameValue(putIfMatch(oKey, TOMBSTONE, oValueInt), oValueInt);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V replace(K oKey, V oValue)
+        {
+        return unmaskValue(putIfMatch(oKey, maskValue(oValue), MATCH_ANY));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replace(K oKey, V oValueOld, V oValueNew)
+        {
+        Object oValueInt = maskValue(oValueOld);
+        return isSameValue(putIfMatch(oKey, maskValue(oValueNew), oValueInt), oValueInt);
+        }
+
+
+    // ----- ConcurrentOpenHashMap methods ----------------------------------
+
+    /**
+     * Locate an Entry in the map based on its key.
+     * <p>
+     * The key of the returned entry is the key stored in the map, which may
+     * be a different (but equal) instance than the specified key.  The value
+     * of the entry reflects the state of the map when the entry was located;
+     * setting the value writes through to the map.
+     *
+     * @param oKey  the key to look up
+     *
+     * @return the entry for the key, or null if the map does not contain it
+     */
+    public Map.Entry<K, V> getEntry(Object oKey)
+        {
+        Object oKeyInt = maskKey(oKey);
+        int    nHash   = hash(oKeyInt);
+        Table  table   = f_refTable.get();
+
+        while (true)
+            {
+            int cLen     = table.length();
+            int nMask    = cLen - 1;
+            int iSlot    = nHash & nMask;
+            int cReprobe = 0;
+
+            while (true)
+                {
+                Object oKeySlot = table.getKey(iSlot);
+                if (oKeySlot == null)
+                    {
+                    return null;
+                    }
+
+                Object oValue = table.getValue(iSlot);
+                if (oKeySlot != TOMBSTONE && isSameKey(oKeySlot, table.f_anHash[iSlot], oKeyInt, nHash))
+                    {
+                    if (oValue instanceof Prime)
+                        {
+                        // the slot is being copied; retry in the new table
+                        table = copySlotAndCheck(table, iSlot, false);
+                        break;
+                        }
+                    return oValue == null || oValue == TOMBSTONE
+                           ? null
+                           : new Entry(unmaskKey(oKeySlot), unmaskValue(oValue));
+                    }
+
+                if (++cReprobe >= reprobeLimit(cLen) || oKeySlot == TOMBSTONE)
+                    {
+                    table = table.getNext();
+                    if (table == null)
+                        {
+                        return null;
+                        }
+                    break;
+                    }
+
+                iSlot = (iSlot + 1) & nMask;
+                }
+            }
+        }
+
+    /**
+     * Return the number of slots in the current table.
+     *
+     * @return the current capacity of the map
+     */
+    public int getCapacity()
+        {
+        return f_refTable.get().length();
+        }
+
+
+    // ----- internal methods -----------------------------------------------
+
+    /**
+     * Return the value associated with the specified key in the specified
+     * table, or in any of the tables it is being copied to.
+     *
+     * @param table    the table to start the search from
+     * @param oKeyInt  the (masked) key
+     * @param nHash    the hash of the key
+     *
+     * @return the (masked) value, or null if the key is not mapped
+     */
+    protected Object getInternal(Table table, Object oKeyInt, int nHash)
+        {
+        while (true)
+            {
+            int cLen     = table.length();
+            int nMask    = cLen - 1;
+            int iSlot    = nHash & nMask;
+            int cReprobe = 0;
+
+            while (true)
+                {
+                Object oKeySlot = table.getKey(iSlot);
+                if (oKeySlot == null)
+                    {
+                    // the end of the probe sequence; a miss
+                    return null;
+                    }
+
+                Object oValue = table.getValue(iSlot);
+                if (oKeySlot != TOMBSTONE && isSameKey(oKeySlot, table.f_anHash[iSlot], oKeyInt, nHash))
+                    {
+                    if (oValue instanceof Prime)
+                        {
+                        table = copySlotAndCheck(table, iSlot, false);
+                        break;
+                        }
+                    return oValue == TOMBSTONE ? null : oValue;
+                    }
+
+                if (++cReprobe >= reprobeLimit(cLen) || oKeySlot == TOMBSTONE)
+                    {
+                    // the key could only have been inserted in a newer table
+                    table = table.getNext();
+                    if (table == null)
+                        {
+                        return null;
+                        }
+                    break;
+                    }
+
+                iSlot = (iSlot + 1) & nMask;
+                }
+            }
+        }
+
+    /**
+     * Update the mapping for the specified key if its current value matches
+     * the expected value.
+     *
+     * @param oKey       the key
+     * @param oValuePut  the (masked) value to store, or {@link #TOMBSTONE} to
+     *                   remove the mapping
+     * @param oValueExp  the (masked) expected value, {@link #NO_MATCH_OLD} to
+     *                   update unconditionally, {@link #MATCH_ANY} to update
+     *                   only an existing mapping or {@link #TOMBSTONE} to
+     *                   update only if there is no mapping
+     *
+     * @return the previous (masked) value, or null or {@link #TOMBSTONE} if
+     *         the key was not mapped
+     */
+    protected Object putIfMatch(Object oKey, Object oValuePut, Object oValueExp)
+        {
+        Object oKeyInt = maskKey(oKey);
+        Object oResult = putIfMatch(f_refTable.get(), oKeyInt, hash(oKeyInt),
+                                    oValuePut, oValueExp, false);
+        return oResult == TOMBSTONE ? null : oResult;
+        }
+
+    /**
+     * Update the mapping for the specified key in the specified table (or in
+     * the table it is being copied to) if its current value matches the
+     * expected value.
+     *
+     * @param table      the table
+     * @param oKeyInt    the (masked) key
+     * @param nHash      the hash of the key
+     * @param oValuePut  the (masked) value to store, or {@link #TOMBSTONE}
+     * @param oValueExp  the (masked) expected value; null is only used when
+     *                   copying a slot, and matches a slot that has never
+     *                   been assigned a value
+     * @param fCopy      true iff the update copies a slot from an older table
+     *
+     * @return the previous (masked) value, or null or {@link #TOMBSTONE} if
+     *         the key was not mapped
+     */
+    protected Object putIfMatch(Table table, Object oKeyInt, int nHash,
+                                Object oValuePut, Object oValueExp, boolean fCopy)
+        {
+        int    cLen     = table.length();
+        int    nMask    = cLen - 1;
+        int    iSlot    = nHash & nMask;
+        int    cReprobe = 0;
+        Object oKeySlot;
+        Object oValue;
+
+        // find (or claim) the key slot
+        while (true)
+            {
+            oValue   = table.getValue(iSlot);
+            oKeySlot = table.getKey(iSlot);
+            if (oKeySlot == null)
+                {
+                if (oValuePut == TOMBSTONE)
+                    {
+                    // removing a key that is not mapped
+                    return null;
+                    }
+                if (table.casKey(iSlot, null, oKeyInt))
+                    {
+                    table.f_anHash[iSlot] = nHash;
+                    table.f_cSlots.incrementAndGet();
+                    break;
+                    }
+                oKeySlot = table.getKey(iSlot);
+                }
+
+            if (oKeySlot != TOMBSTONE && isSameKey(oKeySlot, table.f_anHash[iSlot], oKeyInt, nHash))
+                {
+                break;
+                }
+
+            if (++cReprobe >= reprobeLimit(cLen) || oKeySlot == TOMBSTONE)
+                {
+                // the probe sequence is exhausted, or the table is being
+                // copied; the key belongs to the new table
+                Table tableNew = resize(table, true);
+                if (!fCopy)
+                    {
+                    helpCopy();
+                    }
+                return putIfMatch(tableNew, oKeyInt, nHash, oValuePut, oValueExp, fCopy);
+                }
+
+            iSlot = (iSlot + 1) & nMask;
+            }
+
+        if (oValuePut == oValue)
+            {
+            return oValue;
+            }
+
+        // a copy never triggers a resize, as the new table has been sized to
+        // hold all of the entries being copied
+        Table tableNew = table.getNext();
+        if (tableNew == null
+            && (oValue == null && !fCopy && table.isFull() || oValue instanceof Prime))
+            {
+            tableNew = resize(table, false);
+            }
+        if (tableNew != null)
+            {
+            // the table is being copied; copy this slot and retry there
+            return putIfMatch(copySlotAndCheck(table, iSlot, !fCopy),
+                              oKeyInt, nHash, oValuePut, oValueExp, fCopy);
+            }
+
+        while (true)
+            {
+            if (!isMatch(oValue, oValueExp))
+                {
+                return oValue;
+                }
+
+            if (table.casValue(iSlot, oValue, oValuePut))
+                {
+                if (!fCopy)
+                    {
+                    boolean fAbsentOld = oValue == null || oValue == TOMBSTONE;
+                    boolean fAbsentNew = oValuePut == TOMBSTONE;
+                    if (fAbsentOld && !fAbsentNew)
+                        {
+                        f_cSize.increment();
+                        }
+                    else if (!fAbsentOld && fAbsentNew)
+                        {
+                        f_cSize.decrement();
+                        }
+                    }
+                return oValue;
+                }
+
+            oValue = table.getValue(iSlot);
+            if (oValue instanceof Prime)
+                {
+                return putIfMatch(copySlotAndCheck(table, iSlot, !fCopy),
+                                  oKeyInt, nHash, oValuePut, oValueExp, fCopy);
+                }
+            }
+        }
+
+    /**
+     * Return the table that the specified table is being copied to, creating
+     * it if necessary.
+     *
+     * @param table  the table to resize
+     * @param fGrow  true if the new table must be larger than the current
+     *               one, regardless of the number of live entries
+     *
+     * @return the new table
+     */
+    protected Table resize(Table table, boolean fGrow)
+        {
+        Table tableNew = table.getNext();
+        if (tableNew != null)
+            {
+            return tableNew;
+            }
+
+        int cLenOld = table.length();
+        int cLenNew = tableSizeFor(4L * f_cSize.sum());
+        if (fGrow && cLenNew <= cLenOld)
+            {
+            if (cLenOld >= MAX_CAPACITY)
+                {
+                throw new IllegalStateException("Maximum capacity exceeded");
+                }
+            cLenNew = cLenOld << 1;
+            }
+
+        // racing threads may allocate a table each; only one is installed
+        table.f_refNext.compareAndSet(null, new Table(cLenNew));
+        return table.getNext();
+        }
+
+    /**
+     * Copy the specified slot of a table to the table it is being copied to.
+     *
+     * @param table  the table being copied
+     * @param iSlot  the slot to copy
+     * @param fHelp  true iff the calling thread should also help copying the
+     *               current top-level table
+     *
+     * @return the table the slot was copied to
+     */
+    protected Table copySlotAndCheck(Table table, int iSlot, boolean fHelp)
+        {
+        Table tableNew = table.getNext();
+        if (copySlot(table, iSlot, tableNew))
+            {
+            copyCheckAndPromote(table, 1);
+            }
+        if (fHelp)
+            {
+            helpCopy();
+            }
+        return tableNew;
+        }
+
+    /**
+     * Copy the specified slot of a table to the new table.
+     *
+     * @param table     the table being copied
+     * @param iSlot     the slot to copy
+     * @param tableNew  the table to copy the slot to
+     *
+     * @return true iff this call completed the copy of the slot
+     */
+    protected boolean copySlot(Table table, int iSlot, Table tableNew)
+        {
+        // prevent new keys from being inserted into this slot
+        Object oKeySlot;
+        while ((oKeySlot = table.getKey(iSlot)) == null)
+            {
+            table.casKey(iSlot, null, TOMBSTONE);
+            }
+
+        // freeze the value by boxing it; updates are then redirected
+        Object oValue = table.getValue(iSlot);
+        while (!(oValue instanceof Prime))
+            {
+            Prime box = oValue == null || oValue == TOMBSTONE ? TOMBPRIME : new Prime(oValue);
+            if (table.casValue(iSlot, oValue, box))
+                {
+                if (box == TOMBPRIME)
+                    {
+                    // nothing to copy
+                    return true;
+                    }
+                oValue = box;
+                break;
+                }
+            oValue = table.getValue(iSlot);
+            }
+
+        if (oValue == TOMBPRIME)
+            {
+            // copied by another thread
+            return false;
+            }
+
+        // copy the value unless the slot has already been populated in the
+        // new table (by a thread racing to copy the same slot)
+        Object oValueUnboxed = ((Prime) oValue).f_oValue;
+        int    nHash         = table.f_anHash[iSlot];
+        boolean fCopied      = putIfMatch(tableNew, oKeySlot, nHash == 0 ? hash(oKeySlot) : nHash,
+                                          oValueUnboxed, null, true) == null;
+
+        // the value is now visible in the new table; hide it in this one
+        while (oValue != TOMBPRIME && !table.casValue(iSlot, oValue, TOMBPRIME))
+            {
+            oValue = table.getValue(iSlot);
+            }
+
+        return fCopied;
+        }
+
+    /**
+     * Help copying the top-level table, if it is being resized.
+     */
+    protected void helpCopy()
+        {
+        Table table = f_refTable.get();
+        if (table.getNext() != null)
+            {
+            copyChunk(table, false);
+            }
+        }
+
+    /**
+     * Copy a chunk of (or all of) the slots of the specified table to the
+     * table it is being copied to.
+     *
+     * @param table     the table being copied
+     * @param fCopyAll  true to copy all of the remaining slots
+     */
+    protected void copyChunk(Table table, boolean fCopyAll)
+        {
+        Table tableNew = table.getNext();
+        int   cLen     = table.length();
+        int   cChunk   = Math.min(cLen, COPY_CHUNK);
+
+        while (true)
+            {
+            int iClaim = table.f_iCopyClaim.get();
+            if (iClaim >= cLen)
+                {
+                break;
+                }
+            if (table.f_iCopyClaim.compareAndSet(iClaim, iClaim + cChunk))
+                {
+                int cWork = 0;
+                for (int i = iClaim, iEnd = Math.min(cLen, iClaim + cChunk); i < iEnd; i++)
+                    {
+                    if (copySlot(table, i, tableNew))
+                        {
+                        cWork++;
+                        }
+                    }
+                copyCheckAndPromote(table, cWork);
+
+                if (!fCopyAll)
+                    {
+                    return;
+                    }
+                }
+            }
+
+        if (fCopyAll && table.f_cCopyDone.get() < cLen)
+            {
+            // some claimed chunks are still being copied; don't wait for them
+            int cWork = 0;
+            for (int i = 0; i < cLen; i++)
+                {
+                if (copySlot(table, i, tableNew))
+                    {
+                    cWork++;
+                    }
+                }
+            copyCheckAndPromote(table, cWork);
+            }
+        else
+            {
+            copyCheckAndPromote(table, 0);
+            }
+        }
+
+    /**
+     * Record the number of slots copied from the specified table, and promote
+     * the new table to the top-level table once the copy is complete.
+     *
+     * @param table  the table being copied
+     * @param cWork  the number of slots copied
+     */
+    protected void copyCheckAndPromote(Table table, int cWork)
+        {
+        int cDone = cWork == 0 ? table.f_cCopyDone.get() : table.f_cCopyDone.addAndGet(cWork);
+
+        // the tables may complete out of order; promote as far as possible
+        while (cDone >= table.length() && f_refTable.compareAndSet(table, table.getNext()))
+            {
+            table = table.getNext();
+            if (table.getNext() == null)
+                {
+                break;
+                }
+            cDone = table.f_cCopyDone.get();
+            }
+        }
+
+    /**
+     * Return a top-level table that is not being resized.
+     *
+     * @return a table containing all of the entries in the map
+     */
+    protected Table snapshot()
+        {
+        while (true)
+            {
+            Table table = f_refTable.get();
+            if (table.getNext() == null)
+                {
+                return table;
+                }
+            copyChunk(table, true);
+            }
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return true iff the current value of a slot matches the expected value.
+     *
+     * @param oValue     the current (masked) value
+     * @param oValueExp  the expected (masked) value
+     *
+     * @return true iff the value matches
+     */
+    protected static boolean isMatch(Object oValue, Object oValueExp)
+        {
+        if (oValueExp == NO_MATCH_OLD)
+            {
+            return true;
+            }
+        if (oValueExp == null)
+            {
+            return oValue == null;
+            }
+
+        boolean fAbsent = oValue == null || oValue == TOMBSTONE;
+        if (oValueExp == TOMBSTONE)
+            {
+            return fAbsent;
+            }
+        if (oValueExp == MATCH_ANY)
+            {
+            return !fAbsent;
+            }
+        return !fAbsent && (oValue == oValueExp || oValueExp.equals(oValue));
+        }
+
+    /**
+     * Return true iff the previous value returned by a conditional update is
+     * the expected value, i.e. the update has been performed.
+     *
+     * @param oValuePrev  the previous (masked) value
+     * @param oValueExp   the expected (masked) value
+     *
+     * @return true iff the values are equal
+     */
+    protected static boolean isSameValue(Object oValuePrev, Object oValueExp)
+        {
+        return oValuePrev != null && oValuePrev != TOMBSTONE
+               && (oValuePrev == oValueExp || oValuePrev.equals(oValueExp));
+        }
+
+    /**
+     * Return true iff the key stored in a slot is equal to the specified key.
+     *
+     * @param oKeySlot   the key stored in the slot
+     * @param nHashSlot  the hash stored in the slot, or zero if not yet known
+     * @param oKey       the key to compare with
+     * @param nHash      the hash of the key to compare with
+     *
+     * @return true iff the keys are equal
+     */
+    protected static boolean isSameKey(Object oKeySlot, int nHashSlot, Object oKey, int nHash)
+        {
+        return oKeySlot == oKey
+               || (nHashSlot == 0 || nHashSlot == nHash) && oKeySlot.equals(oKey);
+        }
+
+    /**
+     * Return the spread hash of the specified (masked) key.
+     *
+     * @param oKeyInt  the key
+     *
+     * @return the hash of the key
+     */
+    protected static int hash(Object oKeyInt)
+        {
+        int n = oKeyInt.hashCode();
+
+        // linear probing requires well distributed low-order bits
+        n ^= n >>> 16;
+        n *= 0x85ebca6b;
+        n ^= n >>> 13;
+        return n;
+        }
+
+    /**
+     * Return the number of probes after which a key is looked up in the next
+     * table.
+     *
+     * @param cLen  the table length
+     *
+     * @return the maximum number of probes
+     */
+    protected static int reprobeLimit(int cLen)
+        {
+        return REPROBE_LIMIT + (cLen >> 4);
+        }
+
+    /**
+     * Return the table length needed for the specified number of slots.
+     *
+     * @param cSlots  the number of slots required
+     *
+     * @return a power of two table length
+     */
+    protected static int tableSizeFor(long cSlots)
+        {
+        if (cSlots >= MAX_CAPACITY)
+            {
+            return MAX_CAPACITY;
+            }
+        int c = (int) Math.max(cSlots, MIN_CAPACITY);
+        return Integer.highestOneBit(c - 1) << 1;
+        }
+
+    /**
+     * Return the internal representation of a key.
+     *
+     * @param oKey  the key
+     *
+     * @return the key, or {@link #NULL} for a null key
+     */
+    protected static Object maskKey(Object oKey)
+        {
+        return oKey == null ? NULL : oKey;
+        }
+
+    /**
+     * Return the internal representation of a value.
+     *
+     * @param oValue  the value
+     *
+     * @return the value, or {@link #NULL} for a null value
+     */
+    protected static Object maskValue(Object oValue)
+        {
+        return oValue == null ? NULL : oValue;
+        }
+
+    /**
+     * Return the key for the specified internal representation.
+     *
+     * @param oKeyInt  the internal representation
+     *
+     * @return the key
+     */
+    @SuppressWarnings("unchecked")
+    protected K unmaskKey(Object oKeyInt)
+        {
+        return oKeyInt == NULL ? null : (K) oKeyInt;
+        }
+
+    /**
+     * Return the value for the specified internal representation.
+     *
+     * @param oValueInt  the internal representation
+     *
+     * @return the value, or null if the internal representation denotes an
+     *         absent value
+     */
+    @SuppressWarnings("unchecked")
+    protected V unmaskValue(Object oValueInt)
+        {
+        return oValueInt == null || oValueInt == NULL || oValueInt == TOMBSTONE ? null : (V) oValueInt;
+        }
+
+
+    // ----- inner class: Table ---------------------------------------------
+
+    /**
+     * A single open-addressing table of key and value slots.
+     */
+    protected static final class Table
+        {
+        /**
+         * Construct a Table.
+         *
+         * @param cLen  the number of slots (a power of two)
+         */
+        protected Table(int cLen)
+            {
+            f_aoKey      = new AtomicReferenceArray<>(cLen);
+            f_aoValue    = new AtomicReferenceArray<>(cLen);
+            f_anHash     = new int[cLen];
+            f_cThreshold = cLen >> 1;
+            }
+
+        /**
+         * Return the number of slots.
+         *
+         * @return the number of slots
+         */
+        protected int length()
+            {
+            return f_anHash.length;
+            }
+
+        /**
+         * Return the table this table is being copied to.
+         *
+         * @return the new table, or null if this table is not being resized
+         */
+        protected Table getNext()
+            {
+            return f_refNext.get();
+            }
+
+        /**
+         * Return true iff this table should be resized before inserting a new
+         * key.
+         * <p>
+         * Linear probing degrades quickly as the load increases, so the table
+         * is kept at most half full (counting the slots of removed keys).
+         *
+         * @return true iff the table should be resized
+         */
+        protected boolean isFull()
+            {
+            return f_cSlots.get() >= f_cThreshold;
+            }
+
+        /**
+         * Return the key in the specified slot.
+         *
+         * @param i  the slot
+         *
+         * @return the key
+         */
+        protected Object getKey(int i)
+            {
+            return f_aoKey.get(i);
+            }
+
+        /**
+         * Return the value in the specified slot.
+         *
+         * @param i  the slot
+         *
+         * @return the value
+         */
+        protected Object getValue(int i)
+            {
+            return f_aoValue.get(i);
+            }
+
+        /**
+         * Atomically set the key in the specified slot.
+         *
+         * @param i        the slot
+         * @param oExpect  the expected key
+         * @param oKey     the new key
+         *
+         * @return true iff successful
+         */
+        protected boolean casKey(int i, Object oExpect, Object oKey)
+            {
+            return f_aoKey.compareAndSet(i, oExpect, oKey);
+            }
+
+        /**
+         * Atomically set the value in the specified slot.
+         *
+         * @param i        the slot
+         * @param oExpect  the expected value
+         * @param oValue   the new value
+         *
+         * @return true iff successful
+         */
+        protected boolean casValue(int i, Object oExpect, Object oValue)
+            {
+            return f_aoValue.compareAndSet(i, oExpect, oValue);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The key slots.
+         */
+        protected final AtomicReferenceArray<Object> f_aoKey;
+
+        /**
+         * The value slots.
+         */
+        protected final AtomicReferenceArray<Object> f_aoValue;
+
+        /**
+         * The hashes of the keys; a zero hash is "unknown", as the hash is
+         * only written after the key is claimed.
+         */
+        protected final int[] f_anHash;
+
+        /**
+         * The number of claimed key slots after which the table is resized.
+         */
+        protected final int f_cThreshold;
+
+        /**
+         * The number of claimed key slots.
+         */
+        protected final AtomicInteger f_cSlots = new AtomicInteger();
+
+        /**
+         * The table this table is being copied to.
+         */
+        protected final AtomicReference<Table> f_refNext = new AtomicReference<>();
+
+        /**
+         * The next slot to be claimed for copying.
+         */
+        protected final AtomicInteger f_iCopyClaim = new AtomicInteger();
+
+        /**
+         * The number of slots that have been copied.
+         */
+        protected final AtomicInteger f_cCopyDone = new AtomicInteger();
+        }
+
+
+    // ----- inner class: Prime ---------------------------------------------
+
+    /**
+     * A boxed value, denoting a slot that is being copied to a new table.
+     */
+    protected static final class Prime
+        {
+        /**
+         * Construct a Prime.
+         *
+         * @param oValue  the boxed value
+         */
+        protected Prime(Object oValue)
+            {
+            f_oValue = oValue;
+            }
+
+        /**
+         * The boxed value.
+         */
+        protected final Object f_oValue;
+        }
+
+
+    // ----- inner class: Entry ---------------------------------------------
+
+    /**
+     * A map entry that writes through to the map.
+     */
+    protected class Entry
+            extends SimpleEntry<K, V>
+        {
+        /**
+         * Construct an Entry.
+         *
+         * @param oKey    the key
+         * @param oValue  the value
+         */
+        protected Entry(K oKey, V oValue)
+            {
+            super(oKey, oValue);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V setValue(V oValue)
+            {
+            super.setValue(oValue);
+            return put(getKey(), oValue);
+            }
+        }
+
+
+    // ----- inner class: EntrySet ------------------------------------------
+
+    /**
+     * The set of entries in the map.
+     */
+    protected class EntrySet
+            extends AbstractSet<Map.Entry<K, V>>
+        {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator()
+            {
+            return new EntryIterator();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int size()
+            {
+            return ConcurrentOpenHashMap.this.size();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean contains(Object o)
+            {
+            if (o instanceof Map.Entry)
+                {
+                Map.Entry entry = (Map.Entry) o;
+                Map.Entry entryThis = getEntry(entry.getKey());
+                return entryThis != null && Base.equals(entryThis.getValue(), entry.getValue());
+                }
+            return false;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean remove(Object o)
+            {
+            return o instanceof Map.Entry
+                   && ConcurrentOpenHashMap.this.remove(((Map.Entry) o).getKey(), ((Map.Entry) o).getValue());
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void clear()
+            {
+            ConcurrentOpenHashMap.this.clear();
+            }
+        }
+
+
+    // ----- inner class: EntryIterator -------------------------------------
+
+    /**
+     * A weakly consistent iterator over the entries of a snapshot table.
+     */
+    protected class EntryIterator
+            implements Iterator<Map.Entry<K, V>>
+        {
+        /**
+         * Construct an EntryIterator.
+         */
+        protected EntryIterator()
+            {
+            f_table = snapshot();
+            advance();
+            }
+
+        /**
+         * Advance to the next live entry.
+         */
+        protected void advance()
+            {
+            Table table = f_table;
+            for (int i = m_iNext, cLen = table.length(); i < cLen; i++)
+                {
+                Object oKeySlot = table.getKey(i);
+                if (oKeySlot == null || oKeySlot == TOMBSTONE)
+                    {
+                    continue;
+                    }
+
+                Object oValue = table.getValue(i);
+                if (oValue instanceof Prime)
+                    {
+                    // the snapshot is being resized again
+                    oValue = getInternal(f_refTable.get(), oKeySlot, hash(oKeySlot));
+                    }
+                if (oValue != null && oValue != TOMBSTONE)
+                    {
+                    m_iNext     = i + 1;
+                    m_entryNext = new Entry(unmaskKey(oKeySlot), unmaskValue(oValue));
+                    return;
+                    }
+                }
+
+            m_iNext     = table.length();
+            m_entryNext = null;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext()
+            {
+            return m_entryNext != null;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map.Entry<K, V> next()
+            {
+            Entry entry = m_entryNext;
+            if (entry == null)
+                {
+                throw new NoSuchElementException();
+                }
+
+            m_entryLast = entry;
+            advance();
+            return entry;
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void remove()
+            {
+            Entry entry = m_entryLast;
+            if (entry == null)
+                {
+                throw new IllegalStateException();
+                }
+
+            m_entryLast = null;
+            ConcurrentOpenHashMap.this.remove(entry.getKey());
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The table being iterated.
+         */
+        protected final Table f_table;
+
+        /**
+         * The index of the next slot to examine.
+         */
+        protected int m_iNext;
+
+        /**
+         * The next entry to return.
+         */
+        protected Entry m_entryNext;
+
+        /**
+         * The last entry returned.
+         */
+        protected Entry m_entryLast;
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The minimum table length.
+     */
+    protected static final int MIN_CAPACITY = 16;
+
+    /**
+     * The maximum table length.
+     */
+    protected static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The minimum number of probes before a key is looked up in a newer table.
+     */
+    protected static final int REPROBE_LIMIT = 10;
+
+    /**
+     * The number of slots claimed at a time when copying a table.
+     */
+    protected static final int COPY_CHUNK = 1024;
+
+    /**
+     * The internal representation of a removed value, and of a key slot that
+     * has been closed by a table copy.
+     */
+    protected static final Object TOMBSTONE = new Object();
+
+    /**
+     * A boxed tombstone, denoting a slot that has been copied.
+     */
+    protected static final Prime TOMBPRIME = new Prime(TOMBSTONE);
+
+    /**
+     * The expected value for an unconditional update.
+     */
+    protected static final Object NO_MATCH_OLD = new Object();
+
+    /**
+     * The expected value for an update of an existing mapping.
+     */
+    protected static final Object MATCH_ANY = new Object();
+
+    /**
+     * The internal representation of a null key or value.
+     */
+    protected static final Object NULL = new Object();
+
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The top-level table.
+     */
+    protected final AtomicReference<Table> f_refTable;
+
+    /**
+     * The number of mappings.
+     */
+    protected final LongAdder f_cSize = new LongAdder();
+
+    /**
+     * The entry set.
+     */
+    protected final EntrySet f_setEntries = new EntrySet();
+    }
@@ -110,6 +110,14 @@ public class ConditionalIndex
         return m_fPartial || super.isPartial();
         }
 
+    /**
+    * {@inheritDoc}
+    */
+    protected void onPartialContents()
+        {
+        m_fPartial = true;
+        }
+
 
     // ----- helpers --------------------------------------------------------
 
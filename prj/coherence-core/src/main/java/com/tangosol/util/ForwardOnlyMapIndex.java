@@ -11,12 +11,24 @@ package com.tangosol.util;
 import com.oracle.coherence.common.base.Logger;
 
 import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Cluster;
+
+import com.tangosol.net.management.AnnotatedStandardMBean;
+import com.tangosol.net.management.Registry;
 
 import com.tangosol.util.filter.IndexAwareFilter;
 
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Map;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
 
 /**
 * ForwardOnlyMapIndex is a {@link MapIndex} implementation that unlike the
@@ -46,11 +58,37 @@ public class ForwardOnlyMapIndex
     */
     public ForwardOnlyMapIndex(ValueExtractor extractor, BackingMapContext ctx, boolean fOnDemand)
         {
-        Base.azzert(extractor != null);
+        this(extractor, ctx, fOnDemand, Long.MAX_VALUE);
+        }
+
+    /**
+    * Construct an index for the given map.
+    *
+    * @param extractor   the ValueExtractor that is used to extract an indexed
+    *                    value from a resource map entry
+    * @param ctx         the {@link BackingMapContext context} associated with
+    *                    the indexed cache
+    * @param fOnDemand   if true, the forward index will be created "on-demand"
+    *                    as the values are attempted to be accessed; otherwise
+    *                    the forward index is populated proactively
+    * @param cMaxUnits  the estimated memory footprint, in bytes, of the
+    *                   values held by an "on-demand" index, beyond which
+    *                   values are evicted in the iteration order of the
+    *                   forward index (see {@link #ensureCapacity()}) and
+    *                   will be extracted again when next accessed; ignored
+    *                   if the index is populated proactively
+    *
+    * @since 20.12
+    */
+    public ForwardOnlyMapIndex(ValueExtractor extractor, BackingMapContext ctx, boolean fOnDemand,
+            long cMaxUnits)
+        {
+        Base.azzert(extractor != null && cMaxUnits > 0);
 
         f_extractor  = extractor;
         f_ctx        = ctx;
         f_fLazy      = fOnDemand;
+        f_cMaxUnits  = fOnDemand ? cMaxUnits : Long.MAX_VALUE;
         f_mapForward = instantiateForwardIndex();
         }
 
@@ -108,6 +146,10 @@ public class ForwardOnlyMapIndex
             {
             if (f_fLazy)
                 {
+                // only an on-demand lookup that has to load the value is a
+                // miss; a proactive index does not hold excluded entries
+                f_cMisses.increment();
+
                 Map mapBacking = f_ctx.getBackingMap();
                 if (mapBacking.containsKey(oKey))
                     {
@@ -115,9 +157,11 @@ public class ForwardOnlyMapIndex
                     }
                 if (oValue != null)
                     {
+                    onValueCached(oValue);
                     oValue = f_ctx.getManagerContext().
                         getValueFromInternalConverter().convert(oValue);
                     f_mapForward.put(oKey, oValue);
+                    ensureCapacity();
                     return oValue;
                     }
                 }
@@ -125,6 +169,7 @@ public class ForwardOnlyMapIndex
             }
         else
             {
+            f_cHits.increment();
             return oValue;
             }
         }
@@ -154,8 +199,241 @@ public class ForwardOnlyMapIndex
         }
 
 
+    // ----- statistics -----------------------------------------------------
+
+    /**
+    * Determine whether this index holds values on-demand.
+    *
+    * @return true if the values are held on-demand; false if the index is
+    *         populated proactively
+    *
+    * @since 20.12
+    */
+    public boolean isOnDemand()
+        {
+        return f_fLazy;
+        }
+
+    /**
+    * Get the number of values held by this index.
+    *
+    * @return the number of values
+    *
+    * @since 20.12
+    */
+    public int getSize()
+        {
+        return f_mapForward.size();
+        }
+
+    /**
+    * Get the estimated memory footprint of the values held by this index.
+    * <p>
+    * The footprint is estimated from the average serialized size of the
+    * values added to this index.
+    *
+    * @return the estimated memory footprint, in bytes
+    *
+    * @since 20.12
+    */
+    public long getUnits()
+        {
+        return getAverageValueUnits() * f_mapForward.size();
+        }
+
+    /**
+    * Get the memory footprint beyond which on-demand values are evicted.
+    *
+    * @return the maximum memory footprint, in bytes
+    *
+    * @since 20.12
+    */
+    public long getMaxUnits()
+        {
+        return f_cMaxUnits;
+        }
+
+    /**
+    * Get the number of lookups that found a value held by this index.
+    *
+    * @return the number of hits
+    *
+    * @since 20.12
+    */
+    public long getHitCount()
+        {
+        return f_cHits.sum();
+        }
+
+    /**
+    * Get the number of on-demand lookups that had to load the value from
+    * the backing map.
+    *
+    * @return the number of misses
+    *
+    * @since 20.12
+    */
+    public long getMissCount()
+        {
+        return f_cMisses.sum();
+        }
+
+    /**
+    * Get the number of values evicted from this index.
+    *
+    * @return the number of evicted values
+    *
+    * @since 20.12
+    */
+    public long getEvictionCount()
+        {
+        return f_cEvictions.sum();
+        }
+
+    /**
+    * Reset the hit, miss and eviction counters.
+    *
+    * @since 20.12
+    */
+    public void resetStatistics()
+        {
+        f_cHits.reset();
+        f_cMisses.reset();
+        f_cEvictions.reset();
+        }
+
+
+    // ----- MBean support --------------------------------------------------
+
+    /**
+    * Register an MBean exposing the statistics of this index, if the
+    * associated cache service is running in a cluster with management
+    * enabled.
+    *
+    * @since 20.12
+    */
+    public void registerMBean()
+        {
+        Registry registry = getRegistry();
+        if (registry != null)
+            {
+            try
+                {
+                registry.register(registry.ensureGlobalName(makeMBeanName()),
+                        new AnnotatedStandardMBean(new IndexStatistics(this), ForwardOnlyMapIndexMBean.class));
+                }
+            catch (NotCompliantMBeanException e)
+                {
+                throw Base.ensureRuntimeException(e);
+                }
+            }
+        }
+
+    /**
+    * Unregister the MBean exposing the statistics of this index.
+    *
+    * @since 20.12
+    */
+    public void unregisterMBean()
+        {
+        Registry registry = getRegistry();
+        if (registry != null)
+            {
+            registry.unregister(registry.ensureGlobalName(makeMBeanName()));
+            }
+        }
+
+    /**
+    * Create a name for the MBean exposing the statistics of this index.
+    *
+    * @return the name for the MBean
+    */
+    protected String makeMBeanName()
+        {
+        return MBEAN_TYPE
+               + ",service=" + f_ctx.getManagerContext().getCacheService().getInfo().getServiceName()
+               + ",cache=" + f_ctx.getCacheName()
+               + ",extractor=" + ObjectName.quote(String.valueOf(f_extractor));
+        }
+
+    /**
+    * Return the management Registry of the cluster running the cache service
+    * associated with this index.
+    *
+    * @return the Registry, or null if management is not available
+    */
+    protected Registry getRegistry()
+        {
+        CacheService service = f_ctx == null || f_ctx.getManagerContext() == null
+                ? null : f_ctx.getManagerContext().getCacheService();
+        Cluster      cluster = service == null ? null : service.getCluster();
+
+        return cluster == null ? null : cluster.getManagement();
+        }
+
+
     // ----- helpers --------------------------------------------------------
 
+    /**
+    * Record the serialized size of a value added to this index.
+    *
+    * @param oValueInternal  the value in the internal (serialized) form
+    */
+    protected void onValueCached(Object oValueInternal)
+        {
+        if (oValueInternal instanceof Binary)
+            {
+            f_cbValuesSized.add(((Binary) oValueInternal).length());
+            f_cValuesSized.increment();
+            }
+        }
+
+    /**
+    * Return the average serialized size of the values added to this index.
+    *
+    * @return the average value size, in bytes
+    */
+    protected long getAverageValueUnits()
+        {
+        long cValues = f_cValuesSized.sum();
+        return cValues == 0L ? 0L : f_cbValuesSized.sum() / cValues;
+        }
+
+    /**
+    * Evict values from this index if the estimated memory footprint of the
+    * values it holds exceeds the maximum.
+    * <p>
+    * Values are evicted in the iteration order of the forward index, starting
+    * from its first key. This is not a least-recently-used policy: the order
+    * depends on the hash of the keys rather than on when the values were
+    * accessed, so frequently accessed values are as likely to be evicted as
+    * any other. The footprint is reduced to seven eighths of the maximum to
+    * amortize the cost of the eviction across subsequent insertions.
+    */
+    protected void ensureCapacity()
+        {
+        Map  mapForward = f_mapForward;
+        long cMax       = f_cMaxUnits;
+        long cbValue    = getAverageValueUnits();
+        if (cbValue > 0L && cbValue * mapForward.size() > cMax && f_fEvicting.compareAndSet(false, true))
+            {
+            try
+                {
+                long cEvict = mapForward.size() - (cMax - cMax / 8) / cbValue;
+                for (Iterator iter = mapForward.keySet().iterator(); cEvict > 0 && iter.hasNext(); cEvict--)
+                    {
+                    iter.next();
+                    iter.remove();
+                    f_cEvictions.increment();
+                    }
+                }
+            finally
+                {
+                f_fEvicting.set(false);
+                }
+            }
+        }
+
     /**
     * Instantiate the forward index.
     *
@@ -163,7 +441,7 @@ public class ForwardOnlyMapIndex
     */
     protected Map instantiateForwardIndex()
         {
-        return new SegmentedHashMap();
+        return new ConcurrentOpenHashMap();
         }
 
     /**
@@ -181,6 +459,10 @@ public class ForwardOnlyMapIndex
             try
                 {
                 f_mapForward.put(oKey, InvocableMapHelper.extractFromEntry(f_extractor, entry));
+                if (entry instanceof BinaryEntry)
+                    {
+                    onValueCached(((BinaryEntry) entry).getBinaryValue());
+                    }
                 }
             catch (RuntimeException e)
                 {
@@ -216,7 +498,12 @@ public class ForwardOnlyMapIndex
     public String toString()
         {
         return ClassHelper.getSimpleName(getClass())
-                + ": Extractor=" + getValueExtractor();
+                + ": Extractor=" + getValueExtractor()
+                + ", Size=" + getSize()
+                + ", Footprint=" + Base.toMemorySizeString(getUnits(), false)
+                + ", Hits=" + getHitCount()
+                + ", Misses=" + getMissCount()
+                + ", Evictions=" + getEvictionCount();
         }
 
     /**
@@ -255,6 +542,86 @@ public class ForwardOnlyMapIndex
         }
 
 
+    // ----- inner class: IndexStatistics -----------------------------------
+
+    /**
+    * The {@link ForwardOnlyMapIndexMBean} implementation exposing the
+    * statistics of a ForwardOnlyMapIndex.
+    *
+    * @since 20.12
+    */
+    protected static class IndexStatistics
+            implements ForwardOnlyMapIndexMBean
+        {
+        /**
+        * Construct an IndexStatistics for the specified index.
+        *
+        * @param index  the index
+        */
+        protected IndexStatistics(ForwardOnlyMapIndex index)
+            {
+            f_index = index;
+            }
+
+        // ----- ForwardOnlyMapIndexMBean interface -------------------------
+
+        @Override
+        public boolean isOnDemand()
+            {
+            return f_index.isOnDemand();
+            }
+
+        @Override
+        public int getSize()
+            {
+            return f_index.getSize();
+            }
+
+        @Override
+        public long getUnits()
+            {
+            return f_index.getUnits();
+            }
+
+        @Override
+        public long getMaxUnits()
+            {
+            return f_index.getMaxUnits();
+            }
+
+        @Override
+        public long getHitCount()
+            {
+            return f_index.getHitCount();
+            }
+
+        @Override
+        public long getMissCount()
+            {
+            return f_index.getMissCount();
+            }
+
+        @Override
+        public long getEvictionCount()
+            {
+            return f_index.getEvictionCount();
+            }
+
+        @Override
+        public void resetStatistics()
+            {
+            f_index.resetStatistics();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+        * The index whose statistics are exposed.
+        */
+        protected final ForwardOnlyMapIndex f_index;
+        }
+
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -280,4 +647,50 @@ public class ForwardOnlyMapIndex
     * The "lazy" flag.
     */
     protected boolean f_fLazy;
-    }
\ No newline at end of file
+
+    /**
+    * The estimated memory footprint, in bytes, beyond which values are
+    * evicted from this index.
+    */
+    protected final long f_cMaxUnits;
+
+    /**
+    * The number of hits.
+    */
+    protected final LongAdder f_cHits = new LongAdder();
+
+    /**
+    * The number of misses.
+    */
+    protected final LongAdder f_cMisses = new LongAdder();
+
+    /**
+    * The number of evicted values.
+    */
+    protected final LongAdder f_cEvictions = new LongAdder();
+
+    /**
+    * The total serialized size of the values whose size was recorded.
+    */
+    protected final LongAdder f_cbValuesSized = new LongAdder();
+
+    /**
+    * The number of values whose serialized size was recorded.
+    */
+    protected final LongAdder f_cValuesSized = new LongAdder();
+
+    /**
+    * True while values are being evicted from this index.
+    */
+    protected final AtomicBoolean f_fEvicting = new AtomicBoolean();
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The type of the MBean exposing the statistics of this index.
+    *
+    * @since 20.12
+    */
+    public static final String MBEAN_TYPE = "type=DeserializationAccelerator";
+    }
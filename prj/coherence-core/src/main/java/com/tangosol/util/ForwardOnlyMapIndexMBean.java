@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.net.management.annotation.Description;
+import com.tangosol.net.management.annotation.MetricsScope;
+import com.tangosol.net.management.annotation.MetricsValue;
+
+import com.tangosol.net.metrics.MBeanMetric;
+
+import com.tangosol.util.extractor.DeserializationAccelerator;
+
+/**
+ * Standard MBean interface that exposes the statistics of a
+ * {@link ForwardOnlyMapIndex} created by a {@link DeserializationAccelerator}.
+ * <p>
+ * Each storage member registers an instance of this MBean per accelerated
+ * cache and extractor, bound to a JMX name of the form:
+ * <tt>"Coherence:type=DeserializationAccelerator,service={ServiceName},cache={CacheName},extractor={Extractor},nodeId={NodeId}"</tt>
+ * <p>
+ * The MBean is registered when the index is added, and unregistered when the
+ * index is removed.
+ *
+ * @since 20.12
+ */
+@MetricsScope(MBeanMetric.Scope.VENDOR)
+@Description("Describes the deserialized values held by a DeserializationAccelerator index.")
+public interface ForwardOnlyMapIndexMBean
+    {
+    // ----- attributes -----------------------------------------------------
+
+    /**
+     * Determine whether the index holds values on-demand.
+     *
+     * @return true if the values are held on-demand; false if the index is
+     *         populated proactively
+     */
+    @Description("True if the values are held on-demand; false if the index is populated proactively.")
+    public boolean isOnDemand();
+
+    /**
+     * Get the number of values held by the index.
+     *
+     * @return the number of values
+     */
+    @Description("The number of deserialized values held by the index.")
+    @MetricsValue
+    public int getSize();
+
+    /**
+     * Get the estimated memory footprint of the values held by the index.
+     *
+     * @return the estimated memory footprint, in bytes
+     */
+    @Description("The estimated memory footprint of the values held by the index, in bytes.")
+    @MetricsValue
+    public long getUnits();
+
+    /**
+     * Get the memory footprint beyond which on-demand values are evicted.
+     *
+     * @return the maximum memory footprint, in bytes
+     */
+    @Description("The memory footprint, in bytes, beyond which values held on-demand are evicted.")
+    public long getMaxUnits();
+
+    /**
+     * Get the number of lookups that found a value held by the index.
+     *
+     * @return the number of hits
+     */
+    @Description("The number of lookups that found a value held by the index.")
+    @MetricsValue
+    public long getHitCount();
+
+    /**
+     * Get the number of on-demand lookups that had to load the value from the
+     * backing map.
+     *
+     * @return the number of misses
+     */
+    @Description("The number of on-demand lookups that had to load the value from the backing map.")
+    @MetricsValue
+    public long getMissCount();
+
+    /**
+     * Get the number of values evicted from the index.
+     *
+     * @return the number of evicted values
+     */
+    @Description("The number of values evicted, in the iteration order of the index, to keep the footprint within the maximum.")
+    @MetricsValue
+    public long getEvictionCount();
+
+    // ----- operations -----------------------------------------------------
+
+    /**
+     * Reset the hit, miss and eviction counters.
+     */
+    @Description("Reset the hit, miss and eviction counters.")
+    public void resetStatistics();
+    }
@@ -8,8 +8,11 @@
 package com.tangosol.util;
 
 
+import com.oracle.coherence.common.base.Logger;
 import com.oracle.coherence.common.base.NonBlocking;
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.internal.util.invoke.Lambdas;
 
 import com.tangosol.io.Serializer;
@@ -51,6 +54,11 @@ import java.util.Map;
 import java.util.Set;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import java.util.function.BiConsumer;
 import java.util.function.ToIntFunction;
@@ -796,11 +804,7 @@ public abstract class InvocableMapHelper
                     try
                         {
                         // build the index
-                        for (Iterator iter = map.entrySet().iterator(); iter.hasNext();)
-                            {
-                            Map.Entry entry = (Map.Entry) iter.next();
-                            index.insert(entry);
-                            }
+                        buildIndex(index, map.entrySet());
                         break;
                         }
                     catch (ConcurrentModificationException cme)
@@ -852,8 +856,123 @@ public abstract class InvocableMapHelper
         }
 
 
+    /**
+    * Populate the specified index with the specified entries.
+    * <p>
+    * If the number of entries is large enough, and the index supports
+    * concurrent inserts, the entries are split into contiguous ranges that
+    * are inserted concurrently, using up to the number of threads configured
+    * by the {@code coherence.index.build.threads} system property. The calling
+    * thread inserts one of the ranges, and the remaining ranges are inserted
+    * by a shared, bounded pool of daemon threads; this method returns once
+    * all of the entries have been inserted.
+    *
+    * @param index     the index to populate
+    * @param colEntry  the entries to insert into the index
+    *
+    * @throws ConcurrentModificationException  if the entry collection was
+    *         modified while the entries were being collected
+    *
+    * @since 20.12
+    */
+    protected static void buildIndex(MapIndex index, Collection<? extends Map.Entry> colEntry)
+        {
+        int cChunks = Math.min(INDEX_BUILD_THREADS, colEntry.size() / INDEX_BUILD_MIN_CHUNK);
+        if (cChunks <= 1 || !isConcurrentInsertSupported(index))
+            {
+            for (Map.Entry entry : colEntry)
+                {
+                index.insert(entry);
+                }
+            return;
+            }
+
+        Object[] aEntry   = colEntry.toArray();
+        int      cEntry   = aEntry.length;
+        long     ldtStart = getSafeTimeMillis();
+
+        List<CompletableFuture<Void>> listFuture = new ArrayList<>(cChunks - 1);
+        for (int i = 1; i < cChunks; i++)
+            {
+            int iFrom = (int) ((long) cEntry * i / cChunks);
+            int iTo   = (int) ((long) cEntry * (i + 1) / cChunks);
+
+            listFuture.add(CompletableFuture.runAsync(
+                    () -> insertEntries(index, aEntry, iFrom, iTo), IndexBuilder.INSTANCE));
+            }
+
+        RuntimeException exception = null;
+        try
+            {
+            insertEntries(index, aEntry, 0, (int) ((long) cEntry / cChunks));
+            }
+        catch (RuntimeException e)
+            {
+            exception = e;
+            }
+
+        // wait for all ranges, so that the index is never left being
+        // populated in the background
+        for (CompletableFuture<Void> future : listFuture)
+            {
+            try
+                {
+                future.join();
+                }
+            catch (CompletionException e)
+                {
+                if (exception == null)
+                    {
+                    exception = ensureRuntimeException(e.getCause());
+                    }
+                }
+            }
+
+        if (exception != null)
+            {
+            throw exception;
+            }
+
+        Logger.fine("Built index " + index + " over " + cEntry + " entries using "
+                + cChunks + " threads in " + (getSafeTimeMillis() - ldtStart) + "ms");
+        }
+
     // ----- helpers -------------------------------------------------------
 
+    /**
+    * Insert the specified range of entries into the specified index.
+    *
+    * @param index   the index
+    * @param aEntry  the entries
+    * @param iFrom   the index of the first entry to insert (inclusive)
+    * @param iTo     the index of the last entry to insert (exclusive)
+    */
+    protected static void insertEntries(MapIndex index, Object[] aEntry, int iFrom, int iTo)
+        {
+        for (int i = iFrom; i < iTo; i++)
+            {
+            index.insert((Map.Entry) aEntry[i]);
+            }
+        }
+
+    /**
+    * Determine whether the specified index may be populated concurrently.
+    * <p>
+    * {@link SimpleMapIndex} and {@link ConditionalIndex} extract the indexed
+    * value outside of their monitor and update their contents while holding
+    * it, so concurrent inserts are safe; custom index implementations are
+    * always populated by a single thread.
+    *
+    * @param index  the index
+    *
+    * @return true iff the index supports concurrent inserts
+    */
+    protected static boolean isConcurrentInsertSupported(MapIndex index)
+        {
+        Class clz = index.getClass();
+        return clz == SimpleMapIndex.class || clz == ConditionalIndex.class;
+        }
+
     /**
     * Ensure a MapListener for the given index.  The listener will route the
     * map events into the corresponding MapIndex calls.
@@ -883,6 +1002,51 @@ public abstract class InvocableMapHelper
     public static final Converter ENTRY_TO_VALUE_CONVERTER =
             o -> ((Map.Entry) o).getValue();
 
+    /**
+    * The maximum number of threads used to populate an index, which can be
+    * configured using the {@code coherence.index.build.threads} system
+    * property; defaults to the number of available processors.
+    */
+    public static final int INDEX_BUILD_THREADS = Math.max(1, Config.getInteger(
+            "coherence.index.build.threads", Runtime.getRuntime().availableProcessors()));
+
+    /**
+    * The minimum number of entries inserted by each thread that populates
+    * an index.
+    */
+    protected static final int INDEX_BUILD_MIN_CHUNK = 10_000;
+
+
+    // ----- inner class: IndexBuilder --------------------------------------
+
+    /**
+    * Holder for the executor used to populate indexes concurrently.
+    */
+    private static class IndexBuilder
+        {
+        /**
+        * The executor used to populate indexes concurrently.
+        * <p>
+        * The pool is shared by all of the indexes being built, and is bounded
+        * to one thread less than {@link #INDEX_BUILD_THREADS}, as the thread
+        * building an index inserts one of the ranges itself; the ranges of
+        * concurrent builds are queued. Idle threads are released.
+        */
+        private static final ExecutorService INSTANCE;
+
+        static
+            {
+            int cThreads = Math.max(1, INDEX_BUILD_THREADS - 1);
+
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(cThreads, cThreads,
+                    60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    new DaemonThreadFactory("IndexBuilder-"));
+            executor.allowCoreThreadTimeOut(true);
+
+            INSTANCE = executor;
+            }
+        }
+
 
     // ----- inner classes --------------------------------------------------
 
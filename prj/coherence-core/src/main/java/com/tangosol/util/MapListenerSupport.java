@@ -10,15 +10,28 @@ package com.tangosol.util;
 
 import com.tangosol.net.cache.CacheEvent;
 
+import com.tangosol.util.filter.ComparisonFilter;
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.ExtractorFilter;
+import com.tangosol.util.filter.GreaterEqualsFilter;
+import com.tangosol.util.filter.GreaterFilter;
+import com.tangosol.util.filter.InFilter;
 import com.tangosol.util.filter.InKeySetFilter;
+import com.tangosol.util.filter.LessEqualsFilter;
+import com.tangosol.util.filter.LessFilter;
+import com.tangosol.util.filter.MapEventFilter;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 
 
 /**
@@ -70,6 +83,7 @@ public class MapListenerSupport
 
             m_nOptimizationPlan = PLAN_NONE;
             m_listenersCached   = null;
+            m_filterIndex       = null;
             }
         }
 
@@ -244,6 +258,7 @@ public class MapListenerSupport
 
             m_nOptimizationPlan = PLAN_NONE;
             m_listenersCached   = null;
+            m_filterIndex       = null;
             }
         }
 
@@ -384,6 +399,7 @@ public class MapListenerSupport
 
         m_nOptimizationPlan = PLAN_NO_LISTENERS;
         m_listenersCached   = null;
+        m_filterIndex       = null;
         }
 
     /**
@@ -666,37 +682,23 @@ public class MapListenerSupport
                 {
                 // the server sent an event without a specified filter list;
                 // attempt to match it to any registered filter-based listeners
-                Object[] aEntry;
-                synchronized (this)
-                    {
-                    aEntry = mapListeners.entrySet().toArray();
-                    }
-
-                List<Filter> listFilters = null;
-                for (Object o : aEntry)
+                // using the (immutable) filter index, without holding the monitor
+                FilterIndex index = m_filterIndex;
+                if (index == null)
                     {
-                    Map.Entry entry = (Map.Entry) o;
-
-                    Filter filter = (Filter) entry.getKey();
-                    if (filter == null || evaluateEvent(filter, event))
+                    synchronized (this)
                         {
-                        listeners.addAll((Listeners) entry.getValue());
-
-                        if (filter != null)
+                        index = m_filterIndex;
+                        if (index == null)
                             {
-                            if (listFilters == null)
-                                {
-                                listFilters = new ArrayList<>();
-                                }
-                            listFilters.add(filter);
+                            Map mapCurrent = m_mapListeners;
+                            index = m_filterIndex = new FilterIndex(
+                                    mapCurrent == null ? NullImplementation.getMap() : mapCurrent);
                             }
                         }
                     }
 
-                if (listFilters != null)
-                    {
-                    listeners.setFilters(listFilters.toArray(new Filter[listFilters.size()]));
-                    }
+                index.collectListeners(this, event, listeners);
                 }
             else
                 {
@@ -1399,6 +1401,496 @@ public class MapListenerSupport
         }
 
 
+    // ----- inner class: FilterIndex ---------------------------------------
+
+    /**
+    * An immutable snapshot of the filter-based listener registrations that
+    * allows the listeners for an event to be collected without evaluating
+    * every registered filter against the event.
+    * <p>
+    * Registrations that use a {@link MapEventFilter} wrapping an {@link
+    * EqualsFilter}, an {@link InFilter} or a range filter ({@link
+    * GreaterFilter}, {@link GreaterEqualsFilter}, {@link LessFilter} or
+    * {@link LessEqualsFilter}) are grouped by their ValueExtractor. For each
+    * group, the value is extracted from the new and old entries of an event
+    * only once, and the matching registrations are found with hash and sorted
+    * map lookups. All other filters are evaluated one by one.
+    *
+    * @since 20.12
+    */
+    protected static class FilterIndex
+        {
+        /**
+        * Construct a FilterIndex for the specified filter-based listeners.
+        *
+        * @param mapListeners  the Listeners keyed by Filter
+        */
+        protected FilterIndex(Map mapListeners)
+            {
+            int                                 cFilters   = mapListeners.size();
+            Filter[]                            aFilter    = new Filter[cFilters];
+            Listeners[]                         aListeners = new Listeners[cFilters];
+            int[]                               anMask     = new int[cFilters];
+            BitSet                              bitsEval   = new BitSet(cFilters);
+            Map<ValueExtractor, ExtractorGroup> mapGroups  = new HashMap<>();
+
+            int i = 0;
+            for (Iterator iter = mapListeners.entrySet().iterator(); iter.hasNext(); ++i)
+                {
+                Map.Entry entry  = (Map.Entry) iter.next();
+                Filter    filter = (Filter) entry.getKey();
+
+                aFilter[i]    = filter;
+                aListeners[i] = (Listeners) entry.getValue();
+
+                if (filter != null && filter.getClass() == MapEventFilter.class)
+                    {
+                    MapEventFilter filterEvent = (MapEventFilter) filter;
+                    Filter         filterValue = filterEvent.getFilter();
+                    if (filterValue instanceof ExtractorFilter)
+                        {
+                        ValueExtractor extractor = ((ExtractorFilter) filterValue).getValueExtractor();
+                        ExtractorGroup group     = mapGroups.computeIfAbsent(extractor, ExtractorGroup::new);
+                        int            nMask     = filterEvent.getEventMask();
+
+                        if (group.add(i, filterValue, nMask))
+                            {
+                            anMask[i] = nMask;
+                            continue;
+                            }
+                        }
+                    }
+
+                // null filters and filters that cannot be indexed are evaluated directly
+                bitsEval.set(i);
+                }
+
+            mapGroups.values().removeIf(ExtractorGroup::isEmpty);
+
+            f_aFilter    = aFilter;
+            f_aListeners = aListeners;
+            f_anMask     = anMask;
+            f_bitsEval   = bitsEval;
+            f_aGroup     = mapGroups.values().toArray(new ExtractorGroup[0]);
+            }
+
+        /**
+        * Add the listeners whose filters match the specified event to the
+        * specified Listeners object, and set its filters to the matching
+        * filters.
+        *
+        * @param support    the MapListenerSupport used to evaluate filters
+        *                   that are not indexed
+        * @param event      the event
+        * @param listeners  the Listeners object to add the listeners to
+        */
+        protected void collectListeners(MapListenerSupport support, MapEvent event, Listeners listeners)
+            {
+            int     nId      = event.getId();
+            boolean fNew     = nId == MapEvent.ENTRY_INSERTED || nId == MapEvent.ENTRY_UPDATED;
+            boolean fOld     = nId == MapEvent.ENTRY_UPDATED  || nId == MapEvent.ENTRY_DELETED;
+            BitSet  bitsNew  = new BitSet();
+            BitSet  bitsOld  = new BitSet();
+            BitSet  bitsEval = (BitSet) f_bitsEval.clone();
+
+            for (ExtractorGroup group : f_aGroup)
+                {
+                if (fNew)
+                    {
+                    group.match(extract(group.f_extractor, event.getNewEntry()), bitsNew, bitsEval);
+                    }
+                if (fOld && group.m_fOldRequired)
+                    {
+                    group.match(extract(group.f_extractor, event.getOldEntry()), bitsOld, bitsEval);
+                    }
+                }
+
+            BitSet bitsCandidates = (BitSet) bitsEval.clone();
+            bitsCandidates.or(bitsNew);
+            bitsCandidates.or(bitsOld);
+
+            Filter[]     aFilter     = f_aFilter;
+            List<Filter> listFilters = null;
+            for (int i = bitsCandidates.nextSetBit(0); i >= 0; i = bitsCandidates.nextSetBit(i + 1))
+                {
+                Filter  filter = aFilter[i];
+                boolean fMatch = bitsEval.get(i)
+                        ? filter == null || support.evaluateEvent(filter, event)
+                        : evaluateMask(nId, f_anMask[i], bitsNew.get(i), bitsOld.get(i));
+
+                if (fMatch)
+                    {
+                    listeners.addAll(f_aListeners[i]);
+
+                    if (filter != null)
+                        {
+                        if (listFilters == null)
+                            {
+                            listFilters = new ArrayList<>();
+                            }
+                        listFilters.add(filter);
+                        }
+                    }
+                }
+
+            if (listFilters != null)
+                {
+                listeners.setFilters(listFilters.toArray(new Filter[listFilters.size()]));
+                }
+            }
+
+        /**
+        * Extract a value from the specified entry in the same way an
+        * ExtractorFilter does.
+        *
+        * @param extractor  the extractor
+        * @param entry      the entry
+        *
+        * @return the extracted value
+        */
+        protected static Object extract(ValueExtractor extractor, Map.Entry entry)
+            {
+            return entry instanceof QueryMap.Entry
+                   ? ((QueryMap.Entry) entry).extract(extractor)
+                   : InvocableMapHelper.extractFromEntry(extractor, entry);
+            }
+
+        /**
+        * Determine whether a MapEventFilter with the specified event mask
+        * needs to evaluate its filter against the old value of an event.
+        *
+        * @param nMask  the event mask
+        *
+        * @return true iff the old value has to be evaluated
+        */
+        protected static boolean isOldValueRequired(int nMask)
+            {
+            int nUpdated = nMask & (MapEventFilter.E_UPDATED | MapEventFilter.E_UPDATED_WITHIN |
+                                    MapEventFilter.E_UPDATED_ENTERED | MapEventFilter.E_UPDATED_LEFT);
+
+            return (nMask & MapEventFilter.E_DELETED) != 0 ||
+                   nUpdated != 0 && nUpdated != (MapEventFilter.E_UPDATED_WITHIN | MapEventFilter.E_UPDATED_ENTERED);
+            }
+
+        /**
+        * Evaluate a MapEventFilter with the specified event mask, given the
+        * results of evaluating its filter against the new and old values.
+        * This mirrors {@link MapEventFilter#evaluate(MapEvent)}.
+        *
+        * @param nId    the event id
+        * @param nMask  the event mask of the MapEventFilter
+        * @param fNew   the result of evaluating the new value
+        * @param fOld   the result of evaluating the old value
+        *
+        * @return true iff the MapEventFilter matches the event
+        */
+        protected static boolean evaluateMask(int nId, int nMask, boolean fNew, boolean fOld)
+            {
+            switch (nId)
+                {
+                case MapEvent.ENTRY_INSERTED:
+                    return (nMask & MapEventFilter.E_INSERTED) != 0 && fNew;
+
+                case MapEvent.ENTRY_UPDATED:
+                    switch (nMask & (MapEventFilter.E_UPDATED_ENTERED | MapEventFilter.E_UPDATED_LEFT |
+                                     MapEventFilter.E_UPDATED | MapEventFilter.E_UPDATED_WITHIN))
+                        {
+                        case 0:
+                            return false;
+
+                        case MapEventFilter.E_UPDATED_ENTERED:
+                            return fNew && !fOld;
+
+                        case MapEventFilter.E_UPDATED_LEFT:
+                            return !fNew && fOld;
+
+                        case MapEventFilter.E_UPDATED_ENTERED | MapEventFilter.E_UPDATED_LEFT:
+                            return fNew != fOld;
+
+                        case MapEventFilter.E_UPDATED_WITHIN:
+                            return fNew && fOld;
+
+                        case MapEventFilter.E_UPDATED_WITHIN | MapEventFilter.E_UPDATED_ENTERED:
+                            return fNew;
+
+                        case MapEventFilter.E_UPDATED_WITHIN | MapEventFilter.E_UPDATED_LEFT:
+                            return fOld;
+
+                        default:
+                            return fNew || fOld;
+                        }
+
+                case MapEvent.ENTRY_DELETED:
+                    return (nMask & MapEventFilter.E_DELETED) != 0 && fOld;
+
+                default:
+                    return false;
+                }
+            }
+
+        // ----- inner class: ExtractorGroup ----------------------------
+
+        /**
+        * The indexed registrations that share a ValueExtractor.
+        */
+        protected static class ExtractorGroup
+            {
+            /**
+            * Construct an ExtractorGroup.
+            *
+            * @param extractor  the extractor shared by the registrations
+            */
+            protected ExtractorGroup(ValueExtractor extractor)
+                {
+                f_extractor = extractor;
+                }
+
+            /**
+            * Add the registration at the specified position to this group,
+            * if its filter can be indexed.
+            *
+            * @param iFilter  the position of the registration
+            * @param filter   the filter evaluated against the entry values
+            * @param nMask    the event mask of the registration
+            *
+            * @return true iff the registration has been indexed
+            */
+            protected boolean add(int iFilter, Filter filter, int nMask)
+                {
+                Class clz = filter.getClass();
+                if (clz == EqualsFilter.class)
+                    {
+                    Object oValue = ((EqualsFilter) filter).getValue();
+                    if (oValue != null && oValue.getClass().isArray())
+                        {
+                        // arrays are compared by content
+                        return false;
+                        }
+                    addPosition(f_mapEquals, oValue, iFilter);
+                    }
+                else if (clz == InFilter.class)
+                    {
+                    Collection colValues = (Collection) ((InFilter) filter).getValue();
+                    for (Object oValue : colValues)
+                        {
+                        if (oValue != null && oValue.getClass().isArray())
+                            {
+                            return false;
+                            }
+                        }
+                    for (Object oValue : colValues)
+                        {
+                        addPosition(f_mapEquals, oValue, iFilter);
+                        }
+                    }
+                else if (clz == GreaterFilter.class || clz == GreaterEqualsFilter.class ||
+                         clz == LessFilter.class    || clz == LessEqualsFilter.class)
+                    {
+                    Object oValue = ((ComparisonFilter) filter).getValue();
+                    if (oValue != null)
+                        {
+                        // a null value never matches, so it doesn't need to be added
+                        if (!(oValue instanceof Comparable))
+                            {
+                            return false;
+                            }
+
+                        NavigableMap<Object, List<Integer>> map =
+                                clz == GreaterFilter.class       ? f_mapGreater   :
+                                clz == GreaterEqualsFilter.class ? f_mapGreaterEq :
+                                clz == LessFilter.class          ? f_mapLess      :
+                                                                   f_mapLessEq;
+                        try
+                            {
+                            addPosition(map, oValue, iFilter);
+                            }
+                        catch (ClassCastException e)
+                            {
+                            // the value is not comparable to the values of other registrations
+                            return false;
+                            }
+                        f_bitsRange.set(iFilter);
+                        }
+                    }
+                else
+                    {
+                    return false;
+                    }
+
+                m_fOldRequired |= isOldValueRequired(nMask);
+                m_cFilters++;
+                return true;
+                }
+
+            /**
+            * Set the positions of the registrations whose filter evaluates
+            * to true for the specified extracted value.
+            *
+            * @param oValue     the extracted value
+            * @param bitsMatch  the positions of the matching registrations
+            * @param bitsEval   the positions of the registrations that have to
+            *                   be evaluated directly
+            */
+            protected void match(Object oValue, BitSet bitsMatch, BitSet bitsEval)
+                {
+                setPositions(f_mapEquals.get(oValue), bitsMatch);
+
+                if (oValue != null && !f_bitsRange.isEmpty())
+                    {
+                    try
+                        {
+                        setPositions(f_mapGreater.headMap(oValue, false).values(), bitsMatch);
+                        setPositions(f_mapGreaterEq.headMap(oValue, true).values(), bitsMatch);
+                        setPositions(f_mapLess.tailMap(oValue, false).values(), bitsMatch);
+                        setPositions(f_mapLessEq.tailMap(oValue, true).values(), bitsMatch);
+                        }
+                    catch (ClassCastException e)
+                        {
+                        // the extracted value is not comparable to the values of
+                        // the range filters; let the filters themselves decide
+                        bitsEval.or(f_bitsRange);
+                        }
+                    }
+                }
+
+            /**
+            * Return true iff no registrations have been added to this group.
+            *
+            * @return true iff this group is empty
+            */
+            protected boolean isEmpty()
+                {
+                return m_cFilters == 0;
+                }
+
+            /**
+            * Add a registration position to the list associated with the
+            * specified value.
+            *
+            * @param map      the map of value to positions
+            * @param oValue   the value
+            * @param iFilter  the position of the registration
+            */
+            protected static void addPosition(Map<Object, List<Integer>> map, Object oValue, int iFilter)
+                {
+                List<Integer> list = map.get(oValue);
+                if (list == null)
+                    {
+                    list = new ArrayList<>(1);
+                    map.put(oValue, list);
+                    }
+                list.add(iFilter);
+                }
+
+            /**
+            * Set the specified registration positions.
+            *
+            * @param listPositions  the positions to set (may be null)
+            * @param bits           the BitSet to set the positions in
+            */
+            protected static void setPositions(List<Integer> listPositions, BitSet bits)
+                {
+                if (listPositions != null)
+                    {
+                    for (int i : listPositions)
+                        {
+                        bits.set(i);
+                        }
+                    }
+                }
+
+            /**
+            * Set the registration positions in each of the specified lists.
+            *
+            * @param colPositions  the lists of positions to set
+            * @param bits          the BitSet to set the positions in
+            */
+            protected static void setPositions(Collection<List<Integer>> colPositions, BitSet bits)
+                {
+                for (List<Integer> list : colPositions)
+                    {
+                    setPositions(list, bits);
+                    }
+                }
+
+            // ----- data members ---------------------------------------
+
+            /**
+            * The extractor shared by the registrations in this group.
+            */
+            protected final ValueExtractor f_extractor;
+
+            /**
+            * The positions of the EqualsFilter and InFilter registrations,
+            * keyed by the values they match.
+            */
+            protected final Map<Object, List<Integer>> f_mapEquals = new HashMap<>();
+
+            /**
+            * The positions of the GreaterFilter registrations keyed by value.
+            */
+            protected final NavigableMap<Object, List<Integer>> f_mapGreater = new TreeMap<>();
+
+            /**
+            * The positions of the GreaterEqualsFilter registrations keyed by value.
+            */
+            protected final NavigableMap<Object, List<Integer>> f_mapGreaterEq = new TreeMap<>();
+
+            /**
+            * The positions of the LessFilter registrations keyed by value.
+            */
+            protected final NavigableMap<Object, List<Integer>> f_mapLess = new TreeMap<>();
+
+            /**
+            * The positions of the LessEqualsFilter registrations keyed by value.
+            */
+            protected final NavigableMap<Object, List<Integer>> f_mapLessEq = new TreeMap<>();
+
+            /**
+            * The positions of all range filter registrations.
+            */
+            protected final BitSet f_bitsRange = new BitSet();
+
+            /**
+            * True iff any registration needs to evaluate old values.
+            */
+            protected boolean m_fOldRequired;
+
+            /**
+            * The number of registrations in this group.
+            */
+            protected int m_cFilters;
+            }
+
+        // ----- data members -------------------------------------------
+
+        /**
+        * The registered filters, by position.
+        */
+        protected final Filter[] f_aFilter;
+
+        /**
+        * The registered Listeners, by position.
+        */
+        protected final Listeners[] f_aListeners;
+
+        /**
+        * The event masks of the indexed MapEventFilters, by position.
+        */
+        protected final int[] f_anMask;
+
+        /**
+        * The positions of the registrations that have to be evaluated directly.
+        */
+        protected final BitSet f_bitsEval;
+
+        /**
+        * The groups of indexed registrations.
+        */
+        protected final ExtractorGroup[] f_aGroup;
+        }
+
+
     // ----- constants ------------------------------------------------------
 
     /**
@@ -1473,4 +1965,10 @@ public class MapListenerSupport
     * A cached set of Listeners.
     */
     protected Listeners m_listenersCached;
+
+    /**
+    * The index of the filter-based listener registrations; null if it has to
+    * be rebuilt because the registrations have changed.
+    */
+    protected volatile FilterIndex m_filterIndex;
     }
@@ -16,7 +16,6 @@ import com.tangosol.coherence.dslquery.FilterBuilder;
 import com.tangosol.coherence.dslquery.Statement;
 
 import com.tangosol.coherence.dslquery.StatementResult;
-import com.tangosol.coherence.dsltools.precedence.OPParser;
 import com.tangosol.coherence.dsltools.precedence.TokenTable;
 import com.tangosol.coherence.dsltools.termtrees.Term;
 import com.tangosol.coherence.dsltools.termtrees.NodeTerm;
@@ -259,8 +258,7 @@ public class QueryHelper
      */
     protected static Term parse(String sQuery, CoherenceQueryLanguage language)
         {
-        OPParser parser = new OPParser(sQuery, language.filtersTokenTable(), language.getOperators());
-        return parser.parse();
+        return language.parse(sQuery, language.filtersTokenTable());
         }
 
     /**
@@ -369,6 +367,30 @@ public class QueryHelper
     */
     public static Object executeStatement(String sStatement, ExecutionContext context)
         {
+        return executeStatement(sStatement, null, null, context);
+        }
+
+    /**
+     * Execute a CohQL statement using the specified bind variables. The type
+     * of object returned depends on the query, as described in
+     * {@link #executeStatement(String, ExecutionContext)}.
+     * <p>
+     * The parsed statement is cached by the {@link CoherenceQueryLanguage} of
+     * the context, so a statement that is executed repeatedly with different
+     * bind variables is only parsed once.
+     *
+     * @param sStatement   a Coherence Query Language statement
+     * @param aBindings    the array of Objects to use for indexed Bind variables
+     * @param mapBindings  the Map of Objects to use for named Bind variables
+     * @param context      the {@link ExecutionContext} to use
+     *
+     * @return the query results
+     *
+     * @throws RuntimeException if an invalid query is provided
+     */
+    public static Object executeStatement(String sStatement, Object[] aBindings, Map mapBindings,
+                                          ExecutionContext context)
+        {
         if (sStatement == null || sStatement.length() == 0)
             {
             return null;
@@ -376,9 +398,10 @@ public class QueryHelper
 
         CoherenceQueryLanguage language  = context.getCoherenceQueryLanguage();
         TokenTable             toks      = language.extendedSqlTokenTable();
-        OPParser               parser    = new OPParser(sStatement, toks, language.getOperators());
-        Term                   term      = parser.parse();
-        Statement              statement = language.prepareStatement((NodeTerm) term, context, null, null);
+        Term                   term      = language.parse(sStatement, toks);
+        Statement              statement = language.prepareStatement((NodeTerm) term, context,
+                aBindings == null ? null : Arrays.asList(aBindings),
+                mapBindings == null ? null : new ResolvableParameterList(mapBindings));
 
         if (context.isSanityChecking())
             {
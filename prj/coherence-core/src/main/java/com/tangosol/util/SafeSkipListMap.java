@@ -0,0 +1,839 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util;
+
+
+import com.tangosol.util.comparator.SafeComparator;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * SafeSkipListMap is a {@link SortedMap} backed by a lock-free
+ * {@link ConcurrentSkipListMap}, intended for use as the inverse index of
+ * ordered {@link SimpleMapIndex indexes}.
+ * <p>
+ * Unlike the {@link SafeSortedMap}, which it replaces for that purpose, all of
+ * the operations of this map, including the iteration over the range views
+ * produced by {@link #headMap}, {@link #tailMap} and {@link #subMap}, are
+ * performed without any shared mutable state beyond the skip-list nodes
+ * themselves: index levels are chosen using thread-local random numbers, the
+ * size is maintained in a striped counter, and the range views only compare
+ * the keys against the bound(s) that could be exceeded.  Range queries are
+ * therefore not slowed down by concurrent updates to the map.
+ * <p>
+ * In addition to the {@link SortedMap} operations, this map supports the
+ * {@link #getEntry(Object) retrieval} of the stored (canonical) key, range
+ * views with inclusive or exclusive bounds, and a cheap {@link Split} of the
+ * map used by the comparison filters to decide which side of a split key is
+ * smaller.
+ * <p>
+ * Like the SafeSortedMap, this map supports {@code null} keys and values; by
+ * default, {@code null} keys are ordered before any other key.  Note that
+ * unlike the SafeSortedMap, a {@code null} bound of a range view denotes the
+ * {@code null} key rather than an unbounded range.
+ *
+ * @since 20.12
+ */
+public class SafeSkipListMap
+        extends AbstractMap
+        implements SortedMap
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a new SafeSkipListMap using the natural ordering of the
+     * Comparable keys in this map.
+     */
+    public SafeSkipListMap()
+        {
+        this(SafeComparator.INSTANCE);
+        }
+
+    /**
+     * Construct a new SafeSkipListMap with the specified Comparator.
+     *
+     * @param comparator  the comparator used to sort this map, or null for
+     *                    the keys' natural ordering
+     */
+    public SafeSkipListMap(Comparator comparator)
+        {
+        Comparator comparatorSafe = comparator == null ? SafeComparator.INSTANCE : comparator;
+
+        f_comparator = comparatorSafe;
+        f_map        = new ConcurrentSkipListMap<>(
+                (o1, o2) -> comparatorSafe.compare(unmask(o1), unmask(o2)));
+        f_mapView    = new ViewMap(f_map);
+        }
+
+
+    // ----- Map interface --------------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size()
+        {
+        long c = f_cSize.sum();
+        return c <= 0L ? 0 : (int) Math.min(c, Integer.MAX_VALUE);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty()
+        {
+        return f_map.isEmpty();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsKey(Object oKey)
+        {
+        return f_map.containsKey(mask(oKey));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object get(Object oKey)
+        {
+        return unmask(f_map.get(mask(oKey)));
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object put(Object oKey, Object oValue)
+        {
+        Object oValueOld = f_map.put(mask(oKey), mask(oValue));
+        if (oValueOld == null)
+            {
+            f_cSize.increment();
+            }
+        return unmask(oValueOld);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object remove(Object oKey)
+        {
+        Object oValueOld = f_map.remove(mask(oKey));
+        if (oValueOld != null)
+            {
+            f_cSize.decrement();
+            }
+        return unmask(oValueOld);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear()
+        {
+        // remove the entries one by one to keep the size consistent with
+        // concurrent updates
+        for (Iterator iter = f_map.keySet().iterator(); iter.hasNext(); )
+            {
+            remove(unmask(iter.next()));
+            }
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set entrySet()
+        {
+        return f_mapView.entrySet();
+        }
+
+
+    // ----- SortedMap interface --------------------------------------------
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Comparator comparator()
+        {
+        return f_comparator;
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SortedMap subMap(Object fromKey, Object toKey)
+        {
+        return subMap(fromKey, true, toKey, false);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SortedMap headMap(Object toKey)
+        {
+        return headMap(toKey, false);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SortedMap tailMap(Object fromKey)
+        {
+        return tailMap(fromKey, true);
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object firstKey()
+        {
+        return f_mapView.firstKey();
+        }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object lastKey()
+        {
+        return f_mapView.lastKey();
+        }
+
+
+    // ----- SafeSkipListMap methods ----------------------------------------
+
+    /**
+     * Locate a Map.Entry in this map based on its key.
+     * <p>
+     * The key of the returned entry is the key stored in the map, which may
+     * be a different (but equal) instance than the specified key.  Setting
+     * the value of the returned entry writes through to the map.
+     *
+     * @param oKey  the key to return an Entry for
+     *
+     * @return an Entry corresponding to the specified key, or null if none
+     *         exists
+     */
+    public Map.Entry getEntry(Object oKey)
+        {
+        Object    oKeyInt = mask(oKey);
+        Map.Entry entry   = f_map.ceilingEntry(oKeyInt);
+
+        return entry == null || f_map.comparator().compare(oKeyInt, entry.getKey()) != 0
+               ? null : new MapEntry(entry.getKey(), entry.getValue());
+        }
+
+    /**
+     * Return a view of the portion of this map whose keys range from
+     * {@code fromKey} to {@code toKey}.
+     *
+     * @param fromKey         the low endpoint of the keys in the view
+     * @param fFromInclusive  true if the low endpoint is to be included
+     * @param toKey           the high endpoint of the keys in the view
+     * @param fToInclusive    true if the high endpoint is to be included
+     *
+     * @return a view of the specified portion of this map
+     *
+     * @throws IllegalArgumentException if {@code fromKey} is greater than
+     *         {@code toKey}
+     */
+    public SortedMap subMap(Object fromKey, boolean fFromInclusive, Object toKey, boolean fToInclusive)
+        {
+        return new ViewMap(f_map.subMap(mask(fromKey), fFromInclusive, mask(toKey), fToInclusive));
+        }
+
+    /**
+     * Return a view of the portion of this map whose keys are less than (or
+     * equal to, if {@code fInclusive} is true) {@code toKey}.
+     *
+     * @param toKey       the high endpoint of the keys in the view
+     * @param fInclusive  true if the high endpoint is to be included
+     *
+     * @return a view of the specified portion of this map
+     */
+    public SortedMap headMap(Object toKey, boolean fInclusive)
+        {
+        return new ViewMap(f_map.headMap(mask(toKey), fInclusive));
+        }
+
+    /**
+     * Return a view of the portion of this map whose keys are greater than
+     * (or equal to, if {@code fInclusive} is true) {@code fromKey}.
+     *
+     * @param fromKey     the low endpoint of the keys in the view
+     * @param fInclusive  true if the low endpoint is to be included
+     *
+     * @return a view of the specified portion of this map
+     */
+    public SortedMap tailMap(Object fromKey, boolean fInclusive)
+        {
+        return new ViewMap(f_map.tailMap(mask(fromKey), fInclusive));
+        }
+
+    /**
+     * Return a {@link Split} of this map at the specified key.
+     *
+     * @param oKey  the key at which to split the map
+     *
+     * @return a Split of this map at the specified key
+     */
+    public Split split(Object oKey)
+        {
+        return new Split(oKey);
+        }
+
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Return the internal representation of the specified key or value.
+     *
+     * @param o  the key or value
+     *
+     * @return the internal representation
+     */
+    protected static Object mask(Object o)
+        {
+        return o == null ? NULL : o;
+        }
+
+    /**
+     * Return the key or value for the specified internal representation.
+     *
+     * @param o  the internal representation
+     *
+     * @return the key or value
+     */
+    protected static Object unmask(Object o)
+        {
+        return o == NULL ? null : o;
+        }
+
+
+    // ----- inner class: MapEntry ------------------------------------------
+
+    /**
+     * A Map.Entry that exposes the stored key and writes the value through to
+     * the map.
+     */
+    protected class MapEntry
+            extends SimpleMapEntry
+        {
+        /**
+         * Construct a MapEntry.
+         *
+         * @param oKeyInt    the internal representation of the key
+         * @param oValueInt  the internal representation of the value
+         */
+        protected MapEntry(Object oKeyInt, Object oValueInt)
+            {
+            super(unmask(oKeyInt), unmask(oValueInt));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object setValue(Object oValue)
+            {
+            Object oValueOld = super.setValue(oValue);
+            SafeSkipListMap.this.put(getKey(), oValue);
+            return oValueOld;
+            }
+        }
+
+
+    // ----- inner class: ViewMap -------------------------------------------
+
+    /**
+     * ViewMap provides a SortedMap view over a (possibly bounded) range of the
+     * SafeSkipListMap.
+     */
+    protected class ViewMap
+            extends AbstractMap
+            implements SortedMap
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a ViewMap over the specified range of the underlying
+         * skip-list.
+         *
+         * @param mapRange  the range of the underlying skip-list
+         */
+        protected ViewMap(NavigableMap mapRange)
+            {
+            f_mapRange = mapRange;
+            }
+
+        // ----- Map interface ----------------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Set entrySet()
+            {
+            return new EntrySet();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isEmpty()
+            {
+            return f_mapRange.isEmpty();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean containsKey(Object oKey)
+            {
+            return f_mapRange.containsKey(mask(oKey));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object get(Object oKey)
+            {
+            return unmask(f_mapRange.get(mask(oKey)));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object put(Object oKey, Object oValue)
+            {
+            if (f_mapRange != f_map && !inRange(oKey))
+                {
+                throw new IllegalArgumentException();
+                }
+            return SafeSkipListMap.this.put(oKey, oValue);
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object remove(Object oKey)
+            {
+            return f_mapRange == f_map || inRange(oKey) ? SafeSkipListMap.this.remove(oKey) : null;
+            }
+
+        // ----- SortedMap interface ----------------------------------------
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Comparator comparator()
+            {
+            return SafeSkipListMap.this.comparator();
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SortedMap subMap(Object fromKey, Object toKey)
+            {
+            return new ViewMap(f_mapRange.subMap(mask(fromKey), true, mask(toKey), false));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SortedMap headMap(Object toKey)
+            {
+            return new ViewMap(f_mapRange.headMap(mask(toKey), false));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public SortedMap tailMap(Object fromKey)
+            {
+            return new ViewMap(f_mapRange.tailMap(mask(fromKey), true));
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object firstKey()
+            {
+            return unmask(f_mapRange.firstKey());
+            }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Object lastKey()
+            {
+            return unmask(f_mapRange.lastKey());
+            }
+
+        // ----- internal ---------------------------------------------------
+
+        /**
+         * Is the specified key in the range represented by this ViewMap?
+         *
+         * @param oKey  the key to test for
+         *
+         * @return true iff the specified key is in the range represented by
+         *         this ViewMap
+         */
+        protected boolean inRange(Object oKey)
+            {
+            Object oKeyInt = mask(oKey);
+            try
+                {
+                // the skip-list views validate the range of a sub-view
+                f_mapRange.subMap(oKeyInt, true, oKeyInt, true);
+                return true;
+                }
+            catch (IllegalArgumentException e)
+                {
+                return false;
+                }
+            }
+
+        // ----- inner class: EntrySet --------------------------------------
+
+        /**
+         * A Set of Entries backed by this ViewMap.
+         */
+        protected class EntrySet
+                extends AbstractSet
+            {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public int size()
+                {
+                return f_mapRange == f_map ? SafeSkipListMap.this.size() : f_mapRange.size();
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean isEmpty()
+                {
+                return f_mapRange.isEmpty();
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Iterator iterator()
+                {
+                return new EntryIterator(f_mapRange.entrySet().iterator());
+                }
+            }
+
+        // ----- inner class: EntryIterator ---------------------------------
+
+        /**
+         * An Iterator over the Entries backed by this ViewMap.
+         */
+        protected class EntryIterator
+                implements Iterator
+            {
+            /**
+             * Construct an EntryIterator.
+             *
+             * @param iter  the iterator over the underlying skip-list entries
+             */
+            protected EntryIterator(Iterator iter)
+                {
+                f_iter = iter;
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public boolean hasNext()
+                {
+                return f_iter.hasNext();
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public Object next()
+                {
+                Map.Entry entry = (Map.Entry) f_iter.next();
+
+                return m_entryLast = new MapEntry(entry.getKey(), entry.getValue());
+                }
+
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            public void remove()
+                {
+                MapEntry entry = m_entryLast;
+                if (entry == null)
+                    {
+                    throw new IllegalStateException();
+                    }
+
+                m_entryLast = null;
+                SafeSkipListMap.this.remove(entry.getKey());
+                }
+
+            // ----- data members -------------------------------------------
+
+            /**
+             * The iterator over the underlying skip-list entries.
+             */
+            protected final Iterator f_iter;
+
+            /**
+             * The last entry returned by this iterator.
+             */
+            protected MapEntry m_entryLast;
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The range of the underlying skip-list represented by this view.
+         */
+        protected final NavigableMap f_mapRange;
+        }
+
+
+    // ----- inner class: Split ---------------------------------------------
+
+    /**
+     * Split encapsulates the headMap and tailMap of the SafeSkipListMap at a
+     * given split-key, along with the information which of them is smaller.
+     * <p>
+     * The weights of the head and the tail are determined by iterating over
+     * both of them in lock-step until the smaller one is exhausted, so the
+     * cost is proportional to the size of the smaller side, which is the side
+     * that the caller is expected to iterate over anyway.
+     */
+    public class Split
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Construct a split at the specified key.
+         *
+         * @param oKey  the key at which to split
+         */
+        protected Split(Object oKey)
+            {
+            f_oKey    = oKey;
+            f_mapHead = headMap(oKey);
+            f_mapTail = tailMap(oKey);
+            }
+
+        // ----- accessors --------------------------------------------------
+
+        /**
+         * Return the front of the split; this is a SortedMap view of the keys
+         * less than the split key.
+         *
+         * @return the front of the split
+         */
+        public SortedMap getHead()
+            {
+            return f_mapHead;
+            }
+
+        /**
+         * Return the tail of the split; this is a SortedMap view of the keys
+         * greater than or equal to the split key.
+         *
+         * @return the tail of the split
+         */
+        public SortedMap getTail()
+            {
+            return f_mapTail;
+            }
+
+        /**
+         * Return the weight of the head portion of the split, expressed as
+         * the ratio of the size of the headMap to the size of the map.
+         *
+         * @return the weight of the head portion of the split
+         */
+        public float getHeadWeight()
+            {
+            if (m_flHeadWeight < 0F)
+                {
+                m_flHeadWeight = calculateHeadWeight();
+                }
+            return m_flHeadWeight;
+            }
+
+        /**
+         * Return the weight of the tail portion of the split, expressed as
+         * the ratio of the size of the tailMap to the size of the map.
+         *
+         * @return the weight of the tail portion of the split
+         */
+        public float getTailWeight()
+            {
+            return 1.0F - getHeadWeight();
+            }
+
+        /**
+         * Return true if the head of the split is larger than the tail.
+         *
+         * @return true iff the head of the split is larger than the tail
+         */
+        public boolean isHeadHeavy()
+            {
+            return getHeadWeight() > 0.5F;
+            }
+
+        /**
+         * Return the key around which this is {@link Split} is defined.
+         *
+         * @return the key around which this is {@link Split} is defined
+         */
+        public Object getSplitKey()
+            {
+            return f_oKey;
+            }
+
+        // ----- internal ---------------------------------------------------
+
+        /**
+         * Calculate the weight of the head portion of the split.
+         *
+         * @return the weight of the head portion of the split
+         */
+        protected float calculateHeadWeight()
+            {
+            Iterator iterHead = ((ViewMap) f_mapHead).f_mapRange.keySet().iterator();
+            Iterator iterTail = ((ViewMap) f_mapTail).f_mapRange.keySet().iterator();
+            int      cHead    = 0;
+            int      cTail    = 0;
+
+            while (iterHead.hasNext() && iterTail.hasNext())
+                {
+                iterHead.next();
+                iterTail.next();
+                ++cHead;
+                ++cTail;
+                }
+
+            // one side is exhausted; the other side holds (at least) the
+            // rest of the entries
+            int cTotal = Math.max(size(), cHead + cTail + 1);
+            if (iterHead.hasNext())
+                {
+                cHead = cTotal - cTail;
+                }
+            else if (iterTail.hasNext())
+                {
+                cTail = cTotal - cHead;
+                }
+
+            return cHead + cTail == 0 ? 0.0F : (float) cHead / (cHead + cTail);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The split key.
+         */
+        protected final Object f_oKey;
+
+        /**
+         * The headMap.
+         */
+        protected final SortedMap f_mapHead;
+
+        /**
+         * The tailMap.
+         */
+        protected final SortedMap f_mapTail;
+
+        /**
+         * The weight of the head portion of the split, or a negative value if
+         * it has not been calculated yet.
+         */
+        protected float m_flHeadWeight = -1.0F;
+        }
+
+
+    // ----- constants and data members -------------------------------------
+
+    /**
+     * The internal representation of a null key or value.
+     */
+    protected static final Object NULL = new Object();
+
+    /**
+     * The comparator used to sort this map.
+     */
+    protected final Comparator f_comparator;
+
+    /**
+     * The underlying skip-list, holding the internal representations of the
+     * keys and values.
+     */
+    protected final ConcurrentSkipListMap<Object, Object> f_map;
+
+    /**
+     * The view of the entire map.
+     */
+    protected final ViewMap f_mapView;
+
+    /**
+     * The number of entries in the map.
+     */
+    protected final LongAdder f_cSize = new LongAdder();
+    }
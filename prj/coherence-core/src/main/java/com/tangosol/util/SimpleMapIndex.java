@@ -10,6 +10,12 @@ package com.tangosol.util;
 
 import com.oracle.coherence.common.base.Logger;
 
+import com.tangosol.internal.util.RequestPhaseTracker;
+
+import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
+import com.tangosol.io.WriteBuffer;
+
 import com.tangosol.net.BackingMapContext;
 
 import com.tangosol.net.cache.ConfigurableCacheMap;
@@ -23,12 +29,16 @@ import com.tangosol.util.extractor.AbstractExtractor;
 import com.tangosol.util.extractor.KeyExtractor;
 import com.tangosol.util.extractor.MultiExtractor;
 
+import java.io.IOException;
+
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -168,7 +178,15 @@ public class SimpleMapIndex
     */
     public void insert(Map.Entry entry)
         {
-        insertInternal(entry);
+        long ldtStart = RequestPhaseTracker.start();
+        try
+            {
+            insertInternal(entry);
+            }
+        finally
+            {
+            RequestPhaseTracker.stop(RequestPhaseTracker.Phase.INDEX_UPDATE, ldtStart);
+            }
         }
 
     /**
@@ -178,7 +196,15 @@ public class SimpleMapIndex
         {
         if (!m_fImmutableValues)
             {
-            updateInternal(entry);
+            long ldtStart = RequestPhaseTracker.start();
+            try
+                {
+                updateInternal(entry);
+                }
+            finally
+                {
+                RequestPhaseTracker.stop(RequestPhaseTracker.Phase.INDEX_UPDATE, ldtStart);
+                }
             }
         }
 
@@ -187,7 +213,15 @@ public class SimpleMapIndex
     */
     public void delete(Map.Entry entry)
         {
-        deleteInternal(entry);
+        long ldtStart = RequestPhaseTracker.start();
+        try
+            {
+            deleteInternal(entry);
+            }
+        finally
+            {
+            RequestPhaseTracker.stop(RequestPhaseTracker.Phase.INDEX_UPDATE, ldtStart);
+            }
         }
 
 
@@ -266,6 +300,133 @@ public class SimpleMapIndex
         }
 
 
+    // ----- persistence support --------------------------------------------
+
+    /**
+    * Write the contents of this index for the entries with the specified
+    * keys, so that they can be restored by {@link #readContents} without
+    * extracting the indexed values from the entries.
+    * <p>
+    * The contents can only be written if this index maintains a forward
+    * index, as the inverse index does not retain the value extracted from
+    * each entry when the extracted value is a collection.
+    *
+    * @param out         the BufferOutput to write the contents to
+    * @param serializer  the serializer used to write the keys and the
+    *                    extracted values
+    * @param colKey      the keys of the entries to write the contents for,
+    *                    e.g. the keys of a single partition
+    *
+    * @return true iff the contents have been written, or false if this
+    *         index does not maintain a forward index
+    *
+    * @throws IOException  if the keys or the extracted values cannot be
+    *                      serialized
+    *
+    * @since 20.12
+    */
+    public boolean writeContents(WriteBuffer.BufferOutput out, Serializer serializer,
+            Collection colKey)
+            throws IOException
+        {
+        Map mapForward = m_mapForward;
+        if (mapForward == null)
+            {
+            return false;
+            }
+
+        List listKey      = new ArrayList(colKey.size());
+        List listValue    = new ArrayList(colKey.size());
+        List listExcluded = new ArrayList();
+
+        synchronized (this)
+            {
+            for (Object oKey : colKey)
+                {
+                Map.Entry entry = getForwardEntry(oKey);
+                if (entry != null)
+                    {
+                    listKey.add(oKey);
+                    listValue.add(entry.getValue());
+                    }
+                else if (isKeyExcluded(oKey))
+                    {
+                    listExcluded.add(oKey);
+                    }
+                }
+            }
+
+        out.writeBoolean(listKey.size() + listExcluded.size() < colKey.size());
+
+        out.writePackedInt(listKey.size());
+        for (int i = 0, c = listKey.size(); i < c; i++)
+            {
+            serializer.serialize(out, listKey.get(i));
+            serializer.serialize(out, listValue.get(i));
+            }
+
+        out.writePackedInt(listExcluded.size());
+        for (Object oKey : listExcluded)
+            {
+            serializer.serialize(out, oKey);
+            }
+
+        return true;
+        }
+
+    /**
+    * Restore the contents of this index previously written by
+    * {@link #writeContents}.
+    * <p>
+    * The restored mappings are added to the current contents of this index,
+    * which allows the contents of multiple partitions to be restored into the
+    * same index.
+    *
+    * @param in          the BufferInput to read the contents from
+    * @param serializer  the serializer used to write the contents
+    *
+    * @throws IOException  if the contents cannot be deserialized
+    *
+    * @since 20.12
+    */
+    public void readContents(ReadBuffer.BufferInput in, Serializer serializer)
+            throws IOException
+        {
+        boolean  fPartial = in.readBoolean();
+        int      cEntry   = in.readPackedInt();
+        Object[] aoKey    = new Object[cEntry];
+        Object[] aoValue  = new Object[cEntry];
+        for (int i = 0; i < cEntry; i++)
+            {
+            aoKey[i]   = serializer.deserialize(in);
+            aoValue[i] = serializer.deserialize(in);
+            }
+
+        int      cExcluded  = in.readPackedInt();
+        Object[] aoExcluded = new Object[cExcluded];
+        for (int i = 0; i < cExcluded; i++)
+            {
+            aoExcluded[i] = serializer.deserialize(in);
+            }
+
+        synchronized (this)
+            {
+            for (int i = 0; i < cEntry; i++)
+                {
+                Object oKey = aoKey[i];
+                addForwardEntry(oKey, addInverseMapping(aoValue[i], oKey));
+                }
+
+            m_setKeyExcluded.addAll(Arrays.asList(aoExcluded));
+
+            if (fPartial)
+                {
+                onPartialContents();
+                }
+            }
+        }
+
+
     // ----- helpers --------------------------------------------------------
 
     /**
@@ -291,7 +452,7 @@ public class SimpleMapIndex
     */
     protected Map.Entry getForwardEntry(Object oKey)
         {
-        return m_mapForward == null ? null : ((SegmentedHashMap) m_mapForward).getEntry(oKey);
+        return m_mapForward == null ? null : ((ConcurrentOpenHashMap) m_mapForward).getEntry(oKey);
         }
 
     /**
@@ -413,7 +574,7 @@ public class SimpleMapIndex
         // add the overhead of creating a new map
         setUnits(getUnits() + IndexCalculator.MAP_OVERHEAD);
 
-        return new SegmentedHashMap();
+        return new ConcurrentOpenHashMap();
         }
 
     /**
@@ -439,9 +600,9 @@ public class SimpleMapIndex
                 {
                 comparator = new SafeComparator(comparator);
                 }
-            return new SafeSortedMap(comparator);
+            return new SafeSkipListMap(comparator);
             }
-        return new SegmentedHashMap();
+        return new ConcurrentOpenHashMap();
         }
 
     /**
@@ -649,8 +810,8 @@ public class SimpleMapIndex
     protected Object addInverseMapping(Map mapIndex, Object oIxValue, Object oKey)
         {
         Map.Entry entry = m_fOrdered ?
-            ((SafeSortedMap) mapIndex).getEntry(oIxValue) :
-            ((SegmentedHashMap) mapIndex).getEntry(oIxValue);
+            ((SafeSkipListMap) mapIndex).getEntry(oIxValue) :
+            ((ConcurrentOpenHashMap) mapIndex).getEntry(oIxValue);
 
         Object oExtracted = null;
         Set    setKeys;
@@ -1035,6 +1196,15 @@ public class SimpleMapIndex
             }
         }
 
+    /**
+    * Called when the restored contents of this index did not include all of
+    * the entries they were written for, because some of the entries were not
+    * indexed.
+    */
+    protected void onPartialContents()
+        {
+        }
+
     /**
     * Check if the entry with the given key is excluded from the index.
     *
@@ -1398,13 +1568,16 @@ public class SimpleMapIndex
         protected final UnitCalculator m_calculator;
 
         /**
-        * The memory cost of a SegmentedHashMap used as the Forward Index.
+        * The memory cost of a ConcurrentOpenHashMap used as the Forward Index.
         */
-        protected static final int MAP_OVERHEAD = calculateShallowSize(SegmentedHashMap.class) +
+        protected static final int MAP_OVERHEAD = calculateShallowSize(ConcurrentOpenHashMap.class) +
                                                   padMemorySize(SIZE_BASIC_OBJECT + 4);
 
         /**
-        * The average memory cost of creating SegmentedHashMap$Entry or SafeHashMap$Entry.
+        * The average memory cost of creating a ConcurrentOpenHashMap slot or
+        * SafeHashMap$Entry; the cost of a slot (two references and a cached
+        * hash at the average load factor) is approximated by the size of a
+        * SegmentedHashMap$Entry.
         */
         protected static final int ENTRY_OVERHEAD = padMemorySize(SIZE_OBJECT_REF + 4) +
                                                     (calculateShallowSize(SegmentedHashMap.Entry.class) +
@@ -16,9 +16,13 @@ import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 import com.tangosol.io.pof.PortableObject;
 
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.BinaryEntry;
 import com.tangosol.util.ClassHelper;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapIndex;
 import com.tangosol.util.Streamer;
 import com.tangosol.util.ValueExtractor;
 
@@ -179,6 +183,51 @@ public abstract class AbstractAggregator<K, V, T, E, R>
         process(entry.extract(getValueExtractor()), false);
         }
 
+    /**
+     * Return the index for the ValueExtractor used by this aggregator, which
+     * can be used to obtain the values to aggregate without deserializing
+     * the entries of the same (partitioned) cache as the specified entry.
+     *
+     * @param entry  an entry being aggregated
+     *
+     * @return the index for this aggregator's extractor, or null if there
+     *         is no such index
+     */
+    protected MapIndex getIndex(InvocableMap.Entry<? extends K, ? extends V> entry)
+        {
+        if (entry instanceof BinaryEntry)
+            {
+            BackingMapContext ctx = ((BinaryEntry) entry).getBackingMapContext();
+            if (ctx != null)
+                {
+                return ctx.getIndexMap().get(getValueExtractor());
+                }
+            }
+        return null;
+        }
+
+    /**
+     * Extract the value to aggregate from the specified entry, using the
+     * forward map of the specified index if it contains the entry.
+     *
+     * @param entry  the entry to extract the value from
+     * @param index  the index returned by {@link #getIndex}, or null
+     *
+     * @return the extracted value
+     */
+    protected Object extract(InvocableMap.Entry<? extends K, ? extends V> entry, MapIndex index)
+        {
+        if (index != null)
+            {
+            Object o = index.get(((BinaryEntry) entry).getBinaryKey());
+            if (o != MapIndex.NO_VALUE)
+                {
+                return o;
+                }
+            }
+        return entry.extract(getValueExtractor());
+        }
+
     /**
      * Determine the ValueExtractor whose values this aggregator is
      * aggregating.
@@ -8,6 +8,9 @@
 package com.tangosol.util.aggregator;
 
 
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.Streamer;
 import com.tangosol.util.ValueExtractor;
 
 
@@ -16,6 +19,11 @@ import com.tangosol.util.ValueExtractor;
 * entries in a Map. All the extracted Number objects will be treated as Java
 * <tt>double</tt> values and the result of the aggregator is a Double.
 * If the set of entries is empty, a <tt>null</tt> result is returned.
+* <p>
+* Subclasses that {@link #isColumnar() support} it accumulate the extracted
+* values in batches of primitive <tt>double</tt> values, using the forward
+* index for the extractor (if one exists) instead of deserializing the
+* entries.
 *
 * @param <T>  the type of the value to extract from
 *
@@ -58,6 +66,53 @@ public abstract class AbstractDoubleAggregator<T>
         }
 
 
+    // ----- StreamingAggregator methods ------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    @Override
+    public boolean accumulate(Streamer<? extends InvocableMap.Entry<? extends Object, ? extends Object>> streamer)
+        {
+        if (!isColumnar())
+            {
+            return super.accumulate(streamer);
+            }
+
+        ensureInitialized(false);
+
+        double[] adfl  = null;
+        MapIndex index = null;
+        int      c     = 0;
+        while (streamer.hasNext())
+            {
+            InvocableMap.Entry<?, ?> entry = streamer.next();
+            if (adfl == null)
+                {
+                adfl  = new double[BATCH_SIZE];
+                index = getIndex(entry);
+                }
+
+            Object o = extract(entry, index);
+            if (o != null)
+                {
+                adfl[c++] = ((Number) o).doubleValue();
+                if (c == BATCH_SIZE)
+                    {
+                    process(adfl, c);
+                    c = 0;
+                    }
+                }
+            }
+
+        if (c > 0)
+            {
+            process(adfl, c);
+            }
+        return true;
+        }
+
+
     // ----- AbstractAggregator methods -------------------------------------
 
     /**
@@ -77,6 +132,47 @@ public abstract class AbstractDoubleAggregator<T>
         }
 
 
+    // ----- columnar processing --------------------------------------------
+
+    /**
+    * Determine whether this aggregator {@link #process(double[], int)
+    * processes} the extracted values in batches.
+    * <p>
+    * Subclasses that override {@link #process(double[], int)} and do not
+    * customize the {@link #processEntry per-entry} processing should
+    * return true.
+    *
+    * @return true if the extracted values are processed in batches
+    */
+    protected boolean isColumnar()
+        {
+        return false;
+        }
+
+    /**
+    * Incorporate a batch of (non-null) values extracted from the aggregated
+    * entries into the partial result.
+    *
+    * @param adfl  the array of extracted values
+    * @param c     the number of values in the array
+    */
+    protected void process(double[] adfl, int c)
+        {
+        for (int i = 0; i < c; i++)
+            {
+            process(Double.valueOf(adfl[i]), false);
+            }
+        }
+
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The number of extracted values that are processed in a single batch.
+    */
+    protected static final int BATCH_SIZE = 256;
+
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -157,4 +157,31 @@ public class DoubleAverage<T>
                 }
             }
         }
-    }
\ No newline at end of file
+
+    // ----- AbstractDoubleAggregator methods --------------------------------
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * Subclasses may override the per-value processing, so the values are
+    * only processed in batches by this class itself.
+    */
+    protected boolean isColumnar()
+        {
+        return getClass() == DoubleAverage.class;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    protected void process(double[] adfl, int c)
+        {
+        double dfl = m_dflResult;
+        for (int i = 0; i < c; i++)
+            {
+            dfl += adfl[i];
+            }
+        m_dflResult = dfl;
+        m_count    += c;
+        }
+    }
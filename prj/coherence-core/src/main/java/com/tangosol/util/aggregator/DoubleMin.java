@@ -94,4 +94,31 @@ public class DoubleMin<T>
             m_count++;
             }
         }
-    }
\ No newline at end of file
+
+    // ----- AbstractDoubleAggregator methods --------------------------------
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * Subclasses may override the per-value processing, so the values are
+    * only processed in batches by this class itself.
+    */
+    protected boolean isColumnar()
+        {
+        return getClass() == DoubleMin.class;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    protected void process(double[] adfl, int c)
+        {
+        double dfl = m_dflResult;
+        for (int i = 0; i < c; i++)
+            {
+            dfl = Math.min(dfl, adfl[i]);
+            }
+        m_dflResult = dfl;
+        m_count    += c;
+        }
+    }
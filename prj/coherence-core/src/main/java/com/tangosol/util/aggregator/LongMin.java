@@ -94,4 +94,31 @@ public class LongMin<T>
             m_count++;
             }
         }
+
+    // ----- AbstractLongAggregator methods ----------------------------------
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * Subclasses may override the per-value processing, so the values are
+    * only processed in batches by this class itself.
+    */
+    protected boolean isColumnar()
+        {
+        return getClass() == LongMin.class;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    protected void process(long[] al, int c)
+        {
+        long l = m_lResult;
+        for (int i = 0; i < c; i++)
+            {
+            l = Math.min(l, al[i]);
+            }
+        m_lResult = l;
+        m_count  += c;
+        }
     }
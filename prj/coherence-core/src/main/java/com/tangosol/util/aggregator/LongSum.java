@@ -93,4 +93,31 @@ public class LongSum<T>
             m_count++;
             }
         }
-    }
\ No newline at end of file
+
+    // ----- AbstractLongAggregator methods ----------------------------------
+
+    /**
+    * {@inheritDoc}
+    * <p>
+    * Subclasses may override the per-value processing, so the values are
+    * only processed in batches by this class itself.
+    */
+    protected boolean isColumnar()
+        {
+        return getClass() == LongSum.class;
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    protected void process(long[] al, int c)
+        {
+        long l = m_lResult;
+        for (int i = 0; i < c; i++)
+            {
+            l += al[i];
+            }
+        m_lResult = l;
+        m_count  += c;
+        }
+    }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.aggregator;
+
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import com.tangosol.util.ClassHelper;
+import com.tangosol.util.ExternalizableHelper;
+import com.tangosol.util.InvocableMap;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.Objects;
+
+import javax.json.bind.annotation.JsonbProperty;
+
+
+/**
+ * PartialResultAggregator wraps a {@link InvocableMap.StreamingAggregator
+ * StreamingAggregator} and returns its (combined) partial result instead of
+ * the final result.
+ * <p>
+ * This allows the caller to split an aggregation into several independent
+ * requests (for example, one per set of partitions), and to combine their
+ * results locally using the wrapped aggregator:
+ * <pre>
+ *   StreamingAggregator&lt;K, V, P, R&gt; aggrResult = aggregator.supply();
+ *   for (PartitionSet parts : aParts)
+ *       {
+ *       aggrResult.combine(cache.aggregate(new PartitionedFilter(filter, parts),
+ *               new PartialResultAggregator&lt;&gt;(aggregator.supply())));
+ *       }
+ *   R result = aggrResult.finalizeResult();
+ * </pre>
+ *
+ * @param <K>  the type of the Map entry keys
+ * @param <V>  the type of the Map entry values
+ * @param <P>  the type of the partial result
+ *
+ * @since 20.12
+ */
+public class PartialResultAggregator<K, V, P>
+        implements InvocableMap.StreamingAggregator<K, V, P, P>,
+                   ExternalizableLite, PortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Default constructor (necessary for the ExternalizableLite interface).
+     */
+    public PartialResultAggregator()
+        {
+        }
+
+    /**
+     * Construct a PartialResultAggregator.
+     *
+     * @param aggregator  the aggregator wrapped by this PartialResultAggregator
+     */
+    public PartialResultAggregator(InvocableMap.StreamingAggregator<K, V, P, ?> aggregator)
+        {
+        m_aggregator = Objects.requireNonNull(aggregator);
+        }
+
+    // ----- InvocableMap.StreamingAggregator interface ---------------------
+
+    @Override
+    public InvocableMap.StreamingAggregator<K, V, P, P> supply()
+        {
+        return new PartialResultAggregator<>(getAggregator().supply());
+        }
+
+    @Override
+    public boolean accumulate(InvocableMap.Entry<? extends K, ? extends V> entry)
+        {
+        return m_aggregator.accumulate(entry);
+        }
+
+    @Override
+    public boolean combine(P partialResult)
+        {
+        return m_aggregator.combine(partialResult);
+        }
+
+    @Override
+    public P getPartialResult()
+        {
+        return m_aggregator.getPartialResult();
+        }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This implementation returns the partial result of the wrapped
+     * aggregator, which has combined all of the partial results produced
+     * by the storage members.
+     */
+    @Override
+    public P finalizeResult()
+        {
+        return m_aggregator.getPartialResult();
+        }
+
+    @Override
+    public int characteristics()
+        {
+        return m_aggregator.characteristics();
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Obtain the underlying aggregator.
+     *
+     * @return the aggregator wrapped by this PartialResultAggregator
+     */
+    public InvocableMap.StreamingAggregator<K, V, P, ?> getAggregator()
+        {
+        return m_aggregator;
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+     * Return a human-readable description for this PartialResultAggregator.
+     *
+     * @return a String description of the PartialResultAggregator
+     */
+    public String toString()
+        {
+        return ClassHelper.getSimpleName(getClass()) + '(' + m_aggregator + ')';
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    @Override
+    public void readExternal(DataInput in)
+            throws IOException
+        {
+        m_aggregator = ExternalizableHelper.readObject(in);
+        }
+
+    @Override
+    public void writeExternal(DataOutput out)
+            throws IOException
+        {
+        ExternalizableHelper.writeObject(out, m_aggregator);
+        }
+
+    // ----- PortableObject interface ---------------------------------------
+
+    @Override
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        m_aggregator = in.readObject(0);
+        }
+
+    @Override
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        out.writeObject(0, m_aggregator);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The wrapped aggregator.
+     */
+    @JsonbProperty("aggregator")
+    private InvocableMap.StreamingAggregator<K, V, P, ?> m_aggregator;
+    }
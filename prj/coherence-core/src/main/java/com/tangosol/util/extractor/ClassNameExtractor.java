@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.extractor;
+
+
+import com.tangosol.io.ExternalizableLite;
+
+import com.tangosol.io.pof.PofReader;
+import com.tangosol.io.pof.PofWriter;
+import com.tangosol.io.pof.PortableObject;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+
+/**
+* Trivial ValueExtractor implementation that returns the name of the class
+* of the passed value.
+* <p>
+* Unlike a {@link ReflectionExtractor} for the {@code getClass} method, the
+* result is a String that can be returned to the caller regardless of the
+* serializer, and no reflection is performed against {@link Class}.
+*
+* @since 20.12
+*/
+public class ClassNameExtractor<T>
+        extends    AbstractExtractor<T, String>
+        implements ExternalizableLite, PortableObject
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+    * Default constructor (necessary for the ExternalizableLite interface).
+    * <p>
+    * To obtain an instance of a ClassNameExtractor use the
+    * {@link ClassNameExtractor#INSTANCE ClassNameExtractor.INSTANCE} constant.
+    */
+    public ClassNameExtractor()
+        {
+        }
+
+    // ----- ValueExtractor interface ---------------------------------------
+
+    /**
+    * Return the name of the class of the passed object.
+    *
+    * @return the class name, or null if the passed object is null
+    */
+    public String extract(T target)
+        {
+        return target == null ? null : target.getClass().getName();
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    /**
+    * Compare the ClassNameExtractor with another object to determine
+    * equality.
+    *
+    * @return true iff the passed object is a ClassNameExtractor
+    */
+    @Override
+    public boolean equals(Object o)
+        {
+        return o instanceof ClassNameExtractor;
+        }
+
+    /**
+    * Return the hashCode for this ClassNameExtractor.
+    *
+    * @return an integer hash value for this {@code ClassNameExtractor} object
+    */
+    @Override
+    public int hashCode()
+        {
+        return ClassNameExtractor.class.getName().hashCode();
+        }
+
+    /**
+    * Provide a human-readable description of this ClassNameExtractor object.
+    *
+    * @return a human-readable description of this ClassNameExtractor object
+    */
+    @Override
+    public String toString()
+        {
+        return "ClassNameExtractor";
+        }
+
+    // ----- ExternalizableLite interface -----------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void readExternal(DataInput in)
+            throws IOException
+        {
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void writeExternal(DataOutput out)
+            throws IOException
+        {
+        }
+
+    // ----- PortableObject interface ---------------------------------------
+
+    /**
+    * {@inheritDoc}
+    */
+    public void readExternal(PofReader in)
+            throws IOException
+        {
+        }
+
+    /**
+    * {@inheritDoc}
+    */
+    public void writeExternal(PofWriter out)
+            throws IOException
+        {
+        }
+
+    // ---- constants -------------------------------------------------------
+
+    /**
+    * An instance of the ClassNameExtractor.
+    */
+    public static final ClassNameExtractor INSTANCE = new ClassNameExtractor();
+    }
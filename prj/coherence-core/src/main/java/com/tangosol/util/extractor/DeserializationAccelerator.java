@@ -8,6 +8,8 @@
 package com.tangosol.util.extractor;
 
 
+import com.tangosol.coherence.config.Config;
+
 import com.tangosol.io.ExternalizableLite;
 
 import com.tangosol.io.pof.PofReader;
@@ -119,9 +121,10 @@ public class DeserializationAccelerator
                     "Repetitive addIndex call for " + this);
             }
 
-        ForwardOnlyMapIndex indexNew = new ForwardOnlyMapIndex(extractor, ctx, m_fLazy);
+        ForwardOnlyMapIndex indexNew = new ForwardOnlyMapIndex(extractor, ctx, m_fLazy, MAX_ON_DEMAND_UNITS);
 
         mapIndex.put(extractor, indexNew);
+        indexNew.registerMBean();
 
         return indexNew;
         }
@@ -131,7 +134,12 @@ public class DeserializationAccelerator
     */
     public MapIndex destroyIndex(Map mapIndex)
         {
-        return (MapIndex) mapIndex.remove(m_extractor);
+        MapIndex index = (MapIndex) mapIndex.remove(m_extractor);
+        if (index instanceof ForwardOnlyMapIndex)
+            {
+            ((ForwardOnlyMapIndex) index).unregisterMBean();
+            }
+        return index;
         }
 
 
@@ -232,6 +240,24 @@ public class DeserializationAccelerator
         }
 
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+    * The estimated memory footprint, in bytes, of the values held by an
+    * on-demand index, which can be configured using the
+    * {@code coherence.accelerator.ondemand.size} system property (for
+    * example "512MB"); on-demand indexes are unbounded by default.
+    */
+    public static final long MAX_ON_DEMAND_UNITS;
+
+    static
+        {
+        String sSize = Config.getProperty("coherence.accelerator.ondemand.size");
+
+        MAX_ON_DEMAND_UNITS = sSize == null ? Long.MAX_VALUE : Math.max(1L, parseMemorySize(sSize));
+        }
+
+
     // ----- data members ---------------------------------------------------
 
     /**
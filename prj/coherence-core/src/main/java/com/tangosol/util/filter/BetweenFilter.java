@@ -13,6 +13,7 @@ import com.tangosol.util.MapIndex;
 import com.tangosol.util.QueryContext;
 import com.tangosol.util.QueryMap;
 import com.tangosol.util.QueryRecord;
+import com.tangosol.util.SafeSkipListMap;
 import com.tangosol.util.ValueExtractor;
 
 import java.util.Collection;
@@ -383,28 +384,45 @@ public class BetweenFilter<T, E extends Comparable<? super E>>
         Comparable                    oUpperBound        = getUpperBound();
         boolean                       fIncludeLowerBound = isLowerBoundInclusive();
         boolean                       fIncludeUpperBound = isUpperBoundInclusive();
-        SortedMap<Object, Collection> mapRange           = mapInverted.subMap(oLowerBound, oUpperBound);
         Collection                    colKeysToRetain    = new HashSet();
-        boolean                       fInsideRange       = fIncludeLowerBound;
+        SortedMap<Object, Collection> mapRange;
 
-        for (Map.Entry<?, Collection> entry : mapRange.entrySet())
+        if (mapInverted instanceof SafeSkipListMap)
             {
-            Object     oIndexValue   = entry.getKey();
-            Collection colIndexKeys = entry.getValue();
+            // the range view honors the inclusiveness of both bounds, so
+            // no entries need to be evaluated
+            mapRange = ((SafeSkipListMap) mapInverted).subMap(
+                    oLowerBound, fIncludeLowerBound, oUpperBound, fIncludeUpperBound);
 
-            if (fInsideRange || evaluateExtracted(oIndexValue))
+            for (Collection colIndexKeys : mapRange.values())
                 {
-                fInsideRange = true;
                 colKeysToRetain.addAll(colIndexKeys);
                 }
             }
-
-        if (fIncludeUpperBound)
+        else
             {
-            Collection colUpper = mapInverted.get(oUpperBound);
-            if (colUpper != null)
+            mapRange = mapInverted.subMap(oLowerBound, oUpperBound);
+
+            boolean fInsideRange = fIncludeLowerBound;
+            for (Map.Entry<?, Collection> entry : mapRange.entrySet())
+                {
+                Object     oIndexValue   = entry.getKey();
+                Collection colIndexKeys = entry.getValue();
+
+                if (fInsideRange || evaluateExtracted(oIndexValue))
+                    {
+                    fInsideRange = true;
+                    colKeysToRetain.addAll(colIndexKeys);
+                    }
+                }
+
+            if (fIncludeUpperBound)
                 {
-                colKeysToRetain.addAll(colUpper);
+                Collection colUpper = mapInverted.get(oUpperBound);
+                if (colUpper != null)
+                    {
+                    colKeysToRetain.addAll(colUpper);
+                    }
                 }
             }
 
@@ -12,6 +12,8 @@ import com.tangosol.io.pof.PofReader;
 import com.tangosol.io.pof.PofWriter;
 
 import com.tangosol.util.MapIndex;
+import com.tangosol.util.SafeSkipListMap;
+import com.tangosol.util.SafeSortedMap;
 import com.tangosol.util.ValueExtractor;
 
 import java.io.DataInput;
@@ -20,6 +22,7 @@ import java.io.IOException;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
 
 import javax.json.bind.annotation.JsonbProperty;
 
@@ -136,6 +139,41 @@ public abstract class ComparisonFilter<T, E, C>
             }
         }
 
+    /**
+    * Split the contents of an ordered index at the specified value.
+    * <p>
+    * The {@link SafeSortedMap} and {@link SafeSkipListMap} implementations
+    * determine which side of the split is smaller without calculating the
+    * size of either side; for any other SortedMap the size of the head is
+    * compared to the size of the map.
+    *
+    * @param mapContents  the contents of an ordered index
+    * @param oValue       the value to split the index contents at
+    *
+    * @return the split of the index contents at the specified value
+    */
+    protected static IndexSplit splitIndex(SortedMap mapContents, Object oValue)
+        {
+        if (mapContents instanceof SafeSortedMap)
+            {
+            // optimization for SafeSortedMap indices (see COH-1199)
+            SafeSortedMap.Split split = ((SafeSortedMap) mapContents).split(oValue);
+            return new IndexSplit(split.getHead(), split.getTail(), split.isHeadHeavy());
+            }
+        else if (mapContents instanceof SafeSkipListMap)
+            {
+            SafeSkipListMap.Split split = ((SafeSkipListMap) mapContents).split(oValue);
+            return new IndexSplit(split.getHead(), split.getTail(), split.isHeadHeavy());
+            }
+        else
+            {
+            // generic SortedMap; fall back on using size()
+            SortedMap mapHead = mapContents.headMap(oValue);
+            return new IndexSplit(mapHead, mapContents.tailMap(oValue),
+                    mapHead.size() > mapContents.size() / 2);
+            }
+        }
+
     /**
     * Return the string representation of the value.
     *
@@ -253,4 +291,77 @@ public abstract class ComparisonFilter<T, E, C>
     */
     @JsonbProperty("value")
     protected C m_value;
+
+
+    // ----- inner class: IndexSplit ----------------------------------------
+
+    /**
+    * IndexSplit holds the head and the tail of the contents of an ordered
+    * index split at a value, along with the information which of them is
+    * larger.
+    *
+    * @since 20.12
+    */
+    protected static class IndexSplit
+        {
+        /**
+        * Construct an IndexSplit.
+        *
+        * @param mapHead     the index contents less than the split value
+        * @param mapTail     the index contents greater than or equal to the
+        *                    split value
+        * @param fHeadHeavy  true iff the head is larger than the tail
+        */
+        protected IndexSplit(SortedMap mapHead, SortedMap mapTail, boolean fHeadHeavy)
+            {
+            f_mapHead    = mapHead;
+            f_mapTail    = mapTail;
+            f_fHeadHeavy = fHeadHeavy;
+            }
+
+        /**
+        * Return the index contents less than the split value.
+        *
+        * @return the head of the split
+        */
+        public SortedMap getHead()
+            {
+            return f_mapHead;
+            }
+
+        /**
+        * Return the index contents greater than or equal to the split value.
+        *
+        * @return the tail of the split
+        */
+        public SortedMap getTail()
+            {
+            return f_mapTail;
+            }
+
+        /**
+        * Return true if the head of the split is larger than the tail.
+        *
+        * @return true iff the head of the split is larger than the tail
+        */
+        public boolean isHeadHeavy()
+            {
+            return f_fHeadHeavy;
+            }
+
+        /**
+        * The index contents less than the split value.
+        */
+        private final SortedMap f_mapHead;
+
+        /**
+        * The index contents greater than or equal to the split value.
+        */
+        private final SortedMap f_mapTail;
+
+        /**
+        * Whether the head is larger than the tail.
+        */
+        private final boolean f_fHeadHeavy;
+        }
     }
@@ -11,7 +11,6 @@ package com.tangosol.util.filter;
 import com.tangosol.util.Filter;
 import com.tangosol.util.MapIndex;
 import com.tangosol.util.ValueExtractor;
-import com.tangosol.util.SafeSortedMap;
 
 import java.util.HashSet;
 import java.util.Iterator;
@@ -114,27 +113,12 @@ public class GreaterFilter<T, E extends Comparable<? super E>>
 
         if (index.isOrdered())
             {
-            SortedMap mapContents = (SortedMap) index.getIndexContents();
-            Set       setEQ       = (Set) mapContents.get(oValue);
-            SortedMap mapLT;
-            SortedMap mapGE;
-            boolean   fHeadHeavy;
-
-            if (mapContents instanceof SafeSortedMap)
-                {
-                // optimization for SafeSortedMap indices (see COH-1199)
-                SafeSortedMap.Split split = ((SafeSortedMap) mapContents).split(oValue);
-                mapLT      = split.getHead();
-                mapGE      = split.getTail();
-                fHeadHeavy = split.isHeadHeavy();
-                }
-            else
-                {
-                // generic SortedMap; fall back on using size()
-                mapLT      = mapContents.headMap(oValue);
-                mapGE      = mapContents.tailMap(oValue);
-                fHeadHeavy = mapLT.size() > mapContents.size() / 2;
-                }
+            SortedMap  mapContents = (SortedMap) index.getIndexContents();
+            Set        setEQ       = (Set) mapContents.get(oValue);
+            IndexSplit split       = splitIndex(mapContents, oValue);
+            SortedMap  mapLT       = split.getHead();
+            SortedMap  mapGE       = split.getTail();
+            boolean    fHeadHeavy  = split.isHeadHeavy();
 
             if (fHeadHeavy || index.isPartial())
                 {
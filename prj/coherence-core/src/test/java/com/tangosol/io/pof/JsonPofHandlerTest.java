@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.io.pof;
+
+import com.oracle.coherence.common.schema.CanonicalTypeDescriptor;
+import com.oracle.coherence.common.schema.ExtensibleProperty;
+import com.oracle.coherence.common.schema.ExtensibleType;
+import com.oracle.coherence.common.schema.Schema;
+import com.oracle.coherence.common.schema.SchemaBuilder;
+
+import com.tangosol.io.pof.schema.PofProperty;
+import com.tangosol.io.pof.schema.PofType;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.ExternalizableHelper;
+
+import data.pof.Address;
+import data.pof.PofDataUtils;
+
+import java.io.IOException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests for {@link JsonPofHandler}.
+ */
+public class JsonPofHandlerTest
+    {
+    @Test
+    public void shouldTranscodeUserTypeWithSchema()
+        {
+        Address address = new Address("1 Main St", "Boston", "MA", "02110");
+
+        assertThat(JsonPofHandler.toJson(serialize(address), createSchema()),
+                   is("{\"street\":\"1 Main St\",\"city\":\"Boston\",\"state\":\"MA\",\"zip\":\"02110\"}"));
+        }
+
+    @Test
+    public void shouldTranscodeUserTypeWithoutSchema()
+        {
+        Address address = new Address("1 Main St", "Boston", null, "02110");
+
+        // null properties are not written to the POF stream
+        assertThat(JsonPofHandler.toJson(serialize(address), null),
+                   is("{\"0\":\"1 Main St\",\"1\":\"Boston\",\"3\":\"02110\"}"));
+        }
+
+    @Test
+    public void shouldTranscodeMapsAndCollections()
+        {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("list", Arrays.asList(1, 2, 3));
+        map.put(7, "a \"quoted\" value");
+        map.put("flag", true);
+
+        assertThat(JsonPofHandler.toJson(serialize(map), null),
+                   is("{\"list\":[1,2,3],\"7\":\"a \\\"quoted\\\" value\",\"flag\":true}"));
+        }
+
+    @Test
+    public void shouldMergePortableTypeHierarchy()
+        {
+        Derived derived = new Derived("d-1", "derived");
+
+        assertThat(JsonPofHandler.toJson(ExternalizableHelper.toBinary(derived, createHierarchyContext()),
+                                         createHierarchySchema()),
+                   is("{\"id\":\"d-1\",\"name\":\"derived\"}"));
+        }
+
+    @Test
+    public void shouldNotMergeNamedUserTypeProperty()
+        {
+        // the Address is written at POF index 1, which is also its type id
+        Holder holder = new Holder("home", new Address("1 Main St", "Boston", "MA", "02110"));
+
+        assertThat(JsonPofHandler.toJson(ExternalizableHelper.toBinary(holder, createHierarchyContext()),
+                                         createHierarchySchema()),
+                   is("{\"label\":\"home\",\"address\":"
+                      + "{\"street\":\"1 Main St\",\"city\":\"Boston\",\"state\":\"MA\",\"zip\":\"02110\"}}"));
+        }
+
+    @Test
+    public void shouldNotMergeUserTypePropertyWithoutSchema()
+        {
+        Holder holder = new Holder("home", new Address("1 Main St", "Boston", null, "02110"));
+
+        assertThat(JsonPofHandler.toJson(ExternalizableHelper.toBinary(holder, createHierarchyContext()), null),
+                   is("{\"0\":\"home\",\"1\":{\"0\":\"1 Main St\",\"1\":\"Boston\",\"3\":\"02110\"}}"));
+        }
+
+    @Test
+    public void shouldNotMergePortableTypeHierarchyWithoutSchema()
+        {
+        Derived derived = new Derived("d-1", "derived");
+
+        assertThat(JsonPofHandler.toJson(ExternalizableHelper.toBinary(derived, createHierarchyContext()), null),
+                   is("{\"2000\":{\"0\":\"d-1\"},\"2001\":{\"0\":\"derived\"}}"));
+        }
+
+    @Test
+    public void shouldTranscodeFloat128AsDecimalString()
+        {
+        assertThat(toDecimal(0x3F, 0xFF, 0x00), is("1"));
+        assertThat(toDecimal(0xC0, 0x00, 0x40), is("-2.5"));
+        assertThat(toDecimal(0x00, 0x00, 0x00), is("0"));
+        assertThat(toDecimal(0x7F, 0xFF, 0x00), is("Infinity"));
+        assertThat(toDecimal(0xFF, 0xFF, 0x00), is("-Infinity"));
+        assertThat(toDecimal(0x7F, 0xFF, 0x80), is("NaN"));
+
+        // 2^-16494 is the smallest subnormal value
+        byte[] ab = new byte[16];
+        ab[15] = 1;
+        assertThat(JsonPofHandler.toDecimalString(new RawQuad(new Binary(ab))),
+                   is(new BigDecimal(BigInteger.ONE, 16494)
+                              .multiply(new BigDecimal(BigInteger.valueOf(5).pow(16494)))
+                              .round(new MathContext(36)).stripTrailingZeros().toString()));
+
+        // the precision is retained, unlike when converted to a double
+        // (1 + 2^-112)
+        ab = new byte[16];
+        ab[0]  = 0x3F;
+        ab[1]  = (byte) 0xFF;
+        ab[15] = 1;
+        assertThat(JsonPofHandler.toDecimalString(new RawQuad(new Binary(ab))),
+                   is("1.00000000000000000000000000000000019"));
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the decimal representation of the binary128 value with the
+     * specified leading bytes, followed by zeros.
+     *
+     * @param nByte0  the first byte
+     * @param nByte1  the second byte
+     * @param nByte2  the third byte
+     *
+     * @return the decimal representation
+     */
+    protected static String toDecimal(int nByte0, int nByte1, int nByte2)
+        {
+        byte[] ab = new byte[16];
+        ab[0] = (byte) nByte0;
+        ab[1] = (byte) nByte1;
+        ab[2] = (byte) nByte2;
+        return JsonPofHandler.toDecimalString(new RawQuad(new Binary(ab)));
+        }
+
+    /**
+     * Create a POF context for the {@link Base}, {@link Derived} and {@link
+     * Holder} classes.
+     *
+     * @return the POF context
+     */
+    protected static PofContext createHierarchyContext()
+        {
+        SimplePofContext ctx = new SimplePofContext();
+        ctx.registerUserType(1, Address.class, new PortableObjectSerializer(1));
+        ctx.registerUserType(3, Holder.class, new PortableObjectSerializer(3));
+        ctx.registerUserType(BASE_TYPE_ID, Base.class, new PortableTypeSerializer<>(BASE_TYPE_ID, Base.class));
+        ctx.registerUserType(DERIVED_TYPE_ID, Derived.class, new PortableTypeSerializer<>(DERIVED_TYPE_ID, Derived.class));
+        return ctx;
+        }
+
+    /**
+     * Create a POF schema that describes the {@link Address}, {@link Base},
+     * {@link Derived} and {@link Holder} classes.
+     *
+     * @return the POF schema
+     */
+    protected static Schema createHierarchySchema()
+        {
+        Schema schema = createSchema();
+        addType(schema, "com.tangosol.io.pof", "Holder", 3, "label", "address");
+        addType(schema, "com.tangosol.io.pof", "Base", BASE_TYPE_ID, "id");
+        addType(schema, "com.tangosol.io.pof", "Derived", DERIVED_TYPE_ID, "name");
+        schema.getType(new CanonicalTypeDescriptor("com.tangosol.io.pof", "Derived"))
+                .setBase(new CanonicalTypeDescriptor("com.tangosol.io.pof", "Base"));
+        return schema;
+        }
+
+
+    /**
+     * Serialize the specified value using the test POF context.
+     *
+     * @param o  the value to serialize
+     *
+     * @return the serialized value
+     */
+    protected static Binary serialize(Object o)
+        {
+        return ExternalizableHelper.toBinary(o, PofDataUtils.getPofContext());
+        }
+
+    /**
+     * Create a POF schema that describes the {@link Address} class.
+     *
+     * @return the POF schema
+     */
+    protected static Schema createSchema()
+        {
+        Schema schema = new SchemaBuilder().build();
+        addType(schema, "data.pof", "Address", 1, "street", "city", "state", "zip");
+        return schema;
+        }
+
+    /**
+     * Add a POF type with the specified properties to the specified schema.
+     *
+     * @param schema      the schema to add the type to
+     * @param sNamespace  the namespace of the type
+     * @param sName       the name of the type
+     * @param nTypeId     the POF type identifier
+     * @param asNames     the property names, in POF index order
+     */
+    protected static void addType(Schema schema, String sNamespace, String sName,
+            int nTypeId, String... asNames)
+        {
+        ExtensibleType type = new ExtensibleType();
+        type.setDescriptor(new CanonicalTypeDescriptor(sNamespace, sName));
+
+        PofType pofType = new PofType(type);
+        pofType.setId(nTypeId);
+        type.addExtension(pofType);
+
+        for (int i = 0; i < asNames.length; i++)
+            {
+            ExtensibleProperty property = new ExtensibleProperty();
+            property.setName(asNames[i]);
+
+            PofProperty pofProperty = new PofProperty(property);
+            pofProperty.setOrder(i);
+            property.addExtension(pofProperty);
+
+            type.addProperty(property);
+            }
+
+        schema.addType(type);
+        }
+
+    // ----- inner class: Base ----------------------------------------------
+
+    /**
+     * The root of a type hierarchy serialized by a {@link
+     * PortableTypeSerializer}.
+     */
+    public static class Base
+            implements PortableObject
+        {
+        public Base()
+            {
+            }
+
+        public Base(String sId)
+            {
+            m_sId = sId;
+            }
+
+        @Override
+        public void readExternal(PofReader in)
+                throws IOException
+            {
+            if (in.getUserTypeId() == BASE_TYPE_ID)
+                {
+                m_sId = in.readString(0);
+                }
+            }
+
+        @Override
+        public void writeExternal(PofWriter out)
+                throws IOException
+            {
+            if (out.getUserTypeId() == BASE_TYPE_ID)
+                {
+                out.writeString(0, m_sId);
+                }
+            }
+
+        protected String m_sId;
+        }
+
+    // ----- inner class: Derived -------------------------------------------
+
+    /**
+     * A subclass of {@link Base} serialized by a {@link
+     * PortableTypeSerializer}.
+     */
+    public static class Derived
+            extends Base
+        {
+        public Derived()
+            {
+            }
+
+        public Derived(String sId, String sName)
+            {
+            super(sId);
+            m_sName = sName;
+            }
+
+        @Override
+        public void readExternal(PofReader in)
+                throws IOException
+            {
+            super.readExternal(in);
+            if (in.getUserTypeId() == DERIVED_TYPE_ID)
+                {
+                m_sName = in.readString(0);
+                }
+            }
+
+        @Override
+        public void writeExternal(PofWriter out)
+                throws IOException
+            {
+            super.writeExternal(out);
+            if (out.getUserTypeId() == DERIVED_TYPE_ID)
+                {
+                out.writeString(0, m_sName);
+                }
+            }
+
+        protected String m_sName;
+        }
+
+    // ----- inner class: Holder --------------------------------------------
+
+    /**
+     * A user type with an {@link Address} property whose POF index is equal
+     * to the type identifier of {@link Address}.
+     */
+    public static class Holder
+            implements PortableObject
+        {
+        public Holder()
+            {
+            }
+
+        public Holder(String sLabel, Address address)
+            {
+            m_sLabel  = sLabel;
+            m_address = address;
+            }
+
+        @Override
+        public void readExternal(PofReader in)
+                throws IOException
+            {
+            m_sLabel  = in.readString(0);
+            m_address = in.readObject(1);
+            }
+
+        @Override
+        public void writeExternal(PofWriter out)
+                throws IOException
+            {
+            out.writeString(0, m_sLabel);
+            out.writeObject(1, m_address);
+            }
+
+        protected String  m_sLabel;
+        protected Address m_address;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The type identifier of {@link Base}.
+     */
+    protected static final int BASE_TYPE_ID = 2000;
+
+    /**
+     * The type identifier of {@link Derived}.
+     */
+    protected static final int DERIVED_TYPE_ID = 2001;
+    }
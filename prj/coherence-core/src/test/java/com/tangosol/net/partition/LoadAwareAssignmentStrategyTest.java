@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.net.partition;
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.Member;
+import com.tangosol.net.PartitionedService;
+import com.tangosol.net.ServiceInfo;
+
+import com.tangosol.net.partition.LoadAwareAssignmentStrategy.WeightedLoadCalculator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link LoadAwareAssignmentStrategy}.
+ */
+public class LoadAwareAssignmentStrategyTest
+    {
+    @Test
+    public void shouldWeighStorageSize()
+        {
+        PartitionStatistics[] aStats = {createStats(0, 300L), createStats(1, 100L), null};
+
+        WeightedLoadCalculator calculator = new WeightedLoadCalculator(aStats, 3, 1, 0);
+
+        // relative to the average sampled partition; unknown partitions are average
+        assertEquals(150, calculator.getLoad(0));
+        assertEquals(50,  calculator.getLoad(1));
+        assertEquals(100, calculator.getLoad(2));
+        assertEquals(300L, calculator.getStorageSize(0));
+        assertEquals(0L,   calculator.getStorageSize(2));
+
+        PartitionSet parts = new PartitionSet(3);
+        parts.fill();
+        assertEquals(300, calculator.getLoad(parts));
+        }
+
+    @Test
+    public void shouldCombineStorageAndRequests()
+        {
+        PartitionStatistics stats = createStats(0, 100L);
+
+        // use the same sample duration for both partitions
+        PartitionStatistics[] aStats = {stats, new PartitionStatistics().copyFrom(stats)};
+        for (int i = 0; i < 3; i++)
+            {
+            aStats[0].recordRequest(0L, 10L);
+            }
+        aStats[1].recordRequest(0L, 10L);
+
+        WeightedLoadCalculator calculator = new WeightedLoadCalculator(aStats, 2, 1, 1);
+
+        // storage is even; partition 0 handles 3/4 of the requests
+        assertEquals(125, calculator.getLoad(0));
+        assertEquals(75,  calculator.getLoad(1));
+        }
+
+    @Test
+    public void shouldDefaultToCountBasedLoad()
+        {
+        WeightedLoadCalculator calculator = new WeightedLoadCalculator(null, 4, 1, 1);
+
+        PartitionSet parts = new PartitionSet(4);
+        parts.fill();
+        assertEquals(4 * WeightedLoadCalculator.LOAD_SCALE, calculator.getLoad(parts));
+        }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectZeroWeights()
+        {
+        new LoadAwareAssignmentStrategy(0, 0, 1, 10);
+        }
+
+    @Test
+    public void shouldNotBalanceWithinTolerance()
+        {
+        // member 1 owns partitions with 130 bytes, member 2 with 70 bytes;
+        // primary loads are 650 and 350, the fair-share is 501
+        long[] acb = {130L, 130L, 130L, 130L, 130L, 70L, 70L, 70L, 70L, 70L};
+
+        // the variance of 300 is within 60% of the fair-share
+        assertEquals(0, analyze(new LoadAwareAssignmentStrategy(1, 0, 0, 60), acb, 5));
+        assertEquals(650, m_anLoad[0]);
+        assertEquals(350, m_anLoad[1]);
+
+        // but not within 10%
+        assertEquals(1, analyze(new LoadAwareAssignmentStrategy(1, 0, 0, 10), acb, 5));
+        assertEquals(520, m_anLoad[0]);
+        assertEquals(480, m_anLoad[1]);
+        }
+
+    @Test
+    public void shouldBalanceImbalancedLoad()
+        {
+        // member 1 owns partitions with 300 bytes, member 2 with 100 bytes;
+        // primary loads are 750 and 250, the fair-share is 501
+        long[] acb = {300L, 300L, 300L, 300L, 300L, 100L, 100L, 100L, 100L, 100L};
+
+        LoadAwareAssignmentStrategy strategy = new LoadAwareAssignmentStrategy(1, 0, 0, 10);
+
+        assertEquals(3, analyze(strategy, acb, 5));
+        assertEquals(500, m_anLoad[0]);
+        assertEquals(500, m_anLoad[1]);
+        assertEquals(strategy.getSuggestionDelay(), m_cDelay);
+        }
+
+    @Test
+    public void shouldLimitTransfersPerAnalysis()
+        {
+        long[] acb = {300L, 300L, 300L, 300L, 300L, 100L, 100L, 100L, 100L, 100L};
+
+        LoadAwareAssignmentStrategy strategy = new LoadAwareAssignmentStrategy(1, 0, 1, 10);
+
+        assertEquals(1, analyze(strategy, acb, 5));
+        assertEquals(600, m_anLoad[0]);
+        assertEquals(400, m_anLoad[1]);
+
+        // the truncated plan schedules the next analysis sooner
+        assertEquals(strategy.getTruncatedAnalysisDelay(), m_cDelay);
+        }
+
+    @Test
+    public void shouldNotChargeEmptyPartitions()
+        {
+        // member 1 owns all of the non-empty partitions (with a load of 333)
+        // and five empty ones (with the minimum load of 1)
+        long[] acb = {100L, 100L, 100L, 0L, 0L, 0L, 0L, 0L, 0L, 0L};
+
+        LoadAwareAssignmentStrategy strategy = new LoadAwareAssignmentStrategy(1, 0, 1, 10);
+
+        // only one non-empty partition is moved, but the empty partitions
+        // are not subject to the limit
+        assertEquals(6, analyze(strategy, acb, 8));
+        assertEquals(1, m_cLoadedTransfers);
+        assertEquals(666, m_anLoad[0]);
+        assertEquals(340, m_anLoad[1]);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Run a single analysis of the specified strategy against a service with
+     * two members and no backups, where the first member owns the first
+     * {@code cOwned} partitions and the second member owns the rest, and
+     * apply the suggested distribution.
+     * <p>
+     * The resulting primary loads of the members are stored in {@link
+     * #m_anLoad} and the suggested delay before the next analysis in
+     * {@link #m_cDelay}.
+     *
+     * @param strategy  the strategy
+     * @param acb       the storage size of each partition
+     * @param cOwned    the number of partitions owned by the first member
+     *
+     * @return the number of suggested primary transfers
+     */
+    protected int analyze(LoadAwareAssignmentStrategy strategy, long[] acb, int cOwned)
+        {
+        int                   cParts   = acb.length;
+        Member[]              aMember  = {createMember(1), createMember(2)};
+        int[]                 anOwner  = new int[cParts];
+        PartitionStatistics[] aStats   = new PartitionStatistics[cParts];
+        int[]                 cMoved   = new int[2];
+
+        for (int i = 0; i < cParts; i++)
+            {
+            anOwner[i] = i < cOwned ? 1 : 2;
+            aStats[i]  = createStats(i, acb[i]);
+            }
+
+        PartitionedService  service = mock(PartitionedService.class);
+        Cluster             cluster = mock(Cluster.class);
+        ServiceInfo         info    = mock(ServiceInfo.class);
+        DistributionManager manager = mock(DistributionManager.class);
+
+        when(service.getPartitionCount()).thenReturn(cParts);
+        when(service.getBackupCount()).thenReturn(0);
+        when(service.getCluster()).thenReturn(cluster);
+        when(service.getInfo()).thenReturn(info);
+        when(service.getPartitionOwner(anyInt())).thenAnswer(inv -> aMember[anOwner[inv.<Integer>getArgument(0)] - 1]);
+        when(cluster.getLocalMember()).thenReturn(aMember[0]);
+        when(info.getServiceName()).thenReturn("test");
+
+        when(manager.getService()).thenReturn(service);
+        when(manager.getMember(anyInt())).thenAnswer(inv ->
+            {
+            int nId = inv.getArgument(0);
+            return nId >= 1 && nId <= aMember.length ? aMember[nId - 1] : null;
+            });
+        when(manager.getOwnershipMembers()).thenReturn(new HashSet<>(Arrays.asList(aMember)));
+        when(manager.getOwnershipLeavingMembers()).thenReturn(Collections.emptySet());
+        when(manager.getPartitionStats()).thenReturn(aStats);
+        when(manager.getPartitionOwnership(anyInt())).thenAnswer(inv ->
+            {
+            Ownership owners = new Ownership(0);
+            owners.setOwner(0, anOwner[inv.<Integer>getArgument(0)]);
+            return owners;
+            });
+        when(manager.getOwnedPartitions(any(Member.class), anyInt())).thenAnswer(inv ->
+            {
+            int          nId    = ((Member) inv.getArgument(0)).getId();
+            int          iStore = inv.getArgument(1);
+            PartitionSet parts  = new PartitionSet(cParts);
+            for (int i = 0; iStore == 0 && i < cParts; i++)
+                {
+                if (anOwner[i] == nId)
+                    {
+                    parts.add(i);
+                    }
+                }
+            return parts;
+            });
+        doAnswer(inv ->
+            {
+            PartitionSet parts  = inv.getArgument(0);
+            Ownership    owners = inv.getArgument(1);
+            for (int i = parts.next(0); i >= 0; i = parts.next(i + 1))
+                {
+                anOwner[i] = owners.getPrimaryOwner();
+                cMoved[0]++;
+                if (acb[i] > 0L)
+                    {
+                    cMoved[1]++;
+                    }
+                }
+            return null;
+            }).when(manager).suggest(any(PartitionSet.class), any(Ownership.class));
+
+        strategy.m_manager = manager;
+        m_cDelay           = strategy.analyzeDistribution();
+        m_cLoadedTransfers = cMoved[1];
+
+        LoadCalculator calculator = strategy.instantiateLoadCalculator(true);
+        m_anLoad = new int[aMember.length];
+        for (int i = 0; i < cParts; i++)
+            {
+            m_anLoad[anOwner[i] - 1] += calculator.getLoad(i);
+            }
+
+        return cMoved[0];
+        }
+
+    /**
+     * Create a service member with the specified id on its own machine.
+     *
+     * @param nId  the member id
+     *
+     * @return the member
+     */
+    protected static Member createMember(int nId)
+        {
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(nId);
+        when(member.getMachineId()).thenReturn(nId);
+        return member;
+        }
+
+    /**
+     * Create the statistics for a partition with the specified storage size.
+     *
+     * @param nPartition  the partition id
+     * @param cb          the storage size
+     *
+     * @return the partition statistics
+     */
+    protected static PartitionStatistics createStats(int nPartition, long cb)
+        {
+        return new PartitionStatistics(nPartition, 0L).setDirectStorageSize(cb);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The primary load of each member after the last {@link #analyze}.
+     */
+    protected int[] m_anLoad;
+
+    /**
+     * The delay before the next analysis suggested by the last {@link
+     * #analyze}.
+     */
+    protected long m_cDelay;
+
+    /**
+     * The number of non-empty partitions moved by the last {@link #analyze}.
+     */
+    protected int m_cLoadedTransfers;
+    }
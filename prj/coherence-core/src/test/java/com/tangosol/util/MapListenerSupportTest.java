@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.GreaterEqualsFilter;
+import com.tangosol.util.filter.GreaterFilter;
+import com.tangosol.util.filter.InFilter;
+import com.tangosol.util.filter.LessEqualsFilter;
+import com.tangosol.util.filter.LessFilter;
+import com.tangosol.util.filter.MapEventFilter;
+import com.tangosol.util.filter.NotEqualsFilter;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the filter-based listener matching in {@link MapListenerSupport}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class MapListenerSupportTest
+    {
+    @Test
+    public void shouldMatchIndexedFilters()
+        {
+        MapListenerSupport support   = new MapListenerSupport();
+        ValueExtractor     extractor = IdentityExtractor.INSTANCE;
+
+        Filter filterEquals  = new MapEventFilter(new EqualsFilter(extractor, 5));
+        Filter filterIn      = new MapEventFilter(new InFilter(extractor, new HashSet<>(Arrays.asList(1, 5))));
+        Filter filterGreater = new MapEventFilter(new GreaterFilter(extractor, 5));
+        Filter filterLess    = new MapEventFilter(new LessEqualsFilter(extractor, 5));
+
+        support.addListener(new TestListener(), filterEquals, false);
+        support.addListener(new TestListener(), filterIn, false);
+        support.addListener(new TestListener(), filterGreater, false);
+        support.addListener(new TestListener(), filterLess, false);
+
+        ObservableHashMap map = new ObservableHashMap();
+
+        Listeners listeners = support.collectListeners(new MapEvent(map, MapEvent.ENTRY_INSERTED, "k", null, 5));
+        assertEquals(3, listeners.listeners().length);
+        assertEquals(new HashSet<>(Arrays.asList(filterEquals, filterIn, filterLess)),
+                     new HashSet<>(Arrays.asList(listeners.getFilters())));
+
+        listeners = support.collectListeners(new MapEvent(map, MapEvent.ENTRY_INSERTED, "k", null, 7));
+        assertEquals(1, listeners.listeners().length);
+        assertEquals(filterGreater, listeners.getFilters()[0]);
+
+        listeners = support.collectListeners(new MapEvent(map, MapEvent.ENTRY_INSERTED, "k", null, null));
+        assertEquals(0, listeners.listeners().length);
+        assertNull(listeners.getFilters());
+        }
+
+    @Test
+    public void shouldMatchSameAsFilterEvaluation()
+        {
+        MapListenerSupport support   = new MapListenerSupport();
+        ValueExtractor     extractor = IdentityExtractor.INSTANCE;
+        List<Filter>       listAll   = new ArrayList<>();
+        Random             random    = new Random(42);
+
+        int[] anMask = {MapEventFilter.E_ALL, MapEventFilter.E_KEYSET, MapEventFilter.E_INSERTED,
+                        MapEventFilter.E_DELETED, MapEventFilter.E_UPDATED_ENTERED,
+                        MapEventFilter.E_UPDATED_LEFT, MapEventFilter.E_UPDATED_WITHIN,
+                        MapEventFilter.E_UPDATED_WITHIN | MapEventFilter.E_UPDATED_ENTERED};
+
+        for (int i = 0; i < 500; i++)
+            {
+            int    nValue = random.nextInt(20);
+            Filter filter;
+            switch (random.nextInt(7))
+                {
+                case 0:
+                    filter = new EqualsFilter(extractor, nValue);
+                    break;
+                case 1:
+                    filter = new GreaterFilter(extractor, nValue);
+                    break;
+                case 2:
+                    filter = new GreaterEqualsFilter(extractor, nValue);
+                    break;
+                case 3:
+                    filter = new LessFilter(extractor, nValue);
+                    break;
+                case 4:
+                    filter = new LessEqualsFilter(extractor, nValue);
+                    break;
+                case 5:
+                    filter = new InFilter(extractor, new HashSet<>(Arrays.asList(nValue, nValue + 1)));
+                    break;
+                default:
+                    // not indexed
+                    filter = new NotEqualsFilter(extractor, nValue);
+                    break;
+                }
+
+            Filter filterEvent = new MapEventFilter(anMask[random.nextInt(anMask.length)], filter);
+            listAll.add(filterEvent);
+            support.addListener(new TestListener(), filterEvent, false);
+            }
+
+        ObservableHashMap map = new ObservableHashMap();
+        for (int i = 0; i < 2000; i++)
+            {
+            int      nId   = MapEvent.ENTRY_INSERTED + random.nextInt(3);
+            Integer  nOld  = nId == MapEvent.ENTRY_INSERTED ? null : random.nextInt(22);
+            Integer  nNew  = nId == MapEvent.ENTRY_DELETED  ? null : random.nextInt(22);
+            MapEvent event = new MapEvent(map, nId, "k", nOld, nNew);
+
+            Set<Filter> setExpected = new HashSet<>();
+            for (Filter filter : listAll)
+                {
+                if (filter.evaluate(event))
+                    {
+                    setExpected.add(filter);
+                    }
+                }
+
+            Filter[] aFilter = support.collectListeners(event).getFilters();
+            assertEquals(event.toString(), setExpected,
+                         aFilter == null ? new HashSet<>() : new HashSet<>(Arrays.asList(aFilter)));
+            }
+        }
+
+    @Test
+    public void shouldRebuildIndexOnRegistrationChange()
+        {
+        MapListenerSupport support  = new MapListenerSupport();
+        ObservableHashMap  map      = new ObservableHashMap();
+        MapListener        listener = new TestListener();
+        Filter             filter   = new MapEventFilter(new EqualsFilter(IdentityExtractor.INSTANCE, 1));
+        MapEvent           event    = new MapEvent(map, MapEvent.ENTRY_INSERTED, "k", null, 1);
+
+        support.addListener(listener, filter, false);
+        assertTrue(support.collectListeners(event).contains(listener));
+
+        support.removeListener(listener, filter);
+        support.addListener(new TestListener(), new MapEventFilter(new EqualsFilter(IdentityExtractor.INSTANCE, 2)), false);
+        assertEquals(0, support.collectListeners(event).listeners().length);
+        }
+
+    // ----- inner class: TestListener --------------------------------------
+
+    /**
+     * A MapListener that ignores all events.
+     */
+    protected static class TestListener
+            extends MultiplexingMapListener
+        {
+        @Override
+        protected void onMapEvent(MapEvent evt)
+            {
+            }
+        }
+    }
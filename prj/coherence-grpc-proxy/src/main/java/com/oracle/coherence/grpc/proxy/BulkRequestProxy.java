@@ -0,0 +1,591 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.grpc.proxy;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+
+import com.oracle.coherence.grpc.BinaryHelper;
+import com.oracle.coherence.grpc.Entry;
+import com.oracle.coherence.grpc.InvokeAllRequest;
+import com.oracle.coherence.grpc.PutAllRequest;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.InvocableMap.EntryProcessor;
+
+import io.grpc.Status;
+
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A base class for the server side of client-streaming bulk requests.
+ * <p>
+ * Entries (or keys) received from the client are buffered per owning
+ * storage member and a batch is executed as soon as the buffer for a member
+ * reaches the configured batch size, so that the proxy never has to hold the
+ * whole request in memory and each batch only touches a single member.
+ * <p>
+ * Updates to the same key are applied in the order they were received: a key
+ * stays in the buffer it was first added to until that buffer is submitted,
+ * and a batch is only executed once all of the earlier batches that contain
+ * any of its keys have completed.
+ * <p>
+ * When the response observer supports it, automatic inbound flow control is
+ * disabled and the next request message is only requested from the client
+ * while the number of in-flight batches is below the configured maximum,
+ * which pushes back on clients that send faster than the cluster can apply
+ * the updates.
+ *
+ * @param <Req>   the type of the streamed requests
+ * @param <Resp>  the type of the responses
+ *
+ * @since 20.12
+ */
+abstract class BulkRequestProxy<Req, Resp>
+        implements StreamObserver<Req>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Create a {@link BulkRequestProxy}.
+     *
+     * @param service   the {@link NamedCacheService} to proxy
+     * @param observer  the {@link StreamObserver} to send responses to
+     */
+    BulkRequestProxy(NamedCacheService service, StreamObserver<Resp> observer)
+        {
+        f_service     = service;
+        f_observer    = observer;
+        f_cBatchSize  = Math.max(1, service.getBulkBatchSize());
+        f_cMaxPending = Math.max(1, service.getBulkMaxPending());
+
+        if (observer instanceof ServerCallStreamObserver)
+            {
+            ServerCallStreamObserver<Resp> observerCall = (ServerCallStreamObserver<Resp>) observer;
+            observerCall.disableAutoInboundFlowControl();
+            observerCall.request(1);
+            f_observerCall = observerCall;
+            }
+        else
+            {
+            f_observerCall = null;
+            }
+        }
+
+    // ----- StreamObserver methods -----------------------------------------
+
+    @Override
+    public void onNext(Req request)
+        {
+        boolean fRequest;
+        synchronized (this)
+            {
+            if (m_fDone)
+                {
+                return;
+                }
+
+            try
+                {
+                onRequest(request);
+                }
+            catch (Throwable t)
+                {
+                fail(t);
+                return;
+                }
+
+            fRequest  = m_cPending < f_cMaxPending;
+            m_fPaused = !fRequest;
+            }
+
+        if (fRequest)
+            {
+            requestNext();
+            }
+        }
+
+    @Override
+    public synchronized void onError(Throwable throwable)
+        {
+        // the client has failed or cancelled the stream, so there is nobody
+        // to send a response to; discard anything that has not been sent yet
+        m_fDone = true;
+        m_mapBuffer.clear();
+        m_mapBufferedKeys.clear();
+        }
+
+    @Override
+    public synchronized void onCompleted()
+        {
+        if (!m_fDone)
+            {
+            m_fInputComplete = true;
+            try
+                {
+                for (Map<Binary, Binary> map : new ArrayList<>(m_mapBuffer.values()))
+                    {
+                    submit(map);
+                    }
+                m_mapBuffer.clear();
+                }
+            catch (Throwable t)
+                {
+                fail(t);
+                return;
+                }
+            checkComplete();
+            }
+        }
+
+    // ----- abstract methods -----------------------------------------------
+
+    /**
+     * Process a single request message received from the client, typically
+     * by converting its payload and calling {@link #add(Binary, Binary)}.
+     *
+     * @param request  the request to process
+     */
+    protected abstract void onRequest(Req request);
+
+    /**
+     * Execute a single batch against the cache.
+     *
+     * @param map  the map of {@link Binary} keys and values in the batch
+     *
+     * @return a {@link CompletionStage} that completes when the batch has been executed
+     */
+    protected abstract CompletionStage<?> execute(Map<Binary, Binary> map);
+
+    /**
+     * Perform any final processing once all batches have completed
+     * successfully, before the response stream is completed.
+     */
+    protected abstract void onFinish();
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Ensure that the {@link CacheRequestHolder} for this stream has been
+     * created, and that the request is for the same cache as the first one.
+     *
+     * @param request     the request being processed
+     * @param sScope      the scope name to use to identify the CCF to obtain the cache from
+     * @param sCacheName  the name of the cache that the request executes against
+     * @param sFormat     the serialization format used by the request payload
+     *
+     * @return the {@link CacheRequestHolder} for this stream
+     */
+    protected CacheRequestHolder<Req, Void> ensureHolder(Req request, String sScope, String sCacheName, String sFormat)
+        {
+        CacheRequestHolder<Req, Void> holder = m_holder;
+        if (holder == null)
+            {
+            holder = f_service.supplyHolderInternal(request, sScope, sCacheName, sFormat);
+
+            CacheService service = holder.getCache().getCacheService();
+            m_holder             = holder;
+            m_servicePartitioned = service instanceof PartitionedService ? (PartitionedService) service : null;
+            }
+        else if (!holder.getCacheName().equals(sCacheName))
+            {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("request for different cache name, original cache name is "
+                                     + holder.getCacheName()
+                                     + " requested cache name is "
+                                     + sCacheName)
+                    .asRuntimeException();
+            }
+        return holder;
+        }
+
+    /**
+     * Add a key and value to the buffer of the member that owns the key,
+     * executing the buffer as a batch if it has reached the batch size.
+     *
+     * @param binKey    the {@link Binary} key in the cache's serialization format
+     * @param binValue  the {@link Binary} value in the cache's serialization format,
+     *                  or {@code null} if the request only has keys
+     */
+    protected void add(Binary binKey, Binary binValue)
+        {
+        // a key that is already buffered stays in the same buffer, even if
+        // its owner has changed since, so that it cannot overtake itself
+        Member member = m_mapBufferedKeys.get(binKey);
+        if (member == null && !m_mapBufferedKeys.containsKey(binKey))
+            {
+            // member could be null here, indicating that the owning partition is
+            // orphaned or that the cache is not partitioned
+            PartitionedService service = m_servicePartitioned;
+
+            member = service == null ? null : service.getKeyOwner(binKey);
+            m_mapBufferedKeys.put(binKey, member);
+            }
+
+        Map<Binary, Binary> map = m_mapBuffer.computeIfAbsent(member, m -> new HashMap<>());
+
+        map.put(binKey, binValue);
+        if (map.size() >= f_cBatchSize)
+            {
+            m_mapBuffer.remove(member);
+            submit(map);
+            }
+        }
+
+    /**
+     * Execute a batch asynchronously, once all of the earlier batches that
+     * contain any of its keys have completed.
+     *
+     * @param map  the batch to execute
+     */
+    private void submit(Map<Binary, Binary> map)
+        {
+        Map<Binary, CompletableFuture<?>> mapInFlight = m_mapInFlightKeys;
+        Set<CompletableFuture<?>>         setPrior    = new HashSet<>();
+        for (Binary binKey : map.keySet())
+            {
+            m_mapBufferedKeys.remove(binKey);
+
+            CompletableFuture<?> futurePrior = mapInFlight.get(binKey);
+            if (futurePrior != null)
+                {
+                setPrior.add(futurePrior);
+                }
+            }
+
+        CompletableFuture<?> futurePrior = setPrior.isEmpty()
+                ? CompletableFuture.completedFuture(null)
+                : CompletableFuture.allOf(setPrior.toArray(new CompletableFuture[0]));
+
+        // a failure of an earlier batch fails the whole request, so this
+        // batch only has to wait for the earlier ones to finish
+        CompletableFuture<?> future = futurePrior
+                .handle((v, err) -> null)
+                .thenCompose(v -> execute(map));
+
+        for (Binary binKey : map.keySet())
+            {
+            mapInFlight.put(binKey, future);
+            }
+
+        m_cPending++;
+        future.whenCompleteAsync((v, err) -> onBatchComplete(map, future, err), f_service.executor);
+        }
+
+    /**
+     * Called when a batch completes, to either fail the request, complete
+     * it, or resume reading from the client.
+     *
+     * @param map     the batch that has completed
+     * @param future  the future of the batch
+     * @param err     the error raised by the batch, or {@code null} if it succeeded
+     */
+    private void onBatchComplete(Map<Binary, Binary> map, CompletableFuture<?> future, Throwable err)
+        {
+        boolean fRequest = false;
+        synchronized (this)
+            {
+            for (Binary binKey : map.keySet())
+                {
+                m_mapInFlightKeys.remove(binKey, future);
+                }
+
+            m_cPending--;
+            if (err != null)
+                {
+                fail(err);
+                }
+            else if (m_fInputComplete)
+                {
+                checkComplete();
+                }
+            else if (m_fPaused && m_cPending < f_cMaxPending)
+                {
+                m_fPaused = false;
+                fRequest  = !m_fDone;
+                }
+            }
+
+        if (fRequest)
+            {
+            requestNext();
+            }
+        }
+
+    /**
+     * Complete the response stream if all of the input has been received
+     * and all of the batches have completed.
+     */
+    private void checkComplete()
+        {
+        if (!m_fDone && m_cPending == 0)
+            {
+            m_fDone = true;
+            try
+                {
+                onFinish();
+                f_observer.onCompleted();
+                }
+            catch (Throwable t)
+                {
+                f_observer.onError(ErrorsHelper.ensureStatusRuntimeException(t));
+                }
+            }
+        }
+
+    /**
+     * Fail the response stream, unless it has already been completed.
+     *
+     * @param t  the cause of the failure
+     */
+    private void fail(Throwable t)
+        {
+        if (!m_fDone)
+            {
+            m_fDone = true;
+            m_mapBuffer.clear();
+            m_mapBufferedKeys.clear();
+            f_observer.onError(ErrorsHelper.ensureStatusRuntimeException(t));
+            }
+        }
+
+    /**
+     * Request the next message from the client if inbound flow control
+     * is being managed by this proxy.
+     */
+    private void requestNext()
+        {
+        if (f_observerCall != null)
+            {
+            f_observerCall.request(1);
+            }
+        }
+
+    // ----- inner class: PutAll --------------------------------------------
+
+    /**
+     * The server side of a client-streaming {@code putAll} request.
+     */
+    static class PutAll
+            extends BulkRequestProxy<PutAllRequest, Empty>
+        {
+        /**
+         * Create a {@link PutAll} proxy.
+         *
+         * @param service   the {@link NamedCacheService} to proxy
+         * @param observer  the {@link StreamObserver} to send the response to
+         */
+        PutAll(NamedCacheService service, StreamObserver<Empty> observer)
+            {
+            super(service, observer);
+            }
+
+        @Override
+        protected void onRequest(PutAllRequest request)
+            {
+            CacheRequestHolder<PutAllRequest, Void> holder
+                    = ensureHolder(request, request.getScope(), request.getCache(), request.getFormat());
+
+            for (Entry entry : request.getEntryList())
+                {
+                add(holder.convertKeyDown(entry.getKey()), holder.convertDown(entry.getValue()));
+                }
+            }
+
+        @Override
+        protected CompletionStage<?> execute(Map<Binary, Binary> map)
+            {
+            return f_service.plainPutAll(m_holder.getAsyncCache(), map);
+            }
+
+        @Override
+        protected void onFinish()
+            {
+            f_observer.onNext(BinaryHelper.EMPTY);
+            }
+        }
+
+    // ----- inner class: InvokeAll -----------------------------------------
+
+    /**
+     * The server side of a bidirectional streaming {@code invokeAll} request.
+     * <p>
+     * The entry processor is taken from the first request in the stream;
+     * subsequent requests only need to contain keys. The results of each
+     * batch are streamed back to the client as soon as the batch completes.
+     */
+    static class InvokeAll
+            extends BulkRequestProxy<InvokeAllRequest, Entry>
+        {
+        /**
+         * Create an {@link InvokeAll} proxy.
+         *
+         * @param service   the {@link NamedCacheService} to proxy
+         * @param observer  the {@link StreamObserver} to send the results to
+         */
+        InvokeAll(NamedCacheService service, StreamObserver<Entry> observer)
+            {
+            super(service, observer);
+            }
+
+        @Override
+        protected void onRequest(InvokeAllRequest request)
+            {
+            CacheRequestHolder<InvokeAllRequest, Void> holder
+                    = ensureHolder(request, request.getScope(), request.getCache(), request.getFormat());
+
+            if (!request.getFilter().isEmpty())
+                {
+                throw Status.INVALID_ARGUMENT
+                        .withDescription("a streaming invokeAll request cannot contain a filter")
+                        .asRuntimeException();
+                }
+
+            if (m_processor == null)
+                {
+                ByteString processorBytes = request.getProcessor();
+                if (processorBytes.isEmpty())
+                    {
+                    throw Status.INVALID_ARGUMENT
+                            .withDescription("the request does not contain a serialized entry processor")
+                            .asRuntimeException();
+                    }
+                m_processor = BinaryHelper.fromByteString(processorBytes, holder.getSerializer());
+                }
+
+            for (ByteString key : request.getKeysList())
+                {
+                add(holder.convertKeyDown(key), null);
+                }
+            }
+
+        @Override
+        protected CompletionStage<?> execute(Map<Binary, Binary> map)
+            {
+            return m_holder.getAsyncCache().invokeAll(map.keySet(), m_processor)
+                    .thenAccept(this::sendResults);
+            }
+
+        @Override
+        protected void onFinish()
+            {
+            }
+
+        /**
+         * Send the results of a batch to the client.
+         *
+         * @param mapResult  the results of the batch
+         */
+        private synchronized void sendResults(Map<Binary, Binary> mapResult)
+            {
+            if (!m_fDone)
+                {
+                CacheRequestHolder<InvokeAllRequest, Void> holder = m_holder;
+                for (Map.Entry<Binary, Binary> entry : mapResult.entrySet())
+                    {
+                    f_observer.onNext(holder.toEntry(entry.getKey(), entry.getValue()));
+                    }
+                }
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The entry processor to invoke, taken from the first request.
+         */
+        private EntryProcessor<Binary, Binary, Binary> m_processor;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link NamedCacheService} being proxied.
+     */
+    protected final NamedCacheService f_service;
+
+    /**
+     * The {@link StreamObserver} to send responses to.
+     */
+    protected final StreamObserver<Resp> f_observer;
+
+    /**
+     * The {@link ServerCallStreamObserver} used for inbound flow control, or
+     * {@code null} if the response observer does not support flow control.
+     */
+    private final ServerCallStreamObserver<Resp> f_observerCall;
+
+    /**
+     * The number of entries to buffer for a member before executing a batch.
+     */
+    private final int f_cBatchSize;
+
+    /**
+     * The maximum number of batches in flight before reading from the client is paused.
+     */
+    private final int f_cMaxPending;
+
+    /**
+     * The per-member buffers of entries not yet submitted.
+     */
+    private final Map<Member, Map<Binary, Binary>> m_mapBuffer = new HashMap<>();
+
+    /**
+     * The members whose buffers hold the keys not yet submitted.
+     */
+    private final Map<Binary, Member> m_mapBufferedKeys = new HashMap<>();
+
+    /**
+     * The futures of the most recently submitted batches containing each of
+     * the keys that have been submitted but not yet completed.
+     */
+    private final Map<Binary, CompletableFuture<?>> m_mapInFlightKeys = new HashMap<>();
+
+    /**
+     * The {@link CacheRequestHolder} created from the first request.
+     */
+    protected CacheRequestHolder<Req, Void> m_holder;
+
+    /**
+     * The cache service if it is partitioned, otherwise {@code null}.
+     */
+    private PartitionedService m_servicePartitioned;
+
+    /**
+     * The number of batches that have been submitted but not yet completed.
+     */
+    private int m_cPending;
+
+    /**
+     * {@code true} if reading from the client has been paused.
+     */
+    private boolean m_fPaused;
+
+    /**
+     * {@code true} once the client has completed the request stream.
+     */
+    private boolean m_fInputComplete;
+
+    /**
+     * {@code true} once the response stream has been completed or failed.
+     */
+    protected boolean m_fDone;
+    }
@@ -47,6 +47,7 @@ import com.oracle.coherence.grpc.ValuesRequest;
 import io.grpc.stub.StreamObserver;
 
 import io.helidon.microprofile.grpc.core.Bidirectional;
+import io.helidon.microprofile.grpc.core.ClientStreaming;
 import io.helidon.microprofile.grpc.core.Grpc;
 import io.helidon.microprofile.grpc.core.ServerStreaming;
 import io.helidon.microprofile.grpc.core.Unary;
@@ -222,6 +223,22 @@ public interface NamedCacheClient
     @ServerStreaming
     void invokeAll(InvokeAllRequest request, StreamObserver<Entry> observer);
 
+    /**
+     * Invoke an {@link com.tangosol.util.InvocableMap.EntryProcessor} against the entries
+     * whose keys are streamed from the client.
+     * <p>
+     * The serialized entry processor is taken from the first {@link InvokeAllRequest}
+     * in the stream, subsequent requests only need to contain keys. Requests must not
+     * contain a filter. The results are streamed back as each batch of keys completes.
+     *
+     * @param observer  the {@link io.grpc.stub.StreamObserver} to observer the invocation results
+     *
+     * @return a {@link io.grpc.stub.StreamObserver} that the client streams the
+     *         {@link InvokeAllRequest} messages to
+     */
+    @Bidirectional
+    StreamObserver<InvokeAllRequest> invokeAllStream(StreamObserver<Entry> observer);
+
     /**
      * Determine whether a cache is empty.
      *
@@ -294,6 +311,23 @@ public interface NamedCacheClient
     @Unary
     CompletionStage<Empty> putAll(PutAllRequest request);
 
+    /**
+     * Add the key value pair mappings streamed from the client to this cache.
+     * <p>
+     * The entries are applied in batches as they are received, so the client
+     * does not have to hold all of the entries in a single {@link PutAllRequest}.
+     *
+     * @param observer  the {@link io.grpc.stub.StreamObserver} that will receive a single
+     *                  {@link Empty} response once all of the entries have been applied
+     *
+     * @return a {@link io.grpc.stub.StreamObserver} that the client streams the
+     *         {@link PutAllRequest} messages to
+     *
+     * @see com.tangosol.net.NamedCache#putAll(java.util.Map)
+     */
+    @ClientStreaming
+    StreamObserver<PutAllRequest> putAllStream(StreamObserver<Empty> observer);
+
     /**
      * If the specified key is not already associated with a value (or is mapped
      * to {@code null}) associate it with the given value and returns
@@ -93,6 +93,7 @@ import io.helidon.config.Config;
 import io.helidon.grpc.core.ResponseHelper;
 
 import io.helidon.microprofile.grpc.core.Bidirectional;
+import io.helidon.microprofile.grpc.core.ClientStreaming;
 import io.helidon.microprofile.grpc.core.Grpc;
 import io.helidon.microprofile.grpc.core.ServerStreaming;
 import io.helidon.microprofile.grpc.core.Unary;
@@ -192,6 +193,8 @@ public class NamedCacheService
         Config serviceConfig = config.get(CONFIG_PREFIX);
 
         serviceConfig.get(CONFIG_TRANSFER_THRESHOLD).asLong().ifPresent(this::setTransferThreshold);
+        serviceConfig.get(CONFIG_BULK_BATCH_SIZE).asInt().ifPresent(this::setBulkBatchSize);
+        serviceConfig.get(CONFIG_BULK_MAX_PENDING).asInt().ifPresent(this::setBulkMaxPending);
 
         if (serviceConfig.get(CONFIG_USE_DAEMON_POOL).asBoolean().orElse(true))
             {
@@ -264,6 +267,50 @@ public class NamedCacheService
         transferThreshold = lSize;
         }
 
+    /**
+     * Return the number of entries per storage member that are batched
+     * together by streaming bulk requests.
+     *
+     * @return the {@link #bulkBatchSize}
+     */
+    int getBulkBatchSize()
+        {
+        return bulkBatchSize;
+        }
+
+    /**
+     * Set the number of entries per storage member that are batched
+     * together by streaming bulk requests.
+     *
+     * @param cSize  the new bulk batch size
+     */
+    void setBulkBatchSize(int cSize)
+        {
+        bulkBatchSize = cSize;
+        }
+
+    /**
+     * Return the maximum number of batches a streaming bulk request may
+     * have in flight before it stops reading from the client.
+     *
+     * @return the {@link #bulkMaxPending}
+     */
+    int getBulkMaxPending()
+        {
+        return bulkMaxPending;
+        }
+
+    /**
+     * Set the maximum number of batches a streaming bulk request may
+     * have in flight before it stops reading from the client.
+     *
+     * @param cMax  the new maximum number of pending batches
+     */
+    void setBulkMaxPending(int cMax)
+        {
+        bulkMaxPending = cMax;
+        }
+
     // ----- NamedCacheClient implementation --------------------------------
 
     // ----- addIndex -------------------------------------------------------
@@ -842,6 +889,16 @@ public class NamedCacheService
                 .handleAsync((h, err) -> handleMapOfEntries(h, err, observer, false), executor);
         }
 
+    // ----- invokeAllStream ------------------------------------------------
+
+    @Bidirectional
+    @Metered
+    @Override
+    public StreamObserver<InvokeAllRequest> invokeAllStream(StreamObserver<Entry> observer)
+        {
+        return new BulkRequestProxy.InvokeAll(this, observer);
+        }
+
     // ----- isEmpty --------------------------------------------------------
 
     @Unary
@@ -1054,6 +1111,16 @@ public class NamedCacheService
                 .thenApplyAsync(v -> BinaryHelper.EMPTY, executor);
         }
 
+    // ----- putAllStream ---------------------------------------------------
+
+    @ClientStreaming
+    @Metered
+    @Override
+    public StreamObserver<PutAllRequest> putAllStream(StreamObserver<Empty> observer)
+        {
+        return new BulkRequestProxy.PutAll(this, observer);
+        }
+
     // ----- putIfAbsent ----------------------------------------------------
 
     @Unary
@@ -2085,6 +2152,18 @@ public class NamedCacheService
      */
     protected static final String CONFIG_TRANSFER_THRESHOLD = "transfer_threshold";
 
+    /**
+     * The number of entries per storage member to batch together when
+     * executing streaming bulk requests.
+     */
+    protected static final String CONFIG_BULK_BATCH_SIZE = "bulk_batch_size";
+
+    /**
+     * The maximum number of batches a streaming bulk request may have in
+     * flight before the proxy stops requesting messages from the client.
+     */
+    protected static final String CONFIG_BULK_MAX_PENDING = "bulk_max_pending";
+
     /**
      * A {@link Void} value to make it obvious the return value in Void methods.
      */
@@ -2117,4 +2196,14 @@ public class NamedCacheService
      * The transfer threshold used for paged requests.
      */
     protected long transferThreshold = 524288;
+
+    /**
+     * The number of entries per storage member batched by streaming bulk requests.
+     */
+    protected int bulkBatchSize = 1000;
+
+    /**
+     * The maximum number of in-flight batches for a streaming bulk request.
+     */
+    protected int bulkMaxPending = 8;
     }
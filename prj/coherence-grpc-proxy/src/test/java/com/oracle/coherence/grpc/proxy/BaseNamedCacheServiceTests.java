@@ -23,6 +23,7 @@ import com.oracle.coherence.grpc.MapEventResponse;
 import com.oracle.coherence.grpc.MapListenerRequest;
 import com.oracle.coherence.grpc.MapListenerResponse;
 import com.oracle.coherence.grpc.OptionalValue;
+import com.oracle.coherence.grpc.PutAllRequest;
 import com.oracle.coherence.grpc.Requests;
 
 import com.tangosol.io.Serializer;
@@ -2053,6 +2054,51 @@ abstract class BaseNamedCacheServiceTests
         assertThat(map, hasEntry(person2.getLastName(), person2.getFirstName()));
         }
 
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldCallInvokeAllStream(String serializerName, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "people";
+        NamedCache<String, Person> cache      = ensureEmptyCache(sScope, sCacheName);
+        cache.clear();
+        Person person1 = new Person("Arthur", "Dent", 25, "male");
+        Person person2 = new Person("Dirk", "Gently", 25, "male");
+        Person person3 = new Person("Ford", "Prefect", 35, "male");
+        cache.put(person1.getLastName(), person1);
+        cache.put(person2.getLastName(), person2);
+        cache.put(person3.getLastName(), person3);
+
+        ValueExtractor<Person, String>                      extractor = new UniversalExtractor<>("firstName");
+        InvocableMap.EntryProcessor<String, Person, String> processor = new ExtractorProcessor<>(extractor);
+
+        NamedCacheClient                 service  = createService();
+        TestStreamObserver<Entry>        observer = new TestStreamObserver<>();
+        StreamObserver<InvokeAllRequest> requests = service.invokeAllStream(observer);
+
+        requests.onNext(Requests.invokeAll(sScope, sCacheName, serializerName,
+                                           Collections.singletonList(toByteString(person1.getLastName(), serializer)),
+                                           BinaryHelper.toByteString(processor, serializer)));
+        requests.onNext(InvokeAllRequest.newBuilder()
+                                .setScope(sScope)
+                                .setCache(sCacheName)
+                                .setFormat(serializerName)
+                                .addKeys(toByteString(person2.getLastName(), serializer))
+                                .build());
+        requests.onCompleted();
+
+        assertThat(observer.await(1, TimeUnit.MINUTES), is(true));
+        observer.assertComplete()
+                .assertNoErrors()
+                .assertValueCount(2);
+
+        Map<String, String> map = observer.values().stream()
+                .collect(Collectors.toMap(e -> BinaryHelper.fromByteString(e.getKey(), serializer),
+                                          e -> BinaryHelper.fromByteString(e.getValue(), serializer)));
+
+        assertThat(map, hasEntry(person1.getLastName(), person1.getFirstName()));
+        assertThat(map, hasEntry(person2.getLastName(), person2.getFirstName()));
+        }
+
     @ParameterizedTest(name = "{index} serializer={0} scope={2}")
     @MethodSource("serializers")
     public void shouldCallInvokeAllWithNoFilterOrKeys(String serializerName, Serializer serializer, String sScope) throws Exception
@@ -2441,6 +2487,82 @@ abstract class BaseNamedCacheServiceTests
         assertThat(cache.isEmpty(), is(true));
         }
 
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldPutAllStream(String serializerName, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "test-cache";
+        NamedCache<String, String> cache      = ensureEmptyCache(sScope, sCacheName);
+        cache.clear();
+
+        NamedCacheClient              service  = createService();
+        TestStreamObserver<Empty>     observer = new TestStreamObserver<>();
+        StreamObserver<PutAllRequest> requests = service.putAllStream(observer);
+
+        for (int i = 0; i < 10; i++)
+            {
+            List<Entry> listEntries = new ArrayList<>();
+            for (int j = 0; j < 500; j++)
+                {
+                int n = (i * 500) + j;
+                listEntries.add(Entry.newBuilder()
+                                        .setKey(toByteString("key-" + n, serializer))
+                                        .setValue(toByteString("value-" + n, serializer))
+                                        .build());
+                }
+            requests.onNext(Requests.putAll(sScope, sCacheName, serializerName, listEntries));
+            }
+        requests.onCompleted();
+
+        assertThat(observer.await(1, TimeUnit.MINUTES), is(true));
+        observer.assertComplete()
+                .assertNoErrors()
+                .assertValueCount(1);
+
+        assertThat(cache.size(), is(5000));
+        assertThat(cache.get("key-0"), is("value-0"));
+        assertThat(cache.get("key-4999"), is("value-4999"));
+        }
+
+    @ParameterizedTest(name = "{index} serializer={0} scope={2}")
+    @MethodSource("serializers")
+    public void shouldPutAllStreamUpdatesInOrder(String serializerName, Serializer serializer, String sScope) throws Exception
+        {
+        String                     sCacheName = "test-cache";
+        NamedCache<String, String> cache      = ensureEmptyCache(sScope, sCacheName);
+        cache.clear();
+
+        NamedCacheClient              service  = createService();
+        TestStreamObserver<Empty>     observer = new TestStreamObserver<>();
+        StreamObserver<PutAllRequest> requests = service.putAllStream(observer);
+
+        // every key is updated once per round, and the rounds span many batches
+        for (int nRound = 0; nRound < 10; nRound++)
+            {
+            List<Entry> listEntries = new ArrayList<>();
+            for (int i = 0; i < 1500; i++)
+                {
+                listEntries.add(Entry.newBuilder()
+                                        .setKey(toByteString("key-" + i, serializer))
+                                        .setValue(toByteString("value-" + i + "-" + nRound, serializer))
+                                        .build());
+                }
+            requests.onNext(Requests.putAll(sScope, sCacheName, serializerName, listEntries));
+            }
+        requests.onCompleted();
+
+        assertThat(observer.await(1, TimeUnit.MINUTES), is(true));
+        observer.assertComplete()
+                .assertNoErrors()
+                .assertValueCount(1);
+
+        assertThat(cache.size(), is(1500));
+        for (int i = 0; i < 1500; i++)
+            {
+            assertThat(cache.get("key-" + i), is("value-" + i + "-9"));
+            }
+        }
+
     // ----- PutIfAbsent ----------------------------------------------------
 
     @ParameterizedTest(name = "{index} serializer={0} scope={2}")
@@ -28,6 +28,7 @@ import com.oracle.coherence.grpc.MapListenerResponse;
 import com.oracle.coherence.grpc.MapListenerSubscribedResponse;
 import com.oracle.coherence.grpc.MapListenerUnsubscribedResponse;
 import com.oracle.coherence.grpc.OptionalValue;
+import com.oracle.coherence.grpc.PutAllRequest;
 import com.oracle.coherence.grpc.Requests;
 
 import com.tangosol.internal.net.NamedCacheDeactivationListener;
@@ -44,6 +45,7 @@ import com.tangosol.net.RequestIncompleteException;
 import com.tangosol.net.cache.CacheEvent;
 import com.tangosol.net.cache.CacheEvent.TransformationState;
 import com.tangosol.net.cache.CacheMap;
+import com.tangosol.net.cache.CachingMap;
 
 import com.tangosol.util.Base;
 import com.tangosol.util.ExternalizableHelper;
@@ -64,7 +66,10 @@ import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
 
 import io.grpc.Channel;
+import io.grpc.Status;
 
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
 import io.helidon.config.Config;
@@ -75,6 +80,7 @@ import io.helidon.microprofile.grpc.client.GrpcProxyBuilder;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EventListener;
 import java.util.HashMap;
@@ -134,7 +140,9 @@ public class AsyncNamedCacheClient<K, V>
         f_serializer                = builder.ensureSerializer();
         f_sFormat                   = builder.getFormat();
         f_executor                  = builder.ensureExecutor();
-        f_synchronousCache          = new NamedCacheClient<>(this);
+        f_synchronousCache          = builder.m_mapFront == null
+                                      ? new NamedCacheClient<>(this)
+                                      : new NearNamedCacheClient<>(this, builder.m_mapFront, builder.m_nNearStrategy);
         f_listDeactivationListeners = new ArrayList<>();
         initEvents();
         }
@@ -266,7 +274,7 @@ public class AsyncNamedCacheClient<K, V>
     @SuppressWarnings("unchecked")
     public <R> CompletableFuture<R> invoke(K k, InvocableMap.EntryProcessor<K, V, R> entryProcessor)
         {
-        return executeIfActive(() ->
+        return invalidateNear(Collections.singleton(k), executeIfActive(() ->
             {
             try
                 {
@@ -280,14 +288,14 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
     public <R> CompletableFuture<Map<K, R>> invokeAll(Collection<? extends K> colKeys,
                                                       InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return executeIfActive(() ->
+        return invalidateNear(colKeys, executeIfActive(() ->
             {
             try
                 {
@@ -319,13 +327,13 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
     public <R> CompletableFuture<Map<K, R>> invokeAll(Filter filter, InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
             {
             try
                 {
@@ -353,7 +361,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
@@ -361,7 +369,7 @@ public class AsyncNamedCacheClient<K, V>
                                                  InvocableMap.EntryProcessor<K, V, R> processor,
                                                  Consumer<? super Map.Entry<? extends K, ? extends R>> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(colKeys, executeIfActive(() ->
             {
             try
                 {
@@ -392,7 +400,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
@@ -400,7 +408,7 @@ public class AsyncNamedCacheClient<K, V>
                                                  InvocableMap.EntryProcessor<K, V, R> processor,
                                                  Consumer<? super Map.Entry<? extends K, ? extends R>> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
             {
             try
                 {
@@ -428,7 +436,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     // ----- AsyncNamedCache methods ----------------------------------------
@@ -440,7 +448,8 @@ public class AsyncNamedCacheClient<K, V>
             {
             try
                 {
-                return f_service.clear(Requests.clear(f_sScopeName, f_sCacheName)).thenApply(e -> VOID).toCompletableFuture();
+                return invalidateNear(null, f_service.clear(Requests.clear(f_sScopeName, f_sCacheName))
+                        .thenApply(e -> VOID).toCompletableFuture());
                 }
             catch (Throwable t)
                 {
@@ -464,6 +473,18 @@ public class AsyncNamedCacheClient<K, V>
     @Override
     public CompletableFuture<V> get(K key)
         {
+        NamedCacheClient<K, V> client = f_synchronousCache;
+        if (client instanceof NearNamedCacheClient)
+            {
+            // serve hits from the near cache front map; a miss is not used to
+            // populate the front map as that requires the synchronous CachingMap
+            // path to register the invalidation listener for the key
+            V value = ((NearNamedCacheClient<K, V>) client).getFromFront(key);
+            if (value != null)
+                {
+                return executeIfActive(() -> CompletableFuture.completedFuture(value));
+                }
+            }
         return executeIfActive(() -> getInternal(key, null));
         }
 
@@ -492,7 +513,7 @@ public class AsyncNamedCacheClient<K, V>
     @Override
     public <R> CompletableFuture<Map<K, R>> invokeAll(InvocableMap.EntryProcessor<K, V, R> processor)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
             {
             try
                 {
@@ -509,14 +530,14 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
     public <R> CompletableFuture<Void> invokeAll(InvocableMap.EntryProcessor<K, V, R> processor,
                                                  Consumer<? super Map.Entry<? extends K, ? extends R>> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
             {
             try
                 {
@@ -545,14 +566,14 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
     public <R> CompletableFuture<Void> invokeAll(InvocableMap.EntryProcessor<K, V, R> processor,
                                                  BiConsumer<? super K, ? super R> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
             {
             try
                 {
@@ -579,7 +600,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
@@ -587,7 +608,7 @@ public class AsyncNamedCacheClient<K, V>
                                                  InvocableMap.EntryProcessor<K, V, R> processor,
                                                  BiConsumer<? super K, ? super R> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(colKeys, executeIfActive(() ->
             {
             try
                 {
@@ -616,7 +637,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-            });
+            }));
         }
 
     @Override
@@ -624,7 +645,7 @@ public class AsyncNamedCacheClient<K, V>
                                                  InvocableMap.EntryProcessor<K, V, R> processor,
                                                  BiConsumer<? super K, ? super R> callback)
         {
-        return executeIfActive(() ->
+        return invalidateNear(null, executeIfActive(() ->
         {
             try
                 {
@@ -649,7 +670,7 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-        });
+        }));
         }
 
     @Override
@@ -681,10 +702,11 @@ public class AsyncNamedCacheClient<K, V>
     @Override
     public CompletableFuture<V> putIfAbsent(K key, V value)
         {
-        return executeIfActive(() -> f_service.putIfAbsent(Requests.putIfAbsent(f_sScopeName, f_sCacheName, f_sFormat,
-                                                                                toByteString(key), toByteString(value)))
-                .thenApplyAsync(this::valueFromBytesValue)
-                .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.putIfAbsent(Requests.putIfAbsent(f_sScopeName, f_sCacheName, f_sFormat,
+                                                                                 toByteString(key), toByteString(value)))
+                        .thenApplyAsync(this::valueFromBytesValue)
+                        .toCompletableFuture()));
         }
 
     @Override
@@ -708,20 +730,22 @@ public class AsyncNamedCacheClient<K, V>
     @Override
     public CompletableFuture<V> replace(K key, V value)
         {
-        return executeIfActive(() -> f_service.replace(Requests.replace(f_sScopeName, f_sCacheName, f_sFormat,
-                                                                        toByteString(key), toByteString(value)))
-                .thenApplyAsync(this::valueFromBytesValue)
-                .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.replace(Requests.replace(f_sScopeName, f_sCacheName, f_sFormat,
+                                                                         toByteString(key), toByteString(value)))
+                        .thenApplyAsync(this::valueFromBytesValue)
+                        .toCompletableFuture()));
         }
 
     @Override
     public CompletableFuture<Boolean> replace(K key, V oldValue, V newValue)
         {
-        return executeIfActive(() -> f_service.replaceMapping(
-                Requests.replace(f_sScopeName, f_sCacheName, f_sFormat, toByteString(key),
-                                 toByteString(oldValue), toByteString(newValue)))
-                .thenApplyAsync(BoolValue::getValue)
-                .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.replaceMapping(
+                        Requests.replace(f_sScopeName, f_sCacheName, f_sFormat, toByteString(key),
+                                         toByteString(oldValue), toByteString(newValue)))
+                        .thenApplyAsync(BoolValue::getValue)
+                        .toCompletableFuture()));
         }
 
     @Override
@@ -855,7 +879,15 @@ public class AsyncNamedCacheClient<K, V>
         {
         assertActive();
 
-        f_service.invokeAll(request, observer);
+        if (m_fBulkStreaming && request.getKeysCount() > BULK_CHUNK_SIZE && request.getFilter().isEmpty())
+            {
+            InvokeAllStreamObserver observerStream = new InvokeAllStreamObserver(request, observer);
+            observerStream.start(f_service.invokeAllStream(observerStream));
+            }
+        else
+            {
+            f_service.invokeAll(request, observer);
+            }
         }
 
     /**
@@ -910,10 +942,11 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected CompletableFuture<V> putInternal(K key, V value, long cTtl)
         {
-        return executeIfActive(() -> f_service.put(Requests.put(f_sScopeName, f_sCacheName, f_sFormat,
-                                                                toByteString(key), toByteString(value), cTtl))
-                .thenApplyAsync(this::valueFromBytesValue)
-                .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.put(Requests.put(f_sScopeName, f_sCacheName, f_sFormat,
+                                                                 toByteString(key), toByteString(value), cTtl))
+                        .thenApplyAsync(this::valueFromBytesValue)
+                        .toCompletableFuture()));
         }
 
     /**
@@ -925,10 +958,15 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected CompletableFuture<Empty> putAllInternal(Map<? extends K, ? extends V> map)
         {
-        return executeIfActive(() ->
+        return invalidateNear(map.keySet(), executeIfActive(() ->
         {
             try
                 {
+                if (map.size() > BULK_CHUNK_SIZE)
+                    {
+                    return m_fBulkStreaming ? putAllStreaming(map) : putAllChunked(map);
+                    }
+
                 List<Entry> entries = new ArrayList<>();
                 for (Map.Entry<? extends K, ? extends V> entry : map.entrySet())
                     {
@@ -942,7 +980,84 @@ public class AsyncNamedCacheClient<K, V>
                 {
                 return failedFuture(t);
                 }
-        });
+        }));
+        }
+
+    /**
+     * Stream the specified map of entries to the server in chunks of
+     * {@link #BULK_CHUNK_SIZE} entries, so that a large map is neither
+     * serialized into a single message nor buffered whole by the proxy.
+     * <p>
+     * When the underlying call supports flow control, a chunk is only
+     * serialized and sent while the call is ready to accept it, so that the
+     * client does not buffer the whole map in the transport when the proxy
+     * applies the entries more slowly than they can be sent.
+     *
+     * @param map  the map of entries to put into the cache
+     *
+     * @return a {@link CompletableFuture} that completes once the server has applied all entries
+     */
+    protected CompletableFuture<Empty> putAllStreaming(Map<? extends K, ? extends V> map)
+        {
+        CompletableFuture<Empty> future   = new CompletableFuture<>();
+        PutAllStreamObserver     observer = new PutAllStreamObserver(map, future);
+
+        observer.start(f_service.putAllStream(observer));
+        return future;
+        }
+
+    /**
+     * Send the specified map of entries to the server using a unary
+     * {@code putAll} call per chunk of {@link #BULK_CHUNK_SIZE} entries,
+     * sending each chunk once the previous one has been applied.
+     * <p>
+     * This is used when the server does not implement the streaming call.
+     *
+     * @param map  the map of entries to put into the cache
+     *
+     * @return a {@link CompletableFuture} that completes once the server has applied all entries
+     */
+    protected CompletableFuture<Empty> putAllChunked(Map<? extends K, ? extends V> map)
+        {
+        return putNextChunk(map.entrySet().iterator());
+        }
+
+    /**
+     * Send the next chunk of entries using a unary {@code putAll} call, and
+     * the remaining chunks once it has been applied.
+     *
+     * @param iterator  the iterator over the entries that remain to be sent
+     *
+     * @return a {@link CompletableFuture} that completes once the server has
+     *         applied the remaining entries
+     */
+    private CompletableFuture<Empty> putNextChunk(java.util.Iterator<? extends Map.Entry<? extends K, ? extends V>> iterator)
+        {
+        CompletableFuture<Empty> future = f_service.putAll(Requests.putAll(f_sScopeName, f_sCacheName, f_sFormat,
+                                                                           nextEntries(iterator)))
+                .toCompletableFuture();
+
+        return iterator.hasNext() ? future.thenCompose(empty -> putNextChunk(iterator)) : future;
+        }
+
+    /**
+     * Serialize the next chunk of (at most) {@link #BULK_CHUNK_SIZE} entries.
+     *
+     * @param iterator  the iterator over the entries that remain to be sent
+     *
+     * @return the serialized entries
+     */
+    protected List<Entry> nextEntries(java.util.Iterator<? extends Map.Entry<? extends K, ? extends V>> iterator)
+        {
+        List<Entry> entries = new ArrayList<>(BULK_CHUNK_SIZE);
+        while (iterator.hasNext() && entries.size() < BULK_CHUNK_SIZE)
+            {
+            Map.Entry<? extends K, ? extends V> entry = iterator.next();
+            entries.add(Entry.newBuilder()
+                                .setKey(toByteString(entry.getKey()))
+                                .setValue(toByteString(entry.getValue())).build());
+            }
+        return entries;
         }
 
     /**
@@ -970,9 +1085,10 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected CompletableFuture<V> removeInternal(Object key)
         {
-        return executeIfActive(() -> f_service.remove(Requests.remove(f_sScopeName, f_sCacheName, f_sFormat, toByteString(key)))
-                .thenApplyAsync(this::valueFromBytesValue)
-                .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.remove(Requests.remove(f_sScopeName, f_sCacheName, f_sFormat, toByteString(key)))
+                        .thenApplyAsync(this::valueFromBytesValue)
+                        .toCompletableFuture()));
         }
 
     /**
@@ -987,10 +1103,11 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected CompletableFuture<Boolean> removeInternal(Object key, Object value)
         {
-        return executeIfActive(() -> f_service.removeMapping(Requests.remove(f_sScopeName, f_sCacheName, f_sFormat,
-                                                                             toByteString(key), toByteString(value)))
-                                               .thenApplyAsync(BoolValue::getValue)
-                                               .toCompletableFuture());
+        return invalidateNear(Collections.singleton(key),
+                executeIfActive(() -> f_service.removeMapping(Requests.remove(f_sScopeName, f_sCacheName, f_sFormat,
+                                                                              toByteString(key), toByteString(value)))
+                        .thenApplyAsync(BoolValue::getValue)
+                        .toCompletableFuture()));
         }
 
     /**
@@ -1090,8 +1207,8 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected CompletableFuture<Void> truncate()
         {
-        return executeIfActive(() -> f_service.truncate(Requests.truncate(f_sScopeName, f_sCacheName))
-                .thenApply(e -> VOID).toCompletableFuture());
+        return invalidateNear(null, executeIfActive(() -> f_service.truncate(Requests.truncate(f_sScopeName, f_sCacheName))
+                .thenApply(e -> VOID).toCompletableFuture()));
         }
 
     /**
@@ -1369,6 +1486,36 @@ public class AsyncNamedCacheClient<K, V>
             }
         }
 
+    /**
+     * Invalidate the specified keys in the near cache front map, if this
+     * cache is fronted by a near cache, once the specified operation
+     * completes.
+     * <p>
+     * Operations that are not executed through the near cache's
+     * {@link CachingMap} would otherwise leave a stale value in the front
+     * map until the corresponding event arrives from the server. The keys
+     * are invalidated whether or not the operation succeeds, as a failed
+     * operation may still have modified some of the entries.
+     *
+     * @param colKeys  the keys modified by the operation, or {@code null}
+     *                 if the operation may modify any entry
+     * @param future   the {@link CompletableFuture} of the operation
+     * @param <T>      the type of the operation's result
+     *
+     * @return a {@link CompletableFuture} that completes with the result of
+     *         the operation after the keys have been invalidated
+     */
+    protected <T> CompletableFuture<T> invalidateNear(Collection<?> colKeys, CompletableFuture<T> future)
+        {
+        NamedCacheClient<K, V> client = f_synchronousCache;
+        if (client instanceof NearNamedCacheClient)
+            {
+            NearNamedCacheClient<K, V> near = (NearNamedCacheClient<K, V>) client;
+            return future.whenCompleteAsync((r, t) -> near.invalidate(colKeys));
+            }
+        return future;
+        }
+
     /**
      * If this {@link AsyncNamedCacheClient} is active then return the {@link CompletableFuture}
      * supplied by the supplier otherwise return a failed {@link CompletableFuture}.
@@ -2286,6 +2433,364 @@ public class AsyncNamedCacheClient<K, V>
         protected final CompletableFuture<Void> f_future;
         }
 
+    // ----- inner class: BulkStreamObserver --------------------------------
+
+    /**
+     * A {@link ClientResponseObserver} that streams a bulk request to the
+     * server in chunks, sending the next chunk only when the request stream
+     * is ready for it.
+     * <p>
+     * If the server does not implement the streaming call, which is the case
+     * for proxies that predate it, the streaming call is no longer used by
+     * this client and the request is executed using the unary call instead.
+     *
+     * @param <Req>   the type of the request chunks
+     * @param <Resp>  the type of the responses
+     */
+    protected abstract class BulkStreamObserver<Req, Resp>
+            implements ClientResponseObserver<Req, Resp>
+        {
+        // ----- BulkStreamObserver methods ---------------------------------
+
+        /**
+         * Start sending the chunks using the specified request observer.
+         *
+         * @param observer  the request observer returned by the call
+         */
+        protected void start(StreamObserver<Req> observer)
+            {
+            synchronized (this)
+                {
+                m_observer = observer;
+                }
+            send();
+            }
+
+        /**
+         * Send chunks for as long as the request stream is ready, and
+         * complete the request stream after the last chunk.
+         */
+        protected synchronized void send()
+            {
+            StreamObserver<Req>           observer = m_observer;
+            ClientCallStreamObserver<Req> call     = m_call;
+            if (observer == null || m_fDone)
+                {
+                // not started yet, or already completed
+                return;
+                }
+
+            try
+                {
+                while (hasNextChunk() && (call == null || call.isReady()))
+                    {
+                    observer.onNext(nextChunk());
+                    }
+
+                if (!hasNextChunk())
+                    {
+                    m_fDone = true;
+                    observer.onCompleted();
+                    }
+                }
+            catch (Throwable t)
+                {
+                m_fDone = true;
+                observer.onError(t);
+                onFailure(t);
+                }
+            }
+
+        /**
+         * Return {@code true} if there are more chunks to send.
+         *
+         * @return {@code true} if there are more chunks to send
+         */
+        protected abstract boolean hasNextChunk();
+
+        /**
+         * Create the next chunk to send.
+         *
+         * @return the next chunk
+         */
+        protected abstract Req nextChunk();
+
+        /**
+         * Called for each response received from the server.
+         *
+         * @param response  the response
+         */
+        protected abstract void onResponse(Resp response);
+
+        /**
+         * Called when the server has completed the call successfully.
+         */
+        protected abstract void onSuccess();
+
+        /**
+         * Called when the call has failed.
+         *
+         * @param t  the cause of the failure
+         */
+        protected abstract void onFailure(Throwable t);
+
+        /**
+         * Called when the server does not implement the streaming call, to
+         * execute the whole request using the unary call.
+         */
+        protected abstract void onUnimplemented();
+
+        // ----- ClientResponseObserver interface ---------------------------
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<Req> call)
+            {
+            m_call = call;
+            call.setOnReadyHandler(this::send);
+            }
+
+        // ----- StreamObserver interface -----------------------------------
+
+        @Override
+        public void onNext(Resp response)
+            {
+            m_fResponded = true;
+            onResponse(response);
+            }
+
+        @Override
+        public void onError(Throwable t)
+            {
+            synchronized (this)
+                {
+                m_fDone = true;
+                }
+
+            if (!m_fResponded && Status.fromThrowable(t).getCode() == Status.Code.UNIMPLEMENTED)
+                {
+                m_fBulkStreaming = false;
+                onUnimplemented();
+                }
+            else
+                {
+                onFailure(t);
+                }
+            }
+
+        @Override
+        public void onCompleted()
+            {
+            onSuccess();
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The request observer, or {@code null} until the call is started.
+         */
+        protected StreamObserver<Req> m_observer;
+
+        /**
+         * The flow-controlled request stream, or {@code null} if the call
+         * does not support flow control.
+         */
+        protected volatile ClientCallStreamObserver<Req> m_call;
+
+        /**
+         * {@code true} once the request stream has been completed.
+         */
+        protected boolean m_fDone;
+
+        /**
+         * {@code true} once a response has been received from the server.
+         */
+        protected volatile boolean m_fResponded;
+        }
+
+    // ----- inner class: PutAllStreamObserver ------------------------------
+
+    /**
+     * A {@link BulkStreamObserver} that streams the entries of a map to the
+     * server.
+     */
+    protected class PutAllStreamObserver
+            extends BulkStreamObserver<PutAllRequest, Empty>
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Constructs a new {@code PutAllStreamObserver}.
+         *
+         * @param map     the map of entries to send
+         * @param future  the {@link CompletableFuture} to notify
+         */
+        protected PutAllStreamObserver(Map<? extends K, ? extends V> map, CompletableFuture<Empty> future)
+            {
+            f_map      = map;
+            f_iterator = map.entrySet().iterator();
+            f_future   = future;
+            }
+
+        // ----- BulkStreamObserver methods ---------------------------------
+
+        @Override
+        protected boolean hasNextChunk()
+            {
+            return f_iterator.hasNext();
+            }
+
+        @Override
+        protected PutAllRequest nextChunk()
+            {
+            return Requests.putAll(f_sScopeName, f_sCacheName, f_sFormat, nextEntries(f_iterator));
+            }
+
+        @Override
+        protected void onResponse(Empty empty)
+            {
+            }
+
+        @Override
+        protected void onSuccess()
+            {
+            f_future.complete(BinaryHelper.EMPTY);
+            }
+
+        @Override
+        protected void onFailure(Throwable t)
+            {
+            f_future.completeExceptionally(t);
+            }
+
+        @Override
+        protected void onUnimplemented()
+            {
+            putAllChunked(f_map).whenComplete((empty, err) ->
+                {
+                if (err == null)
+                    {
+                    f_future.complete(empty);
+                    }
+                else
+                    {
+                    f_future.completeExceptionally(err);
+                    }
+                });
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The map of entries to send.
+         */
+        protected final Map<? extends K, ? extends V> f_map;
+
+        /**
+         * The iterator over the entries that remain to be sent.
+         */
+        protected final java.util.Iterator<? extends Map.Entry<? extends K, ? extends V>> f_iterator;
+
+        /**
+         * The {@link CompletableFuture} to notify.
+         */
+        protected final CompletableFuture<Empty> f_future;
+        }
+
+    // ----- inner class: InvokeAllStreamObserver ---------------------------
+
+    /**
+     * A {@link BulkStreamObserver} that streams the keys of an
+     * {@link InvokeAllRequest} to the server, and forwards the results to
+     * the observer of the request.
+     * <p>
+     * The entry processor is only sent with the first chunk.
+     */
+    protected class InvokeAllStreamObserver
+            extends BulkStreamObserver<InvokeAllRequest, Entry>
+        {
+        // ----- constructors -----------------------------------------------
+
+        /**
+         * Constructs a new {@code InvokeAllStreamObserver}.
+         *
+         * @param request   the request to stream
+         * @param observer  the {@link StreamObserver} to forward the results to
+         */
+        protected InvokeAllStreamObserver(InvokeAllRequest request, StreamObserver<Entry> observer)
+            {
+            f_request  = request;
+            f_observer = observer;
+            }
+
+        // ----- BulkStreamObserver methods ---------------------------------
+
+        @Override
+        protected boolean hasNextChunk()
+            {
+            return m_iKey < f_request.getKeysCount();
+            }
+
+        @Override
+        protected InvokeAllRequest nextChunk()
+            {
+            InvokeAllRequest request = f_request;
+            int              iFrom   = m_iKey;
+            int              iTo     = Math.min(iFrom + BULK_CHUNK_SIZE, request.getKeysCount());
+
+            InvokeAllRequest.Builder builder = request.toBuilder()
+                    .clearKeys()
+                    .addAllKeys(request.getKeysList().subList(iFrom, iTo));
+            if (iFrom > 0)
+                {
+                builder.clearProcessor();
+                }
+
+            m_iKey = iTo;
+            return builder.build();
+            }
+
+        @Override
+        protected void onResponse(Entry entry)
+            {
+            f_observer.onNext(entry);
+            }
+
+        @Override
+        protected void onSuccess()
+            {
+            f_observer.onCompleted();
+            }
+
+        @Override
+        protected void onFailure(Throwable t)
+            {
+            f_observer.onError(t);
+            }
+
+        @Override
+        protected void onUnimplemented()
+            {
+            f_service.invokeAll(f_request, f_observer);
+            }
+
+        // ----- data members -----------------------------------------------
+
+        /**
+         * The request to stream.
+         */
+        protected final InvokeAllRequest f_request;
+
+        /**
+         * The {@link StreamObserver} to forward the results to.
+         */
+        protected final StreamObserver<Entry> f_observer;
+
+        /**
+         * The index of the first key that remains to be sent.
+         */
+        protected int m_iKey;
+        }
+
     // ----- inner class: WrapperDeactivationListener -----------------------
 
     /**
@@ -2450,6 +2955,28 @@ public class AsyncNamedCacheClient<K, V>
             return this;
             }
 
+        /**
+         * Enable a near cache for the cache, using the specified map as the
+         * front tier.
+         * <p>
+         * The front map is kept coherent with the remote cache using the
+         * events stream and the specified invalidation strategy.
+         *
+         * @param mapFront   the local map to use as the front tier, or {@code null}
+         *                   to disable the near cache
+         * @param nStrategy  the invalidation strategy; one of the
+         *                   {@link com.tangosol.net.cache.CachingMap} {@code LISTEN_*}
+         *                   constants
+         *
+         * @return this {@link Builder}
+         */
+        public Builder<K, V> nearCache(Map<K, V> mapFront, int nStrategy)
+            {
+            m_mapFront      = mapFront;
+            m_nNearStrategy = nStrategy;
+            return this;
+            }
+
         @Override
         public AsyncNamedCacheClient<K, V> build()
             {
@@ -2596,6 +3123,17 @@ public class AsyncNamedCacheClient<K, V>
          * The {@link Executor} to be used by the cache.
          */
         protected Executor m_executor;
+
+        /**
+         * The front map of the near cache, or {@code null} if the near cache
+         * is disabled.
+         */
+        protected Map<K, V> m_mapFront;
+
+        /**
+         * The invalidation strategy of the near cache.
+         */
+        protected int m_nNearStrategy = CachingMap.LISTEN_AUTO;
         }
 
     // ----- constants ------------------------------------------------------
@@ -2610,6 +3148,13 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected static final Void VOID = null;
 
+    /**
+     * The number of entries (or keys) above which {@code putAll} and
+     * {@code invokeAll} stream the request to the server, and the number of
+     * entries (or keys) sent in each streamed message.
+     */
+    protected static final int BULK_CHUNK_SIZE = 1000;
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -2652,6 +3197,12 @@ public class AsyncNamedCacheClient<K, V>
      */
     protected boolean m_fDestroyed;
 
+    /**
+     * {@code false} once the server has reported that it does not implement
+     * the streaming bulk calls.
+     */
+    protected volatile boolean m_fBulkStreaming = true;
+
     /**
      * The list of {@link DeactivationListener} to be notified when this {@link AsyncNamedCacheClient}
      * is released or destroyed.
@@ -11,6 +11,8 @@ import com.oracle.coherence.cdi.RemoteMapLifecycleEvent;
 import com.oracle.coherence.cdi.Scope;
 import com.oracle.coherence.cdi.SerializerProducer;
 
+import com.oracle.coherence.common.base.Logger;
+
 import com.tangosol.internal.net.NamedCacheDeactivationListener;
 
 import com.tangosol.io.DefaultSerializer;
@@ -22,6 +24,8 @@ import com.tangosol.net.NamedCache;
 import com.tangosol.net.NamedCollection;
 import com.tangosol.net.NamedMap;
 import com.tangosol.net.Session;
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.LocalCache;
 import com.tangosol.net.topic.NamedTopic;
 
 import com.tangosol.util.AbstractMapListener;
@@ -82,6 +86,10 @@ public class GrpcRemoteSession
         f_serializer           = builder.ensureSerializer(f_sSerializerFormat);
         m_executor             = builder.ensureExecutor();
         f_tracing              = builder.ensureTracing();
+        f_fNearCache           = builder.ensureNearCacheEnabled();
+        f_cNearHighUnits       = builder.ensureNearCacheHighUnits();
+        f_cNearExpiryMillis    = builder.ensureNearCacheExpiry();
+        f_nNearStrategy        = builder.ensureNearCacheStrategy();
         f_mapCaches            = new ConcurrentHashMap<>();
         f_deactivationListener = new ClientDeactivationListener<>();
         f_truncateListener     = new TruncateListener();
@@ -344,6 +352,18 @@ public class GrpcRemoteSession
         return f_beanManager;
         }
 
+    /**
+     * Return {@code true} if caches obtained from this session are fronted
+     * by a near cache.
+     *
+     * @return {@code true} if caches obtained from this session are fronted
+     *         by a near cache
+     */
+    protected boolean isNearCacheEnabled()
+        {
+        return f_fNearCache;
+        }
+
     // ----- helper methods -------------------------------------------------
 
     /**
@@ -388,12 +408,22 @@ public class GrpcRemoteSession
         Channel tracedChannel = f_tracing.map(t -> t.intercept(f_channel))
                 .orElse(f_channel);
 
-        AsyncNamedCacheClient<?, ?> client = AsyncNamedCacheClient.builder(f_sScopeName, sCacheName)
+        AsyncNamedCacheClient.Builder<K, V> builder = AsyncNamedCacheClient.<K, V>builder(f_sScopeName, sCacheName)
                 .channel(tracedChannel)
                 .serializer(f_serializer, f_sSerializerFormat)
                 .beanManager(f_beanManager)
-                .executor(m_executor)
-                .build();
+                .executor(m_executor);
+
+        if (f_fNearCache)
+            {
+            // LocalCache expiry is an int; treat anything larger as no expiry
+            long cExpiryMillis = f_cNearExpiryMillis;
+            int  cExpiry       = cExpiryMillis > Integer.MAX_VALUE ? 0 : (int) cExpiryMillis;
+
+            builder.nearCache(new LocalCache(f_cNearHighUnits, cExpiry), f_nNearStrategy);
+            }
+
+        AsyncNamedCacheClient<?, ?> client = builder.build();
 
         f_lifecycleEventDispatcher.dispatch(client.getNamedMap(),
                                             f_sScopeName,
@@ -612,6 +642,52 @@ public class GrpcRemoteSession
             return this;
             }
 
+        /**
+         * Enable or disable a near cache in front of the caches obtained
+         * from the session.
+         *
+         * @param fEnabled  {@code true} to enable a near cache
+         *
+         * @return this {@link Builder}
+         */
+        public Builder nearCache(boolean fEnabled)
+            {
+            m_fNearCache = fEnabled;
+            return this;
+            }
+
+        /**
+         * Enable a near cache in front of the caches obtained from the session.
+         *
+         * @param cHighUnits     the maximum number of entries held by each front map,
+         *                       or zero for no limit
+         * @param cExpiryMillis  the number of milliseconds after which entries
+         *                       expire from the front map, or zero for no expiry;
+         *                       values larger than {@link Integer#MAX_VALUE}
+         *                       are treated as no expiry
+         * @param sStrategy      the invalidation strategy; one of {@code none},
+         *                       {@code present}, {@code all}, {@code auto}
+         *                       or {@code logical}
+         *
+         * @return this {@link Builder}
+         */
+        public Builder nearCache(int cHighUnits, long cExpiryMillis, String sStrategy)
+            {
+            if (cHighUnits < 0)
+                {
+                throw new IllegalArgumentException("Near cache high units must not be negative: " + cHighUnits);
+                }
+            if (cExpiryMillis < 0)
+                {
+                throw new IllegalArgumentException("Near cache expiry must not be negative: " + cExpiryMillis);
+                }
+            m_fNearCache        = true;
+            m_cNearHighUnits    = cHighUnits;
+            m_cNearExpiryMillis = cExpiryMillis;
+            m_sNearStrategy     = sStrategy;
+            return this;
+            }
+
         /**
          * Set the {@link Executor} to be used by the session for
          * dispatching events.
@@ -783,6 +859,102 @@ public class GrpcRemoteSession
                 }
             }
 
+        /**
+         * Return {@code true} if a near cache has been enabled either on
+         * this builder or in the session configuration.
+         *
+         * @return {@code true} if a near cache has been enabled
+         */
+        protected boolean ensureNearCacheEnabled()
+            {
+            if (m_fNearCache != null)
+                {
+                return m_fNearCache;
+                }
+
+            return sessionConfig().get(CFG_KEY_NEAR_CACHE).get("enabled").asBoolean().orElse(false);
+            }
+
+        /**
+         * Return the maximum number of entries held by each near cache front map.
+         *
+         * @return the maximum number of entries held by each near cache front map
+         */
+        protected int ensureNearCacheHighUnits()
+            {
+            if (m_cNearHighUnits != null)
+                {
+                return m_cNearHighUnits;
+                }
+
+            int cHighUnits = sessionConfig().get(CFG_KEY_NEAR_CACHE).get("high-units").asInt().orElse(0);
+            if (cHighUnits < 0)
+                {
+                Logger.warn("Invalid near cache high-units of " + cHighUnits + "; proceeding with no limit");
+                cHighUnits = 0;
+                }
+            return cHighUnits;
+            }
+
+        /**
+         * Return the number of milliseconds after which entries expire from
+         * the near cache front maps.
+         *
+         * @return the near cache expiry in milliseconds
+         */
+        protected long ensureNearCacheExpiry()
+            {
+            if (m_cNearExpiryMillis != null)
+                {
+                return m_cNearExpiryMillis;
+                }
+
+            long cExpiryMillis = sessionConfig().get(CFG_KEY_NEAR_CACHE).get("expiry-delay").asLong().orElse(0L);
+            if (cExpiryMillis < 0)
+                {
+                Logger.warn("Invalid near cache expiry-delay of " + cExpiryMillis + "; proceeding with no expiry");
+                cExpiryMillis = 0L;
+                }
+            return cExpiryMillis;
+            }
+
+        /**
+         * Return the invalidation strategy used by the near cache front maps.
+         *
+         * @return one of the {@link CachingMap} {@code LISTEN_*} constants
+         */
+        protected int ensureNearCacheStrategy()
+            {
+            String sStrategy = m_sNearStrategy;
+            if (sStrategy == null)
+                {
+                sStrategy = sessionConfig().get(CFG_KEY_NEAR_CACHE)
+                        .get("invalidation-strategy")
+                        .asString()
+                        .orElse("auto");
+                }
+
+            int nStrategy = sStrategy.equalsIgnoreCase("none")
+                            ? CachingMap.LISTEN_NONE
+                            : sStrategy.equalsIgnoreCase("present")
+                              ? CachingMap.LISTEN_PRESENT
+                              : sStrategy.equalsIgnoreCase("all")
+                                ? CachingMap.LISTEN_ALL
+                                : sStrategy.equalsIgnoreCase("auto")
+                                  ? CachingMap.LISTEN_AUTO
+                                  : sStrategy.equalsIgnoreCase("logical")
+                                    ? CachingMap.LISTEN_LOGICAL
+                                    : Integer.MIN_VALUE;
+
+            if (nStrategy == Integer.MIN_VALUE)
+                {
+                Logger.warn("Invalid invalidation strategy of '" + sStrategy + "'; proceeding with default of 'auto'");
+                nStrategy = CachingMap.LISTEN_AUTO;
+                }
+
+            return nStrategy;
+            }
+
         /**
          * Ensure the serialization format is initialized and returned.
          *
@@ -911,6 +1083,30 @@ public class GrpcRemoteSession
          */
         protected Executor m_executor;
 
+        /**
+         * Whether a near cache is enabled, or {@code null} to use the
+         * session configuration.
+         */
+        protected Boolean m_fNearCache;
+
+        /**
+         * The near cache front map high units, or {@code null} to use the
+         * session configuration.
+         */
+        protected Integer m_cNearHighUnits;
+
+        /**
+         * The near cache front map expiry, or {@code null} to use the
+         * session configuration.
+         */
+        protected Long m_cNearExpiryMillis;
+
+        /**
+         * The near cache invalidation strategy, or {@code null} to use the
+         * session configuration.
+         */
+        protected String m_sNearStrategy;
+
         /**
          * The session configuration.
          */
@@ -940,6 +1136,11 @@ public class GrpcRemoteSession
      */
     public static final String CFG_KEY_COHERENCE = "coherence";
 
+    /**
+     * The session configuration key used to configure the near cache.
+     */
+    public static final String CFG_KEY_NEAR_CACHE = "near-cache";
+
     // ----- data members ---------------------------------------------------
 
     /**
@@ -1008,6 +1209,28 @@ public class GrpcRemoteSession
      */
     protected final Optional<ClientTracingInterceptor> f_tracing;
 
+    /**
+     * A flag indicating whether caches obtained from this session are
+     * fronted by a near cache.
+     */
+    protected final boolean f_fNearCache;
+
+    /**
+     * The maximum number of entries held by each near cache front map.
+     */
+    protected final int f_cNearHighUnits;
+
+    /**
+     * The number of milliseconds after which entries expire from the near
+     * cache front maps.
+     */
+    protected final long f_cNearExpiryMillis;
+
+    /**
+     * The near cache invalidation strategy.
+     */
+    protected final int f_nNearStrategy;
+
     /**
      * A flag indicating whether this session has been closed.
      */
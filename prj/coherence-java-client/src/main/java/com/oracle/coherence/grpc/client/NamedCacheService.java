@@ -45,6 +45,7 @@ import com.oracle.coherence.grpc.ValuesRequest;
 import io.grpc.stub.StreamObserver;
 
 import io.helidon.microprofile.grpc.core.Bidirectional;
+import io.helidon.microprofile.grpc.core.ClientStreaming;
 import io.helidon.microprofile.grpc.core.Grpc;
 import io.helidon.microprofile.grpc.core.ServerStreaming;
 import io.helidon.microprofile.grpc.core.Unary;
@@ -219,6 +220,21 @@ public interface NamedCacheService
     @Unary
     CompletionStage<Empty> putAll(PutAllRequest request);
 
+    /**
+     * Add the key value pair mappings streamed to the returned
+     * {@link io.grpc.stub.StreamObserver} to this cache.
+     *
+     * @param observer  the {@link io.grpc.stub.StreamObserver} that will receive a single
+     *                  {@link Empty} response once all of the entries have been applied
+     *
+     * @return a {@link io.grpc.stub.StreamObserver} to stream the
+     *         {@link com.oracle.coherence.grpc.PutAllRequest} messages to
+     *
+     * @see com.tangosol.net.NamedCache#putAll(java.util.Map)
+     */
+    @ClientStreaming
+    StreamObserver<PutAllRequest> putAllStream(StreamObserver<Empty> observer);
+
     /**
      * Remove the mapping that is associated with the specified key.
      *
@@ -348,6 +364,21 @@ public interface NamedCacheService
     @ServerStreaming
     void invokeAll(InvokeAllRequest request, StreamObserver<Entry> observer);
 
+    /**
+     * Invoke an {@link com.tangosol.util.InvocableMap.EntryProcessor} against the entries
+     * whose keys are streamed to the returned {@link io.grpc.stub.StreamObserver}.
+     * <p>
+     * The first request must contain the serialized entry processor, subsequent
+     * requests only need to contain keys.
+     *
+     * @param observer  the {@link io.grpc.stub.StreamObserver} to observe the invocation results
+     *
+     * @return a {@link io.grpc.stub.StreamObserver} to stream the
+     *         {@link com.oracle.coherence.grpc.InvokeAllRequest} messages to
+     */
+    @Bidirectional
+    StreamObserver<InvokeAllRequest> invokeAllStream(StreamObserver<Entry> observer);
+
     /**
      * Destroy a cache.
      *
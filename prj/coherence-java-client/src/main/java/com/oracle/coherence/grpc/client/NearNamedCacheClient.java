@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.oracle.coherence.grpc.client;
+
+import com.tangosol.net.cache.CacheStatistics;
+import com.tangosol.net.cache.CachingMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@link NamedCacheClient} that keeps a local front tier of recently
+ * accessed entries in front of the remote cache, in the same way that a
+ * {@link com.tangosol.net.cache.NearCache} does for Extend clients.
+ * <p>
+ * The front map is kept coherent with the remote cache by a {@link CachingMap},
+ * which registers its invalidation listeners with the remote cache through
+ * the events stream of the wrapped {@link AsyncNamedCacheClient}. Operations
+ * that are not served from the front map always execute against the remote
+ * cache, and invalidate the entries they may modify in the front map once
+ * they complete.
+ *
+ * @param <K> the type of the cache keys
+ * @param <V> the type of the cache values
+ *
+ * @since 20.12
+ */
+class NearNamedCacheClient<K, V>
+        extends NamedCacheClient<K, V>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Creates a {@link NearNamedCacheClient}.
+     *
+     * @param asyncClient  the asynchronous client used to access the remote cache
+     * @param mapFront     the local map to use as the front tier
+     * @param nStrategy    the invalidation strategy; one of the
+     *                     {@link CachingMap} {@code LISTEN_*} constants
+     */
+    protected NearNamedCacheClient(AsyncNamedCacheClient<K, V> asyncClient, Map<K, V> mapFront, int nStrategy)
+        {
+        super(asyncClient);
+        f_mapNear = new NearCachingMap<>(mapFront, new NamedCacheClient<>(asyncClient), nStrategy);
+        }
+
+    // ----- accessor methods -----------------------------------------------
+
+    /**
+     * Return the front map of this near cache.
+     *
+     * @return the front map of this near cache
+     */
+    public Map<K, V> getFrontMap()
+        {
+        return f_mapNear.getFrontMap();
+        }
+
+    /**
+     * Return the invalidation strategy used to keep the front map
+     * coherent with the remote cache.
+     *
+     * @return one of the {@link CachingMap} {@code LISTEN_*} constants
+     */
+    public int getInvalidationStrategy()
+        {
+        return f_mapNear.getInvalidationStrategy();
+        }
+
+    /**
+     * Return the {@link CacheStatistics} for the front map of this near cache.
+     *
+     * @return the {@link CacheStatistics} for this near cache
+     */
+    public CacheStatistics getCacheStatistics()
+        {
+        return f_mapNear.getCacheStatistics();
+        }
+
+    /**
+     * Return the value associated with the specified key if it is present
+     * in the front map, without going to the remote cache.
+     *
+     * @param key  the key to look up
+     *
+     * @return the value from the front map, or {@code null} if the front
+     *         map does not contain the key
+     */
+    protected V getFromFront(Object key)
+        {
+        Map<K, V> mapFront = f_mapNear.getFrontMap();
+        return mapFront == null ? null : mapFront.get(key);
+        }
+
+    /**
+     * Remove the specified keys from the front map.
+     *
+     * @param colKeys  the keys to remove, or {@code null} to remove all keys
+     */
+    protected void invalidate(Collection<?> colKeys)
+        {
+        NearCachingMap<K, V> mapNear = f_mapNear;
+        if (colKeys == null)
+            {
+            colKeys = new ArrayList<>(mapNear.getFrontMap().keySet());
+            }
+        for (Object key : colKeys)
+            {
+            mapNear.invalidate(key);
+            }
+        }
+
+    // ----- Object methods -------------------------------------------------
+
+    @Override
+    public String toString()
+        {
+        return "NearNamedCacheClient{"
+               + "scope: \"" + f_asyncClient.getScopeName() + '"'
+               + "name: \"" + f_asyncClient.getCacheName() + '"'
+               + " format: \"" + f_asyncClient.getFormat() + '"'
+               + " near: " + f_mapNear
+               + '}';
+        }
+
+    // ----- NamedCache interface -------------------------------------------
+
+    @Override
+    public void clear()
+        {
+        f_asyncClient.assertActive();
+        f_mapNear.clear();
+        }
+
+    @Override
+    public boolean containsKey(Object key)
+        {
+        f_asyncClient.assertActive();
+        return f_mapNear.containsKey(key);
+        }
+
+    @Override
+    public void destroy()
+        {
+        f_asyncClient.assertActive();
+        f_mapNear.release();
+        super.destroy();
+        }
+
+    @Override
+    public V get(Object key)
+        {
+        f_asyncClient.assertActive();
+        return f_mapNear.get(key);
+        }
+
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys)
+        {
+        f_asyncClient.assertActive();
+        return f_mapNear.getAll(keys);
+        }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue)
+        {
+        V value = get(key);
+        return value == null ? defaultValue : value;
+        }
+
+    @Override
+    public V put(K key, V value, long ttl)
+        {
+        f_asyncClient.assertActive();
+        return f_mapNear.put(key, value, true, ttl);
+        }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m)
+        {
+        f_asyncClient.assertActive();
+        f_mapNear.putAll(m);
+        }
+
+    @Override
+    public void release()
+        {
+        f_asyncClient.assertActive();
+        f_mapNear.release();
+        super.release();
+        }
+
+    @Override
+    public V remove(Object key)
+        {
+        f_asyncClient.assertActive();
+        return f_mapNear.remove(key);
+        }
+
+    // ----- inner class: NearCachingMap ------------------------------------
+
+    /**
+     * A {@link CachingMap} that allows individual keys to be invalidated
+     * after they have been modified without going through the front map.
+     *
+     * @param <K> the type of the cache keys
+     * @param <V> the type of the cache values
+     */
+    protected static class NearCachingMap<K, V>
+            extends CachingMap<K, V>
+        {
+        /**
+         * Construct a {@link NearCachingMap}.
+         *
+         * @param mapFront   the front map
+         * @param mapBack    the back map
+         * @param nStrategy  the invalidation strategy
+         */
+        protected NearCachingMap(Map<K, V> mapFront, Map<K, V> mapBack, int nStrategy)
+            {
+            super(mapFront, mapBack, nStrategy);
+            }
+
+        /**
+         * Remove the specified key from the front map, and unregister the
+         * key's listener from the back map if it is no longer needed.
+         *
+         * @param oKey  the key to invalidate
+         */
+        protected void invalidate(Object oKey)
+            {
+            if (getFrontMap().remove(oKey) != null)
+                {
+                unregisterListener(oKey);
+                }
+            }
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The {@link CachingMap} that manages the front map and its coherence
+     * with the remote cache.
+     */
+    protected final NearCachingMap<K, V> f_mapNear;
+    }
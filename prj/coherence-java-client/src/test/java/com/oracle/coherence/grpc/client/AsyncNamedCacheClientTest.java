@@ -8,18 +8,29 @@
 package com.oracle.coherence.grpc.client;
 
 
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+
 import com.oracle.coherence.cdi.Scope;
+
 import com.oracle.coherence.grpc.BinaryHelper;
 import com.oracle.coherence.grpc.Entry;
 import com.oracle.coherence.grpc.InvokeAllRequest;
+import com.oracle.coherence.grpc.InvokeRequest;
 import com.oracle.coherence.grpc.MapListenerRequest;
 import com.oracle.coherence.grpc.MapListenerResponse;
 import com.oracle.coherence.grpc.MapListenerSubscribedResponse;
+import com.oracle.coherence.grpc.PutAllRequest;
+import com.oracle.coherence.grpc.PutRequest;
+import com.oracle.coherence.grpc.TruncateRequest;
 
 import com.tangosol.io.DefaultSerializer;
 import com.tangosol.io.ExternalizableLite;
 import com.tangosol.io.Serializer;
 
+import com.tangosol.net.cache.CachingMap;
+import com.tangosol.net.cache.LocalCache;
+
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.Filter;
 import com.tangosol.util.InvocableMap;
@@ -28,13 +39,19 @@ import com.tangosol.util.UID;
 import com.tangosol.util.filter.AlwaysFilter;
 import com.tangosol.util.filter.EqualsFilter;
 
+import io.grpc.Status;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +60,9 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -64,10 +84,12 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import static org.mockito.ArgumentMatchers.any;
 
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,6 +113,277 @@ class AsyncNamedCacheClientTest
 
     // ----- test methods ---------------------------------------------------
 
+    @Test
+    void shouldStreamPutAllOnlyWhenReady() throws Exception
+        {
+        AtomicBoolean                           fReady      = new AtomicBoolean(false);
+        AtomicReference<Runnable>               refOnReady  = new AtomicReference<>();
+        AtomicReference<StreamObserver<Empty>>  refResponse = new AtomicReference<>();
+        List<PutAllRequest>                     listSent    = new ArrayList<>();
+        AtomicBoolean                           fCompleted  = new AtomicBoolean(false);
+        ClientCallStreamObserver<PutAllRequest> call        = mock(ClientCallStreamObserver.class);
+
+        when(call.isReady()).thenAnswer(invocation -> fReady.get());
+        doAnswer(invocation ->
+            {
+            refOnReady.set(invocation.getArgument(0));
+            return null;
+            }).when(call).setOnReadyHandler(any(Runnable.class));
+
+        NamedCacheService service = createMockService();
+        when(service.putAllStream(any(StreamObserver.class))).thenAnswer(invocation ->
+            {
+            ClientResponseObserver<PutAllRequest, Empty> observer = invocation.getArgument(0);
+            observer.beforeStart(call);
+            refResponse.set(observer);
+
+            return new StreamObserver<PutAllRequest>()
+                {
+                @Override
+                public void onNext(PutAllRequest request)
+                    {
+                    listSent.add(request);
+                    }
+
+                @Override
+                public void onError(Throwable throwable)
+                    {
+                    }
+
+                @Override
+                public void onCompleted()
+                    {
+                    fCompleted.set(true);
+                    }
+                };
+            });
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                AsyncNamedCacheClient.builder(Scope.DEFAULT, "test")
+                        .serviceProxy(service)
+                        .serializer(SERIALIZER, FORMAT)
+                        .build();
+
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < AsyncNamedCacheClient.BULK_CHUNK_SIZE * 2 + 1; i++)
+            {
+            map.put("key-" + i, "value-" + i);
+            }
+
+        CompletableFuture<Empty> future = client.putAllStreaming(map);
+
+        // nothing is sent until the call is ready
+        assertThat(listSent.size(), is(0));
+        assertThat(refOnReady.get(), is(notNullValue()));
+
+        fReady.set(true);
+        refOnReady.get().run();
+
+        assertThat(listSent.size(), is(3));
+        assertThat(listSent.get(0).getEntryCount(), is(AsyncNamedCacheClient.BULK_CHUNK_SIZE));
+        assertThat(listSent.get(2).getEntryCount(), is(1));
+        assertThat(fCompleted.get(), is(true));
+        assertThat(future.isDone(), is(false));
+
+        refResponse.get().onCompleted();
+        assertThat(future.isDone(), is(true));
+        assertThat(future.isCompletedExceptionally(), is(false));
+        }
+
+    @Test
+    void shouldFallBackToUnaryPutAllWhenStreamingIsUnimplemented() throws Exception
+        {
+        List<PutAllRequest> listSent = new ArrayList<>();
+        NamedCacheService   service  = createMockService();
+
+        when(service.putAllStream(any(StreamObserver.class))).thenAnswer(invocation ->
+            {
+            StreamObserver<Empty> observer = invocation.getArgument(0);
+            observer.onError(Status.UNIMPLEMENTED.asRuntimeException());
+            return mock(StreamObserver.class);
+            });
+        when(service.putAll(any(PutAllRequest.class))).thenAnswer(invocation ->
+            {
+            listSent.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(BinaryHelper.EMPTY);
+            });
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                AsyncNamedCacheClient.builder(Scope.DEFAULT, "test")
+                        .serviceProxy(service)
+                        .serializer(SERIALIZER, FORMAT)
+                        .build();
+
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < AsyncNamedCacheClient.BULK_CHUNK_SIZE * 2 + 1; i++)
+            {
+            map.put("key-" + i, "value-" + i);
+            }
+
+        client.putAll(map).get();
+
+        assertThat(listSent.size(), is(3));
+        assertThat(listSent.get(0).getEntryCount(), is(AsyncNamedCacheClient.BULK_CHUNK_SIZE));
+        assertThat(listSent.get(2).getEntryCount(), is(1));
+
+        // the streaming call is not attempted again
+        client.putAll(map).get();
+
+        assertThat(listSent.size(), is(6));
+        verify(service, times(1)).putAllStream(any(StreamObserver.class));
+        }
+
+    @Test
+    void shouldStreamInvokeAllForLargeKeySets() throws Exception
+        {
+        List<InvokeAllRequest> listSent = new ArrayList<>();
+        NamedCacheService      service  = createMockService();
+
+        when(service.invokeAllStream(any(StreamObserver.class))).thenAnswer(invocation ->
+            {
+            StreamObserver<Entry> observer = invocation.getArgument(0);
+
+            return new StreamObserver<InvokeAllRequest>()
+                {
+                @Override
+                public void onNext(InvokeAllRequest request)
+                    {
+                    listSent.add(request);
+                    }
+
+                @Override
+                public void onError(Throwable throwable)
+                    {
+                    }
+
+                @Override
+                public void onCompleted()
+                    {
+                    for (InvokeAllRequest request : listSent)
+                        {
+                        for (ByteString key : request.getKeysList())
+                            {
+                            observer.onNext(Entry.newBuilder()
+                                    .setKey(key)
+                                    .setValue(BinaryHelper.toByteString("result", SERIALIZER))
+                                    .build());
+                            }
+                        }
+                    observer.onCompleted();
+                    }
+                };
+            });
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                AsyncNamedCacheClient.builder(Scope.DEFAULT, "test")
+                        .serviceProxy(service)
+                        .serializer(SERIALIZER, FORMAT)
+                        .build();
+
+        List<String> listKeys = new ArrayList<>();
+        for (int i = 0; i < AsyncNamedCacheClient.BULK_CHUNK_SIZE + 1; i++)
+            {
+            listKeys.add("key-" + i);
+            }
+
+        InvocableMap.EntryProcessor<String, String, String> processor = new ProcessorStub<>();
+        Map<String, String>                                 mapResult = client.invokeAll(listKeys, processor).get();
+
+        assertThat(mapResult.size(), is(listKeys.size()));
+        assertThat(mapResult.get("key-0"), is("result"));
+        assertThat(listSent.size(), is(2));
+        assertThat(listSent.get(0).getKeysCount(), is(AsyncNamedCacheClient.BULK_CHUNK_SIZE));
+        assertThat(BinaryHelper.fromByteString(listSent.get(0).getProcessor(), SERIALIZER), is(processor));
+        assertThat(listSent.get(1).getKeysCount(), is(1));
+        assertThat(listSent.get(1).getProcessor().isEmpty(), is(true));
+        }
+
+    @Test
+    void shouldFallBackToUnaryInvokeAllWhenStreamingIsUnimplemented() throws Exception
+        {
+        NamedCacheService service = createMockService();
+
+        when(service.invokeAllStream(any(StreamObserver.class))).thenAnswer(invocation ->
+            {
+            StreamObserver<Entry> observer = invocation.getArgument(0);
+            observer.onError(Status.UNIMPLEMENTED.asRuntimeException());
+            return mock(StreamObserver.class);
+            });
+        doAnswer(invocation ->
+            {
+            InvokeAllRequest      request  = invocation.getArgument(0);
+            StreamObserver<Entry> observer = invocation.getArgument(1);
+            for (ByteString key : request.getKeysList())
+                {
+                observer.onNext(Entry.newBuilder()
+                        .setKey(key)
+                        .setValue(BinaryHelper.toByteString("result", SERIALIZER))
+                        .build());
+                }
+            observer.onCompleted();
+            return null;
+            }).when(service).invokeAll(any(InvokeAllRequest.class), any(StreamObserver.class));
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                AsyncNamedCacheClient.builder(Scope.DEFAULT, "test")
+                        .serviceProxy(service)
+                        .serializer(SERIALIZER, FORMAT)
+                        .build();
+
+        List<String> listKeys = new ArrayList<>();
+        for (int i = 0; i < AsyncNamedCacheClient.BULK_CHUNK_SIZE + 1; i++)
+            {
+            listKeys.add("key-" + i);
+            }
+
+        Map<String, String> mapResult = client.invokeAll(listKeys, new ProcessorStub<String, String, String>()).get();
+
+        assertThat(mapResult.size(), is(listKeys.size()));
+        verify(service).invokeAll(any(InvokeAllRequest.class), any(StreamObserver.class));
+        }
+
+    @Test
+    void shouldInvalidateNearCacheOnAsyncMutation() throws Exception
+        {
+        NamedCacheService service = createMockService();
+        when(service.put(any(PutRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BinaryHelper.toBytesValue("old", SERIALIZER)));
+        when(service.invoke(any(InvokeRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(BinaryHelper.toBytesValue("result", SERIALIZER)));
+        when(service.truncate(any(TruncateRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(Empty.getDefaultInstance()));
+
+        AsyncNamedCacheClient<String, String> client = (AsyncNamedCacheClient<String, String>)
+                AsyncNamedCacheClient.builder(Scope.DEFAULT, "test")
+                        .serviceProxy(service)
+                        .serializer(SERIALIZER, FORMAT)
+                        .nearCache(new LocalCache(), CachingMap.LISTEN_NONE)
+                        .build();
+
+        NearNamedCacheClient<String, String> near     = (NearNamedCacheClient<String, String>) client.getNamedCacheClient();
+        Map<String, String>                  mapFront = near.getFrontMap();
+
+        mapFront.put("key-1", "value-1");
+        mapFront.put("key-2", "value-2");
+        mapFront.put("key-3", "value-3");
+        assertThat(client.get("key-1").get(), is("value-1"));
+
+        client.put("key-1", "new").get();
+        assertThat(mapFront.containsKey("key-1"), is(false));
+        assertThat(mapFront.containsKey("key-2"), is(true));
+
+        client.invoke("key-2", new ProcessorStub<>()).get();
+        assertThat(mapFront.containsKey("key-2"), is(false));
+        assertThat(mapFront.containsKey("key-3"), is(true));
+
+        near.invoke("key-3", new ProcessorStub<>());
+        assertThat(mapFront.containsKey("key-3"), is(false));
+
+        mapFront.put("key-4", "value-4");
+        near.truncate();
+        assertThat(mapFront.isEmpty(), is(true));
+        }
+
     @Test
     void shouldInvokeAllWithProcessorOnly() throws Exception
         {
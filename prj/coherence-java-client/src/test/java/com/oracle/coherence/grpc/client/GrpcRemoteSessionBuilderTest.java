@@ -7,6 +7,8 @@
 
 package com.oracle.coherence.grpc.client;
 
+import com.tangosol.net.cache.CachingMap;
+
 import io.helidon.config.Config;
 import io.helidon.config.ConfigSources;
 import org.junit.jupiter.api.Test;
@@ -63,4 +65,31 @@ public class GrpcRemoteSessionBuilderTest
         assertThat(session.getChannel().authority(), is("foo.com:1234"));
         session.getChannel().shutdownNow();
         }
+
+    @Test
+    public void shouldBuildSessionWithNearCache() throws Exception
+        {
+        Config            cfg     = Config.empty();
+        GrpcRemoteSession session = GrpcRemoteSession.builder(cfg)
+                .name("test")
+                .nearCache(100, 5000L, "present")
+                .build();
+
+        assertThat(session.isNearCacheEnabled(), is(true));
+        assertThat(session.f_cNearHighUnits, is(100));
+        assertThat(session.f_cNearExpiryMillis, is(5000L));
+        assertThat(session.f_nNearStrategy, is(CachingMap.LISTEN_PRESENT));
+        session.getChannel().shutdownNow();
+        }
+
+    @Test
+    public void shouldBuildSessionWithoutNearCacheByDefault() throws Exception
+        {
+        Config            cfg     = Config.empty();
+        GrpcRemoteSession session = GrpcRemoteSession.builder(cfg).name("test").build();
+
+        assertThat(session.isNearCacheEnabled(), is(false));
+        assertThat(session.f_nNearStrategy, is(CachingMap.LISTEN_AUTO));
+        session.getChannel().shutdownNow();
+        }
     }
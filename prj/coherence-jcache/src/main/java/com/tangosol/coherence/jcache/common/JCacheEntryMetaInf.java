@@ -217,8 +217,11 @@ public class JCacheEntryMetaInf
      *
      * @param ldtAccessed   the time the entry was accessed
      * @param expiryPolicy  the {@link ExpiryPolicy} for the {@link Cache}
+     *
+     * @return true if the access changed the expiry time, false if only the
+     *         access time was updated
      */
-    public void accessed(long ldtAccessed, ExpiryPolicy expiryPolicy)
+    public boolean accessed(long ldtAccessed, ExpiryPolicy expiryPolicy)
         {
         setAccessTime(ldtAccessed);
 
@@ -239,7 +242,9 @@ public class JCacheEntryMetaInf
         if (duration != null)
             {
             setExpiryTime(duration.getAdjustedTime(ldtAccessed));
+            return true;
             }
+        return false;
         }
 
     /**
@@ -27,6 +27,11 @@ import java.util.Set;
  * JCache Get Entry Processor
  *
  * Implements cache statistics, Accessed CacheEntryEvent and read-through.
+ * <p>
+ * The entry is only updated if the read changes it, that is if the value was
+ * loaded by read-through or if the {@link javax.cache.expiry.ExpiryPolicy}
+ * has access based expiry. Otherwise the processor does not modify the entry,
+ * so a read does not result in a backup update.
  *
  * @param <K>  key type
  *
@@ -73,6 +78,9 @@ public class GetProcessor<K>
         // Note if read-through is enabled, this call could cause loading.
         Binary binValue = binEntry.getBinaryValue();
 
+        // a value that was loaded must be stored along with its meta info
+        boolean fUpdate = !fBinEntryOrigPresent;
+
         if (binEntry.isPresent())
             {
             BackingMapManagerContext ctx          = binEntry.getContext();
@@ -100,6 +108,8 @@ public class GetProcessor<K>
 
                         return null;
                         }
+
+                    fUpdate = true;
                     }
                 else
                     {
@@ -111,18 +121,19 @@ public class GetProcessor<K>
 
             assert(valueMetaInf != null);
 
-            valueMetaInf.accessed(ldtStart, jcacheCtx.getExpiryPolicy());
-
-            binValue = BinaryEntryHelper.decorateBinValueWithJCacheMetaInf(binValue, valueMetaInf, ctx);
-            binValue = BinaryEntryHelper.jcacheSyntheticUpdateEntry(binValue, ctx);
-
-            // must update value due to decorate update of JCACHE metaInfo for value.  Should be synthetic update in
-            // get. (not working the Coherence Update listener does get fired even though no change in user visible
-            // value, only meta info change to reflect this access via get.
-            // used to be updateBinaryValue(binValue, true (isSynthetic)) but 3.7.1 does not have this method.
-            // adding isSynthetic by implementing in the adapter now since isSynthetic in 12.2.1 and up was not
-            // sufficient for our use case.
-            binEntry.updateBinaryValue(binValue);
+            if (valueMetaInf.accessed(ldtStart, jcacheCtx.getExpiryPolicy()) || fUpdate)
+                {
+                binValue = BinaryEntryHelper.decorateBinValueWithJCacheMetaInf(binValue, valueMetaInf, ctx);
+                binValue = BinaryEntryHelper.jcacheSyntheticUpdateEntry(binValue, ctx);
+
+                // must update value due to decorate update of JCACHE metaInfo for value.  Should be synthetic update in
+                // get. (not working the Coherence Update listener does get fired even though no change in user visible
+                // value, only meta info change to reflect this access via get.
+                // used to be updateBinaryValue(binValue, true (isSynthetic)) but 3.7.1 does not have this method.
+                // adding isSynthetic by implementing in the adapter now since isSynthetic in 12.2.1 and up was not
+                // sufficient for our use case.
+                binEntry.updateBinaryValue(binValue);
+                }
 
             if (fBinEntryOrigPresent)
                 {
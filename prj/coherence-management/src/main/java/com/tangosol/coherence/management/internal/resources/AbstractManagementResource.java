@@ -12,6 +12,8 @@ import com.tangosol.coherence.management.internal.Converter;
 import com.tangosol.coherence.management.internal.EntityMBeanResponse;
 import com.tangosol.coherence.management.internal.MBeanResponse;
 
+import com.tangosol.internal.util.RequestPhaseTracker;
+
 import com.tangosol.net.CacheFactory;
 
 import com.tangosol.net.management.MBeanAccessor;
@@ -1605,6 +1607,11 @@ public abstract class AbstractManagementResource
      */
     public static final String POINT_TO_POINT_QUERY = ":" + Registry.POINT_TO_POINT_TYPE;
 
+    /**
+     * MBean query to filter out all the RequestPhase MBeans.
+     */
+    public static final String REQUEST_PHASE_QUERY = ":" + RequestPhaseTracker.MBEAN_TYPE;
+
     /**
      * MBean query to filter out all the ConnectionManager(Proxy) MBeans.
      */
@@ -121,6 +121,26 @@ public class ClusterMemberResource
         return response(getResponseEntityForMbean(getPointToPointMBeanQuery(sMemberKey)));
         }
 
+    /**
+     * Return the RequestPhaseMBean attributes for a cluster member.
+     *
+     * @param sMemberKey  the member key, can be a member name or node Id
+     *
+     * @return the response object
+     */
+    @GET
+    @Produces(MEDIA_TYPES)
+    @Path(REQUEST_PHASES)
+    public Response getRequestPhasesResponse(@PathParam(MEMBER_KEY) String sMemberKey)
+        {
+        QueryBuilder bldrQuery = createQueryBuilder()
+                .withBaseQuery(REQUEST_PHASE_QUERY)
+                .withMember(sMemberKey);
+
+        return response(getResponseBodyForMBeanCollection(bldrQuery, "phase", null,
+                getParentUri(), getCurrentUri()));
+        }
+
     /**
      * Return the response of "reportNodeState" operation of NodeMBean
      *
@@ -414,6 +434,11 @@ public class ClusterMemberResource
      */
     public static final String DIAGNOSTIC_CMD = "diagnostic-cmd";
 
+    /**
+     * The constant for the sampled request phase latencies.
+     */
+    public static final String REQUEST_PHASES = "requestPhases";
+
     /**
      * The constant for the child links. The child links are all the platform MBeans and
      * the networkStats.
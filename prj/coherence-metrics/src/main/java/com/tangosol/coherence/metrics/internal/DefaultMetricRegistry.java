@@ -8,9 +8,12 @@ package com.tangosol.coherence.metrics.internal;
 
 import com.oracle.coherence.common.collections.ConcurrentHashMap;
 
+import com.tangosol.internal.metrics.NativeMetricRegistry;
+
 import com.tangosol.net.metrics.MBeanMetric;
 import com.tangosol.net.metrics.MetricsRegistryAdapter;
 
+import java.util.AbstractMap;
 import java.util.Comparator;
 import java.util.Map;
 
@@ -21,6 +24,10 @@ import java.util.stream.Stream;
 /**
  * A registry of {@link MBeanMetric} instances.
  * <p>
+ * In addition to the registered metrics, the metrics returned by this
+ * registry include the metrics exported by the {@link NativeMetricRegistry},
+ * whose values are read directly rather than from an MBean.
+ * <p>
  * There is a single instance of the {@link DefaultMetricRegistry} that
  * can be obtained using the {@link DefaultMetricRegistry#getRegistry()}
  * method.
@@ -83,7 +90,12 @@ public class DefaultMetricRegistry
      */
     public MBeanMetric getMetric(MBeanMetric.Identifier identifier)
         {
-        return f_mapMetric.get(identifier);
+        MBeanMetric metric = f_mapMetric.get(identifier);
+        if (metric == null)
+            {
+            metric = NativeMetricRegistry.getRegistry().getExportedMetric(identifier);
+            }
+        return metric;
         }
 
     /**
@@ -95,10 +107,7 @@ public class DefaultMetricRegistry
      */
     public Stream<Map.Entry<MBeanMetric.Identifier, MBeanMetric>> getMetrics(String sName)
         {
-        return f_mapMetric
-                .entrySet()
-                .stream()
-                .filter(e -> e.getKey().getName().equals(sName));
+        return entries().filter(e -> e.getKey().getName().equals(sName));
         }
 
     /**
@@ -110,10 +119,7 @@ public class DefaultMetricRegistry
      */
     public Stream<Map.Entry<MBeanMetric.Identifier, MBeanMetric>> getMetrics(Pattern pattern)
         {
-        return f_mapMetric
-                .entrySet()
-                .stream()
-                .filter(e -> pattern.matcher( e.getKey().getName()).matches());
+        return entries().filter(e -> pattern.matcher( e.getKey().getName()).matches());
         }
 
     /**
@@ -123,9 +129,22 @@ public class DefaultMetricRegistry
      */
     public Stream<Map.Entry<MBeanMetric.Identifier, MBeanMetric>> stream()
         {
-        return f_mapMetric.entrySet()
-                .stream()
-                .sorted(METRIC_COMPARATOR);
+        return entries().sorted(METRIC_COMPARATOR);
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Returns a {@link Stream} of the registered metrics and the metrics
+     * exported by the {@link NativeMetricRegistry}.
+     *
+     * @return a {@link Stream} of all metrics
+     */
+    private Stream<Map.Entry<MBeanMetric.Identifier, MBeanMetric>> entries()
+        {
+        return Stream.concat(f_mapMetric.entrySet().stream(),
+                NativeMetricRegistry.getRegistry().stream()
+                        .map(m -> new AbstractMap.SimpleImmutableEntry<>(m.getIdentifier(), m)));
         }
 
     // ----- inner class Wrapper --------------------------------------------
@@ -17,12 +17,14 @@ import com.tangosol.coherence.config.Config;
 import com.tangosol.net.metrics.MBeanMetric;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
 
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import java.util.function.Predicate;
 
 import java.util.regex.Pattern;
@@ -45,6 +47,10 @@ import javax.ws.rs.core.UriInfo;
 
 /**
  * Metrics Rest Resource
+ * <p>
+ * The metrics are streamed to the response as they are read from the
+ * registry, rather than collected up front, and the value of each metric
+ * is read exactly once per request.
  *
  * @author jk  2019.06.24
  * @since 12.2.1.4.0
@@ -164,7 +170,12 @@ public class MetricsResource
                "true".equalsIgnoreCase(uriInfo.getQueryParameters().getFirst("extended"));
         }
 
-    private List<MBeanMetric> getMetrics(Predicate<MBeanMetric> predicate)
+    private Iterable<MBeanMetric> getMetrics(Predicate<MBeanMetric> predicate)
+        {
+        return () -> streamMetrics(predicate).iterator();
+        }
+
+    private Stream<MBeanMetric> streamMetrics(Predicate<MBeanMetric> predicate)
         {
         try
             {
@@ -189,12 +200,11 @@ public class MetricsResource
 //                    }
 //                }
 
-            return stream.map(Map.Entry::getValue)
-                         .collect(Collectors.toList());
+            return stream.map(Map.Entry::getValue);
             }
         catch (Throwable t)
             {
-            Logger.err("Exception in MetricsResource.getMetrics():", t);
+            Logger.err("Exception in MetricsResource.streamMetrics():", t);
             throw t;
             }
         }
@@ -203,6 +213,9 @@ public class MetricsResource
 
     /**
      * A {@link Predicate} that can be used to restrict the metrics returned by a request.
+     * <p>
+     * Metrics without a value are skipped by the formatters, so that the value
+     * of each metric is only read once.
      */
     private class MetricPredicate
             implements Predicate<MBeanMetric>
@@ -227,16 +240,11 @@ public class MetricsResource
         @Override
         public boolean test(MBeanMetric metric)
             {
-            return hasValue(metric) && nameMatches(metric) && tagsMatch(metric);
+            return nameMatches(metric) && tagsMatch(metric);
             }
 
         // ----- helper methods ---------------------------------------------
 
-        private boolean hasValue(MBeanMetric metric)
-            {
-            return metric.getValue() != null;
-            }
-
         private boolean nameMatches(MBeanMetric metric)
             {
             return f_sName == null || metric.getName().startsWith(f_sName);
@@ -273,6 +281,11 @@ public class MetricsResource
     /**
      * A {@link MetricsFormatter} implementation that writes metrics
      * in a Prometheus format.
+     * <p>
+     * Converting a metric name and tags into a Prometheus series name is
+     * considerably more expensive than writing its value, so the rendered
+     * series names are cached across requests, and only the values are
+     * written for each request.
      */
     static class PrometheusFormatter
             implements MetricsFormatter
@@ -285,9 +298,9 @@ public class MetricsResource
          * @param fExtended        the flag specifying whether to include metric type
          *                         and description into the output
          * @param fUseLegacyNames  a flag specifying whether to use COherence legacy name formats
-         * @param metrics          the list of metrics to write
+         * @param metrics          the metrics to write
          */
-        PrometheusFormatter(boolean fExtended, boolean fUseLegacyNames, List<MBeanMetric> metrics)
+        PrometheusFormatter(boolean fExtended, boolean fUseLegacyNames, Iterable<MBeanMetric> metrics)
             {
             f_fExtended       = fExtended;
             f_fUseLegacyNames = fUseLegacyNames;
@@ -299,33 +312,58 @@ public class MetricsResource
         @Override
         public void writeMetrics(Writer writer) throws IOException
             {
+            Map<MBeanMetric.Identifier, Series> mapSeries = f_fUseLegacyNames ? LEGACY_SERIES : SERIES;
+            if (mapSeries.size() > MAX_CACHED_SERIES)
+                {
+                // metrics that are no longer registered are only evicted
+                // by discarding the whole cache
+                mapSeries.clear();
+                }
+
             for (MBeanMetric metric : f_metrics)
                 {
-                writeMetric(writer, metric);
+                Object oValue = metric.getValue();
+                if (oValue != null)
+                    {
+                    writeMetric(writer, metric, ensureSeries(mapSeries, metric.getIdentifier()), oValue);
+                    }
                 }
             }
 
         // ----- helper methods ---------------------------------------------
 
-        private void writeMetric(Writer writer, MBeanMetric m) throws IOException
+        private void writeMetric(Writer writer, MBeanMetric m, Series series, Object oValue) throws IOException
             {
-            final MBeanMetric.Identifier id = m.getIdentifier();
-            final String sName = prometheusName(id.getScope(), id.getName());
-
             if (f_fExtended)
                 {
-                writeType(writer, sName);
-                writeHelp(writer, sName, m.getDescription());
+                writeType(writer, series.f_sName);
+                writeHelp(writer, series.f_sName, m.getDescription());
                 }
 
-            writer.append(sName);
-            writeTags(writer, id.getTags());
-
-            writer.append(' ')
-                  .append(m.getValue().toString())
+            writer.append(series.f_sSeries)
+                  .append(' ')
+                  .append(oValue.toString())
                   .append('\n');
             }
 
+        private Series ensureSeries(Map<MBeanMetric.Identifier, Series> mapSeries, MBeanMetric.Identifier id)
+                throws IOException
+            {
+            Series series = mapSeries.get(id);
+            if (series == null)
+                {
+                String       sName  = prometheusName(id.getScope(), id.getName());
+                StringWriter writer = new StringWriter();
+
+                writer.append(sName);
+                writeTags(writer, id.getTags());
+
+                series = new Series(sName, writer.toString());
+                mapSeries.put(id, series);
+                }
+            return series;
+            }
+
         private void writeType(Writer writer, String sName) throws IOException
             {
             writer.append("# TYPE ").append(sName).append(" gauge \n");
@@ -428,6 +466,21 @@ public class MetricsResource
         private static final Pattern COLON_UNDERSCORE = Pattern.compile(":_");
         private static final Pattern CAMEL_CASE = Pattern.compile("(.)(\\p{Upper})");
 
+        /**
+         * The maximum number of cached series names per naming format.
+         */
+        private static final int MAX_CACHED_SERIES = 100_000;
+
+        /**
+         * The cached series names in the legacy format.
+         */
+        private static final Map<MBeanMetric.Identifier, Series> LEGACY_SERIES = new ConcurrentHashMap<>();
+
+        /**
+         * The cached series names in the Microprofile compatible format.
+         */
+        private static final Map<MBeanMetric.Identifier, Series> SERIES = new ConcurrentHashMap<>();
+
         // ---- data members ------------------------------------------------
 
         /**
@@ -442,9 +495,39 @@ public class MetricsResource
         private final boolean f_fUseLegacyNames;
 
         /**
-         * The list of metrics to write.
+         * The metrics to write.
          */
-        private final List<MBeanMetric> f_metrics;
+        private final Iterable<MBeanMetric> f_metrics;
+
+        // ----- inner class: Series ----------------------------------------
+
+        /**
+         * The rendered Prometheus names of a metric.
+         */
+        private static class Series
+            {
+            /**
+             * Construct a Series.
+             *
+             * @param sName    the Prometheus metric name
+             * @param sSeries  the Prometheus metric name followed by the tags
+             */
+            private Series(String sName, String sSeries)
+                {
+                f_sName   = sName;
+                f_sSeries = sSeries;
+                }
+
+            /**
+             * The Prometheus metric name.
+             */
+            private final String f_sName;
+
+            /**
+             * The Prometheus metric name followed by the tags.
+             */
+            private final String f_sSeries;
+            }
         }
 
     // ----- inner class: JsonFormatter -------------------------------------
@@ -463,9 +546,9 @@ public class MetricsResource
          *
          * @param fExtended  the flag specifying whether to include metric type
          *                   and description into the output
-         * @param metrics    the list of metrics to write
+         * @param metrics    the metrics to write
          */
-        JsonFormatter(boolean fExtended, List<MBeanMetric> metrics)
+        JsonFormatter(boolean fExtended, Iterable<MBeanMetric> metrics)
             {
             f_fExtended = fExtended;
             f_metrics   = metrics;
@@ -481,7 +564,11 @@ public class MetricsResource
                 jsonWriter.writeStartArray();
                 for (MBeanMetric metric : f_metrics)
                     {
-                    writeMetric(jsonWriter, metric);
+                    Object oValue = metric.getValue();
+                    if (oValue != null)
+                        {
+                        writeMetric(jsonWriter, metric, oValue);
+                        }
                     }
                 jsonWriter.writeEndArray();
                 }
@@ -489,7 +576,7 @@ public class MetricsResource
 
         // ----- helper methods ---------------------------------------------
 
-        private void writeMetric(JsonGenerator writer, MBeanMetric m) throws IOException
+        private void writeMetric(JsonGenerator writer, MBeanMetric m, Object oValue) throws IOException
             {
             final MBeanMetric.Identifier id = m.getIdentifier();
 
@@ -498,7 +585,7 @@ public class MetricsResource
             writer.writeStringField("name", id.getName());
             writeTags(writer, id.getTags());
             writer.writeStringField("scope", id.getScope().name());
-            writer.writeObjectField("value", m.getValue());
+            writer.writeObjectField("value", oValue);
 
             final String sDesc = m.getDescription();
             if (f_fExtended && sDesc != null && sDesc.length() > 0)
@@ -532,9 +619,9 @@ public class MetricsResource
         private final boolean f_fExtended;
 
         /**
-         * The list of metrics to write.
+         * The metrics to write.
          */
-        private final List<MBeanMetric> f_metrics;
+        private final Iterable<MBeanMetric> f_metrics;
         }
 
     // ----- constants ------------------------------------------------------
@@ -8,6 +8,7 @@ package com.tangosol.coherence.metrics.internal;
 
 import org.glassfish.jersey.jackson.JacksonFeature;
 
+import org.glassfish.jersey.message.DeflateEncoder;
 import org.glassfish.jersey.message.GZipEncoder;
 
 import org.glassfish.jersey.server.ResourceConfig;
@@ -41,7 +42,7 @@ public class MetricsResourceConfig
         {
         register(JacksonFeature.class);
         register(MetricsWriter.class);
-        EncodingFilter.enableFor(this, GZipEncoder.class);
+        EncodingFilter.enableFor(this, GZipEncoder.class, DeflateEncoder.class);
         register(MetricsResource.class);
 
         // This allows the type of metrics to be requested by adding a suffix to the url
@@ -7,14 +7,17 @@
 package com.tangosol.coherence.metrics.internal;
 
 
+import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-
 import java.io.Writer;
+
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
+import java.nio.charset.StandardCharsets;
+
 import javax.ws.rs.WebApplicationException;
 
 import javax.ws.rs.core.MediaType;
@@ -28,6 +31,10 @@ import javax.ws.rs.ext.Provider;
  * A {@code javax.ws.rs.ext.MessageBodyWriter} implementation that
  * uses {@link MetricsFormatter} to write a set of metrics directly
  * to the response stream.
+ * <p>
+ * The metrics are written through a buffer, so that large metric sets are
+ * streamed to the client (and the response encoder, if compression was
+ * requested) in large chunks rather than one value at a time.
  *
  * @author as  2019.06.29
  * @since 12.2.1.4.0
@@ -53,9 +60,16 @@ public class MetricsWriter
                         MultivaluedMap<String, Object> multivaluedMap, OutputStream out)
             throws IOException, WebApplicationException
         {
-        try (Writer writer = new OutputStreamWriter(out))
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE))
             {
             formatter.writeMetrics(writer);
             }
         }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The size of the character buffer used to write the metrics.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
     }
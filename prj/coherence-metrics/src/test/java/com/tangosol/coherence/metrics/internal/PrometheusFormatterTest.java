@@ -12,6 +12,7 @@ import com.tangosol.internal.metrics.MetricSupport;
 import com.tangosol.net.metrics.MBeanMetric;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -115,6 +116,36 @@ public class PrometheusFormatterTest
         assertThat(writer.toString(), equalTo(expected));
         }
 
+    @Test
+    public void testMetricsWithoutValueAreSkipped() throws IOException
+        {
+        MBeanMetric metric1 = new TestMetric(VENDOR, "coherence.clusterSize", Collections.emptyMap(), null, null);
+        MBeanMetric metric2 = new TestMetric(VENDOR, "coherence.memberCount", Collections.emptyMap(), null, 2);
+
+        StringWriter writer = new StringWriter();
+        new PrometheusFormatter(false, true, Arrays.asList(metric1, metric2)).writeMetrics(writer);
+
+        assertThat(writer.toString(), equalTo("vendor:coherence_member_count 2\n"));
+        }
+
+    @Test
+    public void testCachedSeriesName() throws IOException
+        {
+        MBeanMetric metric1 = new TestMetric(VENDOR, "coherence.clusterSize", tags(), "Cluster size", 3);
+        MBeanMetric metric2 = new TestMetric(VENDOR, "coherence.clusterSize", tags(), "Cluster size", 4);
+
+        StringWriter writer = new StringWriter();
+        new PrometheusFormatter(false, true, Collections.singletonList(metric1)).writeMetrics(writer);
+        new PrometheusFormatter(false, true, Collections.singletonList(metric2)).writeMetrics(writer);
+        new PrometheusFormatter(false, false, Collections.singletonList(metric2)).writeMetrics(writer);
+
+        String expected = "vendor:coherence_cluster_size{cluster=\"testCluster\", site=\"testSite\"} 3\n"
+                          + "vendor:coherence_cluster_size{cluster=\"testCluster\", site=\"testSite\"} 4\n"
+                          + "vendor_coherence_clusterSize{cluster=\"testCluster\", site=\"testSite\"} 4\n";
+
+        assertThat(writer.toString(), equalTo(expected));
+        }
+
     private Map<String, String> tags()
         {
         Map<String, String> tags = new HashMap<>();
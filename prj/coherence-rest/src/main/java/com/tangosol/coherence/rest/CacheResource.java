@@ -16,12 +16,14 @@ import com.tangosol.coherence.rest.events.MapEventOutput;
 
 import com.tangosol.coherence.rest.io.MarshallerRegistry;
 
+import com.tangosol.coherence.rest.query.PartitionedQueryResults;
 import com.tangosol.coherence.rest.query.Query;
 import com.tangosol.coherence.rest.query.QueryEngine;
 import com.tangosol.coherence.rest.query.QueryEngineRegistry;
 
 import com.tangosol.coherence.rest.server.InjectionBinder;
 
+import com.tangosol.coherence.rest.util.PropertyProjection;
 import com.tangosol.coherence.rest.util.PropertySet;
 import com.tangosol.coherence.rest.util.RestHelper;
 
@@ -29,16 +31,20 @@ import com.tangosol.coherence.rest.util.aggregator.AggregatorRegistry;
 
 import com.tangosol.coherence.rest.util.processor.ProcessorRegistry;
 
+import com.tangosol.net.CacheService;
 import com.tangosol.net.NamedCache;
 
 import com.tangosol.util.InvocableMap;
 import com.tangosol.util.QueryHelper;
 import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.SubList;
 import com.tangosol.util.ValueExtractor;
 import com.tangosol.util.filter.AlwaysFilter;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -132,15 +138,9 @@ public class CacheResource
                            .entity("Direct query is not allowed").build();
             }
 
-        ValueExtractor<Map.Entry, ?> extractor = Map.Entry::getValue;
-        if (propertySet != null)
-            {
-            extractor = extractor.andThen(propertySet);
-            }
-
         try
             {
-            return Response.ok(executeQuery(sQuery, extractor, nStart, cResults, sSort)).build();
+            return Response.ok(executeQuery(sQuery, valueExtractor(propertySet), nStart, cResults, sSort)).build();
             }
         catch (Exception e)
             {
@@ -179,13 +179,9 @@ public class CacheResource
                            .entity("Direct query is not allowed").build();
             }
 
-        ValueExtractor<Map.Entry, ?> extractor = propertySet == null
-                ? ValueExtractor.identity()
-                : (entry) -> new SimpleMapEntry<>(entry.getKey(), propertySet.extract(entry.getValue()));
-
         try
             {
-            return Response.ok(executeQuery(sQuery, extractor, nStart, cResults, sSort)).build();
+            return Response.ok(executeQuery(sQuery, entryExtractor(propertySet), nStart, cResults, sSort)).build();
             }
         catch (Exception e)
             {
@@ -193,6 +189,129 @@ public class CacheResource
             }
         }
 
+    /**
+     * Return all cache values (or a subset of their properties) that satisfy
+     * the specified criteria, streaming them to the client as they are
+     * retrieved.
+     * <p>
+     * Unlike {@link #getValues}, the query is executed one batch of
+     * partitions at a time and each batch is written to the response before
+     * the next one is retrieved, so the whole result set is never held in
+     * memory. Results are not sorted.
+     *
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     * @param sQuery       where predicate of Coherence Query Language to
+     *                     filter cache entries. If null, all cache values
+     *                     will be returned
+     *
+     * @return the cache values (or a subset of their properties) that
+     *         satisfy specified criteria
+     *
+     * @since 20.12
+     */
+    @GET
+    @Path("stream")
+    @Produces({APPLICATION_JSON, APPLICATION_XML})
+    public Response streamValues(
+            @MatrixParam("p") PropertySet propertySet,
+            @QueryParam("q") String sQuery)
+        {
+        return streamQuery(sQuery, valueExtractor(propertySet));
+        }
+
+    /**
+     * Return all cache entries that satisfy the specified criteria, streaming
+     * them to the client as they are retrieved.
+     *
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     * @param sQuery       where predicate of Coherence Query Language to
+     *                     filter cache entries. If null, all cache entries
+     *                     will be returned
+     *
+     * @return the cache entries that satisfy specified criteria
+     *
+     * @see #streamValues(PropertySet, String)
+     *
+     * @since 20.12
+     */
+    @GET
+    @Path("entries/stream")
+    @Produces({APPLICATION_JSON, APPLICATION_XML})
+    public Response streamEntries(
+            @MatrixParam("p") PropertySet propertySet,
+            @QueryParam("q") String sQuery)
+        {
+        return streamQuery(sQuery, entryExtractor(propertySet));
+        }
+
+    /**
+     * Return a page of cache values (or a subset of their properties) that
+     * satisfy the specified criteria.
+     * <p>
+     * A page contains the results from a whole number of partitions, so it
+     * may contain slightly more than the requested number of values. If
+     * there are more results, the response contains a {@value #CURSOR_HEADER}
+     * header whose value should be passed as the {@code cursor} parameter
+     * to retrieve the next page.
+     *
+     * @param sCursor      the cursor returned with the previous page, or
+     *                     null to retrieve the first page
+     * @param cResults     the minimum size of the page to be returned
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     * @param sQuery       where predicate of Coherence Query Language to
+     *                     filter cache entries. If null, all cache values
+     *                     will be returned
+     *
+     * @return a page of cache values (or a subset of their properties) that
+     *         satisfy specified criteria
+     *
+     * @since 20.12
+     */
+    @GET
+    @Path("page")
+    @Produces({APPLICATION_JSON, APPLICATION_XML})
+    public Response getValuesPage(
+            @MatrixParam("cursor") String sCursor,
+            @MatrixParam("count") @DefaultValue("-1") int cResults,
+            @MatrixParam("p") PropertySet propertySet,
+            @QueryParam("q") String sQuery)
+        {
+        return pageQuery(sQuery, valueExtractor(propertySet), sCursor, cResults);
+        }
+
+    /**
+     * Return a page of cache entries that satisfy the specified criteria.
+     *
+     * @param sCursor      the cursor returned with the previous page, or
+     *                     null to retrieve the first page
+     * @param cResults     the minimum size of the page to be returned
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     * @param sQuery       where predicate of Coherence Query Language to
+     *                     filter cache entries. If null, all cache entries
+     *                     will be returned
+     *
+     * @return a page of cache entries that satisfy specified criteria
+     *
+     * @see #getValuesPage(String, int, PropertySet, String)
+     *
+     * @since 20.12
+     */
+    @GET
+    @Path("entries/page")
+    @Produces({APPLICATION_JSON, APPLICATION_XML})
+    public Response getEntriesPage(
+            @MatrixParam("cursor") String sCursor,
+            @MatrixParam("count") @DefaultValue("-1") int cResults,
+            @MatrixParam("p") PropertySet propertySet,
+            @QueryParam("q") String sQuery)
+        {
+        return pageQuery(sQuery, entryExtractor(propertySet), sCursor, cResults);
+        }
+
     /**
      * Return the keys of cache entries that satisfy the given query criteria.
      *
@@ -445,6 +564,186 @@ public class CacheResource
         return query.execute(m_cache, extractor, sSort, nStart, cMaxResults);
         }
 
+    /**
+     * Execute a query and stream its results, one batch of partitions at a time.
+     *
+     * @param sQuery     where predicate of Coherence Query Language to
+     *                   filter cache entries. If null, all cache entries
+     *                   will be returned.
+     * @param extractor  the extractor to apply to each entry in the result set
+     *
+     * @return the response containing the streamed results
+     */
+    protected Response streamQuery(String sQuery, ValueExtractor<Map.Entry, ?> extractor)
+        {
+        boolean fDirectQuery = sQuery != null && sQuery.length() > 0;
+        if (fDirectQuery && !m_queryConfig.isDirectQueryEnabled())
+            {
+            return Response.status(Response.Status.FORBIDDEN)
+                           .entity("Direct query is not allowed").build();
+            }
+
+        try
+            {
+            PartitionedQueryResults results     = executePartitionedQuery(sQuery, extractor);
+            int                     cMaxResults = resolveMaxResults(sQuery, -1);
+            if (cMaxResults >= 0)
+                {
+                // the number of results is capped, so a single bounded page is sufficient
+                List list = new ArrayList();
+                results.fetch(list, 0, cMaxResults);
+                return Response.ok(new SubList(list, 0, cMaxResults)).build();
+                }
+            return Response.ok(results).build();
+            }
+        catch (Exception e)
+            {
+            return Response.status(Response.Status.BAD_REQUEST).entity(BAD_REQUEST_MSG).build();
+            }
+        }
+
+    /**
+     * Execute a query and return a single page of its results, along with
+     * the cursor for the next page.
+     *
+     * @param sQuery     where predicate of Coherence Query Language to
+     *                   filter cache entries. If null, all cache entries
+     *                   will be returned.
+     * @param extractor  the extractor to apply to each entry in the result set
+     * @param sCursor    the cursor returned with the previous page, or null
+     * @param cResults   the requested size of the page
+     *
+     * @return the response containing the page of results
+     */
+    protected Response pageQuery(String sQuery, ValueExtractor<Map.Entry, ?> extractor, String sCursor, int cResults)
+        {
+        boolean fDirectQuery = sQuery != null && sQuery.length() > 0;
+        if (fDirectQuery && !m_queryConfig.isDirectQueryEnabled())
+            {
+            return Response.status(Response.Status.FORBIDDEN)
+                           .entity("Direct query is not allowed").build();
+            }
+
+        try
+            {
+            PartitionedQueryResults results     = executePartitionedQuery(sQuery, extractor);
+            int                     cMaxResults = resolveMaxResults(sQuery, cResults);
+            List                    list        = new ArrayList();
+            int                     nNext       = results.fetch(list, results.fromCursor(sCursor),
+                                                                cMaxResults < 0 ? DEFAULT_PAGE_SIZE : cMaxResults);
+
+            return Response.ok(list).header(CURSOR_HEADER, results.toCursor(nNext)).build();
+            }
+        catch (Exception e)
+            {
+            return Response.status(Response.Status.BAD_REQUEST).entity(BAD_REQUEST_MSG).build();
+            }
+        }
+
+    /**
+     * Return a {@link PartitionedQueryResults} collection for the specified query.
+     *
+     * @param sQuery     where predicate of Coherence Query Language to
+     *                   filter cache entries. If null, all cache entries
+     *                   will be returned.
+     * @param extractor  the extractor to apply to each entry in the result set
+     *
+     * @return a lazily evaluated collection of the query results
+     */
+    protected PartitionedQueryResults executePartitionedQuery(String sQuery, ValueExtractor<Map.Entry, ?> extractor)
+        {
+        DirectQuery directQuery  = m_queryConfig.getDirectQuery();
+        String      sQueryEngine = directQuery == null ? null : directQuery.getQueryEngineName();
+        QueryEngine queryEngine  = m_queryEngineRegistry.getQueryEngine(sQueryEngine);
+        Query       query        = queryEngine.prepareQuery(sQuery, null);
+
+        return new PartitionedQueryResults(query, m_cache, extractor);
+        }
+
+    /**
+     * Resolve the maximum number of results to return for a query.
+     *
+     * @param sQuery    the query expression, or null
+     * @param cResults  the number of results requested by the client, or -1
+     *
+     * @return the maximum number of results, or -1 if unlimited
+     */
+    protected int resolveMaxResults(String sQuery, int cResults)
+        {
+        boolean     fDirectQuery     = sQuery != null && sQuery.length() > 0;
+        DirectQuery directQuery      = m_queryConfig.getDirectQuery();
+        int         cQueryMaxResults = (directQuery == null || !fDirectQuery) ? -1 : directQuery.getMaxResults();
+
+        return RestHelper.resolveMaxResults(cResults, cQueryMaxResults, m_cMaxResults);
+        }
+
+    /**
+     * Return the extractor used to convert a cache entry into a returned value.
+     *
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     *
+     * @return the value extractor
+     */
+    protected ValueExtractor<Map.Entry, ?> valueExtractor(PropertySet propertySet)
+        {
+        PropertyProjection projection = createProjection(propertySet, false);
+        if (projection != null)
+            {
+            return projection;
+            }
+
+        ValueExtractor<Map.Entry, ?> extractor = Map.Entry::getValue;
+        if (propertySet != null)
+            {
+            extractor = extractor.andThen(propertySet);
+            }
+        return extractor;
+        }
+
+    /**
+     * Return the extractor used to convert a cache entry into a returned entry.
+     *
+     * @param propertySet  the subset of properties to return for each value
+     *                     (if null, the complete values will be returned)
+     *
+     * @return the entry extractor
+     */
+    protected ValueExtractor<Map.Entry, ?> entryExtractor(PropertySet propertySet)
+        {
+        PropertyProjection projection = createProjection(propertySet, true);
+        if (projection != null)
+            {
+            return projection;
+            }
+
+        return propertySet == null
+                ? ValueExtractor.identity()
+                : (entry) -> new SimpleMapEntry<>(entry.getKey(), propertySet.extract(entry.getValue()));
+        }
+
+    /**
+     * Create a {@link PropertyProjection} that allows the query engine to
+     * evaluate the property set on the storage members.
+     *
+     * @param propertySet  the subset of properties to return for each value
+     * @param fEntries     {@code true} if the query returns entries
+     *
+     * @return the projection, or {@code null} if the property set is null or
+     *         has to be applied on the proxy
+     */
+    protected PropertyProjection createProjection(PropertySet propertySet, boolean fEntries)
+        {
+        if (propertySet == null)
+            {
+            return null;
+            }
+
+        CacheService service = m_cache.getCacheService();
+        return PropertyProjection.create(propertySet, m_clzValue,
+                service == null ? null : service.getSerializer(), fEntries);
+        }
+
     /**
      * Returns a set of keys that satisfy the criteria expressed by the query.
      *
@@ -507,6 +806,20 @@ public class CacheResource
         return new NamedQueryResource(cache, query, cMaxResults);
         }
 
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The name of the response header containing the cursor for the next
+     * page of a paged query.
+     */
+    public static final String CURSOR_HEADER = "X-Coherence-Next-Cursor";
+
+    /**
+     * The page size used by paged queries if neither the request nor the
+     * configuration specify a maximum number of results.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
     // ----- data members ---------------------------------------------------
 
     /**
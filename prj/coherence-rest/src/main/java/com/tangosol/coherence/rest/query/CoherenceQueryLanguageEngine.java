@@ -10,16 +10,22 @@ import com.tangosol.coherence.dslquery.CoherenceQueryLanguage;
 import com.tangosol.coherence.dslquery.ExtractorBuilder;
 
 import com.tangosol.coherence.rest.util.ComparatorHelper;
+import com.tangosol.coherence.rest.util.PropertyProjection;
 import com.tangosol.coherence.rest.util.extractor.MvelExtractor;
 
 import com.tangosol.net.NamedCache;
 
+import com.tangosol.net.partition.PartitionSet;
+
 import com.tangosol.util.Filter;
 import com.tangosol.util.QueryHelper;
 import com.tangosol.util.SubList;
 import com.tangosol.util.ValueExtractor;
 
+import com.tangosol.util.aggregator.ReducerAggregator;
+
 import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.PartitionedFilter;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -114,11 +120,17 @@ public class CoherenceQueryLanguageEngine
         @Override
         public <E> Collection<E> execute(NamedCache cache, ValueExtractor<Map.Entry, ? extends E> extractor, String sOrder, int nStart, int cResults)
             {
+            boolean fSort = sOrder != null && sOrder.length() > 0;
+            if (!fSort && extractor instanceof PropertyProjection)
+                {
+                return new SubList(project(cache, m_filter, (PropertyProjection) extractor), nStart, cResults);
+                }
+
             Comparator     comparator = null;
             Set<Map.Entry> setEntries;
             try
                 {
-                if (sOrder != null && sOrder.length() > 0)
+                if (fSort)
                     {
                     comparator = ComparatorHelper.createComparator(sOrder);
                     }
@@ -142,6 +154,37 @@ public class CoherenceQueryLanguageEngine
             return listValues;
             }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public <E> Collection<E> execute(NamedCache cache, ValueExtractor<Map.Entry, ? extends E> extractor, PartitionSet parts)
+            {
+            Filter filter = new PartitionedFilter(m_filter, parts);
+            if (extractor instanceof PropertyProjection)
+                {
+                return project(cache, filter, (PropertyProjection) extractor);
+                }
+
+            Set<Map.Entry> setEntries;
+            try
+                {
+                setEntries = cache.entrySet(filter);
+                }
+            catch (Exception e)
+                {
+                throw new QueryException(e);
+                }
+
+            List listValues = new ArrayList(setEntries.size());
+            for (Map.Entry entry : setEntries)
+                {
+                listValues.add(extractor.extract(entry));
+                }
+
+            return listValues;
+            }
+
         /**
          * {@inheritDoc}
          */
@@ -150,6 +193,41 @@ public class CoherenceQueryLanguageEngine
             return cache.keySet(m_filter);
             }
 
+        // ----- helper methods ---------------------------------------------
+
+        /**
+         * Evaluate a projection against the entries that satisfy the
+         * specified filter on the storage members, so that only the
+         * projected properties are returned.
+         *
+         * @param cache       the cache to query
+         * @param filter      the filter to evaluate
+         * @param projection  the projection to evaluate
+         *
+         * @return the projected values
+         */
+        private List project(NamedCache cache, Filter filter, PropertyProjection projection)
+            {
+            Map<Object, Object> mapResults;
+            try
+                {
+                mapResults = (Map<Object, Object>) cache.aggregate(filter,
+                        new ReducerAggregator(projection.getRemoteExtractor()));
+                }
+            catch (Exception e)
+                {
+                throw new QueryException(e);
+                }
+
+            List listValues = new ArrayList(mapResults.size());
+            for (Map.Entry entry : mapResults.entrySet())
+                {
+                listValues.add(projection.fromRemote(entry.getKey(), entry.getValue()));
+                }
+
+            return listValues;
+            }
+
         // ----- data members -----------------------------------------------
 
         private final Filter m_filter;
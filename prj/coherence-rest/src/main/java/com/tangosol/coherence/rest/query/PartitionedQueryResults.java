@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.rest.query;
+
+import com.tangosol.net.CacheService;
+import com.tangosol.net.NamedCache;
+import com.tangosol.net.PartitionedService;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.ValueExtractor;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A lazily evaluated collection of query results that executes a
+ * {@link Query} against a partitioned cache one batch of partitions at a time.
+ * <p>
+ * Iterating over this collection only ever holds a single batch of results
+ * in memory, which allows the REST providers to write very large result sets
+ * incrementally. The number of partitions in a batch is adjusted after the
+ * first batch based on the number of results each partition returned, in the
+ * same way that paged queries are sized for gRPC clients.
+ * <p>
+ * If the cache is not partitioned, or the query does not support
+ * partitioned execution, the query is executed in a single batch.
+ * <p>
+ * Note: {@link #size()} has to execute the whole query and should be avoided.
+ *
+ * @param <E>  the element type
+ *
+ * @since 20.12
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PartitionedQueryResults<E>
+        extends AbstractCollection<E>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a PartitionedQueryResults instance.
+     *
+     * @param query      the query to execute
+     * @param cache      the cache to query
+     * @param extractor  the extractor to apply to each entry in the result set
+     */
+    public PartitionedQueryResults(Query query, NamedCache cache,
+            ValueExtractor<Map.Entry, ? extends E> extractor)
+        {
+        CacheService service = cache.getCacheService();
+
+        m_query      = query;
+        m_cache      = cache;
+        m_extractor  = extractor;
+        m_cPartition = service instanceof PartitionedService
+                       ? ((PartitionedService) service).getPartitionCount()
+                       : 0;
+        }
+
+    // ----- PartitionedQueryResults methods --------------------------------
+
+    /**
+     * Return the number of partitions of the queried cache, or zero if the
+     * cache is not partitioned.
+     *
+     * @return the number of partitions of the queried cache
+     */
+    public int getPartitionCount()
+        {
+        return m_cPartition;
+        }
+
+    /**
+     * Add the results of whole batches of partitions to the specified list,
+     * until it contains at least the specified number of results or all
+     * partitions have been queried.
+     *
+     * @param list        the list to add the results to
+     * @param nPartition  the partition to start querying from
+     * @param cResults    the minimum number of results to fetch, or a negative
+     *                    number to fetch all results
+     *
+     * @return the partition that the next page should start from, or
+     *         {@code -1} if all partitions have been queried
+     */
+    public int fetch(List<? super E> list, int nPartition, int cResults)
+        {
+        while (nPartition >= 0 && (cResults < 0 || list.size() < cResults))
+            {
+            int cBatch = cResults < 0 ? Integer.MAX_VALUE : cResults - list.size();
+            nPartition = fetchBatch(nPartition, list, cBatch);
+            }
+        return nPartition;
+        }
+
+    /**
+     * Create an opaque cursor that identifies the specified partition of the
+     * queried cache, to be passed back by a client to request the next page.
+     *
+     * @param nPartition  the partition the next page should start from
+     *
+     * @return the cursor, or {@code null} if there are no more partitions
+     */
+    public String toCursor(int nPartition)
+        {
+        return nPartition < 0
+               ? null
+               : Long.toString(((long) m_cPartition << 32) | nPartition, Character.MAX_RADIX);
+        }
+
+    /**
+     * Return the partition identified by a cursor created by
+     * {@link #toCursor(int)}.
+     *
+     * @param sCursor  the cursor, or {@code null} to start from the first partition
+     *
+     * @return the partition identified by the cursor
+     *
+     * @throws IllegalArgumentException if the cursor is invalid, or was created
+     *         for a cache with a different number of partitions
+     */
+    public int fromCursor(String sCursor)
+        {
+        int cPartition = m_cPartition;
+        if (sCursor == null || sCursor.isEmpty())
+            {
+            return 0;
+            }
+
+        long lCursor;
+        try
+            {
+            lCursor = Long.parseLong(sCursor, Character.MAX_RADIX);
+            }
+        catch (NumberFormatException e)
+            {
+            throw new IllegalArgumentException("invalid cursor " + sCursor);
+            }
+
+        int nPartition = (int) lCursor;
+        if ((int) (lCursor >>> 32) != cPartition || nPartition < 0 || nPartition >= cPartition)
+            {
+            throw new IllegalArgumentException("invalid cursor " + sCursor);
+            }
+        return nPartition;
+        }
+
+    // ----- Collection interface -------------------------------------------
+
+    @Override
+    public Iterator<E> iterator()
+        {
+        return new Iterator<E>()
+            {
+            @Override
+            public boolean hasNext()
+                {
+                while (!m_iterBatch.hasNext() && m_nPartition >= 0)
+                    {
+                    List<E> list = new ArrayList<>();
+                    m_nPartition = fetchBatch(m_nPartition, list, Integer.MAX_VALUE);
+                    m_iterBatch  = list.iterator();
+                    }
+                return m_iterBatch.hasNext();
+                }
+
+            @Override
+            public E next()
+                {
+                if (hasNext())
+                    {
+                    return m_iterBatch.next();
+                    }
+                throw new NoSuchElementException();
+                }
+
+            /**
+             * The next partition to query, or {@code -1} when exhausted.
+             */
+            private int m_nPartition = 0;
+
+            /**
+             * The iterator over the current batch of results.
+             */
+            private Iterator<E> m_iterBatch = Collections.emptyIterator();
+            };
+        }
+
+    @Override
+    public int size()
+        {
+        int c = 0;
+        for (Iterator<E> iter = iterator(); iter.hasNext(); iter.next())
+            {
+            c++;
+            }
+        return c;
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Query a single batch of partitions, adding the results to the
+     * specified collection.
+     *
+     * @param nPartition  the first partition of the batch
+     * @param col         the collection to add the results to
+     * @param cHint       the number of results the caller still wants, used
+     *                    to avoid querying more partitions than necessary
+     *
+     * @return the first partition of the next batch, or {@code -1} if
+     *         all partitions have been queried
+     */
+    protected int fetchBatch(int nPartition, Collection<? super E> col, int cHint)
+        {
+        int cPartition = m_cPartition;
+        if (cPartition == 0 || !m_fPartitioned)
+            {
+            col.addAll(m_query.execute(m_cache, m_extractor, null, 0, -1));
+            return -1;
+            }
+
+        if (nPartition >= cPartition)
+            {
+            return -1;
+            }
+
+        int cBatch = Math.min(cPartition - nPartition, m_cBatch);
+        if (m_cPerPartition > 0 && cHint < Integer.MAX_VALUE)
+            {
+            // avoid querying many more partitions than needed to satisfy the caller
+            cBatch = Math.min(cBatch, Math.max(1, (cHint + m_cPerPartition - 1) / m_cPerPartition));
+            }
+
+        PartitionSet parts = new PartitionSet(cPartition);
+        for (int i = 0; i < cBatch; i++)
+            {
+            parts.add(nPartition + i);
+            }
+
+        Collection<E> colBatch;
+        try
+            {
+            colBatch = m_query.execute(m_cache, m_extractor, parts);
+            }
+        catch (UnsupportedOperationException e)
+            {
+            // the query cannot be restricted to a set of partitions, so fall
+            // back to a single batch unless a page has already been returned
+            if (nPartition != 0)
+                {
+                throw e;
+                }
+            m_fPartitioned = false;
+            return fetchBatch(nPartition, col, cHint);
+            }
+
+        col.addAll(colBatch);
+
+        // size subsequent batches based on the average number of results per partition
+        m_cPerPartition = Math.max(1, colBatch.size() / cBatch);
+        m_cBatch        = Math.max(1, TARGET_BATCH_SIZE / m_cPerPartition);
+
+        int nNext = nPartition + cBatch;
+        return nNext >= cPartition ? -1 : nNext;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The approximate number of results to retrieve in each batch.
+     */
+    public static final int TARGET_BATCH_SIZE = 1000;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The query to execute.
+     */
+    protected final Query m_query;
+
+    /**
+     * The cache to query.
+     */
+    protected final NamedCache m_cache;
+
+    /**
+     * The extractor to apply to each entry in the result set.
+     */
+    protected final ValueExtractor<Map.Entry, ? extends E> m_extractor;
+
+    /**
+     * The number of partitions, or zero if the cache is not partitioned.
+     */
+    protected final int m_cPartition;
+
+    /**
+     * The number of partitions to query in the next batch.
+     */
+    protected int m_cBatch = 1;
+
+    /**
+     * The average number of results per partition observed so far, or zero
+     * before the first batch has been queried.
+     */
+    protected int m_cPerPartition;
+
+    /**
+     * Whether the query supports partitioned execution.
+     */
+    protected boolean m_fPartitioned = true;
+    }
@@ -8,6 +8,8 @@ package com.tangosol.coherence.rest.query;
 
 import com.tangosol.net.NamedCache;
 
+import com.tangosol.net.partition.PartitionSet;
+
 import com.tangosol.util.ValueExtractor;
 
 import java.util.Collection;
@@ -39,6 +41,34 @@ public interface Query
      */
     public <E> Collection<E> execute(NamedCache cache, ValueExtractor<Map.Entry, ? extends E> extractor, String sOrder, int nStart, int cResults);
 
+    /**
+     * Return the values that satisfy this query from the specified subset of
+     * a partitioned cache's partitions.
+     * <p>
+     * This method allows large result sets to be retrieved incrementally,
+     * one batch of partitions at a time, without materializing the whole
+     * result set in the proxy. Query implementations that are unable to
+     * restrict their execution to a set of partitions should not override
+     * this method.
+     *
+     * @param <E>       the element type
+     * @param cache     the partitioned cache to be queried (filtered)
+     * @param extractor the extractor to apply to each entry in the result set
+     * @param parts     the partitions to query
+     *
+     * @return the values from the specified partitions that satisfy query criteria
+     *
+     * @throws QueryException if any error occurs during query execution
+     * @throws UnsupportedOperationException if this query cannot be
+     *         restricted to a set of partitions
+     *
+     * @since 20.12
+     */
+    public default <E> Collection<E> execute(NamedCache cache, ValueExtractor<Map.Entry, ? extends E> extractor, PartitionSet parts)
+        {
+        throw new UnsupportedOperationException("partitioned execution is not supported by " + getClass().getName());
+        }
+
     /**
      * Return the values that satisfy this query.
      *
@@ -0,0 +1,362 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.rest.util;
+
+import com.tangosol.io.Serializer;
+
+import com.tangosol.io.pof.PofAnnotationSerializer;
+import com.tangosol.io.pof.PofContext;
+
+import com.tangosol.io.pof.annotation.Portable;
+import com.tangosol.io.pof.annotation.PortableProperty;
+
+import com.tangosol.io.pof.reflect.Codecs;
+
+import com.tangosol.util.Base;
+import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.ClassNameExtractor;
+import com.tangosol.util.extractor.MultiExtractor;
+import com.tangosol.util.extractor.PofExtractor;
+import com.tangosol.util.extractor.UniversalExtractor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An extractor that projects a {@link PropertySet} from cache entries, and
+ * that can be evaluated on the storage members so that only the projected
+ * properties are returned to the proxy.
+ * <p>
+ * The projection is evaluated remotely by applying the
+ * {@link #getRemoteExtractor() remote extractor}, which consists solely of
+ * core Coherence extractors, so storage members do not need the REST
+ * libraries on their class path. Properties are read directly from the
+ * serialized value using a {@link PofExtractor} where the value class is
+ * serialized by a {@link PofAnnotationSerializer} with explicit property
+ * indexes, and with a {@link UniversalExtractor} otherwise. The extracted
+ * values, along with the name of the class of each value, are then converted
+ * by {@link #fromRemote(Object, Object)} into the same {@link PartialObject}
+ * (or map) that {@link PropertySet#extract(Object)} would have created for
+ * the value.
+ * <p>
+ * Query implementations that do not recognize this class simply use it as a
+ * regular extractor, in which case the projection is applied on the proxy.
+ *
+ * @since 20.12
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class PropertyProjection
+        implements ValueExtractor<Map.Entry, Object>
+    {
+    // ----- constructors ---------------------------------------------------
+
+    /**
+     * Construct a PropertyProjection instance.
+     *
+     * @param propertySet      the properties to project
+     * @param clzValue         the class of the cache values
+     * @param extractorRemote  the extractor to evaluate on the storage members
+     * @param fEntries         {@code true} to return map entries, {@code false}
+     *                         to return the projected values only
+     */
+    protected PropertyProjection(PropertySet propertySet, Class clzValue,
+            ValueExtractor extractorRemote, boolean fEntries)
+        {
+        f_propertySet     = propertySet;
+        f_clzValue        = clzValue;
+        f_extractorRemote = extractorRemote;
+        f_fEntries        = fEntries;
+        }
+
+    // ----- factory methods ------------------------------------------------
+
+    /**
+     * Create a PropertyProjection for the specified property set, if it can be
+     * evaluated on the storage members.
+     * <p>
+     * A projection can only be pushed down if it does not contain nested
+     * property sets, and each of its properties can be resolved against the
+     * value class (or the values are maps).
+     *
+     * @param propertySet  the properties to project
+     * @param clzValue     the class of the cache values
+     * @param serializer   the serializer used by the cache, may be {@code null}
+     * @param fEntries     {@code true} to return map entries, {@code false}
+     *                     to return the projected values only
+     *
+     * @return a PropertyProjection, or {@code null} if the property set has to
+     *         be applied on the proxy
+     */
+    public static PropertyProjection create(PropertySet propertySet, Class clzValue,
+            Serializer serializer, boolean fEntries)
+        {
+        if (propertySet == null || clzValue == null || clzValue == Object.class)
+            {
+            return null;
+            }
+
+        boolean fMap = Map.class.isAssignableFrom(clzValue);
+        boolean fPof = !fMap && isPofAnnotated(clzValue, serializer);
+
+        List<ValueExtractor> listExtractors = new ArrayList<>();
+        for (PropertySpec property : (Iterable<PropertySpec>) propertySet)
+            {
+            String sName = property.getName();
+            if (property.getPropertySet() != null)
+                {
+                // nested projections create nested partial objects, which
+                // are only supported by the proxy-side projection
+                return null;
+                }
+
+            int iProp = fPof ? getPofIndex(clzValue, sName) : -1;
+            if (iProp >= 0)
+                {
+                listExtractors.add(new PofExtractor(null, iProp));
+                }
+            else if (fMap || hasGetter(clzValue, sName))
+                {
+                listExtractors.add(new UniversalExtractor(sName));
+                }
+            else
+                {
+                return null;
+                }
+            }
+
+        if (listExtractors.isEmpty())
+            {
+            return null;
+            }
+
+        // the partial object is created for the class of each value, which
+        // may be a subclass of the declared value class
+        listExtractors.add(ClassNameExtractor.INSTANCE);
+
+        ValueExtractor extractor = new MultiExtractor(listExtractors.toArray(new ValueExtractor[0]));
+        return new PropertyProjection(propertySet, clzValue, extractor, fEntries);
+        }
+
+    // ----- accessors ------------------------------------------------------
+
+    /**
+     * Return the extractor to evaluate against the cache values on the
+     * storage members.
+     * <p>
+     * The extractor returns a {@link List} with a value for each property
+     * of the projection, in the iteration order of the property set,
+     * followed by the name of the class of the cache value.
+     *
+     * @return the extractor to evaluate on the storage members
+     */
+    public ValueExtractor getRemoteExtractor()
+        {
+        return f_extractorRemote;
+        }
+
+    /**
+     * Return the projected properties.
+     *
+     * @return the projected properties
+     */
+    public PropertySet getPropertySet()
+        {
+        return f_propertySet;
+        }
+
+    // ----- PropertyProjection methods -------------------------------------
+
+    /**
+     * Convert the result of the {@link #getRemoteExtractor() remote extractor}
+     * for an entry into the value returned to the client.
+     *
+     * @param oKey     the key of the entry
+     * @param oResult  the result of the remote extractor
+     *
+     * @return the projected value, or an entry containing it
+     */
+    public Object fromRemote(Object oKey, Object oResult)
+        {
+        List                list     = (List) oResult;
+        Map<String, Object> mapProps = new LinkedHashMap<>(list.size());
+
+        int i = 0;
+        for (PropertySpec property : (Iterable<PropertySpec>) f_propertySet)
+            {
+            mapProps.put(property.getName(), list.get(i++));
+            }
+
+        Class  clzValue = getValueClass((String) list.get(i));
+        Object oValue   = Map.class.isAssignableFrom(clzValue)
+                          ? mapProps
+                          : PartialObject.create(clzValue, f_propertySet, mapProps);
+
+        return f_fEntries ? new SimpleMapEntry<>(oKey, oValue) : oValue;
+        }
+
+    // ----- ValueExtractor interface ---------------------------------------
+
+    @Override
+    public Object extract(Map.Entry entry)
+        {
+        Object oValue = f_propertySet.extract(entry.getValue());
+        return f_fEntries ? new SimpleMapEntry<>(entry.getKey(), oValue) : oValue;
+        }
+
+    // ----- helper methods -------------------------------------------------
+
+    /**
+     * Return the class with the specified name, which is the class of a
+     * projected cache value.
+     *
+     * @param sClass  the class name, as returned by the remote extractor
+     *
+     * @return the class, or the declared value class if the class cannot be
+     *         loaded by the proxy
+     */
+    protected Class getValueClass(String sClass)
+        {
+        Class clzValue = f_clzValue;
+        if (sClass == null || sClass.equals(clzValue.getName()))
+            {
+            return clzValue;
+            }
+
+        return f_mapClasses.computeIfAbsent(sClass, sName ->
+            {
+            try
+                {
+                Class clz = Class.forName(sName, false, Base.getContextClassLoader(this));
+                return clzValue.isAssignableFrom(clz) ? clz : clzValue;
+                }
+            catch (ClassNotFoundException | LinkageError e)
+                {
+                return clzValue;
+                }
+            });
+        }
+
+    /**
+     * Return {@code true} if instances of the specified class are serialized
+     * by a {@link PofAnnotationSerializer} of the specified serializer.
+     *
+     * @param clz         the value class
+     * @param serializer  the serializer used by the cache
+     *
+     * @return {@code true} if properties can be read using their POF indexes
+     */
+    protected static boolean isPofAnnotated(Class clz, Serializer serializer)
+        {
+        if (serializer instanceof PofContext && clz.isAnnotationPresent(Portable.class))
+            {
+            PofContext ctx = (PofContext) serializer;
+            try
+                {
+                return ctx.isUserType(clz)
+                       && ctx.getPofSerializer(ctx.getUserTypeIdentifier(clz)) instanceof PofAnnotationSerializer;
+                }
+            catch (RuntimeException e)
+                {
+                return false;
+                }
+            }
+        return false;
+        }
+
+    /**
+     * Return the explicit POF index of the specified property.
+     *
+     * @param clz    the value class
+     * @param sName  the property name
+     *
+     * @return the POF index, or {@code -1} if the property is not declared by
+     *         the class with an explicit index and the default codec
+     */
+    protected static int getPofIndex(Class clz, String sName)
+        {
+        try
+            {
+            Field            field      = clz.getDeclaredField(sName);
+            PortableProperty annotation = field.getAnnotation(PortableProperty.class);
+
+            return annotation == null || annotation.codec() != Codecs.DefaultCodec.class
+                   ? -1
+                   : annotation.value();
+            }
+        catch (NoSuchFieldException e)
+            {
+            return -1;
+            }
+        }
+
+    /**
+     * Return {@code true} if the specified class has a public accessor for
+     * the specified property.
+     *
+     * @param clz    the value class
+     * @param sName  the property name
+     *
+     * @return {@code true} if the class has an accessor for the property
+     */
+    protected static boolean hasGetter(Class clz, String sName)
+        {
+        if (sName.isEmpty())
+            {
+            return false;
+            }
+
+        String sSuffix = Character.toUpperCase(sName.charAt(0)) + sName.substring(1);
+        for (Method method : clz.getMethods())
+            {
+            String sMethod = method.getName();
+            if (method.getParameterCount() == 0
+                && !Modifier.isStatic(method.getModifiers())
+                && (sMethod.equals("get" + sSuffix) || sMethod.equals("is" + sSuffix)))
+                {
+                return true;
+                }
+            }
+        return false;
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The properties to project.
+     */
+    protected final PropertySet f_propertySet;
+
+    /**
+     * The class of the cache values.
+     */
+    protected final Class f_clzValue;
+
+    /**
+     * The extractor to evaluate on the storage members.
+     */
+    protected final ValueExtractor f_extractorRemote;
+
+    /**
+     * Whether to return map entries rather than values.
+     */
+    protected final boolean f_fEntries;
+
+    /**
+     * The classes of the projected values, keyed by class name.
+     */
+    protected final Map<String, Class> f_mapClasses = new ConcurrentHashMap<>();
+    }
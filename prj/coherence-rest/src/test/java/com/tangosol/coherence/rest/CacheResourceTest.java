@@ -326,6 +326,56 @@ public class CacheResourceTest
         assertEquals(400 /* Bad Request */, response.getStatus());
         }
 
+    @Test
+    public void testStreamValues()
+        {
+        CacheResource resource = createCacheResource(m_cache);
+        Response      response = resource.streamValues(null, null);
+
+        assertEquals(200 /* OK */, response.getStatus());
+
+        int c = 0;
+        for (Object o : (Collection) response.getEntity())
+            {
+            assertTrue(o instanceof Person);
+            c++;
+            }
+        assertEquals(3, c);
+        }
+
+    @Test
+    public void testStreamEntriesWithMaxResults()
+        {
+        CacheResource resource = new CacheResource(
+                m_cache, Integer.class, Person.class, null, new QueryConfig(), 2);
+        resource.m_queryEngineRegistry = new QueryEngineRegistry();
+
+        Response response = resource.streamEntries(null, null);
+
+        assertEquals(200 /* OK */, response.getStatus());
+        assertEquals(2, ((List) response.getEntity()).size());
+        }
+
+    @Test
+    public void testPageValues()
+        {
+        CacheResource resource = createCacheResource(m_cache);
+        Response      response = resource.getValuesPage(null, 10, null, null);
+
+        assertEquals(200 /* OK */, response.getStatus());
+        assertEquals(3, ((List) response.getEntity()).size());
+        assertNull(response.getHeaderString(CacheResource.CURSOR_HEADER));
+        }
+
+    @Test
+    public void testPageWithBadCursor()
+        {
+        CacheResource resource = createCacheResource(m_cache);
+        Response      response = resource.getEntriesPage("not-a-cursor", 10, null, null);
+
+        assertEquals(400 /* Bad Request */, response.getStatus());
+        }
+
     // ---- helper methods --------------------------------------------------
 
     protected CacheResource createCacheResource(NamedCache cache)
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.rest.util;
+
+import com.tangosol.util.SimpleMapEntry;
+
+import data.pof.Person;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link PropertyProjection}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes", "deprecation"})
+public class PropertyProjectionTest
+    {
+    @Test
+    public void testRemoteProjection()
+        {
+        PropertySet        ps         = PropertySet.fromString("name,age");
+        PropertyProjection projection = PropertyProjection.create(ps, Person.class, null, false);
+        assertNotNull(projection);
+
+        Person person  = new Person("Ivan", new Date(78, 3, 25), 36);
+        Object oResult = projection.getRemoteExtractor().extract(person);
+        assertTrue(oResult instanceof List);
+        assertEquals(3, ((List) oResult).size());
+
+        PartialObject partial = (PartialObject) projection.fromRemote(1, oResult);
+        assertTrue(partial.getClass().getName().contains(".Person_"));
+        assertEquals("Ivan", partial.get("name"));
+        assertEquals(36, partial.get("age"));
+        assertNull(partial.get("dateOfBirth"));
+        }
+
+    @Test
+    public void testSubclassProjection()
+        {
+        PropertyProjection projection = PropertyProjection.create(PropertySet.fromString("name,age"),
+                                                                  Person.class, null, false);
+        Person person = new Employee("Mark", new Date(70, 1, 1), 50);
+
+        // the partial object is created for the class of the value rather
+        // than for the declared value class, as it is by PropertySet.extract()
+        PartialObject partial = (PartialObject) projection.fromRemote(3, projection.getRemoteExtractor().extract(person));
+        assertTrue(partial.getClass().getName().contains(".Employee_"));
+        assertEquals("Mark", partial.get("name"));
+        assertEquals(50, partial.get("age"));
+        }
+
+    @Test
+    public void testEntryProjection()
+        {
+        PropertyProjection projection = PropertyProjection.create(PropertySet.fromString("name"),
+                                                                  Person.class, null, true);
+        Person person = new Person("Aleks", new Date(74, 7, 24), 39);
+
+        Map.Entry entry = (Map.Entry) projection.fromRemote(2, projection.getRemoteExtractor().extract(person));
+        assertEquals(2, entry.getKey());
+        assertEquals("Aleks", ((PartialObject) entry.getValue()).get("name"));
+
+        // the local fallback must produce the same result
+        Map.Entry entryLocal = (Map.Entry) projection.extract(new SimpleMapEntry(2, person));
+        assertEquals(2, entryLocal.getKey());
+        assertEquals("Aleks", ((PartialObject) entryLocal.getValue()).get("name"));
+        }
+
+    @Test
+    public void testMapProjection()
+        {
+        PropertyProjection projection = PropertyProjection.create(PropertySet.fromString("a,b"),
+                                                                  HashMap.class, null, false);
+        Map<String, Object> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        Map mapResult = (Map) projection.fromRemote("key", projection.getRemoteExtractor().extract(map));
+        assertEquals(2, mapResult.size());
+        assertEquals(1, mapResult.get("a"));
+        assertEquals(2, mapResult.get("b"));
+        }
+
+    @Test
+    public void testNoPushDown()
+        {
+        // nested property sets and unknown properties are applied on the proxy
+        assertNull(PropertyProjection.create(PropertySet.fromString("name,spouse:(name)"), Person.class, null, false));
+        assertNull(PropertyProjection.create(PropertySet.fromString("unknown"), Person.class, null, false));
+        assertNull(PropertyProjection.create(PropertySet.fromString("name"), Object.class, null, false));
+        }
+    
+    // ----- inner class: Employee ------------------------------------------
+
+    /**
+     * A subclass of the declared value class.
+     */
+    public static class Employee
+            extends Person
+        {
+        public Employee()
+            {
+            }
+
+        public Employee(String sName, Date dtDOB, int nAge)
+            {
+            super(sName, dtDOB, nAge);
+            }
+        }
+    }
@@ -25,6 +25,7 @@ import org.mockito.Mockito;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -52,6 +53,28 @@ public class BundleManagerTest
         mgr.initializeBundler(resolver, Mockito.mock(AbstractBundler.class), new BundleConfig());
         }
 
+    /**
+     * Test the adaptive bundling configuration.
+     */
+    @Test
+    public void testAutoBundles()
+        {
+        BundlingNamedCache cache = new BundlingNamedCache(new WrapperNamedCache(new SafeHashMap(), "Test"));
+
+        BundleManager.ensureAutoBundles(cache);
+
+        AbstractBundler bundler = cache.getGetBundler();
+        assertEquals(BundleManager.AUTO_PREFERRED_SIZE, bundler.getSizeThreshold());
+        assertEquals(BundleManager.AUTO_THREAD_THRESHOLD, bundler.getThreadThreshold());
+        assertTrue(bundler.isAllowAutoAdjust());
+        assertTrue(cache.isOwnerAware());
+        assertNull(cache.getPutBundler());
+        assertNull(cache.getRemoveBundler());
+
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key"));
+        }
+
     /**
      * Test the default settings.
      */
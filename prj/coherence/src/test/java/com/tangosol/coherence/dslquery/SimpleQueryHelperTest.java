@@ -375,6 +375,44 @@ public class SimpleQueryHelperTest
         assertEquals(0, ((Number) m_oResults).intValue());
         }
 
+    @Test
+    public void testSelectCountWithBindVariables()
+        {
+        m_sQuery = "select count() from test where age > ?1 and age <= :max";
+
+        m_oResults = QueryHelper.executeStatement(m_sQuery, new Object[] {10},
+                Collections.singletonMap("max", 20), m_executionContext);
+        assertEquals(10, ((Number) m_oResults).intValue());
+
+        m_oResults = QueryHelper.executeStatement(m_sQuery, new Object[] {50},
+                Collections.singletonMap("max", 55), m_executionContext);
+        assertEquals(5, ((Number) m_oResults).intValue());
+
+        assertEquals(1, m_language.getParseCacheStatistics().getCacheHits());
+        }
+
+    @Test
+    public void testCachedFilterTerm()
+        {
+        CoherenceQueryLanguage language = new CoherenceQueryLanguage();
+        String                 sWhere   = "value() = :value";
+
+        Filter f1 = QueryHelper.createFilter(sWhere, new Object[0], Collections.singletonMap("value", 42), language);
+        Filter f2 = QueryHelper.createFilter(sWhere, new Object[0], Collections.singletonMap("value", 43), language);
+
+        assertTrue(f1.evaluate(42));
+        assertFalse(f1.evaluate(43));
+        assertTrue(f2.evaluate(43));
+        assertFalse(f2.evaluate(42));
+
+        assertEquals(1, language.getParseCacheStatistics().getCacheHits());
+        assertEquals(1, language.getParseCacheStatistics().getCacheMisses());
+
+        language.clearParseCache();
+        QueryHelper.createFilter(sWhere, new Object[0], Collections.singletonMap("value", 42), language);
+        assertEquals(2, language.getParseCacheStatistics().getCacheMisses());
+        }
+
     @Test
     public void testSelectCountWhereMatchingEntries()
         {
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.memcached.server;
+
+import com.tangosol.coherence.memcached.Request;
+import com.tangosol.coherence.memcached.RequestHandler;
+import com.tangosol.coherence.memcached.Response;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link GetAllTask}.
+ */
+public class GetAllTaskTest
+    {
+    @Test
+    public void testIsQuietGet()
+        {
+        assertTrue(GetAllTask.isQuietGet(request(0x09)));
+        assertTrue(GetAllTask.isQuietGet(request(0x0d)));
+        assertFalse(GetAllTask.isQuietGet(request(0x00)));
+        assertFalse(GetAllTask.isQuietGet(request(0x0c)));
+        assertFalse(GetAllTask.isQuietGet(request(0x0a)));
+        }
+
+    @Test
+    public void testGetAll()
+            throws IOException
+        {
+        RequestHandler handler     = mock(RequestHandler.class);
+        List<Request>  listRequest = Arrays.asList(request(0x09), request(0x0d));
+
+        new GetAllTask(listRequest, handler).run();
+
+        verify(handler).onGetAll(listRequest);
+        }
+
+    @Test
+    public void testGetAllFailure()
+            throws IOException
+        {
+        RequestHandler handler     = mock(RequestHandler.class);
+        List<Request>  listRequest = Arrays.asList(request(0x09), request(0x0d));
+
+        doThrow(new RuntimeException("Null cache")).when(handler).onGetAll(listRequest);
+
+        new GetAllTask(listRequest, handler).run();
+
+        for (Request request : listRequest)
+            {
+            verify(request.getResponse()).setResponseCode(Response.ResponseCode.INTERNAL_ERROR.getCode());
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    private static Request request(int nOpCode)
+        {
+        Request  request  = mock(Request.class);
+        Response response = mock(Response.class);
+
+        when(request.getOpCode()).thenReturn(nOpCode);
+        when(request.getResponse()).thenReturn(response);
+        when(request.getAssociatedKey()).thenReturn(1);
+        return request;
+        }
+    }
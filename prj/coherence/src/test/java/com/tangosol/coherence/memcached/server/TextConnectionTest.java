@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.coherence.memcached.server;
+
+import com.oracle.coherence.common.io.BufferManagers;
+
+import com.tangosol.coherence.memcached.Request;
+import com.tangosol.coherence.memcached.Response.ResponseCode;
+
+import com.tangosol.coherence.memcached.server.BinaryConnection.BinaryResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.ByteBuffer;
+
+import java.nio.channels.SocketChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link TextConnection}.
+ */
+public class TextConnectionTest
+    {
+    @Before
+    public void setup()
+            throws IOException
+        {
+        SocketChannel channel = mock(SocketChannel.class);
+
+        when(channel.read(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(invocation ->
+            {
+            ByteBuffer[] aBuf = invocation.getArgument(0);
+            int          of   = invocation.getArgument(1);
+            int          cBuf = invocation.getArgument(2);
+            long         cb   = 0;
+            for (int i = of; i < of + cBuf && m_bufIn.hasRemaining(); i++)
+                {
+                ByteBuffer bufIn = m_bufIn.duplicate();
+                int        c     = Math.min(aBuf[i].remaining(), bufIn.remaining());
+
+                bufIn.limit(bufIn.position() + c);
+                aBuf[i].put(bufIn);
+                m_bufIn.position(m_bufIn.position() + c);
+                cb += c;
+                }
+            return cb;
+            });
+
+        when(channel.write(any(ByteBuffer[].class), anyInt(), anyInt())).thenAnswer(invocation ->
+            {
+            ByteBuffer[] aBuf = invocation.getArgument(0);
+            int          of   = invocation.getArgument(1);
+            int          cBuf = invocation.getArgument(2);
+            long         cb   = 0;
+            for (int i = of; i < of + cBuf; i++)
+                {
+                while (aBuf[i].hasRemaining())
+                    {
+                    m_out.write(aBuf[i].get());
+                    cb++;
+                    }
+                }
+            return cb;
+            });
+
+        m_conn = new TextConnection(BufferManagers.getHeapManager(), channel, 0);
+        m_conn.setFlowControl(mock(Connection.ConnectionFlowControl.class));
+        }
+
+    @Test
+    public void testMultiGet()
+            throws IOException
+        {
+        List<Request> listRequest = read("get a b c\r\n");
+
+        assertEquals(4, listRequest.size());
+        for (int i = 0; i < 3; i++)
+            {
+            assertTrue(GetAllTask.isQuietGet(listRequest.get(i)));
+            assertEquals(String.valueOf((char) ('a' + i)), listRequest.get(i).getKey());
+            }
+        assertEquals(0x0a, listRequest.get(3).getOpCode());
+
+        // complete the gets out of order; the responses are written in order
+        hit(listRequest.get(2), 0, "v3");
+        ((BinaryResponse) listRequest.get(1).getResponse().setResponseCode(ResponseCode.KEYNF.getCode())).flush(true);
+        assertEquals("", written());
+
+        hit(listRequest.get(0), 5, "v1");
+        assertEquals("VALUE a 5 2\r\nv1\r\nVALUE c 0 2\r\nv3\r\n", written());
+
+        ((BinaryResponse) listRequest.get(3).getResponse()).flush(false);
+        assertEquals("VALUE a 5 2\r\nv1\r\nVALUE c 0 2\r\nv3\r\nEND\r\n", written());
+        }
+
+    @Test
+    public void testGets()
+            throws IOException
+        {
+        List<Request> listRequest = read("gets k\r\n");
+
+        assertEquals(2, listRequest.size());
+        listRequest.get(0).getResponse().setVersion(7L);
+        hit(listRequest.get(0), 0, "x");
+        ((BinaryResponse) listRequest.get(1).getResponse()).flush(false);
+
+        assertEquals("VALUE k 0 1 7\r\nx\r\nEND\r\n", written());
+        }
+
+    @Test
+    public void testPartialLine()
+            throws IOException
+        {
+        assertTrue(read("get a").isEmpty());
+        assertEquals(3, read(" b\r\n").size());
+        }
+
+    @Test
+    public void testUnsupportedCommand()
+            throws IOException
+        {
+        assertTrue(read("set k 0 0 1\r\n").isEmpty());
+        assertEquals("ERROR\r\n", written());
+
+        assertTrue(read("get\r\n").isEmpty());
+        assertEquals("ERROR\r\nERROR\r\n", written());
+        }
+
+    @Test
+    public void testBinaryDetected()
+            throws IOException
+        {
+        ByteBuffer buf = ByteBuffer.allocate(25);
+        buf.put((byte) 0x80)  // magic
+           .put((byte) 0x00)  // GET
+           .putShort((short) 1)
+           .put((byte) 0)
+           .put((byte) 0)
+           .putShort((short) 0)
+           .putInt(1)
+           .putInt(0)
+           .putLong(0L)
+           .put((byte) 'k');
+
+        List<Request> listRequest = read(buf.array());
+
+        assertEquals(1, listRequest.size());
+        assertEquals(0x00, listRequest.get(0).getOpCode());
+        assertEquals("k", listRequest.get(0).getKey());
+        assertFalse(listRequest.get(0) instanceof TextConnection.TextRequest);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Make the specified command text available on the channel and read it.
+     *
+     * @param sText  the command text
+     *
+     * @return the requests read
+     */
+    private List<Request> read(String sText)
+            throws IOException
+        {
+        return read(sText.getBytes(StandardCharsets.UTF_8));
+        }
+
+    /**
+     * Make the specified bytes available on the channel and read them.
+     *
+     * @param ab  the bytes
+     *
+     * @return the requests read
+     */
+    private List<Request> read(byte[] ab)
+            throws IOException
+        {
+        m_bufIn = ByteBuffer.wrap(ab);
+        return m_conn.read();
+        }
+
+    /**
+     * Complete the specified get request with a value, and flush its response.
+     *
+     * @param request  the get request
+     * @param nFlag    the flags of the value
+     * @param sValue   the value
+     */
+    private static void hit(Request request, int nFlag, String sValue)
+        {
+        ByteBuffer bufExtras = ByteBuffer.allocate(4).putInt(0, nFlag);
+
+        ((BinaryResponse) request.getResponse()
+                .setResponseCode(ResponseCode.OK.getCode())
+                .setExtras(bufExtras)
+                .setValue(sValue.getBytes(StandardCharsets.UTF_8))).flush(false);
+        }
+
+    /**
+     * Return the text written to the channel so far.
+     *
+     * @return the text written
+     */
+    private String written()
+        {
+        return new String(m_out.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The connection under test.
+     */
+    private TextConnection m_conn;
+
+    /**
+     * The bytes available to read from the channel.
+     */
+    private ByteBuffer m_bufIn = ByteBuffer.allocate(0);
+
+    /**
+     * The bytes written to the channel.
+     */
+    private final ByteArrayOutputStream m_out = new ByteArrayOutputStream();
+    }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.internal.metrics;
+
+
+import com.tangosol.net.metrics.MBeanMetric;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Unit tests for {@link NativeMetricRegistry}.
+ */
+public class NativeMetricRegistryTest
+    {
+    /**
+     * Assert that counters are registered once and exported.
+     */
+    @Test
+    public void testCounter()
+        {
+        NativeMetricRegistry          registry = new NativeMetricRegistry();
+        NativeMetricRegistry.Counter  counter  = registry.counter("Test.Count", TAGS, "test");
+
+        counter.increment();
+        counter.add(41);
+
+        assertSame(counter, registry.counter("Test.Count", TAGS, "test"));
+        assertEquals(42, counter.getCount());
+
+        List<MBeanMetric> listMetric = registry.stream().collect(Collectors.toList());
+        assertEquals(1, listMetric.size());
+        assertEquals("Test.Count", listMetric.get(0).getName());
+        assertEquals("a", listMetric.get(0).getTags().get("tag"));
+        assertEquals(42L, listMetric.get(0).getValue());
+
+        registry.remove("Test.Count", TAGS);
+        assertNull(registry.getMetric("Test.Count", TAGS));
+        assertEquals(0, registry.stream().count());
+        }
+
+    /**
+     * Assert that gauges are read from their supplier.
+     */
+    @Test
+    public void testGauge()
+        {
+        NativeMetricRegistry registry = new NativeMetricRegistry();
+        AtomicLong           value    = new AtomicLong(5);
+
+        registry.gauge("Test.Gauge", null, "test", value::get);
+        value.set(7);
+
+        assertEquals(7L, registry.stream().findFirst().get().getValue());
+        }
+
+    /**
+     * Assert that registering a metric with the name and tags of a metric
+     * of a different type fails.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypeConflict()
+        {
+        NativeMetricRegistry registry = new NativeMetricRegistry();
+
+        registry.counter("Test.Metric", TAGS, "test");
+        registry.timer("Test.Metric", TAGS, "test");
+        }
+
+    /**
+     * Assert that the histogram buckets bound the recorded values within
+     * 12.5%.
+     */
+    @Test
+    public void testBuckets()
+        {
+        for (long lValue = 0; lValue < 100_000; lValue = lValue * 3 / 2 + 1)
+            {
+            long lUpper = NativeMetricRegistry.Histogram.getBucketUpperBound(
+                    NativeMetricRegistry.Histogram.getBucket(lValue));
+
+            assertTrue(lUpper >= lValue);
+            assertTrue(lUpper - lValue <= lValue / 8);
+            }
+
+        assertEquals(Long.MAX_VALUE, NativeMetricRegistry.Histogram.getBucketUpperBound(
+                NativeMetricRegistry.Histogram.getBucket(Long.MAX_VALUE)));
+        }
+
+    /**
+     * Assert the histogram statistics and exported metrics.
+     */
+    @Test
+    public void testHistogram()
+        {
+        NativeMetricRegistry           registry  = new NativeMetricRegistry();
+        NativeMetricRegistry.Histogram histogram = registry.histogram("Test.Size", TAGS, "test");
+
+        for (int i = 1; i <= 1000; i++)
+            {
+            histogram.record(i);
+            }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(500500, histogram.getSum());
+        assertEquals(1000, histogram.getMax());
+
+        long lMedian = histogram.getQuantile(0.5);
+        assertTrue(lMedian >= 500 && lMedian <= 500 + 500 / 8);
+        assertEquals(1000, histogram.getQuantile(1.0));
+
+        Map<String, MBeanMetric> mapMetric = registry.stream().collect(Collectors.toMap(
+                m -> m.getName() + m.getTags().getOrDefault("quantile", ""), m -> m));
+
+        assertEquals(8, mapMetric.size());
+        assertEquals(1000L, mapMetric.get("Test.Size.Count").getValue());
+        assertEquals(500500L, mapMetric.get("Test.Size.Sum").getValue());
+        assertEquals(lMedian, mapMetric.get("Test.Size0.5").getValue());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getQuantile(0.99));
+        }
+
+    /**
+     * Assert that timers are exported in seconds.
+     */
+    @Test
+    public void testTimer()
+        {
+        NativeMetricRegistry       registry = new NativeMetricRegistry();
+        NativeMetricRegistry.Timer timer    = registry.timer("Test.Duration", TAGS, "test");
+
+        timer.record(3, TimeUnit.SECONDS);
+        assertEquals("result", timer.time(() -> "result"));
+
+        assertEquals(2, timer.getCount());
+        assertEquals(3.0, (Double) timer.scale(timer.getMax()), 0.0);
+
+        MBeanMetric metric = registry.stream()
+                .filter(m -> m.getName().equals("Test.Duration.Max"))
+                .findFirst()
+                .get();
+        assertEquals(3.0, (Double) metric.getValue(), 0.0);
+        }
+
+    /**
+     * Assert that exported metrics are looked up by identifier, and that the
+     * lookup reflects metrics registered or removed after a previous lookup.
+     */
+    @Test
+    public void testExportedMetricLookup()
+        {
+        NativeMetricRegistry         registry = new NativeMetricRegistry();
+        NativeMetricRegistry.Counter counter  = registry.counter("Test.Count", TAGS, "test");
+
+        counter.add(3);
+
+        MBeanMetric metric = registry.stream().findFirst().get();
+        assertSame(metric, registry.getExportedMetric(metric.getIdentifier()));
+        assertEquals(3L, registry.getExportedMetric(metric.getIdentifier()).getValue());
+
+        registry.timer("Test.Duration", TAGS, "test").record(1, TimeUnit.SECONDS);
+
+        MBeanMetric metricMax = registry.stream()
+                .filter(m -> m.getName().equals("Test.Duration.Max"))
+                .findFirst()
+                .get();
+        assertSame(metricMax, registry.getExportedMetric(metricMax.getIdentifier()));
+
+        registry.remove("Test.Count", TAGS);
+        assertNull(registry.getExportedMetric(metric.getIdentifier()));
+        assertSame(metricMax, registry.getExportedMetric(metricMax.getIdentifier()));
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The tags used by the tests.
+     */
+    private static final Map<String, String> TAGS = Collections.singletonMap("tag", "a");
+    }
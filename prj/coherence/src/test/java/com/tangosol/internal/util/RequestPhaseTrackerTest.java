@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util;
+
+
+import com.tangosol.internal.metrics.NativeMetricRegistry;
+
+import com.tangosol.net.management.Registry;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+
+/**
+ * Unit tests for {@link RequestPhaseTracker} and {@link LatencyHistogram}.
+ */
+public class RequestPhaseTrackerTest
+    {
+    /**
+     * Assert the statistics of a LatencyHistogram.
+     */
+    @Test
+    public void testHistogram()
+        {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        for (int i = 0; i < 999; i++)
+            {
+            histogram.register(TimeUnit.MICROSECONDS.toNanos(10));
+            }
+        histogram.register(TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(5000, histogram.getMaxMicros());
+        assertEquals(14, histogram.getAverageMicros());
+
+        // 10us falls into the [8, 16) bucket
+        assertEquals(15, histogram.getPercentileMicros(50.0));
+        assertEquals(15, histogram.getPercentileMicros(99.0));
+        assertEquals(5000, histogram.getPercentileMicros(100.0));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMicros(99.0));
+        }
+
+    /**
+     * Assert that only sampled executions of a phase are recorded.
+     */
+    @Test
+    public void testStop()
+        {
+        RequestPhaseTracker.Phase  phase = RequestPhaseTracker.Phase.INDEX_UPDATE;
+        NativeMetricRegistry.Timer timer = RequestPhaseTracker.getTimer(phase);
+
+        timer.reset();
+
+        // an unsampled execution
+        RequestPhaseTracker.stop(phase, 0L);
+        assertEquals(0, timer.getCount());
+
+        RequestPhaseTracker.stop(phase, System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(2));
+        assertEquals(1, timer.getCount());
+        assertTrue(timer.getMax() >= TimeUnit.MILLISECONDS.toNanos(2));
+
+        timer.reset();
+        }
+
+    /**
+     * Assert that sampling and the MBeans are disabled by default.
+     */
+    @Test
+    public void testDisabledByDefault()
+        {
+        Registry registry = mock(Registry.class);
+
+        assertFalse(RequestPhaseTracker.isEnabled());
+        assertEquals(0L, RequestPhaseTracker.start());
+
+        RequestPhaseTracker.registerMBeans(registry);
+        verifyNoInteractions(registry);
+        }
+    }
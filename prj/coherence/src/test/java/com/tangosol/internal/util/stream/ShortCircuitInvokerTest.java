@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.internal.util.stream;
+
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.net.partition.PartitionSet;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.Streamer;
+
+import com.tangosol.util.filter.PartitionedFilter;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+import java.util.function.IntPredicate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for {@link AbstractPipeline.ShortCircuitInvoker}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ShortCircuitInvokerTest
+    {
+    /**
+     * Assert that the evaluation stops once a match is found.
+     */
+    @Test
+    public void testShortCircuit()
+        {
+        Set<PartitionSet> setEvaluated = new HashSet<>();
+        NamedCache        cache        = mockCache(nPart -> nPart == 5, setEvaluated);
+
+        assertTrue(invoke(cache));
+
+        // the partitions of the first member are evaluated in chunks of
+        // 1, 2 and 4 partitions; the last chunk contains the match
+        assertEquals(3, setEvaluated.size());
+        assertTrue(setEvaluated.contains(partitions(0)));
+        assertTrue(setEvaluated.contains(partitions(1, 2)));
+        assertTrue(setEvaluated.contains(partitions(3, 4, 5, 6)));
+        }
+
+    /**
+     * Assert that all partitions are evaluated if there is no match.
+     */
+    @Test
+    public void testNoMatch()
+        {
+        Set<PartitionSet> setEvaluated = new HashSet<>();
+        NamedCache        cache        = mockCache(nPart -> false, setEvaluated);
+
+        assertFalse(invoke(cache));
+
+        PartitionSet partsAll = new PartitionSet(PARTITION_COUNT);
+        for (PartitionSet parts : setEvaluated)
+            {
+            assertTrue(partsAll.add(parts));
+            }
+        assertTrue(partsAll.isFull());
+
+        // two members with chunks of 1, 2, 4 and 1 partitions each
+        assertEquals(8, setEvaluated.size());
+        }
+
+    /**
+     * Assert that the result of an empty aggregation is produced locally if
+     * none of the chunks produce a partial result.
+     */
+    @Test
+    public void testNoPartialResult()
+        {
+        Set<PartitionSet> setEvaluated = new HashSet<>();
+        NamedCache        cache        = mockCache(null, setEvaluated);
+
+        assertFalse(invoke(cache));
+        assertEquals(8, setEvaluated.size());
+        verify(cache, never()).aggregate(any(Filter.class), any(InvocableMap.EntryAggregator.class));
+        }
+
+    /**
+     * Assert that the partitions of a member are split into no more than
+     * the maximum number of chunks.
+     */
+    @Test
+    public void testMaxChunks()
+        {
+        PartitionSet parts = new PartitionSet(257).fill();
+
+        Deque<PartitionSet> dequeChunks = new AbstractPipeline.ShortCircuitInvoker(
+                mockCache(nPart -> false, new HashSet<>()), null, new MatchAggregator()).split(parts);
+
+        assertEquals(AbstractPipeline.ShortCircuitInvoker.MAX_CHUNKS, dequeChunks.size());
+        assertEquals(1, dequeChunks.poll().cardinality());
+        assertEquals(2, dequeChunks.poll().cardinality());
+        assertEquals(4, dequeChunks.poll().cardinality());
+        assertEquals(250, dequeChunks.poll().cardinality());
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Invoke a matching aggregator against the specified cache.
+     *
+     * @param cache  the cache
+     *
+     * @return the aggregation result
+     */
+    protected boolean invoke(NamedCache cache)
+        {
+        return (Boolean) new AbstractPipeline.ShortCircuitInvoker(cache, null, new MatchAggregator()).invoke();
+        }
+
+    /**
+     * Create a PartitionSet containing the specified partitions.
+     *
+     * @param anPart  the partitions
+     *
+     * @return the PartitionSet
+     */
+    protected static PartitionSet partitions(int... anPart)
+        {
+        PartitionSet parts = new PartitionSet(PARTITION_COUNT);
+        for (int nPart : anPart)
+            {
+            parts.add(nPart);
+            }
+        return parts;
+        }
+
+    /**
+     * Create a mock cache whose service has two members, each owning half
+     * of the partitions, and whose aggregations match if any of the
+     * aggregated partitions satisfies the specified predicate.
+     *
+     * @param predMatch     the predicate for the matching partitions, or
+     *                      null if the aggregations produce no partial
+     *                      result
+     * @param setEvaluated  the set to add the aggregated partitions to
+     *
+     * @return the mock cache
+     */
+    protected NamedCache mockCache(IntPredicate predMatch, Set<PartitionSet> setEvaluated)
+        {
+        NamedCache              cache      = mock(NamedCache.class);
+        AsyncNamedCache         cacheAsync = mock(AsyncNamedCache.class);
+        DistributedCacheService service    = mock(DistributedCacheService.class);
+        Member                  member1    = mock(Member.class);
+        Member                  member2    = mock(Member.class);
+
+        when(cache.getCacheService()).thenReturn(service);
+        when(cache.async()).thenReturn(cacheAsync);
+        when(service.getPartitionCount()).thenReturn(PARTITION_COUNT);
+        when(service.getOwnershipEnabledMembers()).thenReturn(new LinkedHashSet<>(Arrays.asList(member1, member2)));
+        when(service.getOwnedPartitions(member1)).thenReturn(partitions(0, 1, 2, 3, 4, 5, 6, 7));
+        when(service.getOwnedPartitions(member2)).thenReturn(partitions(8, 9, 10, 11, 12, 13, 14, 15));
+        when(cacheAsync.aggregate(any(Filter.class), any(InvocableMap.EntryAggregator.class))).thenAnswer(invocation ->
+            {
+            PartitionSet parts  = ((PartitionedFilter) invocation.getArgument(0)).getPartitionSet();
+            boolean      fMatch = false;
+
+            setEvaluated.add(new PartitionSet(parts));
+            for (int nPart = parts.next(0); nPart >= 0; nPart = parts.next(nPart + 1))
+                {
+                fMatch |= predMatch != null && predMatch.test(nPart);
+                }
+            return CompletableFuture.completedFuture(predMatch == null ? null : fMatch);
+            });
+
+        return cache;
+        }
+
+    // ----- inner class: MatchAggregator -----------------------------------
+
+    /**
+     * A client-side stand-in for an anyMatch aggregator.
+     */
+    protected static class MatchAggregator
+            implements InvocableMap.StreamingAggregator<Object, Object, Boolean, Boolean>
+        {
+        @Override
+        public InvocableMap.StreamingAggregator<Object, Object, Boolean, Boolean> supply()
+            {
+            return new MatchAggregator();
+            }
+
+        @Override
+        public boolean accumulate(Streamer<? extends InvocableMap.Entry<?, ?>> streamer)
+            {
+            // only used to produce the result of an empty aggregation
+            m_fResult = false;
+            return true;
+            }
+
+        @Override
+        public boolean accumulate(InvocableMap.Entry<?, ?> entry)
+            {
+            throw new UnsupportedOperationException();
+            }
+
+        @Override
+        public boolean combine(Boolean fMatch)
+            {
+            m_fResult = fMatch;
+            return !fMatch;
+            }
+
+        @Override
+        public Boolean getPartialResult()
+            {
+            return m_fResult;
+            }
+
+        @Override
+        public Boolean finalizeResult()
+            {
+            return m_fResult;
+            }
+
+        /**
+         * The aggregation result.
+         */
+        private Boolean m_fResult;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The partition count used by the tests.
+     */
+    private static final int PARTITION_COUNT = 16;
+    }
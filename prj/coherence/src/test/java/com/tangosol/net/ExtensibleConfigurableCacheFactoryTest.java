@@ -58,12 +58,17 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Tests the {@link DefaultConfigurableCacheFactory} class.
  *
@@ -331,6 +336,109 @@ public class ExtensibleConfigurableCacheFactoryTest
             }
         }
 
+    @Test
+    public void shouldStartServicesConcurrently()
+        {
+        Dependencies                deps       = DependenciesHelper.newInstance();
+        CountDownLatch              latch      = new CountDownLatch(2);
+        Set<String>                 setThread  = Collections.synchronizedSet(new HashSet<>());
+        List<ServiceScheme>         listScheme = Arrays.asList(mock(ServiceScheme.class), mock(ServiceScheme.class));
+        Map<ServiceScheme, Service> mapService = new HashMap<>();
+        Set<ServiceScheme>          setReg     = new HashSet<>();
+
+        for (ServiceScheme scheme : listScheme)
+            {
+            mapService.put(scheme, mockService());
+            }
+
+        ExtensibleConfigurableCacheFactory eccf = new ExtensibleConfigurableCacheFactory(deps)
+            {
+            @Override
+            protected Service prepareService(ServiceScheme scheme)
+                {
+                return mapService.get(scheme);
+                }
+
+            @Override
+            protected void startService(Service service)
+                {
+                setThread.add(Thread.currentThread().getName());
+
+                // both services must be starting at the same time
+                latch.countDown();
+                try
+                    {
+                    assertTrue(latch.await(1, TimeUnit.MINUTES));
+                    }
+                catch (InterruptedException e)
+                    {
+                    throw ensureRuntimeException(e);
+                    }
+                }
+
+            @Override
+            protected void registerService(ServiceScheme scheme, Service service)
+                {
+                assertThat(service, is(mapService.get(scheme)));
+                setReg.add(scheme);
+                }
+            };
+
+        eccf.startServicesConcurrently(listScheme, 2);
+
+        assertThat(setReg, containsInAnyOrder(listScheme.toArray()));
+        assertThat(setThread.size(), is(2));
+        assertThat(setThread.contains(Thread.currentThread().getName()), is(false));
+        }
+
+    @Test
+    public void shouldReportFailureToStartServicesConcurrently()
+        {
+        Dependencies        deps       = DependenciesHelper.newInstance();
+        Service             serviceBad = mockService();
+        ServiceScheme       schemeBad  = mock(ServiceScheme.class);
+        List<ServiceScheme> listScheme = Arrays.asList(mock(ServiceScheme.class), schemeBad,
+                mock(ServiceScheme.class));
+        Set<ServiceScheme>  setReg     = new HashSet<>();
+
+        ExtensibleConfigurableCacheFactory eccf = new ExtensibleConfigurableCacheFactory(deps)
+            {
+            @Override
+            protected Service prepareService(ServiceScheme scheme)
+                {
+                return scheme == schemeBad ? serviceBad : mockService();
+                }
+
+            @Override
+            protected void startService(Service service)
+                {
+                if (service == serviceBad)
+                    {
+                    throw new IllegalStateException("bad service");
+                    }
+                }
+
+            @Override
+            protected void registerService(ServiceScheme scheme, Service service)
+                {
+                setReg.add(scheme);
+                }
+            };
+
+        try
+            {
+            eccf.startServicesConcurrently(listScheme, 3);
+            Assert.fail("expected IllegalStateException");
+            }
+        catch (IllegalStateException e)
+            {
+            assertEquals("bad service", e.getMessage());
+            }
+
+        // the other services have still been started and registered
+        assertThat(setReg, containsInAnyOrder(listScheme.get(0), listScheme.get(2)));
+        }
+
 
     protected Map<String, EventInterceptor> getRawInterceptors(InterceptorRegistry reg)
         {
@@ -344,6 +452,21 @@ public class ExtensibleConfigurableCacheFactoryTest
         return Collections.unmodifiableMap(mapIncptrs);
         }
 
+    /**
+     * Return a mock {@link Service} that is not running.
+     *
+     * @return a mock Service
+     */
+    protected static Service mockService()
+        {
+        Service     service = mock(Service.class);
+        ServiceInfo info    = mock(ServiceInfo.class);
+
+        when(info.getServiceName()).thenReturn("Test");
+        when(service.getInfo()).thenReturn(info);
+        return service;
+        }
+
     // ----- inner class: AlgoInterceptor -----------------------------------
 
     @Interceptor(identifier  = "Algo")
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.cache;
+
+
+import com.tangosol.net.Cluster;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.MemberEvent;
+import com.tangosol.net.MemberListener;
+
+import com.tangosol.util.SafeHashMap;
+
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for {@link BundlingNamedCache}.
+ */
+public class BundlingNamedCacheTest
+    {
+    /**
+     * Assert that the "get" operations are bundled per key owner.
+     */
+    @Test
+    public void testOwnerAware()
+        {
+        DistributedCacheService service = mock(DistributedCacheService.class);
+        Member                  member1 = mock(Member.class);
+        Member                  member2 = mock(Member.class);
+
+        when(service.getKeyOwner("a")).thenReturn(member1);
+        when(service.getKeyOwner("b")).thenReturn(member2);
+        when(service.getKeyOwner("c")).thenReturn(member1);
+
+        SafeHashMap map = new SafeHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+
+        BundlingNamedCache cache   = new BundlingNamedCache(new WrapperNamedCache(map, "test", service));
+        AbstractBundler    bundler = cache.ensureGetBundler(10);
+
+        bundler.setThreadThreshold(2);
+        bundler.setDelayMillis(5L);
+        cache.setOwnerAware(true);
+
+        // simulate another active thread, so that the calls are bundled
+        bundler.m_countThreads.incrementAndGet();
+        assertEquals(1, cache.get("a"));
+        assertEquals(2, cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(null, cache.get("d"));
+        bundler.m_countThreads.decrementAndGet();
+
+        Map<Member, AbstractBundler> mapBundlers = cache.getOwnerGetBundlers();
+        assertEquals(2, mapBundlers.size());
+
+        AbstractBundler bundler1 = mapBundlers.get(member1);
+        assertEquals(10, bundler1.getSizeThreshold());
+        assertEquals(2, bundler1.getThreadThreshold());
+        assertEquals(5L, bundler1.getDelayMillis());
+        assertSame(bundler.m_countThreads, bundler1.m_countThreads);
+
+        // reconfiguring the bundler discards the per-owner bundlers
+        cache.ensureGetBundler(20);
+        assertTrue(cache.getOwnerGetBundlers().isEmpty());
+        }
+
+    /**
+     * Assert that the key owner is not resolved for the calls that are
+     * passed through.
+     */
+    @Test
+    public void testOwnerAwarePassThrough()
+        {
+        DistributedCacheService service = mock(DistributedCacheService.class);
+        SafeHashMap             map     = new SafeHashMap();
+
+        map.put("a", 1);
+
+        BundlingNamedCache cache   = new BundlingNamedCache(new WrapperNamedCache(map, "test", service));
+        AbstractBundler    bundler = cache.ensureGetBundler(10);
+
+        bundler.setThreadThreshold(2);
+        cache.setOwnerAware(true);
+
+        assertEquals(1, cache.get("a"));
+        verify(service, never()).getKeyOwner(any());
+        assertTrue(cache.getOwnerGetBundlers().isEmpty());
+        }
+
+    /**
+     * Assert that the per-owner bundler of a member is discarded when the
+     * member leaves the service.
+     */
+    @Test
+    public void testOwnerAwareMemberLeft()
+        {
+        DistributedCacheService service = mock(DistributedCacheService.class);
+        Cluster                 cluster = mock(Cluster.class);
+        Member                  member1 = mock(Member.class);
+        Member                  member2 = mock(Member.class);
+
+        when(service.getCluster()).thenReturn(cluster);
+        when(cluster.getLocalMember()).thenReturn(mock(Member.class));
+        when(service.getKeyOwner("a")).thenReturn(member1);
+        when(service.getKeyOwner("b")).thenReturn(member2);
+
+        BundlingNamedCache cache   = new BundlingNamedCache(new WrapperNamedCache(new SafeHashMap(), "test", service));
+        AbstractBundler    bundler = cache.ensureGetBundler(10);
+
+        bundler.setThreadThreshold(1);
+        bundler.setDelayMillis(1L);
+        cache.setOwnerAware(true);
+
+        ArgumentCaptor<MemberListener> captor = ArgumentCaptor.forClass(MemberListener.class);
+        verify(service).addMemberListener(captor.capture());
+
+        cache.get("a");
+        cache.get("b");
+        assertEquals(2, cache.getOwnerGetBundlers().size());
+
+        captor.getValue().memberLeft(new MemberEvent(service, MemberEvent.MEMBER_LEFT, member1));
+        assertEquals(1, cache.getOwnerGetBundlers().size());
+        assertTrue(cache.getOwnerGetBundlers().containsKey(member2));
+
+        cache.setOwnerAware(false);
+        verify(service).removeMemberListener(captor.getValue());
+        }
+
+    /**
+     * Assert the bundle size distribution.
+     */
+    @Test
+    public void testBundleSizeDistribution()
+        {
+        BundlingNamedCache cache   = new BundlingNamedCache(new WrapperNamedCache(new SafeHashMap(), "test"));
+        AbstractBundler    bundler = cache.ensureGetBundler(10);
+
+        bundler.recordBundleSize(1);
+        bundler.recordBundleSize(3);
+        bundler.recordBundleSize(2);
+        bundler.recordBundleSize(100000);
+
+        long[] alSizes = bundler.getBundleSizeDistribution();
+        assertEquals(1, alSizes[0]);
+        assertEquals(2, alSizes[1]);
+        assertEquals(1, alSizes[alSizes.length - 1]);
+        assertTrue(bundler.toString().contains("SizeDistribution=[1:1, 2:2, 32768+:1]"));
+
+        bundler.resetStatistics();
+        assertArrayEquals(new long[alSizes.length], bundler.getBundleSizeDistribution());
+        }
+    }
@@ -6,8 +6,10 @@
  */
 package com.tangosol.net.events.internal;
 
+import com.tangosol.internal.util.LatencyHistogram;
 import com.tangosol.net.BackingMapContext;
 import com.tangosol.net.events.*;
+import com.tangosol.net.events.annotation.Interceptor;
 import com.tangosol.net.events.partition.cache.CacheLifecycleEvent;
 import com.tangosol.net.events.partition.cache.EntryEvent;
 import com.tangosol.net.events.partition.cache.EntryProcessorEvent;
@@ -18,6 +20,10 @@ import org.junit.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
@@ -613,6 +619,188 @@ public class StorageDispatcherTest
         assertEquals(EntryEvent.Type.INSERTING, interceptor.m_Event.getType());
         }
 
+    /**
+     * Test that post-commit events are dispatched asynchronously to the
+     * interceptors that request it, while pre-commit events are not.
+     */
+    @Test
+    public void testAsyncDispatch()
+            throws InterruptedException
+        {
+        BackingMapContext    mockCtx     = mock(BackingMapContext.class);
+        StorageDispatcher    dispatcher  = new StorageDispatcher(mockCtx);
+        String               sKey        = "asyncInterceptor";
+        HashSet              setTypes    = new HashSet();
+        Set<BinaryEntry>     setEntries  = Collections.singleton(mock(BinaryEntry.class));
+        AsyncTestInterceptor interceptor = new AsyncTestInterceptor();
+
+        setTypes.add(EntryEvent.Type.INSERTING);
+        setTypes.add(EntryEvent.Type.INSERTED);
+
+        dispatcher.addEventInterceptor(sKey, interceptor, setTypes, false);
+
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTING, setEntries, null).proceed(Boolean.TRUE);
+        assertEquals(Thread.currentThread(), interceptor.m_thread);
+
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latch.await(10, TimeUnit.SECONDS));
+        assertNotEquals(Thread.currentThread(), interceptor.m_thread);
+
+        LatencyHistogram histogram = dispatcher.getStats().getLatencyHistogram(sKey);
+        assertNotNull(histogram);
+        assertTrue(histogram.getCount() >= 1);
+        }
+
+    /**
+     * Test that the thread raising an event waits for the backlog to drain
+     * once the backlog limit of an asynchronous interceptor has been reached,
+     * and that no event is dropped.
+     */
+    @Test
+    public void testAsyncBacklogBackPressure()
+            throws InterruptedException
+        {
+        StorageDispatcher        dispatcher  = new StorageDispatcher(mock(BackingMapContext.class));
+        Set<BinaryEntry>         setEntries  = Collections.singleton(mock(BinaryEntry.class));
+        BlockingAsyncInterceptor interceptor = new BlockingAsyncInterceptor();
+
+        dispatcher.addEventInterceptor("blocking", interceptor,
+                Collections.singleton(EntryEvent.Type.INSERTED), false);
+
+        AbstractEventDispatcher.AsyncInterceptorQueue queue =
+                dispatcher.f_mapAsyncQueues.values().iterator().next();
+
+        // the first event occupies the dispatch thread
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latchEntered.await(10, TimeUnit.SECONDS));
+
+        int    cEvents  = AbstractEventDispatcher.ASYNC_BACKLOG_MAX + 1;
+        Thread producer = new Thread(() ->
+            {
+            for (int i = 0; i < cEvents; i++)
+                {
+                dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+                }
+            });
+        producer.start();
+
+        // the producer is blocked by the last event until the backlog drains
+        producer.join(1000L);
+        assertTrue(producer.isAlive());
+        assertEquals(cEvents, queue.getBacklog());
+        assertEquals(1, interceptor.m_cEvents.get());
+
+        interceptor.m_latchRelease.countDown();
+        producer.join(30000L);
+        assertFalse(producer.isAlive());
+
+        long ldtTimeout = System.currentTimeMillis() + 30000L;
+        while (interceptor.m_cEvents.get() < cEvents + 1 && System.currentTimeMillis() < ldtTimeout)
+            {
+            Thread.sleep(10L);
+            }
+        assertEquals(cEvents + 1, interceptor.m_cEvents.get());
+        assertEquals(0, queue.getDroppedCount());
+        }
+
+    /**
+     * Test that events are dropped and counted, rather than delivered by the
+     * raising thread, once the backlog limit of an asynchronous interceptor
+     * that allows it has been reached.
+     */
+    @Test
+    public void testAsyncBacklogLimit()
+            throws InterruptedException
+        {
+        StorageDispatcher        dispatcher  = new StorageDispatcher(mock(BackingMapContext.class));
+        Set<BinaryEntry>         setEntries  = Collections.singleton(mock(BinaryEntry.class));
+        BlockingAsyncInterceptor interceptor = new DroppingAsyncInterceptor();
+
+        dispatcher.addEventInterceptor("blocking", interceptor,
+                Collections.singleton(EntryEvent.Type.INSERTED), false);
+
+        AbstractEventDispatcher.AsyncInterceptorQueue queue =
+                dispatcher.f_mapAsyncQueues.values().iterator().next();
+
+        // the first event occupies the dispatch thread
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latchEntered.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < AbstractEventDispatcher.ASYNC_BACKLOG_MAX + 3; i++)
+            {
+            dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+            }
+
+        assertEquals(AbstractEventDispatcher.ASYNC_BACKLOG_MAX, queue.getBacklog());
+        assertEquals(3, queue.getDroppedCount());
+        assertEquals(1, interceptor.m_cEvents.get());
+        assertNotEquals(Thread.currentThread(), interceptor.m_thread);
+
+        interceptor.m_latchRelease.countDown();
+        }
+
+    /**
+     * Test that the pending events of an unregistered dispatcher are still
+     * delivered, after which its reference to the asynchronous dispatch pool
+     * is released.
+     */
+    @Test
+    public void testAsyncReleaseDispatchState()
+            throws InterruptedException
+        {
+        StorageDispatcher        dispatcher  = new StorageDispatcher(mock(BackingMapContext.class));
+        Set<BinaryEntry>         setEntries  = Collections.singleton(mock(BinaryEntry.class));
+        BlockingAsyncInterceptor interceptor = new BlockingAsyncInterceptor();
+        Registry                 registry    = new Registry();
+
+        registry.registerEventDispatcher(dispatcher);
+        dispatcher.addEventInterceptor("blocking", interceptor,
+                Collections.singleton(EntryEvent.Type.INSERTED), false);
+
+        AbstractEventDispatcher.AsyncInterceptorQueue queue =
+                dispatcher.f_mapAsyncQueues.values().iterator().next();
+
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latchEntered.await(10, TimeUnit.SECONDS));
+
+        registry.unregisterEventDispatcher(dispatcher);
+        assertTrue(dispatcher.f_mapAsyncQueues.isEmpty());
+        assertFalse(queue.f_fReleased.get());
+
+        interceptor.m_latchRelease.countDown();
+
+        long ldtTimeout = System.currentTimeMillis() + 30000L;
+        while (!queue.f_fReleased.get() && System.currentTimeMillis() < ldtTimeout)
+            {
+            Thread.sleep(10L);
+            }
+        assertTrue(queue.f_fReleased.get());
+        assertEquals(2, interceptor.m_cEvents.get());
+        }
+
+    /**
+     * Test that an Error thrown by an asynchronous interceptor does not
+     * prevent the delivery of subsequent events.
+     */
+    @Test
+    public void testAsyncDispatchAfterError()
+            throws InterruptedException
+        {
+        StorageDispatcher     dispatcher  = new StorageDispatcher(mock(BackingMapContext.class));
+        Set<BinaryEntry>      setEntries  = Collections.singleton(mock(BinaryEntry.class));
+        ErrorAsyncInterceptor interceptor = new ErrorAsyncInterceptor();
+
+        dispatcher.addEventInterceptor("error", interceptor,
+                Collections.singleton(EntryEvent.Type.INSERTED), false);
+
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latchFirst.await(10, TimeUnit.SECONDS));
+
+        dispatcher.getEntryEventContinuation(EntryEvent.Type.INSERTED, setEntries, null).proceed(Boolean.TRUE);
+        assertTrue(interceptor.m_latchSecond.await(10, TimeUnit.SECONDS));
+        }
+
     /**
      * Test interceptor class used to support the StorageDispatcher tests.
      */
@@ -637,4 +825,87 @@ public class StorageDispatcherTest
         protected Event   m_Event;
         protected boolean m_fThrow;
         }
+    
+    /**
+     * Test interceptor that requests asynchronous dispatch.
+     */
+    @Interceptor(identifier = "asyncInterceptor", async = true)
+    public static class AsyncTestInterceptor
+            implements EventInterceptor<EntryEvent<?, ?>>
+        {
+        public void onEvent(EntryEvent<?, ?> event)
+            {
+            m_thread = Thread.currentThread();
+            if (event.getType() == EntryEvent.Type.INSERTED)
+                {
+                m_latch.countDown();
+                }
+            }
+
+        protected volatile Thread m_thread;
+        protected final CountDownLatch m_latch = new CountDownLatch(1);
+        }
+    
+    /**
+     * Asynchronous test interceptor that blocks on the first event until
+     * released.
+     */
+    @Interceptor(async = true)
+    public static class BlockingAsyncInterceptor
+            implements EventInterceptor<EntryEvent<?, ?>>
+        {
+        public void onEvent(EntryEvent<?, ?> event)
+            {
+            m_thread = Thread.currentThread();
+            if (m_cEvents.incrementAndGet() == 1)
+                {
+                m_latchEntered.countDown();
+                try
+                    {
+                    m_latchRelease.await(30, TimeUnit.SECONDS);
+                    }
+                catch (InterruptedException e)
+                    {
+                    Thread.currentThread().interrupt();
+                    }
+                }
+            }
+
+        protected volatile Thread m_thread;
+        protected final AtomicInteger  m_cEvents      = new AtomicInteger();
+        protected final CountDownLatch m_latchEntered = new CountDownLatch(1);
+        protected final CountDownLatch m_latchRelease = new CountDownLatch(1);
+        }
+
+    /**
+     * Asynchronous test interceptor that blocks on the first event until
+     * released, and allows events to be dropped once the backlog limit is
+     * reached.
+     */
+    @Interceptor(async = true, dropOnBacklog = true)
+    public static class DroppingAsyncInterceptor
+            extends BlockingAsyncInterceptor
+        {
+        }
+
+    /**
+     * Asynchronous test interceptor that throws an Error on the first event.
+     */
+    @Interceptor(async = true)
+    public static class ErrorAsyncInterceptor
+            implements EventInterceptor<EntryEvent<?, ?>>
+        {
+        public void onEvent(EntryEvent<?, ?> event)
+            {
+            if (m_latchFirst.getCount() > 0)
+                {
+                m_latchFirst.countDown();
+                throw new AssertionError("expected");
+                }
+            m_latchSecond.countDown();
+            }
+
+        protected final CountDownLatch m_latchFirst  = new CountDownLatch(1);
+        protected final CountDownLatch m_latchSecond = new CountDownLatch(1);
+        }
     }
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.net.partition;
+
+
+import com.tangosol.net.AsyncNamedCache;
+import com.tangosol.net.DistributedCacheService;
+import com.tangosol.net.Member;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.Filter;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.aggregator.Count;
+import com.tangosol.util.aggregator.DistinctValues;
+import com.tangosol.util.aggregator.LongSum;
+import com.tangosol.util.aggregator.PartialResultAggregator;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import com.tangosol.util.filter.AlwaysFilter;
+import com.tangosol.util.filter.EqualsFilter;
+import com.tangosol.util.filter.LimitFilter;
+import com.tangosol.util.filter.PartitionedFilter;
+
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for {@link ParallelQueryExecutor}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class ParallelQueryExecutorTest
+    {
+    /**
+     * Assert that a partition set is split into contiguous sets of
+     * (nearly) equal size.
+     */
+    @Test
+    public void testSplitPartitionSet()
+        {
+        PartitionSet parts = new PartitionSet(PARTITION_COUNT).fill();
+
+        List<PartitionSet> listParts = ParallelQueryExecutor.split(parts, 4);
+        assertEquals(4, listParts.size());
+
+        PartitionSet partsAll = new PartitionSet(PARTITION_COUNT);
+        for (PartitionSet partsSplit : listParts)
+            {
+            int cParts = partsSplit.cardinality();
+            assertTrue(cParts == 4 || cParts == 5);
+            assertTrue(partsAll.add(partsSplit));
+            }
+        assertEquals(parts, partsAll);
+
+        parts = new PartitionSet(PARTITION_COUNT);
+        parts.add(3);
+        parts.add(7);
+        assertEquals(2, ParallelQueryExecutor.split(parts, 4).size());
+        }
+
+    /**
+     * Assert that a query is split across the partitions of each member,
+     * and that the results are combined.
+     */
+    @Test
+    public void testKeySet()
+        {
+        NamedCache cache = mockCache();
+
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(cache, 2);
+
+        Set setKeys = executor.keySet(AlwaysFilter.INSTANCE);
+        assertEquals(PARTITION_COUNT, setKeys.size());
+        for (int i = 0; i < PARTITION_COUNT; i++)
+            {
+            assertTrue(setKeys.contains(i));
+            }
+
+        // two members with two requests each, and one for the orphans
+        verify(cache.async(), times(5)).keySet(any(PartitionedFilter.class));
+        }
+
+    /**
+     * Assert that an aggregation is split across the partitions of each
+     * member, and that the partial results are combined.
+     */
+    @Test
+    public void testAggregate()
+        {
+        NamedCache            cache    = mockCache();
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(cache, 2);
+
+        // the sum of the keys, which are the partition numbers
+        assertEquals(Long.valueOf(PARTITION_COUNT * (PARTITION_COUNT - 1) / 2),
+                     executor.aggregate(AlwaysFilter.INSTANCE, new LongSum(IdentityExtractor.INSTANCE)));
+
+        verify(cache.async(), times(5)).aggregate(any(PartitionedFilter.class), any(PartialResultAggregator.class));
+        }
+
+    /**
+     * Assert that each request is scoped to the partitions of a single member
+     * using a PartitionedFilter that wraps the query filter, and that the
+     * requests cover each partition exactly once.
+     */
+    @Test
+    public void testSplitFilter()
+        {
+        NamedCache            cache    = mockCache();
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(cache, 2);
+        Filter                filter   = new EqualsFilter(IdentityExtractor.INSTANCE, 1);
+
+        executor.keySet(filter);
+
+        ArgumentCaptor<PartitionedFilter> captor = ArgumentCaptor.forClass(PartitionedFilter.class);
+        verify(cache.async(), times(5)).keySet(captor.capture());
+
+        PartitionSet partsAll = new PartitionSet(PARTITION_COUNT);
+        for (PartitionedFilter filterParts : captor.getAllValues())
+            {
+            PartitionSet parts = filterParts.getPartitionSet();
+
+            assertSame(filter, filterParts.getFilter());
+            assertFalse(parts.isEmpty());
+            assertTrue(m_parts1.contains(parts) || m_parts2.contains(parts) || parts.equals(orphans()));
+            assertTrue(partsAll.add(parts));
+            }
+        assertEquals(new PartitionSet(PARTITION_COUNT).fill(), partsAll);
+        }
+
+    /**
+     * Assert that the partitions that are not owned by any member are queried
+     * by a separate request, and that a request is not split if no partition
+     * is owned.
+     */
+    @Test
+    public void testOrphanedPartitions()
+        {
+        NamedCache            cache     = mockCache();
+        ParallelQueryExecutor executor  = new ParallelQueryExecutor(cache, 2);
+        List<PartitionSet>    listParts = executor.split(AlwaysFilter.INSTANCE);
+
+        assertEquals(5, listParts.size());
+        assertTrue(listParts.contains(orphans()));
+
+        PartitionedService service = (PartitionedService) cache.getCacheService();
+        when(service.getOwnershipEnabledMembers()).thenReturn(Collections.emptySet());
+
+        assertNull(executor.split(AlwaysFilter.INSTANCE));
+
+        executor.keySet(AlwaysFilter.INSTANCE);
+        verify(cache).keySet(AlwaysFilter.INSTANCE);
+        verify(cache.async(), never()).keySet(any(Filter.class));
+        }
+
+    /**
+     * Assert that the partial results of a streaming aggregator are combined
+     * using an aggregator supplied by it, and that aggregators that are not
+     * parallel are executed directly.
+     */
+    @Test
+    public void testCombinePartialResults()
+        {
+        NamedCache            cache    = mockCache();
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(cache, 2);
+
+        assertEquals(PARTITION_COUNT, executor.aggregate(AlwaysFilter.INSTANCE, new Count()));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2)),
+                     executor.aggregate(AlwaysFilter.INSTANCE,
+                             new DistinctValues((ValueExtractor<Integer, Integer>) n -> n % 3)));
+        verify(cache.async(), times(10)).aggregate(any(PartitionedFilter.class), any(PartialResultAggregator.class));
+
+        InvocableMap.EntryAggregator aggregator = Set::size;
+        executor.aggregate(AlwaysFilter.INSTANCE, aggregator);
+        verify(cache).aggregate(AlwaysFilter.INSTANCE, aggregator);
+        }
+
+    /**
+     * Assert that a ParallelQueryCache executes filter-based queries and
+     * aggregations using its executor, and delegates other operations.
+     */
+    @Test
+    public void testParallelQueryCache()
+        {
+        NamedCache         cache         = mockCache();
+        ParallelQueryCache cacheParallel = new ParallelQueryCache(cache, 2);
+
+        assertEquals(PARTITION_COUNT, cacheParallel.keySet(AlwaysFilter.INSTANCE).size());
+        assertEquals(PARTITION_COUNT, cacheParallel.entrySet(AlwaysFilter.INSTANCE).size());
+        assertEquals(PARTITION_COUNT, cacheParallel.aggregate(AlwaysFilter.INSTANCE, new Count()));
+        assertSame(cache.getCacheService(), cacheParallel.getCacheService());
+
+        verify(cache.async(), times(5)).keySet(any(PartitionedFilter.class));
+        verify(cache.async(), times(5)).entrySet(any(PartitionedFilter.class));
+        verify(cache.async(), times(5)).aggregate(any(PartitionedFilter.class), any(PartialResultAggregator.class));
+        verify(cache, never()).keySet(any(Filter.class));
+
+        cacheParallel.get(1);
+        verify(cache).get(1);
+        }
+
+    /**
+     * Assert that requests that cannot be split are executed directly.
+     */
+    @Test
+    public void testNoSplit()
+        {
+        NamedCache            cache    = mockCache();
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(cache, 2);
+        Filter                filter   = new LimitFilter(AlwaysFilter.INSTANCE, 10);
+
+        assertNull(executor.split(filter));
+        assertNull(executor.split(new PartitionedFilter(AlwaysFilter.INSTANCE, new PartitionSet(PARTITION_COUNT))));
+
+        executor.keySet(filter);
+        verify(cache).keySet(filter);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a mock cache whose service has two members, each owning half
+     * of the partitions except for the last one, and whose keys are the
+     * partition numbers.
+     *
+     * @return the mock cache
+     */
+    protected NamedCache mockCache()
+        {
+        NamedCache              cache   = mock(NamedCache.class);
+        AsyncNamedCache         async   = mock(AsyncNamedCache.class);
+        DistributedCacheService service = mock(DistributedCacheService.class);
+        Member                  member1 = mock(Member.class);
+        Member                  member2 = mock(Member.class);
+        PartitionSet            parts1  = m_parts1 = new PartitionSet(PARTITION_COUNT);
+        PartitionSet            parts2  = m_parts2 = new PartitionSet(PARTITION_COUNT);
+
+        for (int i = 0; i < PARTITION_COUNT - 1; i++)
+            {
+            (i < PARTITION_COUNT / 2 ? parts1 : parts2).add(i);
+            }
+
+        when(cache.getCacheService()).thenReturn(service);
+        when(service.getPartitionCount()).thenReturn(PARTITION_COUNT);
+        when(service.getOwnershipEnabledMembers()).thenReturn(new HashSet<>(Arrays.asList(member1, member2)));
+        when(service.getOwnedPartitions(member1)).thenReturn(parts1);
+        when(service.getOwnedPartitions(member2)).thenReturn(parts2);
+        when(cache.async()).thenReturn(async);
+        when(cache.async(any())).thenReturn(async);
+        when(cache.keySet(any(Filter.class))).thenReturn(Collections.emptySet());
+        when(async.keySet(any(Filter.class))).thenAnswer(invocation ->
+            CompletableFuture.completedFuture(getKeys(invocation.getArgument(0))));
+        when(async.entrySet(any(Filter.class))).thenAnswer(invocation ->
+            {
+            Set setEntries = new HashSet();
+            for (Object oKey : getKeys(invocation.getArgument(0)))
+                {
+                setEntries.add(new SimpleMapEntry(oKey, oKey));
+                }
+            return CompletableFuture.completedFuture(setEntries);
+            });
+        when(async.aggregate(any(Filter.class), any(InvocableMap.EntryAggregator.class))).thenAnswer(invocation ->
+            {
+            // aggregate the matching entries the way a storage member would
+            Set setEntries = new HashSet();
+            for (Object oKey : getKeys(invocation.getArgument(0)))
+                {
+                setEntries.add(new SimpleMapEntry(oKey, oKey));
+                }
+            InvocableMap.EntryAggregator aggregator = invocation.getArgument(1);
+            return CompletableFuture.completedFuture(aggregator.aggregate(setEntries));
+            });
+
+        return cache;
+        }
+
+    /**
+     * Return the partitions of the mock cache that are not owned by any
+     * member.
+     *
+     * @return the orphaned partitions
+     */
+    protected static PartitionSet orphans()
+        {
+        PartitionSet parts = new PartitionSet(PARTITION_COUNT);
+        parts.add(PARTITION_COUNT - 1);
+        return parts;
+        }
+
+    /**
+     * Return the keys of the mock cache that match the specified filter.
+     *
+     * @param filter  the partitioned filter
+     *
+     * @return the partition numbers of the filter's partition set
+     */
+    protected static Set getKeys(PartitionedFilter filter)
+        {
+        PartitionSet parts   = filter.getPartitionSet();
+        Set          setKeys = new HashSet();
+        for (int nPart = parts.next(0); nPart >= 0; nPart = parts.next(nPart + 1))
+            {
+            setKeys.add(nPart);
+            }
+        return setKeys;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The partition count used by the tests.
+     */
+    private static final int PARTITION_COUNT = 17;
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The partitions owned by the first member of the mock cache service.
+     */
+    protected PartitionSet m_parts1;
+
+    /**
+     * The partitions owned by the second member of the mock cache service.
+     */
+    protected PartitionSet m_parts2;
+    }
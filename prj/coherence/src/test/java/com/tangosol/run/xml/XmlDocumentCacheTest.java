@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.run.xml;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.net.URL;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for {@link XmlDocumentCache}.
+ */
+public class XmlDocumentCacheTest
+    {
+    /**
+     * Assert that each load of a cached document returns a copy that can be
+     * modified without affecting subsequent loads.
+     */
+    @Test
+    public void testLoadReturnsCopy()
+            throws IOException
+        {
+        URL url = writeXml("<config><name>test</name></config>");
+
+        XmlDocument xml1 = XmlDocumentCache.loadXml(url, null);
+        assertEquals("test", xml1.getSafeElement("name").getString());
+
+        xml1.getElement("name").setString("modified");
+
+        XmlDocument xml2 = XmlDocumentCache.loadXml(url, null);
+        assertNotSame(xml1, xml2);
+        assertEquals("test", xml2.getSafeElement("name").getString());
+        }
+
+    /**
+     * Assert that a changed document is parsed again.
+     */
+    @Test
+    public void testChangedContent()
+            throws IOException
+        {
+        URL url = writeXml("<config><name>one</name></config>");
+        assertEquals("one", XmlDocumentCache.loadXml(url, null).getSafeElement("name").getString());
+
+        Files.write(new File(url.getPath()).toPath(),
+                "<config><name>two</name></config>".getBytes(StandardCharsets.UTF_8));
+        assertEquals("two", XmlDocumentCache.loadXml(url, null).getSafeElement("name").getString());
+        }
+
+    /**
+     * Assert that the cache key depends on the charset.
+     */
+    @Test
+    public void testDigest()
+        {
+        byte[] ab = "<config/>".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(XmlDocumentCache.digest(ab, null), XmlDocumentCache.digest(ab, null));
+        assertNotEquals(XmlDocumentCache.digest(ab, null), XmlDocumentCache.digest(ab, "ISO-8859-1"));
+        }
+
+    /**
+     * Assert that a parsed document survives the round trip through its
+     * persistent form.
+     */
+    @Test
+    public void testPersistentForm()
+            throws IOException
+        {
+        File        dir = m_folder.newFolder();
+        XmlDocument xml = XmlDocumentCache.loadXml(
+                writeXml("<config xmlns=\"http://example.com/config\"><name a=\"b\">test</name></config>"), null);
+
+        XmlDocumentCache.storePersistent(dir, "test", new XmlDocumentCache.CachedDocument(xml, "digest"));
+
+        XmlDocumentCache.CachedDocument cached = XmlDocumentCache.loadPersistent(dir, "test");
+        assertEquals(xml, cached.getDocument());
+        assertEquals("digest", cached.getSchemaDigest());
+        }
+
+    /**
+     * Assert that a parsed document is stored in the cache directory as
+     * plain XML, and loaded from it when it is not cached in-process.
+     */
+    @Test
+    public void testPersistentStoreAndLoad()
+            throws IOException
+        {
+        File dir  = m_folder.newFolder();
+        URL  url  = writeXml("<config><name>stored</name></config>");
+        File file = cacheFile(dir, url);
+
+        XmlDocumentCache.loadXml(url, null, dir);
+
+        String sContent = read(file);
+        assertTrue(sContent, sContent.contains("<name>stored</name>"));
+
+        // the modified copy on disk is used when the document is not cached
+        // in-process
+        write(file, sContent.replace("stored</name>", "cached</name>"));
+        XmlDocumentCache.clear();
+        assertEquals("cached", XmlDocumentCache.loadXml(url, null, dir).getSafeElement("name").getString());
+        }
+
+    /**
+     * Assert that an unreadable file in the cache directory is ignored and
+     * replaced.
+     */
+    @Test
+    public void testPersistentCorrupt()
+            throws IOException
+        {
+        File dir  = m_folder.newFolder();
+        URL  url  = writeXml("<config><name>corrupt</name></config>");
+        File file = cacheFile(dir, url);
+
+        write(file, "not a cached document");
+        XmlDocumentCache.clear();
+        assertEquals("corrupt", XmlDocumentCache.loadXml(url, null, dir).getSafeElement("name").getString());
+        assertTrue(read(file).contains("<name>corrupt</name>"));
+
+        write(file, "digest\n<config><name>");
+        XmlDocumentCache.clear();
+        assertEquals("corrupt", XmlDocumentCache.loadXml(url, null, dir).getSafeElement("name").getString());
+        }
+
+    /**
+     * Assert that a cached document is discarded if a schema it refers to
+     * has changed.
+     */
+    @Test
+    public void testSchemaChange()
+            throws IOException
+        {
+        File   dir  = m_folder.newFolder();
+        File   xsd  = m_folder.newFile("test.xsd");
+        String sXsd = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\""
+                      + " targetNamespace=\"http://example.com/test\" elementFormDefault=\"qualified\">"
+                      + "<xs:element name=\"config\"><xs:complexType><xs:sequence>"
+                      + "<xs:element name=\"name\" type=\"xs:string\"/>"
+                      + "</xs:sequence></xs:complexType></xs:element></xs:schema>";
+
+        write(xsd, sXsd);
+
+        URL  url  = writeXml("<config xmlns=\"http://example.com/test\""
+                             + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+                             + " xsi:schemaLocation=\"http://example.com/test " + xsd.getAbsolutePath() + "\">"
+                             + "<name>validated</name></config>");
+        File file = cacheFile(dir, url);
+
+        XmlDocumentCache.loadXml(url, null, dir);
+        write(file, read(file).replace("validated</name>", "cached</name>"));
+
+        XmlDocumentCache.clear();
+        assertEquals("cached", XmlDocumentCache.loadXml(url, null, dir).getSafeElement("name").getString());
+
+        write(xsd, sXsd.replace("<xs:element name=\"config\">", "<!-- changed --><xs:element name=\"config\">"));
+        assertEquals("validated", XmlDocumentCache.loadXml(url, null, dir).getSafeElement("name").getString());
+        assertTrue(read(file).contains("<name>validated</name>"));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Write the specified XML to a temporary file.
+     *
+     * @param sXml  the XML
+     *
+     * @return the URL of the file
+     */
+    protected URL writeXml(String sXml)
+            throws IOException
+        {
+        File file = m_folder.newFile();
+        write(file, sXml);
+        return file.toURI().toURL();
+        }
+
+    /**
+     * Return the file the specified document is stored in.
+     *
+     * @param dir  the cache directory
+     * @param url  the document URL
+     *
+     * @return the file in the cache directory
+     */
+    protected static File cacheFile(File dir, URL url)
+            throws IOException
+        {
+        byte[] ab = Files.readAllBytes(new File(url.getPath()).toPath());
+        return new File(dir, XmlDocumentCache.digest(ab, null) + XmlDocumentCache.FILE_SUFFIX);
+        }
+
+    /**
+     * Read the specified file as a UTF-8 string.
+     *
+     * @param file  the file
+     *
+     * @return the file content
+     */
+    protected static String read(File file)
+            throws IOException
+        {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        }
+
+    /**
+     * Write the specified string to a file as UTF-8.
+     *
+     * @param file      the file
+     * @param sContent  the content
+     */
+    protected static void write(File file, String sContent)
+            throws IOException
+        {
+        Files.write(file.toPath(), sContent.getBytes(StandardCharsets.UTF_8));
+        }
+
+    // ----- data members ---------------------------------------------------
+
+    /**
+     * The temporary folder for the test documents.
+     */
+    @Rule
+    public TemporaryFolder m_folder = new TemporaryFolder();
+    }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Tests for {@link ConcurrentOpenHashMap}.
+ */
+public class ConcurrentOpenHashMapTest
+    {
+    /**
+     * Assert basic put/get/remove functionality.
+     */
+    @Test
+    public void testBasic()
+        {
+        ConcurrentOpenHashMap<String, Integer> map = new ConcurrentOpenHashMap<>();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put("a", 1));
+        assertNull(map.put("b", 2));
+        assertEquals(Integer.valueOf(1), map.put("a", 3));
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey("c"));
+
+        assertEquals(Integer.valueOf(2), map.remove("b"));
+        assertNull(map.remove("b"));
+        assertEquals(1, map.size());
+        assertFalse(map.containsKey("b"));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("a"));
+        }
+
+    /**
+     * Assert that null keys and values are supported.
+     */
+    @Test
+    public void testNulls()
+        {
+        ConcurrentOpenHashMap<String, String> map = new ConcurrentOpenHashMap<>();
+
+        map.put(null, "null");
+        map.put("a", null);
+
+        assertEquals(2, map.size());
+        assertEquals("null", map.get(null));
+        assertNull(map.get("a"));
+        assertTrue(map.containsKey("a"));
+        assertTrue(map.containsKey(null));
+        assertTrue(map.containsValue(null));
+
+        Map.Entry<String, String> entry = map.getEntry(null);
+        assertNull(entry.getKey());
+        assertEquals("null", entry.getValue());
+
+        assertEquals("null", map.remove(null));
+        assertFalse(map.containsKey(null));
+        }
+
+    /**
+     * Assert the conditional ConcurrentMap operations.
+     */
+    @Test
+    public void testConditional()
+        {
+        ConcurrentOpenHashMap<String, Integer> map = new ConcurrentOpenHashMap<>();
+
+        assertNull(map.replace("a", 1));
+        assertFalse(map.containsKey("a"));
+
+        assertNull(map.putIfAbsent("a", 1));
+        assertEquals(Integer.valueOf(1), map.putIfAbsent("a", 2));
+        assertEquals(Integer.valueOf(1), map.get("a"));
+
+        assertFalse(map.replace("a", 2, 3));
+        assertTrue(map.replace("a", 1, 3));
+        assertEquals(Integer.valueOf(3), map.replace("a", 4));
+
+        assertFalse(map.remove("a", 3));
+        assertTrue(map.remove("a", 4));
+        assertTrue(map.isEmpty());
+        }
+
+    /**
+     * Assert that the entry returned by getEntry contains the stored key.
+     */
+    @Test
+    public void testGetEntry()
+        {
+        ConcurrentOpenHashMap<String, String> map = new ConcurrentOpenHashMap<>();
+
+        String sKey = new String("key");
+        map.put(sKey, "value");
+
+        Map.Entry<String, String> entry = map.getEntry(new String("key"));
+        assertSame(sKey, entry.getKey());
+        assertEquals("value", entry.getValue());
+
+        entry.setValue("other");
+        assertEquals("other", map.get("key"));
+        assertNull(map.getEntry("missing"));
+        }
+
+    /**
+     * Assert the map contents across multiple resizes, including removal
+     * of and iteration over the entries.
+     */
+    @Test
+    public void testResize()
+        {
+        ConcurrentOpenHashMap<Integer, Integer> map      = new ConcurrentOpenHashMap<>();
+        Map<Integer, Integer>                   mapCheck = new HashMap<>();
+
+        for (int i = 0; i < 100000; i++)
+            {
+            map.put(i, -i);
+            mapCheck.put(i, -i);
+            if (i % 3 == 0)
+                {
+                map.remove(i / 2);
+                mapCheck.remove(i / 2);
+                }
+            }
+
+        assertTrue(map.getCapacity() >= map.size());
+        assertEquals(mapCheck, map);
+        assertEquals(mapCheck, new HashMap<>(map));
+
+        for (Iterator<Integer> iter = map.keySet().iterator(); iter.hasNext(); )
+            {
+            if (iter.next() % 2 == 0)
+                {
+                iter.remove();
+                }
+            }
+        mapCheck.keySet().removeIf(n -> n % 2 == 0);
+
+        assertEquals(mapCheck, map);
+        }
+
+    /**
+     * Assert that concurrent writers (updating disjoint and shared keys)
+     * neither lose nor duplicate mappings.
+     */
+    @Test
+    public void testConcurrentUpdates()
+            throws Exception
+        {
+        ConcurrentOpenHashMap<Integer, Integer> map      = new ConcurrentOpenHashMap<>();
+        int                                     cThreads = 8;
+        int                                     cKeys    = 50000;
+        ExecutorService                         executor = Executors.newFixedThreadPool(cThreads);
+
+        try
+            {
+            List<Future<?>> listFutures = new ArrayList<>();
+            for (int i = 0; i < cThreads; i++)
+                {
+                int nThread = i;
+                listFutures.add(executor.submit(() ->
+                    {
+                    for (int j = 0; j < cKeys; j++)
+                        {
+                        // disjoint keys
+                        map.put(j * cThreads + nThread, j);
+
+                        // shared keys, incremented atomically
+                        int nKey = -1 - (j % 64);
+                        while (true)
+                            {
+                            Integer NOld = map.putIfAbsent(nKey, 1);
+                            if (NOld == null || map.replace(nKey, NOld, NOld + 1))
+                                {
+                                break;
+                                }
+                            }
+                        }
+                    }));
+                }
+
+            for (Future<?> future : listFutures)
+                {
+                future.get();
+                }
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+
+        assertEquals(cThreads * cKeys + 64, map.size());
+
+        int cTotal = 0;
+        for (int i = 1; i <= 64; i++)
+            {
+            cTotal += map.get(-i);
+            }
+        assertEquals(cThreads * cKeys, cTotal);
+
+        for (int i = 0; i < cThreads * cKeys; i++)
+            {
+            assertEquals(Integer.valueOf(i / cThreads), map.get(i));
+            }
+        }
+    }
@@ -284,7 +284,7 @@ public class ConditionalIndexTest
                 oIndexValue, oIndexValue2);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap)mapIndex.
+        SafeSkipListMap mapInverse = (SafeSkipListMap)mapIndex.
                 getIndexContents();
 
         // get the entry from the inverse map keyed by the extracted value
@@ -402,7 +402,7 @@ public class ConditionalIndexTest
                 oIndexValue, oIndexValue2);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.
                 getIndexContents();
 
         // get the set of keys from the inverse map keyed by the extracted
@@ -512,7 +512,7 @@ public class ConditionalIndexTest
         assertEquals(MapIndex.NO_VALUE, oIndexValue3);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.getIndexContents();
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.getIndexContents();
 
         // assert the the inverse map does contain an entry for the
         // extracted values for key
@@ -561,7 +561,7 @@ public class ConditionalIndexTest
 
         // assert the the inverse map does contain an entry for the
         // extracted value for key
-        mapInverse = (SafeSortedMap) mapIndex.getIndexContents();
+        mapInverse = (SafeSkipListMap) mapIndex.getIndexContents();
         assertTrue(mapInverse.containsKey(oExtractedNew));
 
         // assert that the set mapped to the old extracted value for key
@@ -702,7 +702,7 @@ public class ConditionalIndexTest
         assertEquals(MapIndex.NO_VALUE, oIndexValue2);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.
                 getIndexContents();
 
         // get the set of keys from the inverse map keyed by the extracted
@@ -832,7 +832,7 @@ public class ConditionalIndexTest
         mapIndex.delete(delEntry);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.getIndexContents();
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.getIndexContents();
 
         // get the set of keys from the inverse map keyed by the extracted
         // value for key
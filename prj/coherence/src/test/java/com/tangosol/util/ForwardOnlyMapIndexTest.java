@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+import com.tangosol.net.BackingMapContext;
+import com.tangosol.net.BackingMapManagerContext;
+import com.tangosol.net.CacheService;
+import com.tangosol.net.Cluster;
+import com.tangosol.net.ServiceInfo;
+
+import com.tangosol.net.management.AnnotatedStandardMBean;
+import com.tangosol.net.management.Registry;
+
+import com.tangosol.util.extractor.DeserializationAccelerator;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import org.junit.Test;
+
+import org.mockito.ArgumentCaptor;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ForwardOnlyMapIndex}.
+ */
+public class ForwardOnlyMapIndexTest
+    {
+    /**
+     * Assert that on-demand values are cached and counted.
+     */
+    @Test
+    public void testOnDemandStatistics()
+        {
+        Map<Binary, Binary> mapBacking = createBackingMap(10);
+        ForwardOnlyMapIndex index      = new ForwardOnlyMapIndex(
+                IdentityExtractor.INSTANCE, createContext(mapBacking), true);
+
+        Binary binKey = ExternalizableHelper.toBinary(1);
+        Object oValue = index.get(binKey);
+
+        assertEquals("value-1", oValue);
+        assertSame(oValue, index.get(binKey));
+        assertEquals(MapIndex.NO_VALUE, index.get(ExternalizableHelper.toBinary(42)));
+
+        assertEquals(1, index.getSize());
+        assertEquals(1, index.getHitCount());
+        assertEquals(2, index.getMissCount());
+        assertEquals(mapBacking.get(binKey).length(), index.getUnits());
+
+        index.resetStatistics();
+        assertEquals(0, index.getHitCount());
+        assertEquals(0, index.getMissCount());
+        }
+
+    /**
+     * Assert that the footprint of on-demand indexes does not exceed the
+     * maximum.
+     */
+    @Test
+    public void testOnDemandEviction()
+        {
+        Map<Binary, Binary> mapBacking = createBackingMap(100);
+        ForwardOnlyMapIndex index      = new ForwardOnlyMapIndex(
+                IdentityExtractor.INSTANCE, createContext(mapBacking), true, 160L);
+
+        for (Binary binKey : mapBacking.keySet())
+            {
+            assertEquals(ExternalizableHelper.fromBinary(mapBacking.get(binKey)), index.get(binKey));
+            assertTrue(index.getUnits() <= 160L);
+            }
+
+        assertTrue(index.getSize() > 0);
+
+        assertEquals(100, index.getMissCount());
+        assertEquals(100 - index.getSize(), index.getEvictionCount());
+        }
+
+    /**
+     * Assert that the maximum footprint does not apply to indexes that are
+     * populated proactively.
+     */
+    @Test
+    public void testProactiveUnbounded()
+        {
+        Map<Binary, Binary> mapBacking = createBackingMap(100);
+        ForwardOnlyMapIndex index      = new ForwardOnlyMapIndex(
+                IdentityExtractor.INSTANCE, createContext(mapBacking), false, 16L);
+
+        for (Map.Entry<Binary, Binary> entry : mapBacking.entrySet())
+            {
+            index.insert(new SimpleMapEntry(entry.getKey(),
+                    ExternalizableHelper.fromBinary(entry.getValue())));
+            }
+
+        assertEquals(100, index.getSize());
+        assertEquals(0, index.getEvictionCount());
+
+        // a key that is not indexed is not a miss, as nothing is loaded
+        assertEquals(MapIndex.NO_VALUE, index.get(ExternalizableHelper.toBinary(142)));
+        assertEquals("value-1", index.get(ExternalizableHelper.toBinary(1)));
+        assertEquals(0, index.getMissCount());
+        assertEquals(1, index.getHitCount());
+        }
+
+    /**
+     * Assert that the accelerator registers and unregisters the MBean of its
+     * index.
+     */
+    @Test
+    public void testMBean()
+        {
+        BackingMapContext ctx      = createContext(createBackingMap(1));
+        CacheService      service  = mock(CacheService.class);
+        ServiceInfo       info     = mock(ServiceInfo.class);
+        Cluster           cluster  = mock(Cluster.class);
+        Registry          registry = mock(Registry.class);
+
+        when(ctx.getCacheName()).thenReturn("dist-test");
+        when(ctx.getManagerContext().getCacheService()).thenReturn(service);
+        when(service.getInfo()).thenReturn(info);
+        when(info.getServiceName()).thenReturn("DistributedCache");
+        when(service.getCluster()).thenReturn(cluster);
+        when(cluster.getManagement()).thenReturn(registry);
+        when(registry.ensureGlobalName(anyString())).then(invocation -> invocation.getArgument(0));
+
+        DeserializationAccelerator accelerator = new DeserializationAccelerator(IdentityExtractor.INSTANCE, true);
+        Map                        mapIndex    = new HashMap();
+        String                     sName       = ForwardOnlyMapIndex.MBEAN_TYPE
+                + ",service=DistributedCache,cache=dist-test,extractor="
+                + ObjectName.quote(String.valueOf(IdentityExtractor.INSTANCE));
+
+        MapIndex index = accelerator.createIndex(false, null, mapIndex, ctx);
+
+        ArgumentCaptor<AnnotatedStandardMBean> captor = ArgumentCaptor.forClass(AnnotatedStandardMBean.class);
+        verify(registry).register(eq(sName), captor.capture());
+
+        // the MBean is an adapter over the index, rather than the index itself
+        Object oMBean = captor.getValue().getImplementation();
+        assertTrue(oMBean instanceof ForwardOnlyMapIndexMBean);
+        assertEquals(((ForwardOnlyMapIndex) index).getSize(), ((ForwardOnlyMapIndexMBean) oMBean).getSize());
+
+        assertSame(index, accelerator.destroyIndex(mapIndex));
+        verify(registry).unregister(sName);
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Create a backing map with the specified number of serialized entries.
+     *
+     * @param cEntries  the number of entries
+     *
+     * @return the backing map
+     */
+    private static Map<Binary, Binary> createBackingMap(int cEntries)
+        {
+        Map<Binary, Binary> mapBacking = new ObservableHashMap<>();
+        for (int i = 0; i < cEntries; i++)
+            {
+            mapBacking.put(ExternalizableHelper.toBinary(i), ExternalizableHelper.toBinary("value-" + i));
+            }
+        return mapBacking;
+        }
+
+    /**
+     * Create a BackingMapContext for the specified backing map.
+     *
+     * @param mapBacking  the backing map
+     *
+     * @return the BackingMapContext
+     */
+    private static BackingMapContext createContext(Map<Binary, Binary> mapBacking)
+        {
+        BackingMapContext        ctx    = mock(BackingMapContext.class);
+        BackingMapManagerContext ctxMgr = mock(BackingMapManagerContext.class);
+
+        when(ctx.getBackingMap()).thenReturn((ObservableMap) mapBacking);
+        when(ctx.getManagerContext()).thenReturn(ctxMgr);
+        when(ctxMgr.getValueFromInternalConverter()).thenReturn(o -> ExternalizableHelper.fromBinary((Binary) o));
+        return ctx;
+        }
+    }
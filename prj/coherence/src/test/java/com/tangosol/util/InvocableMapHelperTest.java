@@ -24,6 +24,11 @@ import java.util.Set;
 
 import static org.junit.Assert.*;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
 
 /**
 * Test of InvocableMapHepler methods.
@@ -229,6 +234,56 @@ public class InvocableMapHelperTest
         assertTrue(checkEntrySetValue(set, new Integer(5), -1));
         }
 
+    /**
+    * Test concurrent population of the built-in indexes.
+    */
+    @Test
+    public void testBuildIndex()
+        {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 50_000; i++)
+            {
+            map.put(i, i % 100);
+            }
+
+        IdentityExtractor extractor = new IdentityExtractor();
+        SimpleMapIndex    index     = new SimpleMapIndex(extractor, true, null, null);
+        ConditionalIndex  indexCond = new ConditionalIndex(
+                new GreaterFilter(extractor, 89), extractor, false, null, true, null);
+
+        InvocableMapHelper.buildIndex(index, map.entrySet());
+        InvocableMapHelper.buildIndex(indexCond, map.entrySet());
+
+        assertEquals(50_000, index.getIndexContents().values().stream()
+                .mapToInt(set -> ((Set) set).size()).sum());
+        assertEquals(500, ((Set) index.getIndexContents().get(42)).size());
+        assertEquals(42, index.get(142));
+
+        assertEquals(10, indexCond.getIndexContents().size());
+        assertEquals(5_000, indexCond.getIndexContents().values().stream()
+                .mapToInt(set -> ((Set) set).size()).sum());
+        assertTrue(indexCond.isPartial());
+        }
+
+    /**
+    * Test that custom indexes are populated with every entry.
+    */
+    @Test
+    public void testBuildCustomIndex()
+        {
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < 50_000; i++)
+            {
+            map.put(i, i);
+            }
+
+        MapIndex index = mock(MapIndex.class);
+
+        InvocableMapHelper.buildIndex(index, map.entrySet());
+
+        verify(index, times(50_000)).insert(any(Map.Entry.class));
+        }
+
     private static boolean checkEntrySetValue(Set entrySet,
                                               Object value, int index)
         {
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+package com.tangosol.util;
+
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Tests for {@link SafeSkipListMap}.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class SafeSkipListMapTest
+    {
+    /**
+     * Assert basic map functionality, including null keys and values.
+     */
+    @Test
+    public void testBasic()
+        {
+        SafeSkipListMap map = new SafeSkipListMap();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.put(2, "two"));
+        assertNull(map.put(1, "one"));
+        assertNull(map.put(null, "null"));
+        assertNull(map.put(3, null));
+        assertEquals("one", map.put(1, "uno"));
+
+        assertEquals(4, map.size());
+        assertEquals("uno", map.get(1));
+        assertEquals("null", map.get(null));
+        assertNull(map.get(3));
+        assertTrue(map.containsKey(3));
+        assertTrue(map.containsKey(null));
+        assertNull(map.firstKey());
+        assertEquals(3, map.lastKey());
+        assertEquals(Arrays.asList(null, 1, 2, 3), new ArrayList(map.keySet()));
+
+        assertEquals("null", map.remove(null));
+        assertNull(map.remove(null));
+        assertEquals(3, map.size());
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        }
+
+    /**
+     * Assert that getEntry returns the stored key.
+     */
+    @Test
+    public void testGetEntry()
+        {
+        SafeSkipListMap map  = new SafeSkipListMap();
+        String          sKey = new String("key");
+
+        map.put(sKey, "value");
+
+        Map.Entry entry = map.getEntry(new String("key"));
+        assertSame(sKey, entry.getKey());
+        assertEquals("value", entry.getValue());
+
+        entry.setValue("other");
+        assertEquals("other", map.get("key"));
+        assertNull(map.getEntry("kez"));
+        assertNull(map.getEntry("a"));
+        }
+
+    /**
+     * Assert that the range views match those of a TreeMap.
+     */
+    @Test
+    public void testViews()
+        {
+        SafeSkipListMap map      = new SafeSkipListMap();
+        TreeMap         mapCheck = new TreeMap();
+
+        for (int i = 0; i < 100; i += 2)
+            {
+            map.put(i, i);
+            mapCheck.put(i, i);
+            }
+
+        assertEquals(mapCheck.headMap(50), map.headMap(50));
+        assertEquals(mapCheck.headMap(51), map.headMap(51));
+        assertEquals(mapCheck.tailMap(50), map.tailMap(50));
+        assertEquals(mapCheck.subMap(10, 20), map.subMap(10, 20));
+        assertEquals(mapCheck.subMap(10, false, 20, true), map.subMap(10, false, 20, true));
+        assertEquals(mapCheck.headMap(50, true), map.headMap(50, true));
+        assertEquals(mapCheck.tailMap(50, false), map.tailMap(50, false));
+        assertEquals(mapCheck.subMap(10, 20).size(), map.subMap(10, 20).size());
+
+        SortedMap mapView = map.subMap(10, 30).tailMap(20);
+        assertEquals(mapCheck.subMap(20, 30), mapView);
+        assertEquals(20, mapView.firstKey());
+        assertEquals(28, mapView.lastKey());
+
+        for (Iterator iter = mapView.keySet().iterator(); iter.hasNext(); )
+            {
+            iter.next();
+            iter.remove();
+            }
+        assertTrue(mapView.isEmpty());
+        assertEquals(45, map.size());
+        assertFalse(map.containsKey(20));
+        }
+
+    /**
+     * Assert the head/tail weight of a Split.
+     */
+    @Test
+    public void testSplit()
+        {
+        SafeSkipListMap map = new SafeSkipListMap();
+        for (int i = 0; i < 100; i++)
+            {
+            map.put(i, i);
+            }
+
+        SafeSkipListMap.Split split = map.split(75);
+        assertTrue(split.isHeadHeavy());
+        assertEquals(0.75F, split.getHeadWeight(), 0.01F);
+        assertEquals(75, split.getHead().size());
+        assertEquals(25, split.getTail().size());
+
+        split = map.split(10);
+        assertFalse(split.isHeadHeavy());
+        assertEquals(0.1F, split.getHeadWeight(), 0.01F);
+
+        assertEquals(0.0F, new SafeSkipListMap().split(1).getHeadWeight(), 0.0F);
+        }
+
+    /**
+     * Assert that range iteration is consistent while the map is being
+     * concurrently updated outside of the iterated range.
+     */
+    @Test
+    public void testConcurrentRangeIteration()
+            throws Exception
+        {
+        SafeSkipListMap map = new SafeSkipListMap();
+        for (int i = 0; i < 1000; i++)
+            {
+            map.put(i, i);
+            }
+
+        AtomicBoolean fDone       = new AtomicBoolean();
+        List<Thread>  listThreads = new ArrayList<>();
+        for (int i = 0; i < 2; i++)
+            {
+            int    nBase  = 1000 + i * 100000;
+            Thread thread = new Thread(() ->
+                {
+                for (int j = 0; !fDone.get(); j++)
+                    {
+                    map.put(nBase + j % 1000, j);
+                    map.remove(nBase + (j + 500) % 1000);
+                    }
+                });
+            thread.start();
+            listThreads.add(thread);
+            }
+
+        try
+            {
+            for (int i = 0; i < 1000; i++)
+                {
+                int c = 0;
+                for (Object o : map.subMap(100, 200).values())
+                    {
+                    assertEquals(100 + c++, o);
+                    }
+                assertEquals(100, c);
+                }
+            }
+        finally
+            {
+            fDone.set(true);
+            for (Thread thread : listThreads)
+                {
+                thread.join();
+                }
+            }
+
+        assertEquals(map.size(), new ArrayList(map.keySet()).size());
+        }
+    }
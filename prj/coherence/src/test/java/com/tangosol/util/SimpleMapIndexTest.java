@@ -6,9 +6,15 @@
  */
 package com.tangosol.util;
 
+import com.tangosol.io.ByteArrayWriteBuffer;
+import com.tangosol.io.DefaultSerializer;
+import com.tangosol.io.Serializer;
+
 import com.tangosol.util.extractor.AbstractExtractor;
 import com.tangosol.util.extractor.IdentityExtractor;
 
+import com.tangosol.util.filter.GreaterFilter;
+
 import org.junit.Test;
 
 import java.util.Arrays;
@@ -244,7 +250,7 @@ public class SimpleMapIndexTest
             oIndexValue, oIndexValue2);
 
         // get the inverse map
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.getIndexContents();
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.getIndexContents();
 
         // get the entry from the inverse map keyed by the extracted value
         Map.Entry inverseEntry = mapInverse.getEntry(oExtracted);
@@ -368,7 +374,7 @@ public class SimpleMapIndexTest
             "The value for key and key2 should be the same instance.",
             oIndexValue, oIndexValue2);
 
-        SafeSortedMap mapInverse = (SafeSortedMap) mapIndex.getIndexContents();
+        SafeSkipListMap mapInverse = (SafeSkipListMap) mapIndex.getIndexContents();
 
         Map.Entry inverseEntry = mapInverse.getEntry(oExtractedNew);
 
@@ -517,6 +523,82 @@ public class SimpleMapIndexTest
         insertUpdateWithArray(true);
         }
 
+    /**
+    * Test writeContents and readContents.
+    *
+    * @throws Exception  rethrow any exception to be caught by test framework
+    */
+    @Test
+    public void testWriteReadContents()
+        throws Exception
+        {
+        Map map = new HashMap();
+        for (int i = 0; i < 100; i++)
+            {
+            map.put(i, i % 10);
+            }
+
+        SimpleMapIndex index = createIndex(map, new IdentityExtractor());
+
+        // write the contents of a "partition" holding the even keys
+        Collection colKey = new LinkedList();
+        for (int i = 0; i < 100; i += 2)
+            {
+            colKey.add(i);
+            }
+
+        Serializer           serializer = new DefaultSerializer();
+        ByteArrayWriteBuffer buf        = new ByteArrayWriteBuffer(1024);
+
+        assertTrue(index.writeContents(buf.getBufferOutput(), serializer, colKey));
+
+        SimpleMapIndex indexRestored = new SimpleMapIndex(new IdentityExtractor(), false, null, null);
+        indexRestored.readContents(buf.getReadBuffer().getBufferInput(), serializer);
+
+        assertFalse(indexRestored.isPartial());
+        assertEquals(5, indexRestored.getIndexContents().size());
+        assertEquals(4, indexRestored.get(14));
+        assertEquals(SimpleMapIndex.NO_VALUE, indexRestored.get(15));
+        assertEquals(10, ((Set) indexRestored.getIndexContents().get(4)).size());
+        assertTrue(((Set) indexRestored.getIndexContents().get(4)).contains(94));
+        }
+
+    /**
+    * Test that the restored contents of a ConditionalIndex retain whether
+    * the index is partial.
+    *
+    * @throws Exception  rethrow any exception to be caught by test framework
+    */
+    @Test
+    public void testWriteReadPartialContents()
+        throws Exception
+        {
+        ValueExtractor   extractor = new IdentityExtractor();
+        ConditionalIndex index     = new ConditionalIndex(
+                new GreaterFilter(extractor, 4), extractor, false, null, true, null);
+        for (int i = 0; i < 10; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i));
+            }
+
+        Serializer           serializer = new DefaultSerializer();
+        ByteArrayWriteBuffer buf        = new ByteArrayWriteBuffer(1024);
+
+        assertTrue(index.writeContents(buf.getBufferOutput(), serializer, Arrays.asList(0, 1, 5, 6)));
+
+        ConditionalIndex indexRestored = new ConditionalIndex(
+                new GreaterFilter(extractor, 4), extractor, false, null, true, null);
+        indexRestored.readContents(buf.getReadBuffer().getBufferInput(), serializer);
+
+        assertTrue(indexRestored.isPartial());
+        assertEquals(2, indexRestored.getIndexContents().size());
+
+        // an index without a forward index cannot write its contents
+        ConditionalIndex indexNoForward = new ConditionalIndex(
+                new GreaterFilter(extractor, 4), extractor, false, null, false, null);
+        assertFalse(indexNoForward.writeContents(buf.getBufferOutput(), serializer, Arrays.asList(0, 1)));
+        }
+
     /**
     * Internal method called by test methods to test insert/update of a
     * Collection in a SimpleMapIndex.  Verify the following :
@@ -645,7 +727,7 @@ public class SimpleMapIndexTest
         Collection collIndexValue3 = (Collection) mapIndex.get(oKey3);
         Collection collIndexValue4 = (Collection) mapIndex.get(oKey4);
 
-        SegmentedHashMap mapInverse = (SegmentedHashMap) mapIndex
+        ConcurrentOpenHashMap mapInverse = (ConcurrentOpenHashMap) mapIndex
                 .getIndexContents();
 
         assertCollectionInverseMap(oKey, collIndexValue, mapInverse);
@@ -789,7 +871,7 @@ public class SimpleMapIndexTest
         Object[] aoIndexValue3 = (Object[]) mapIndex.get(oKey3);
         Object[] aoIndexValue4 = (Object[]) mapIndex.get(oKey4);
 
-        SegmentedHashMap mapInverse = (SegmentedHashMap) mapIndex
+        ConcurrentOpenHashMap mapInverse = (ConcurrentOpenHashMap) mapIndex
                 .getIndexContents();
 
         // verify that the inverse map contains an entry for each value in the collection
@@ -824,7 +906,7 @@ public class SimpleMapIndexTest
     * @param mapInverse  the index inverse map
     */
     private static void assertCollectionInverseMap(Object oKey,
-        Collection collection, SegmentedHashMap mapInverse)
+        Collection collection, ConcurrentOpenHashMap mapInverse)
         {
         for (Iterator iterator = collection.iterator(); iterator.hasNext();)
             {
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2020, Oracle and/or its affiliates.
+ *
+ * Licensed under the Universal Permissive License v 1.0 as shown at
+ * http://oss.oracle.com/licenses/upl.
+ */
+
+package com.tangosol.util.aggregator;
+
+
+import com.tangosol.net.BackingMapContext;
+
+import com.tangosol.util.Binary;
+import com.tangosol.util.BinaryEntry;
+import com.tangosol.util.InvocableMap;
+import com.tangosol.util.InvocableMapHelper;
+import com.tangosol.util.MapIndex;
+import com.tangosol.util.SimpleStreamer;
+import com.tangosol.util.ValueExtractor;
+
+import com.tangosol.util.extractor.IdentityExtractor;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+
+/**
+ * Unit tests for the columnar accumulation of the numeric aggregators.
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class NumericAggregatorTest
+    {
+    /**
+     * Assert the results of the double aggregators over more values than
+     * fit into a single batch.
+     */
+    @Test
+    public void testDoubleAggregators()
+        {
+        List<InvocableMap.Entry> listEntries = createEntries(1000);
+
+        assertEquals(SUM, (Double) aggregate(new DoubleSum(IdentityExtractor.INSTANCE), listEntries), 0.0);
+        assertEquals(SUM / COUNT, (Double) aggregate(new DoubleAverage(IdentityExtractor.INSTANCE), listEntries), 0.0);
+        assertEquals(1.0, (Double) aggregate(new DoubleMin(IdentityExtractor.INSTANCE), listEntries), 0.0);
+        assertEquals(999.0, (Double) aggregate(new DoubleMax(IdentityExtractor.INSTANCE), listEntries), 0.0);
+        assertNull(aggregate(new DoubleSum(IdentityExtractor.INSTANCE), Collections.emptyList()));
+        }
+
+    /**
+     * Assert the results of the long aggregators over more values than fit
+     * into a single batch.
+     */
+    @Test
+    public void testLongAggregators()
+        {
+        List<InvocableMap.Entry> listEntries = createEntries(1000);
+
+        assertEquals((long) SUM, aggregate(new LongSum(IdentityExtractor.INSTANCE), listEntries));
+        assertEquals(1L, aggregate(new LongMin(IdentityExtractor.INSTANCE), listEntries));
+        assertEquals(999L, aggregate(new LongMax(IdentityExtractor.INSTANCE), listEntries));
+        assertNull(aggregate(new LongSum(IdentityExtractor.INSTANCE), Collections.emptyList()));
+        }
+
+    /**
+     * Assert that the values are obtained from the forward index, if one
+     * exists.
+     */
+    @Test
+    public void testForwardIndex()
+        {
+        ValueExtractor    extractor   = IdentityExtractor.INSTANCE;
+        MapIndex          index       = mock(MapIndex.class);
+        BackingMapContext ctx         = mock(BackingMapContext.class);
+        List<BinaryEntry> listEntries = new ArrayList<>();
+
+        when(ctx.getIndexMap()).thenReturn(Collections.singletonMap(extractor, index));
+        for (int i = 0; i < 300; i++)
+            {
+            Binary      binKey = new Binary(new byte[] {(byte) i, (byte) (i >> 8)});
+            BinaryEntry entry  = mock(BinaryEntry.class);
+
+            when(entry.getBackingMapContext()).thenReturn(ctx);
+            when(entry.getBinaryKey()).thenReturn(binKey);
+            when(index.get(binKey)).thenReturn(i == 0 ? MapIndex.NO_VALUE : (Object) i);
+            when(entry.extract(extractor)).thenReturn(1000);
+            listEntries.add(entry);
+            }
+
+        assertEquals(1000L + 299 * 300 / 2, aggregate(new LongSum(extractor), listEntries));
+
+        verify(listEntries.get(0)).extract(extractor);
+        verify(listEntries.get(1), never()).extract(any(ValueExtractor.class));
+        }
+
+    /**
+     * Assert that the values are processed one by one by subclasses that
+     * customize the per-value processing.
+     */
+    @Test
+    public void testSubclassNotColumnar()
+        {
+        List<InvocableMap.Entry> listEntries = createEntries(1000);
+
+        assertEquals(2 * (long) SUM, aggregate(new DoublingLongSum(), listEntries));
+        }
+
+    // ----- inner class: DoublingLongSum -----------------------------------
+
+    /**
+     * A LongSum that doubles each of the extracted values.
+     */
+    public static class DoublingLongSum
+            extends LongSum<Object>
+        {
+        public DoublingLongSum()
+            {
+            super(IdentityExtractor.INSTANCE);
+            }
+
+        @Override
+        public InvocableMap.StreamingAggregator<Object, Object, Object, Long> supply()
+            {
+            return new DoublingLongSum();
+            }
+
+        @Override
+        protected void process(Object o, boolean fFinal)
+            {
+            super.process(o == null || fFinal ? o : 2 * ((Number) o).longValue(), fFinal);
+            }
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Accumulate the specified entries using a streamer, and return the
+     * final result.
+     *
+     * @param aggregator   the aggregator
+     * @param listEntries  the entries to aggregate
+     *
+     * @return the aggregation result
+     */
+    protected Object aggregate(InvocableMap.StreamingAggregator aggregator, List listEntries)
+        {
+        InvocableMap.StreamingAggregator aggrPartial = aggregator.supply();
+        aggrPartial.accumulate(new SimpleStreamer<>(listEntries));
+
+        InvocableMap.StreamingAggregator aggrFinal = aggregator.supply();
+        aggrFinal.combine(aggrPartial.getPartialResult());
+        return aggrFinal.finalizeResult();
+        }
+
+    /**
+     * Create entries whose values are the keys, except for every tenth
+     * entry, whose value is null.
+     *
+     * @param cEntries  the number of entries to create
+     *
+     * @return the entries
+     */
+    protected List<InvocableMap.Entry> createEntries(int cEntries)
+        {
+        List<InvocableMap.Entry> listEntries = new ArrayList<>(cEntries);
+        for (int i = 0; i < cEntries; i++)
+            {
+            listEntries.add(new InvocableMapHelper.SimpleEntry(i, i % 10 == 0 ? null : i));
+            }
+        return listEntries;
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The number of non-null values created by {@code createEntries(1000)}.
+     */
+    private static final double COUNT = 900;
+
+    /**
+     * The sum of the non-null values created by {@code createEntries(1000)}.
+     */
+    private static final double SUM = 999 * 1000 / 2 - 10 * 99 * 100 / 2;
+    }
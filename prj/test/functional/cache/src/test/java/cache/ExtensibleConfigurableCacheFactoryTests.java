@@ -9,7 +9,9 @@ package cache;
 import com.oracle.bedrock.testsupport.deferred.Eventually;
 import com.oracle.bedrock.options.Timeout;
 import com.oracle.bedrock.predicate.GreaterThan;
+import com.tangosol.net.ConfigurableCacheFactory;
 import com.tangosol.net.NamedCache;
+import com.tangosol.net.Service;
 
 import com.tangosol.net.cache.TypeAssertion;
 import common.AbstractFunctionalTest;
@@ -18,9 +20,14 @@ import org.hamcrest.Matchers;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Handler;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -32,6 +39,7 @@ import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 /**
  * The {@link ExtensibleConfigurableCacheFactoryTests} functional tests.
@@ -149,6 +157,47 @@ public class ExtensibleConfigurableCacheFactoryTests
                 Timeout.after("30s"));
         }
 
+    /**
+     * Validate that concurrently ensuring a stopped service and its caches
+     * starts the service once, without deadlocking.
+     */
+    @Test
+    public void testConcurrentEnsureService()
+            throws Exception
+        {
+        ConfigurableCacheFactory factory = getFactory();
+        Service                  service = factory.ensureService("service-dist");
+
+        service.stop();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+            {
+            List<Future<Service>> listFuture = new ArrayList<>();
+            for (int i = 0; i < 8; i++)
+                {
+                String sCache = "dist-raw-2-concurrent-" + i;
+                listFuture.add(i % 2 == 0
+                        ? executor.submit(() -> factory.ensureService("service-dist"))
+                        : executor.submit(() -> factory.ensureCache(sCache, null).getCacheService()));
+                }
+
+            for (Future<Service> future : listFuture)
+                {
+                // a lock order inversion would leave the threads blocked
+                Service serviceEnsured = future.get(1, TimeUnit.MINUTES);
+                assertEquals(service.getInfo().getServiceName(), serviceEnsured.getInfo().getServiceName());
+                assertTrue(serviceEnsured.isRunning());
+                }
+            }
+        finally
+            {
+            executor.shutdownNow();
+            }
+
+        assertTrue(service.isRunning());
+        }
+
     // ----- nested classes -------------------------------------------------
 
     public static class MyKey
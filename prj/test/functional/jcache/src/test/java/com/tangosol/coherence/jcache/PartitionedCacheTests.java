@@ -6,17 +6,44 @@
  */
 package com.tangosol.coherence.jcache;
 
+import com.oracle.bedrock.testsupport.deferred.Eventually;
+
 import com.tangosol.coherence.jcache.partitionedcache.PartitionedCacheConfiguration;
 
 import com.tangosol.net.CacheFactory;
+import com.tangosol.net.NamedCache;
+
+import com.tangosol.util.MapEvent;
+import com.tangosol.util.MapListener;
+import com.tangosol.util.MultiplexingMapListener;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.BeforeClass;
+import org.junit.Test;
 
+import javax.cache.Cache;
 import javax.cache.Caching;
+
+import javax.cache.configuration.FactoryBuilder;
+
+import javax.cache.expiry.AccessedExpiryPolicy;
+import javax.cache.expiry.CreatedExpiryPolicy;
+import javax.cache.expiry.Duration;
+
 import java.util.List;
 import java.util.Map;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.oracle.bedrock.deferred.DeferredHelper.invoking;
+
+import static org.hamcrest.CoreMatchers.is;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
 /**
  * Junit test for Coherence adapter impl of jcache running against LocalCache.
  *
@@ -78,4 +105,136 @@ public class PartitionedCacheTests
         {
         super.cleanupAfterTest();
         }
+
+    /**
+     * Ensure that a read does not modify an entry of a cache with the default
+     * eternal expiry policy.
+     */
+    @Test
+    public void getDoesNotUpdateEternalEntry()
+        {
+        PartitionedCacheConfiguration<Integer, Integer> config = new PartitionedCacheConfiguration<>();
+
+        config.setTypes(Integer.class, Integer.class);
+
+        Cache<Integer, Integer> cache = cacheMgr.createCache(getTestCacheName(), config);
+
+        cache.put(1, 1);
+        assertEquals(0, getUpdatesOnRead(cache, 1));
+        }
+
+    /**
+     * Ensure that a read does not modify an entry of a cache whose expiry
+     * policy does not change the expiry time on access.
+     */
+    @Test
+    public void getDoesNotUpdateEntryWithoutAccessExpiry()
+        {
+        PartitionedCacheConfiguration<Integer, Integer> config = new PartitionedCacheConfiguration<>();
+
+        config.setTypes(Integer.class, Integer.class);
+        config.setExpiryPolicyFactory(CreatedExpiryPolicy.factoryOf(Duration.ONE_HOUR));
+
+        Cache<Integer, Integer> cache = cacheMgr.createCache(getTestCacheName(), config);
+
+        cache.put(1, 1);
+        assertEquals(0, getUpdatesOnRead(cache, 1));
+        }
+
+    /**
+     * Ensure that a read updates the expiry time of an entry of a cache
+     * whose expiry policy changes the expiry time on access.
+     */
+    @Test
+    public void getUpdatesEntryWithAccessExpiry()
+        {
+        PartitionedCacheConfiguration<Integer, Integer> config = new PartitionedCacheConfiguration<>();
+
+        config.setTypes(Integer.class, Integer.class);
+        config.setExpiryPolicyFactory(AccessedExpiryPolicy.factoryOf(Duration.ONE_HOUR));
+
+        Cache<Integer, Integer> cache = cacheMgr.createCache(getTestCacheName(), config);
+
+        cache.put(1, 1);
+        assertEquals(1, getUpdatesOnRead(cache, 1));
+        }
+
+    /**
+     * Ensure that a value loaded by read-through is stored by a read.
+     */
+    @Test
+    public void getStoresLoadedEntry()
+        {
+        PartitionedCacheConfiguration<Integer, Integer> config = new PartitionedCacheConfiguration<>();
+        SimpleCacheLoader<Integer>                      loader = new SimpleCacheLoader<>();
+
+        config.setTypes(Integer.class, Integer.class);
+        config.setCacheLoaderFactory(FactoryBuilder.factoryOf(loader));
+        config.setReadThrough(true);
+
+        Cache<Integer, Integer> cache = cacheMgr.createCache(getTestCacheName(), config);
+
+        assertTrue(getUpdatesOnRead(cache, 1) >= 1);
+        assertTrue(loader.hasLoaded(1));
+        assertTrue(cache.unwrap(NamedCache.class).containsKey(1));
+        assertEquals(Integer.valueOf(1), cache.get(1));
+        }
+
+    // ----- helpers --------------------------------------------------------
+
+    /**
+     * Read the specified key, and return the number of changes to the
+     * entries of the underlying NamedCache caused by the read.
+     *
+     * @param cache  the cache
+     * @param nKey   the key to read
+     *
+     * @return the number of inserts and updates caused by the read
+     */
+    protected int getUpdatesOnRead(Cache<Integer, Integer> cache, Integer nKey)
+        {
+        NamedCache    cacheNamed = cache.unwrap(NamedCache.class);
+        AtomicInteger cChanges   = new AtomicInteger();
+        AtomicBoolean fMarker    = new AtomicBoolean();
+        MapListener   listener   = new MultiplexingMapListener()
+            {
+            @Override
+            protected void onMapEvent(MapEvent evt)
+                {
+                if (MARKER_KEY.equals(evt.getKey()))
+                    {
+                    fMarker.set(true);
+                    }
+                else
+                    {
+                    cChanges.incrementAndGet();
+                    }
+                }
+            };
+
+        cacheNamed.addMapListener(listener);
+        try
+            {
+            cache.get(nKey);
+
+            // the events are delivered in order, so once the event for the
+            // marker is received, any event caused by the read has been too
+            cache.put(MARKER_KEY, MARKER_KEY);
+            Eventually.assertThat(invoking(fMarker).get(), is(true));
+
+            return cChanges.get();
+            }
+        finally
+            {
+            cacheNamed.removeMapListener(listener);
+            }
+        }
+
+    // ----- constants ------------------------------------------------------
+
+    /**
+     * The key written after a read to detect that all of its events have
+     * been received.
+     */
+    private static final Integer MARKER_KEY = -1;
     }
@@ -13,8 +13,10 @@ import com.oracle.coherence.persistence.PersistentStore;
 import com.oracle.datagrid.persistence.OfflinePersistenceInfo;
 import com.oracle.datagrid.persistence.PersistenceTools;
 
+import com.tangosol.io.DefaultSerializer;
 import com.tangosol.io.FileHelper;
 import com.tangosol.io.ReadBuffer;
+import com.tangosol.io.Serializer;
 
 import com.tangosol.net.Cluster;
 import com.tangosol.net.Member;
@@ -25,14 +27,17 @@ import com.tangosol.persistence.bdb.BerkeleyDBManager;
 
 import com.tangosol.util.Base;
 import com.tangosol.util.Binary;
+import com.tangosol.util.ConditionalIndex;
 import com.tangosol.util.ExternalizableHelper;
 import com.tangosol.util.LongArray;
 import com.tangosol.util.MapTrigger;
 import com.tangosol.util.SimpleMapEntry;
+import com.tangosol.util.SimpleMapIndex;
 import com.tangosol.util.SparseArray;
 
 import com.tangosol.util.comparator.SafeComparator;
 
+import com.tangosol.util.extractor.IdentityExtractor;
 import com.tangosol.util.extractor.ReflectionExtractor;
 
 import com.tangosol.util.filter.AlwaysFilter;
@@ -41,7 +46,9 @@ import com.tangosol.util.filter.FilterTrigger;
 import java.io.File;
 import java.io.IOException;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 
@@ -311,6 +318,62 @@ public class CachePersistenceHelperTest
         assertEquals(0, visitor.f_mapIndices.size());
         }
 
+    @Test
+    public void testIndexContentsLifecycle()
+        {
+        Binary         binExtractor  = ExternalizableHelper.toBinary(IdentityExtractor.INSTANCE);
+        Binary         binComparator = ExternalizableHelper.toBinary(SafeComparator.INSTANCE);
+        Serializer     serializer    = new DefaultSerializer();
+        SimpleMapIndex index         = new SimpleMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        for (int i = 0; i < 10; i++)
+            {
+            index.insert(new SimpleMapEntry(i, i % 3));
+            }
+
+        CachePersistenceHelper.registerIndex(m_store, 1L, binExtractor, binComparator, null);
+        assertTrue(CachePersistenceHelper.storeIndexContents(m_store, 1L, binExtractor, 7L,
+                index, serializer, Arrays.asList(0, 1, 2, 3), null));
+
+        // the stored contents do not affect the visitor
+        TestVisitor visitor = new TestVisitor();
+        testPersistenceVisitor(visitor);
+        assertEquals(1, visitor.f_mapIndices.size());
+        assertEquals(3, visitor.f_mapEntries.size());
+
+        // contents stored for a different version are not recovered
+        SimpleMapIndex indexRecovered = new SimpleMapIndex(IdentityExtractor.INSTANCE, false, null, null);
+        assertNull(CachePersistenceHelper.loadIndexContents(m_store, 1L, binExtractor, 8L));
+        assertFalse(CachePersistenceHelper.recoverIndexContents(m_store, 1L, binExtractor, 8L,
+                indexRecovered, serializer));
+        assertTrue(indexRecovered.getIndexContents().isEmpty());
+
+        assertTrue(CachePersistenceHelper.recoverIndexContents(m_store, 1L, binExtractor, 7L,
+                indexRecovered, serializer));
+        assertEquals(0, indexRecovered.get(3));
+        assertEquals(2, indexRecovered.get(2));
+        assertEquals(SimpleMapIndex.NO_VALUE, indexRecovered.get(4));
+        assertEquals(new HashSet<>(Arrays.asList(0, 3)), indexRecovered.getIndexContents().get(0));
+
+        // unregistering the index erases its contents
+        CachePersistenceHelper.unregisterIndex(m_store, 1L, binExtractor, null);
+        assertNull(CachePersistenceHelper.loadIndexContents(m_store, 1L, binExtractor, 7L));
+
+        // an index without a forward index erases previously stored contents
+        SimpleMapIndex indexNoForward = new ConditionalIndex(AlwaysFilter.INSTANCE, IdentityExtractor.INSTANCE,
+                false, null, false, null);
+        CachePersistenceHelper.storeIndexContents(m_store, 1L, binExtractor, 7L,
+                index, serializer, Arrays.asList(0, 1), null);
+        assertFalse(CachePersistenceHelper.storeIndexContents(m_store, 1L, binExtractor, 7L,
+                indexNoForward, serializer, Arrays.asList(0, 1), null));
+        assertNull(CachePersistenceHelper.loadIndexContents(m_store, 1L, binExtractor, 7L));
+
+        CachePersistenceHelper.storeIndexContents(m_store, 1L, binExtractor, 7L,
+                index, serializer, Arrays.asList(0, 1), null);
+        CachePersistenceHelper.unregisterIndices(m_store, 1L);
+        Base.sleep(2000L);
+        assertNull(CachePersistenceHelper.loadIndexContents(m_store, 1L, binExtractor, 7L));
+        }
+
     @Test
     public void testTriggerLifecycle()
         {